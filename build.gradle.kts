@@ -56,7 +56,8 @@ dependencies {
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:2.8.9")
 
     // DB
-	implementation("com.mysql:mysql-connector-j:8.2.0")
+	// 9.0부터 내부 synchronized가 ReentrantLock으로 바뀌어 소켓 I/O 중 가상 스레드가 캐리어에 고정(pinning)되지 않음
+	implementation("com.mysql:mysql-connector-j:9.1.0")
 	runtimeOnly("com.h2database:h2")
 	compileOnly("org.projectlombok:lombok")
 	annotationProcessor("org.projectlombok:lombok")
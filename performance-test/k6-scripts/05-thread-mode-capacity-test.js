@@ -0,0 +1,128 @@
+import http from 'k6/http';
+import { check } from 'k6';
+import { SharedArray } from 'k6/data';
+import { Rate, Trend } from 'k6/metrics';
+
+// 스레드 모드별 최대 지속 처리량(RPS) 비교 테스트
+//
+// 같은 데이터/인프라에서 애플리케이션을 두 모드로 각각 기동한 뒤 MODE만 바꿔 실행하고 결과 파일을 비교합니다.
+//   플랫폼 스레드: ./gradlew bootRun --args='--spring.threads.virtual.enabled=false'
+//                 ./performance-test/k6-docker.sh run -e MODE=platform performance-test/k6-scripts/05-thread-mode-capacity-test.js
+//   가상 스레드:   ./gradlew bootRun --args='--spring.threads.virtual.enabled=true'
+//                 ./performance-test/k6-docker.sh run -e MODE=virtual performance-test/k6-scripts/05-thread-mode-capacity-test.js
+//
+// 도착률(RPS)을 단계적으로 올리다가 p95 응답 시간 또는 에러율 한도를 넘으면 중단합니다.
+// 중단 직전까지의 평균 처리량이 해당 모드의 최대 지속 RPS입니다.
+// 가상 스레드 모드에서 캐리어 고정(pinning)을 확인하려면 애플리케이션을 -Djdk.tracePinnedThreads=short 로 기동합니다.
+
+const MODE = __ENV.MODE || 'platform';
+const START_RPS = parseInt(__ENV.START_RPS || '100');
+const MAX_RPS = parseInt(__ENV.MAX_RPS || '3000');
+const STEP_RPS = parseInt(__ENV.STEP_RPS || '100');
+const STEP_DURATION = __ENV.STEP_DURATION || '30s';
+
+const errorRate = new Rate('errors');
+const readDuration = new Trend('read_duration');
+const writeDuration = new Trend('write_duration');
+
+const userIds = new SharedArray('users', function () {
+  return Array.from({ length: 100 }, (_, i) => i + 1);
+});
+
+const productIds = new SharedArray('products', function () {
+  return [1, 2, 3, 4, 5, 6, 7, 8, 9, 10];
+});
+
+function rampStages() {
+  const stages = [];
+  for (let rps = START_RPS; rps <= MAX_RPS; rps += STEP_RPS) {
+    stages.push({ duration: '5s', target: rps });     // 다음 단계로 상승
+    stages.push({ duration: STEP_DURATION, target: rps }); // 단계 유지
+  }
+  return stages;
+}
+
+export const options = {
+  scenarios: {
+    capacity: {
+      executor: 'ramping-arrival-rate',
+      startRate: START_RPS,
+      timeUnit: '1s',
+      preAllocatedVUs: 200,
+      maxVUs: 2000,
+      stages: rampStages(),
+    },
+  },
+  thresholds: {
+    // 한도를 넘으면 즉시 중단 (순간 변동은 10초 유예)
+    http_req_duration: [{ threshold: 'p(95)<500', abortOnFail: true, delayAbortEval: '10s' }],
+    errors: [{ threshold: 'rate<0.01', abortOnFail: true, delayAbortEval: '10s' }],
+  },
+  tags: { mode: MODE },
+};
+
+const BASE_URL = 'http://localhost:8080';
+const headers = { 'Content-Type': 'application/json' };
+
+export default function () {
+  const userId = userIds[Math.floor(Math.random() * userIds.length)];
+  const productId = productIds[Math.floor(Math.random() * productIds.length)];
+  const scenario = Math.random();
+
+  // 요청 분배: 상품 조회(50%), 잔액 조회(20%), 주문 생성(20%), 잔액 충전(10%)
+  if (scenario < 0.5) {
+    const res = http.get(`${BASE_URL}/api/product/${productId}`, { tags: { name: 'product_detail' } });
+    readDuration.add(res.timings.duration);
+    errorRate.add(!check(res, { '상품 조회 성공': (r) => r.status === 200 }));
+  } else if (scenario < 0.7) {
+    const res = http.get(`${BASE_URL}/api/balance/${userId}`, { tags: { name: 'balance_get' } });
+    readDuration.add(res.timings.duration);
+    errorRate.add(!check(res, { '잔액 조회 성공': (r) => r.status === 200 }));
+  } else if (scenario < 0.9) {
+    const payload = JSON.stringify({
+      userId: userId,
+      products: [{ productId: productId, quantity: 1 }],
+    });
+    const res = http.post(`${BASE_URL}/api/order`, payload, { headers, tags: { name: 'order_create' } });
+    writeDuration.add(res.timings.duration);
+    // 재고 소진(409)은 비즈니스 결과이므로 에러로 집계하지 않음
+    errorRate.add(!check(res, { '주문 생성 처리': (r) => r.status === 201 || r.status === 409 }));
+  } else {
+    const payload = JSON.stringify({ userId: userId, amount: 1000 });
+    const res = http.post(`${BASE_URL}/api/balance/charge`, payload, { headers, tags: { name: 'balance_charge' } });
+    writeDuration.add(res.timings.duration);
+    errorRate.add(!check(res, { '잔액 충전 성공': (r) => r.status === 200 }));
+  }
+}
+
+export function handleSummary(data) {
+  return {
+    'stdout': textSummary(data),
+    [`performance-test/results/thread-mode-${MODE}.json`]: JSON.stringify(data),
+  };
+}
+
+function textSummary(data) {
+  const { metrics, state } = data;
+  const durationSec = state.testRunDurationMs / 1000;
+  const dropped = metrics.dropped_iterations ? metrics.dropped_iterations.values.count : 0;
+
+  return `
+=== 스레드 모드 처리량 테스트 결과 (mode=${MODE}) ===
+
+✓ 처리량:
+  - 총 요청 수: ${metrics.http_reqs.values.count}
+  - 실행 시간: ${durationSec.toFixed(0)}s
+  - 평균 처리량: ${metrics.http_reqs.values.rate.toFixed(1)} req/s
+  - 미전송 요청(VU 부족): ${dropped}
+
+✓ 응답 시간:
+  - 조회 P95: ${metrics.read_duration.values['p(95)']?.toFixed(2) || 'N/A'}ms
+  - 쓰기 P95: ${metrics.write_duration.values['p(95)']?.toFixed(2) || 'N/A'}ms
+  - 전체 P95: ${metrics.http_req_duration.values['p(95)']?.toFixed(2) || 'N/A'}ms
+
+✓ 에러율: ${(metrics.errors.values.rate * 100).toFixed(2)}%
+
+마지막으로 한도를 지킨 단계의 RPS를 다른 모드의 결과(thread-mode-*.json)와 비교하세요.
+`;
+}
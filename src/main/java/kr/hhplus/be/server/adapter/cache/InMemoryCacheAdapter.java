@@ -0,0 +1,314 @@
+package kr.hhplus.be.server.adapter.cache;
+
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+/**
+ * 프로세스 내 캐시 구현체 (단일 노드/벤치마크 프로필)
+ *
+ * RedisCacheAdapter와 같은 키 체계와 의미를 네트워크 왕복 없이 제공합니다.
+ * - 캐시 값: 최대 항목 수가 제한된 ConcurrentHashMap + TTL(±10% 지터). 한도 초과 시 만료 항목부터 제거
+ * - 상품 랭킹: 점수 역순 정렬 skip list (ZSET 대응)
+ * - 선착순 쿠폰: CAS 기반 카운터/샤드 차감과 putIfAbsent 기반 중복 발급 확인
+ *
+ * 값은 직렬화하지 않고 참조를 보관하므로 캐시에 넣은 객체를 이후에 변경하지 않아야 합니다.
+ */
+@Slf4j
+@Component
+@Profile("inmemory")
+public class InMemoryCacheAdapter implements CachePort {
+
+    private static final long RANKING_TTL_MS = TimeUnit.DAYS.toMillis(7);
+    private static final long COUPON_FLAG_TTL_MS = TimeUnit.DAYS.toMillis(30);
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    @Value("${cache.inmemory.max-entries:100000}")
+    private int maxEntries = 100_000;
+
+    private final Map<String, CacheEntry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Ranking> rankings = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final Map<String, Long> flags = new ConcurrentHashMap<>();
+
+    private record CacheEntry(Object value, long expiresAt) {
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    private record ScoredMember(String member, double score) {
+    }
+
+    /**
+     * 랭킹 하나 (쓰기는 ranking 락 안에서, 읽기는 skip list를 잠금 없이 순회)
+     */
+    private static final class Ranking {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Double> scores = new ConcurrentHashMap<>();
+        private final ConcurrentSkipListSet<ScoredMember> ordered = new ConcurrentSkipListSet<>(
+                Comparator.comparingDouble(ScoredMember::score).reversed().thenComparing(ScoredMember::member));
+        private volatile long expiresAt = System.currentTimeMillis() + RANKING_TTL_MS;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Class<T> type) {
+        Object value = getValue(key);
+        if (value == null) {
+            return null;
+        }
+        if (!type.isInstance(value)) {
+            log.warn("Cache type mismatch: key={}, expected={}, actual={}", key, type.getSimpleName(), value.getClass().getSimpleName());
+            return null;
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> List<T> getList(String key) {
+        Object value = getValue(key);
+        return value instanceof List<?> list ? (List<T>) list : null;
+    }
+
+    @Override
+    public void put(String key, Object value, int ttlSeconds) {
+        long expiresAt = NO_EXPIRY;
+        if (ttlSeconds > 0) {
+            // Cache Stampede 방지: TTL에 ±10% 랜덤 지터 추가 (RedisCacheAdapter와 동일)
+            int jitter = (int) (ttlSeconds * 0.1 * (ThreadLocalRandom.current().nextDouble() * 2 - 1));
+            expiresAt = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds + jitter);
+        }
+
+        if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+            evictForCapacity();
+        }
+        entries.put(key, new CacheEntry(value, expiresAt));
+    }
+
+    @Override
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void evictByPattern(String pattern) {
+        Pattern regex = globToRegex(pattern);
+        int before = entries.size();
+        entries.keySet().removeIf(key -> regex.matcher(key).matches());
+        log.debug("Cache evicted by pattern: pattern={}, evictedCount={}", pattern, before - entries.size());
+    }
+
+    // ========================= 상품 랭킹 =========================
+
+    @Override
+    public void addProductScore(String rankingKey, String productKey, int orderQuantity) {
+        Ranking ranking = liveRanking(rankingKey);
+        ranking.lock.lock();
+        try {
+            double previous = ranking.scores.getOrDefault(productKey, 0.0);
+            double next = previous + orderQuantity;
+            ranking.ordered.remove(new ScoredMember(productKey, previous));
+            ranking.ordered.add(new ScoredMember(productKey, next));
+            ranking.scores.put(productKey, next);
+            ranking.expiresAt = System.currentTimeMillis() + RANKING_TTL_MS;
+        } finally {
+            ranking.lock.unlock();
+        }
+    }
+
+    @Override
+    public List<Long> getTopProductsByOrder(String rankingKey, int limit) {
+        return getProductRanking(rankingKey, 0, limit);
+    }
+
+    @Override
+    public List<Long> getProductRanking(String rankingKey, int offset, int limit) {
+        Ranking ranking = rankings.get(rankingKey);
+        if (ranking == null || ranking.expiresAt <= System.currentTimeMillis()) {
+            return List.of();
+        }
+
+        return ranking.ordered.stream()
+                .skip(offset)
+                .limit(limit)
+                .map(entry -> {
+                    String[] parts = entry.member().split(":");
+                    return Long.parseLong(parts[parts.length - 1].replace("product_", ""));
+                })
+                .toList();
+    }
+
+    // ========================= 선착순 쿠폰 =========================
+
+    @Override
+    public long issueCouponAtomically(String couponCounterKey, String couponUserKey, long maxCount) {
+        if (!trySetFlag(couponUserKey)) {
+            log.debug("User already issued coupon: userKey={}", couponUserKey);
+            return COUPON_ALREADY_ISSUED;
+        }
+
+        AtomicLong counter = counters.computeIfAbsent(couponCounterKey, key -> new AtomicLong());
+        while (true) {
+            long current = counter.get();
+            if (current >= maxCount) {
+                flags.remove(couponUserKey);
+                log.debug("Coupon issuance exceeded max count: counter={}, maxCount={}", current, maxCount);
+                return COUPON_SOLD_OUT;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    @Override
+    public long getCouponCount(String couponCounterKey) {
+        AtomicLong counter = counters.get(couponCounterKey);
+        return counter != null ? counter.get() : 0;
+    }
+
+    @Override
+    public boolean hasCouponIssued(String couponUserKey) {
+        return hasFlag(couponUserKey);
+    }
+
+    @Override
+    public void rollbackCouponIssue(String couponCounterKey, String couponUserKey) {
+        // 사용자 키가 실제로 삭제된 경우에만 카운터 감소 (중복 보상 방지)
+        if (flags.remove(couponUserKey) != null) {
+            counters.computeIfAbsent(couponCounterKey, key -> new AtomicLong()).decrementAndGet();
+        }
+    }
+
+    @Override
+    public long issueCouponFromShards(List<String> shardKeys, String soldOutKey, String couponUserKey, long initialStock, int startShard) {
+        // 전체 품절이면 샤드를 순회하지 않고 즉시 실패
+        if (hasFlag(soldOutKey)) {
+            return COUPON_SOLD_OUT;
+        }
+
+        initializeShards(shardKeys, initialStock);
+
+        if (!trySetFlag(couponUserKey)) {
+            log.debug("User already issued coupon: userKey={}", couponUserKey);
+            return COUPON_ALREADY_ISSUED;
+        }
+
+        // 배정된 샤드부터 시작해 소진된 샤드는 다음 샤드로 넘김
+        int shardCount = shardKeys.size();
+        for (int i = 0; i < shardCount; i++) {
+            int shard = (startShard + i) % shardCount;
+            long previous = counters.get(shardKeys.get(shard)).getAndUpdate(remaining -> remaining > 0 ? remaining - 1 : remaining);
+            if (previous > 0) {
+                return shard + 1;
+            }
+        }
+
+        // 모든 샤드 소진: 사용자 키 롤백 후 품절 플래그 기록
+        flags.remove(couponUserKey);
+        flags.put(soldOutKey, System.currentTimeMillis() + COUPON_FLAG_TTL_MS);
+        return COUPON_SOLD_OUT;
+    }
+
+    @Override
+    public void rollbackCouponShardIssue(String shardKey, String soldOutKey, String couponUserKey) {
+        // 사용자 키가 실제로 삭제된 경우에만 샤드 재고 복구 (중복 보상 방지)
+        if (flags.remove(couponUserKey) != null) {
+            counters.computeIfAbsent(shardKey, key -> new AtomicLong()).incrementAndGet();
+            flags.remove(soldOutKey);
+        }
+    }
+
+    @Override
+    public boolean hasCouponShardStock(List<String> shardKeys, String soldOutKey) {
+        return counters.containsKey(shardKeys.get(0)) || hasFlag(soldOutKey);
+    }
+
+    /**
+     * 샤드별 초기 재고 분배 (최초 값만 유지, RedisCacheAdapter와 동일한 분배)
+     */
+    private void initializeShards(List<String> shardKeys, long initialStock) {
+        int shardCount = shardKeys.size();
+        long baseQuota = initialStock / shardCount;
+        long remainder = initialStock % shardCount;
+
+        for (int shard = 0; shard < shardCount; shard++) {
+            long quota = baseQuota + (shard < remainder ? 1 : 0);
+            counters.putIfAbsent(shardKeys.get(shard), new AtomicLong(quota));
+        }
+    }
+
+    // ========================= 내부 헬퍼 =========================
+
+    private Object getValue(String key) {
+        CacheEntry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.currentTimeMillis())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    /**
+     * 한도 초과 시 만료 항목을 먼저 제거하고, 그래도 가득 차 있으면 임의 항목을 10% 제거
+     */
+    private void evictForCapacity() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        int excess = entries.size() - maxEntries + Math.max(1, maxEntries / 10);
+        Iterator<String> keys = entries.keySet().iterator();
+        while (excess-- > 0 && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private Ranking liveRanking(String rankingKey) {
+        return rankings.compute(rankingKey, (key, ranking) ->
+                ranking == null || ranking.expiresAt <= System.currentTimeMillis() ? new Ranking() : ranking);
+    }
+
+    private boolean trySetFlag(String key) {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + COUPON_FLAG_TTL_MS;
+        Long previous = flags.putIfAbsent(key, expiresAt);
+        return previous == null || (previous <= now && flags.replace(key, previous, expiresAt));
+    }
+
+    private boolean hasFlag(String key) {
+        Long expiresAt = flags.get(key);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    private Pattern globToRegex(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (char c : glob.toCharArray()) {
+            switch (c) {
+                case '*' -> regex.append(".*");
+                case '?' -> regex.append('.');
+                default -> regex.append(Pattern.quote(String.valueOf(c)));
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
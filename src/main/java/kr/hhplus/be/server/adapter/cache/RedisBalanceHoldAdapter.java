@@ -0,0 +1,271 @@
+package kr.hhplus.be.server.adapter.cache;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Redis 기반 잔액 차감 홀드
+ *
+ * 키 (최소 단위 정수, 잔액 scale 2 기준):
+ * - balance:hold:user_{id}: 차감 가능 금액, 구성할 때만 TTL을 지정 (고정 TTL, 사용해도 연장하지 않음)
+ * - balance:hold:user_{id}:loading: 구성 표시 (토큰, 구성 중 충전이 반영되면 삭제되어 구성이 무효화됨)
+ * - balance:hold:user_{id}:inflight: 진행 중인 충전/차감 (ZSET, 멤버 "c|d:{id}:{금액}", 점수는 만료 시각)
+ * 검사와 반영을 Lua 스크립트 하나로 수행하므로 분산 락이 필요 없습니다.
+ *
+ * 커밋 후 반영/롤백 해제가 유실되어 차감 가능 금액이 어긋나면 고정 TTL이 지난 뒤 DB 값으로 다시 구성됩니다.
+ * 다시 구성할 때 진행 중인 차감은 DB에 아직 없으므로 빼고, 진행 중인 충전이 있으면 구성을 미룹니다.
+ * 어긋남은 차감 가능 금액이 작아지는 쪽으로만 남도록 반영 시점을 정했으며, 키 유실로 인한 초과 차감은
+ * 스냅샷 롤포워드의 음수 잔액 검사가 감지합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisBalanceHoldAdapter implements BalanceHoldPort {
+
+    private static final int AMOUNT_SCALE = 2;
+
+    private static final long NOT_LOADED = -1L;
+    private static final long INSUFFICIENT = 0L;
+
+    private static final String CHARGE = "c";
+    private static final String DEDUCT = "d";
+
+    /**
+     * 구성 표시
+     * KEYS[1]=홀드 키, KEYS[2]=구성 표시 키, ARGV[1]=토큰, ARGV[2]=구성 표시 TTL(초)
+     */
+    private static final String BEGIN_LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "if redis.call('SET', KEYS[2], ARGV[1], 'NX', 'EX', ARGV[2]) then return 1 end " +
+            "return 0";
+
+    /**
+     * 구성 완료 (구성 표시가 그대로이고 진행 중인 충전이 없을 때만 DB 값 - 진행 중인 차감으로 구성)
+     * KEYS[1]=홀드 키, KEYS[2]=구성 표시 키, KEYS[3]=진행 중 키,
+     * ARGV[1]=토큰, ARGV[2]=DB 현재 잔액, ARGV[3]=홀드 TTL(초), ARGV[4]=현재 시각(ms)
+     */
+    private static final String FINISH_LOAD_SCRIPT =
+            "if redis.call('GET', KEYS[2]) ~= ARGV[1] then return 0 end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 1 end " +
+            "redis.call('ZREMRANGEBYSCORE', KEYS[3], '-inf', ARGV[4]) " +
+            "local available = tonumber(ARGV[2]) " +
+            "for _, member in ipairs(redis.call('ZRANGE', KEYS[3], 0, -1)) do " +
+            "  local kind, amount = string.match(member, '^(%a):[^:]+:(%-?%d+)$') " +
+            "  if kind == 'c' then return 0 end " +
+            "  available = available - tonumber(amount) " +
+            "end " +
+            "redis.call('SET', KEYS[1], string.format('%.0f', available), 'EX', ARGV[3]) " +
+            "return 1";
+
+    /**
+     * 홀드 (TTL은 연장하지 않음)
+     * KEYS[1]=홀드 키, KEYS[2]=진행 중 키, ARGV[1]=금액, ARGV[2]=진행 중 멤버(없으면 빈 문자열),
+     * ARGV[3]=멤버 만료 시각(ms), ARGV[4]=진행 중 키 TTL(ms)
+     */
+    private static final String HOLD_SCRIPT =
+            "local available = redis.call('GET', KEYS[1]) " +
+            "if not available then return -1 end " +
+            "if tonumber(available) < tonumber(ARGV[1]) then return 0 end " +
+            "redis.call('DECRBY', KEYS[1], ARGV[1]) " +
+            "if ARGV[2] ~= '' then " +
+            "  redis.call('ZADD', KEYS[2], ARGV[3], ARGV[2]) " +
+            "  redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "end " +
+            "return 1";
+
+    /**
+     * 진행 중 기록
+     * KEYS[1]=진행 중 키, ARGV[1]=멤버, ARGV[2]=멤버 만료 시각(ms), ARGV[3]=진행 중 키 TTL(ms)
+     */
+    private static final String MARK_SCRIPT =
+            "redis.call('ZADD', KEYS[1], ARGV[2], ARGV[1]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[3]) " +
+            "return 1";
+
+    /**
+     * 차감 완료 (롤백이면 진행 중 기록이 남아 있을 때만 홀드 해제)
+     * KEYS[1]=홀드 키, KEYS[2]=진행 중 키, ARGV[1]=멤버, ARGV[2]=해제 금액(커밋이면 0)
+     */
+    private static final String COMPLETE_DEDUCT_SCRIPT =
+            "local removed = redis.call('ZREM', KEYS[2], ARGV[1]) " +
+            "if removed == 1 and tonumber(ARGV[2]) > 0 and redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('INCRBY', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 1";
+
+    /**
+     * 충전 반영
+     * 진행 중 기록이 남아 있으면 구성에 포함되지 않은 충전이므로 더하고, 기록이 없으면(기록 실패/만료)
+     * 구성에 포함되었는지 알 수 없으므로 홀드를 무효화합니다. 구성 중이면 구성을 무효화합니다.
+     * KEYS[1]=홀드 키, KEYS[2]=구성 표시 키, KEYS[3]=진행 중 키, ARGV[1]=금액, ARGV[2]=멤버(없으면 빈 문자열)
+     */
+    private static final String CREDIT_SCRIPT =
+            "local marked = 0 " +
+            "if ARGV[2] ~= '' then marked = redis.call('ZREM', KEYS[3], ARGV[2]) end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  if marked == 1 then redis.call('INCRBY', KEYS[1], ARGV[1]) else redis.call('DEL', KEYS[1]) end " +
+            "  return 1 " +
+            "end " +
+            "redis.call('DEL', KEYS[2]) " +
+            "return 0";
+
+    private final RedissonClient redissonClient;
+    private final KeyGenerator keyGenerator;
+
+    @Value("${balance.hold.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    @Value("${balance.hold.loading-ttl-seconds:10}")
+    private long loadingTtlSeconds = 10;
+
+    @Value("${balance.hold.inflight-ttl-seconds:120}")
+    private long inflightTtlSeconds = 120;
+
+    @Override
+    public Optional<String> beginLoad(Long userId) {
+        String token = UUID.randomUUID().toString();
+        Long begun = eval(BEGIN_LOAD_SCRIPT,
+                List.of(keyGenerator.generateBalanceHoldKey(userId), keyGenerator.generateBalanceHoldLoadingKey(userId)),
+                token, String.valueOf(loadingTtlSeconds));
+        return begun != null && begun == 1L ? Optional.of(token) : Optional.empty();
+    }
+
+    @Override
+    public boolean finishLoad(Long userId, String token, BigDecimal committedAmount) {
+        Long loaded = eval(FINISH_LOAD_SCRIPT, allKeys(userId),
+                token, toMinorUnits(committedAmount), String.valueOf(ttlSeconds),
+                String.valueOf(System.currentTimeMillis()));
+
+        boolean created = loaded != null && loaded == 1L;
+        if (created) {
+            log.debug("잔액 홀드 구성: userId={}, committedAmount={}", userId, committedAmount);
+        } else {
+            log.debug("잔액 홀드 구성 무효화 (구성 중 충전 반영): userId={}", userId);
+        }
+        return created;
+    }
+
+    @Override
+    public HoldResult hold(Long userId, BigDecimal amount) {
+        boolean inTransaction = TransactionSynchronizationManager.isSynchronizationActive();
+        String member = inTransaction ? member(DEDUCT, amount) : "";
+        String minorUnits = toMinorUnits(amount);
+
+        Long result = eval(HOLD_SCRIPT,
+                List.of(keyGenerator.generateBalanceHoldKey(userId), keyGenerator.generateBalanceHoldInflightKey(userId)),
+                minorUnits, member, String.valueOf(inflightDeadline()), String.valueOf(inflightTtlSeconds * 1000));
+
+        if (result == null || result == INSUFFICIENT) {
+            return HoldResult.INSUFFICIENT;
+        }
+        if (result == NOT_LOADED) {
+            return HoldResult.NOT_LOADED;
+        }
+
+        if (inTransaction) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    // 커밋이면 진행 중 기록만 제거 (DB에 반영되었으므로), 롤백이면 홀드 해제
+                    String restore = status == STATUS_COMMITTED ? "0" : minorUnits;
+                    run("잔액 홀드 완료", userId, amount, () -> eval(COMPLETE_DEDUCT_SCRIPT,
+                            List.of(keyGenerator.generateBalanceHoldKey(userId), keyGenerator.generateBalanceHoldInflightKey(userId)),
+                            member, restore));
+                }
+            });
+        }
+        return HoldResult.HELD;
+    }
+
+    @Override
+    public void credit(Long userId, BigDecimal amount) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidate(userId);
+            return;
+        }
+
+        String member = member(CHARGE, amount);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean marked;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // 커밋 직전에 진행 중인 충전으로 기록하여, 커밋 후 반영 전까지 구성이 이 충전을 이중 반영하지 않게 함
+                marked = run("잔액 홀드 충전 기록", userId, amount, () -> eval(MARK_SCRIPT,
+                        List.of(keyGenerator.generateBalanceHoldInflightKey(userId)),
+                        member, String.valueOf(inflightDeadline()), String.valueOf(inflightTtlSeconds * 1000)));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    run("잔액 홀드 충전 반영", userId, amount, () -> eval(CREDIT_SCRIPT, allKeys(userId),
+                            toMinorUnits(amount), marked ? member : ""));
+                } else if (marked) {
+                    run("잔액 홀드 충전 기록 제거", userId, amount, () -> redissonClient.getScoredSortedSet(
+                            keyGenerator.generateBalanceHoldInflightKey(userId), StringCodec.INSTANCE).remove(member));
+                }
+            }
+        });
+    }
+
+    @Override
+    public void invalidate(Long userId) {
+        redissonClient.getKeys().delete(keyGenerator.generateBalanceHoldKey(userId),
+                keyGenerator.generateBalanceHoldLoadingKey(userId));
+        log.debug("잔액 홀드 무효화: userId={}", userId);
+    }
+
+    /**
+     * 커밋/롤백 전후에 실행되므로 예외를 전파하지 않습니다.
+     * 실패하면 차감 가능 금액이 실제보다 작게 남거나 구성이 무효화되며, 고정 TTL이 지난 뒤 DB 값으로 복구됩니다.
+     */
+    private boolean run(String action, Long userId, BigDecimal amount, Runnable command) {
+        try {
+            command.run();
+            return true;
+        } catch (Exception e) {
+            log.error("{} 실패: userId={}, amount={}", action, userId, amount, e);
+            return false;
+        }
+    }
+
+    private List<Object> allKeys(Long userId) {
+        return List.of(keyGenerator.generateBalanceHoldKey(userId),
+                keyGenerator.generateBalanceHoldLoadingKey(userId),
+                keyGenerator.generateBalanceHoldInflightKey(userId));
+    }
+
+    private Long eval(String script, List<Object> keys, Object... args) {
+        return redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, script,
+                RScript.ReturnType.INTEGER, keys, args);
+    }
+
+    private long inflightDeadline() {
+        return System.currentTimeMillis() + inflightTtlSeconds * 1000;
+    }
+
+    private String member(String kind, BigDecimal amount) {
+        return kind + ":" + UUID.randomUUID() + ":" + toMinorUnits(amount);
+    }
+
+    private String toMinorUnits(BigDecimal amount) {
+        return amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP).unscaledValue().toString();
+    }
+}
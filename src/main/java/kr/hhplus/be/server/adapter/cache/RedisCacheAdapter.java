@@ -4,8 +4,12 @@ import kr.hhplus.be.server.domain.port.cache.CachePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.*;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.List;
@@ -20,6 +24,7 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class RedisCacheAdapter implements CachePort {
     
@@ -28,6 +33,17 @@ public class RedisCacheAdapter implements CachePort {
     
     private static final String CACHE_KEY_PREFIX = "cache:";
     
+    /**
+     * 샤드 잔여 수량이 남아 있을 때만 차감 (차감 후 잔여 수량 반환, 소진 시 -1)
+     */
+    private static final String DECREMENT_SHARD_SCRIPT =
+            "local remaining = tonumber(redis.call('GET', KEYS[1]) or '0') " +
+            "if remaining <= 0 then return -1 end " +
+            "return redis.call('DECR', KEYS[1])";
+    
+    // 이 노드에서 샤드 초기화를 마친 쿠폰 (샤드 키 첫 번째 값 기준)
+    private final Set<String> initializedShardCoupons = ConcurrentHashMap.newKeySet();
+    
     /**
      * 캐시에서 값을 조회 (Cache Stampede 방어 포함)
      * 
@@ -335,7 +351,7 @@ public class RedisCacheAdapter implements CachePort {
             // 분산 락 획득 (최대 10초 대기, 30초 후 자동 해제)
             if (!lock.tryLock(10, 30, TimeUnit.SECONDS)) {
                 log.warn("Failed to acquire lock for coupon issuance: lockKey={}", lockKey);
-                return -1;
+                return COUPON_UNAVAILABLE;
             }
             
             try {
@@ -344,7 +360,7 @@ public class RedisCacheAdapter implements CachePort {
                 // 이미 발급받은 사용자인지 확인 (원자적 확인 및 설정)
                 if (!userBucket.trySet("issued", 30, TimeUnit.DAYS)) {
                     log.debug("User already issued coupon: userKey={}", couponUserKey);
-                    return -1;
+                    return COUPON_ALREADY_ISSUED;
                 }
                 
                 RAtomicLong counter = redissonClient.getAtomicLong(couponCounterKey);
@@ -356,7 +372,7 @@ public class RedisCacheAdapter implements CachePort {
                     userBucket.delete();
                     counter.decrementAndGet();
                     log.debug("Coupon issuance exceeded max count: counter={}, maxCount={}", newCount, maxCount);
-                    return -1;
+                    return COUPON_SOLD_OUT;
                 }
                 
                 log.debug("Coupon issued atomically: counter={}, user={}, issueNumber={}", couponCounterKey, couponUserKey, newCount);
@@ -369,10 +385,10 @@ public class RedisCacheAdapter implements CachePort {
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
             log.error("Thread interrupted while acquiring lock for coupon issuance: counter={}, user={}", couponCounterKey, couponUserKey, e);
-            return -1;
+            return COUPON_UNAVAILABLE;
         } catch (Exception e) {
             log.error("Error issuing coupon atomically: counter={}, user={}, maxCount={}", couponCounterKey, couponUserKey, maxCount, e);
-            return -1;
+            return COUPON_UNAVAILABLE;
         }
     }
     
@@ -397,4 +413,110 @@ public class RedisCacheAdapter implements CachePort {
             return false;
         }
     }
+    
+    @Override
+    public void rollbackCouponIssue(String couponCounterKey, String couponUserKey) {
+        try {
+            RBucket<String> userBucket = redissonClient.getBucket(couponUserKey);
+            
+            // 사용자 키가 실제로 삭제된 경우에만 카운터 감소 (중복 보상 방지)
+            if (userBucket.delete()) {
+                redissonClient.getAtomicLong(couponCounterKey).decrementAndGet();
+                log.debug("Coupon issuance rolled back: counter={}, user={}", couponCounterKey, couponUserKey);
+            }
+        } catch (Exception e) {
+            log.error("Error rolling back coupon issuance: counter={}, user={}", couponCounterKey, couponUserKey, e);
+        }
+    }
+    
+    @Override
+    public long issueCouponFromShards(List<String> shardKeys, String soldOutKey, String couponUserKey, long initialStock, int startShard) {
+        try {
+            // 전체 품절이면 샤드를 순회하지 않고 즉시 실패
+            if (redissonClient.getBucket(soldOutKey, StringCodec.INSTANCE).isExists()) {
+                return COUPON_SOLD_OUT;
+            }
+            
+            initializeShards(shardKeys, initialStock);
+            
+            RBucket<String> userBucket = redissonClient.getBucket(couponUserKey);
+            if (!userBucket.trySet("issued", 30, TimeUnit.DAYS)) {
+                log.debug("User already issued coupon: userKey={}", couponUserKey);
+                return COUPON_ALREADY_ISSUED;
+            }
+            
+            RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+            int shardCount = shardKeys.size();
+            
+            // 배정된 샤드부터 시작해 소진된 샤드는 다음 샤드로 넘김
+            for (int i = 0; i < shardCount; i++) {
+                int shard = (startShard + i) % shardCount;
+                Long remaining = script.eval(RScript.Mode.READ_WRITE, DECREMENT_SHARD_SCRIPT,
+                        RScript.ReturnType.INTEGER, List.of(shardKeys.get(shard)));
+                
+                if (remaining != null && remaining >= 0) {
+                    log.debug("Coupon issued from shard: shardKey={}, user={}, remaining={}", shardKeys.get(shard), couponUserKey, remaining);
+                    return shard + 1;
+                }
+            }
+            
+            // 모든 샤드 소진: 사용자 키 롤백 후 품절 플래그 기록
+            userBucket.delete();
+            redissonClient.getBucket(soldOutKey, StringCodec.INSTANCE).set("1", 30, TimeUnit.DAYS);
+            log.debug("All coupon stock shards exhausted: soldOutKey={}", soldOutKey);
+            return COUPON_SOLD_OUT;
+            
+        } catch (Exception e) {
+            log.error("Error issuing coupon from shards: soldOutKey={}, user={}, initialStock={}", soldOutKey, couponUserKey, initialStock, e);
+            return COUPON_UNAVAILABLE;
+        }
+    }
+    
+    @Override
+    public void rollbackCouponShardIssue(String shardKey, String soldOutKey, String couponUserKey) {
+        try {
+            RBucket<String> userBucket = redissonClient.getBucket(couponUserKey);
+            
+            // 사용자 키가 실제로 삭제된 경우에만 샤드 재고 복구 (중복 보상 방지)
+            if (userBucket.delete()) {
+                redissonClient.getAtomicLong(shardKey).incrementAndGet();
+                redissonClient.getBucket(soldOutKey, StringCodec.INSTANCE).delete();
+                log.debug("Coupon shard issuance rolled back: shard={}, user={}", shardKey, couponUserKey);
+            }
+        } catch (Exception e) {
+            log.error("Error rolling back coupon shard issuance: shard={}, user={}", shardKey, couponUserKey, e);
+        }
+    }
+    
+    @Override
+    public boolean hasCouponShardStock(List<String> shardKeys, String soldOutKey) {
+        try {
+            return redissonClient.getKeys().countExists(shardKeys.get(0), soldOutKey) > 0;
+        } catch (Exception e) {
+            log.error("Error checking coupon shard stock: shard={}, soldOut={}", shardKeys.get(0), soldOutKey, e);
+            return false;
+        }
+    }
+    
+    /**
+     * 샤드별 초기 재고 분배 (SET NX로 여러 노드가 동시에 호출해도 최초 값만 유지)
+     * 
+     * 남은 수량을 샤드 수로 나누고 나머지는 앞쪽 샤드부터 1개씩 더 배정합니다.
+     */
+    private void initializeShards(List<String> shardKeys, long initialStock) {
+        if (initializedShardCoupons.contains(shardKeys.get(0))) {
+            return;
+        }
+        
+        int shardCount = shardKeys.size();
+        long baseQuota = initialStock / shardCount;
+        long remainder = initialStock % shardCount;
+        
+        for (int shard = 0; shard < shardCount; shard++) {
+            long quota = baseQuota + (shard < remainder ? 1 : 0);
+            redissonClient.getBucket(shardKeys.get(shard), StringCodec.INSTANCE).trySet(String.valueOf(quota));
+        }
+        
+        initializedShardCoupons.add(shardKeys.get(0));
+    }
 }
\ No newline at end of file
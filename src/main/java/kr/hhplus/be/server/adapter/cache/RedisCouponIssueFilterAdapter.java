@@ -0,0 +1,427 @@
+package kr.hhplus.be.server.adapter.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.filter.CouponIssueFilterPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBitSet;
+import org.redisson.api.RBitSetAsync;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Redis 비트맵 + 노드 로컬 사본 기반 쿠폰 발급 여부 Bloom 필터
+ *
+ * 조회는 노드 메모리의 로컬 사본에서만 수행하고, 추가는 로컬 사본과 Redis 비트맵에 함께 반영한 뒤
+ * RTopic으로 다른 노드의 로컬 사본에 전파합니다. (메시지 형식: {couponId}:{userId})
+ *
+ * 필터 설정(비트 수, 해시 수)은 {@code coupon:bloom:coupon_{id}_meta}에 저장되며,
+ * 이 키가 있어야 준비된 필터로 간주합니다. 필터가 없으면 DB 발급 이력으로 한 번 생성하고,
+ * 재시작한 노드는 Redis 비트맵으로 로컬 사본을 복원합니다.
+ * 생성은 맵 잠금 밖에서 쿠폰당 한 스레드만 수행하며, 생성 중 들어온 추가는 보관했다가 완료 시 반영합니다.
+ * 전파 지연 동안의 미탐(false negative)은 Redis 선착순 슬롯(coupon:user) 중복 검증이 막아줍니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCouponIssueFilterAdapter implements CouponIssueFilterPort {
+
+    private static final String FILTER_TOPIC = "coupon:bloom:broadcast";
+    private static final String METRIC_PREFIX = "coupon.issue.filter";
+    private static final long MIN_EXPECTED_INSERTIONS = 1_000;
+
+    private final RedissonClient redissonClient;
+    private final KeyGenerator keyGenerator;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${coupon.issue-filter.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${coupon.issue-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate = 0.01;
+
+    private final Map<Long, LocalFilter> filters = new ConcurrentHashMap<>();
+    private final Map<Long, PendingBuild> builds = new ConcurrentHashMap<>();
+
+    private RTopic topic;
+    private int listenerId;
+
+    private Counter negativeCounter;
+    private Counter positiveCounter;
+    private Counter notReadyCounter;
+    private Counter falsePositiveCounter;
+
+    @PostConstruct
+    public void subscribe() {
+        negativeCounter = Counter.builder(METRIC_PREFIX + ".checks").tag("result", "negative").register(meterRegistry);
+        positiveCounter = Counter.builder(METRIC_PREFIX + ".checks").tag("result", "positive").register(meterRegistry);
+        notReadyCounter = Counter.builder(METRIC_PREFIX + ".checks").tag("result", "not_ready").register(meterRegistry);
+        falsePositiveCounter = Counter.builder(METRIC_PREFIX + ".false_positives").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".false_positive.rate", this, RedisCouponIssueFilterAdapter::observedFalsePositiveRate)
+                .description("양성 판정 중 실제 미발급 비율")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".memory.bytes", this, RedisCouponIssueFilterAdapter::memoryBytes)
+                .description("노드 로컬 필터 사본 메모리")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".count", filters, Map::size).register(meterRegistry);
+
+        topic = redissonClient.getTopic(FILTER_TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> apply(message));
+        log.info("쿠폰 발급 필터 구독 시작: topic={}", FILTER_TOPIC);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    @Override
+    public void ensureReady(Long couponId, long expectedInsertions, Supplier<Collection<Long>> issuedUserIdsLoader) {
+        if (!enabled || filters.containsKey(couponId)) {
+            return;
+        }
+
+        // 같은 쿠폰의 동시 요청은 한 스레드만 생성하고 나머지는 기다리지 않음 (준비 전에는 정확 조회로 대체)
+        // DB 전체 조회와 Redis I/O를 맵 잠금 밖에서 수행하여 다른 쿠폰과 가상 스레드를 막지 않음
+        PendingBuild pending = new PendingBuild();
+        if (builds.putIfAbsent(couponId, pending) != null) {
+            return;
+        }
+
+        try {
+            if (filters.containsKey(couponId)) {
+                return;
+            }
+            LocalFilter loaded = loadFromRedis(couponId);
+            LocalFilter built = loaded != null ? loaded : build(couponId, expectedInsertions, issuedUserIdsLoader.get());
+            LocalFilter existing = filters.putIfAbsent(couponId, built);
+            publishPending(couponId, existing != null ? existing : built, pending.close());
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 필터 생성 실패 (정확 조회로 대체): couponId={}", couponId, e);
+        } finally {
+            pending.close();
+            builds.remove(couponId, pending);
+        }
+    }
+
+    @Override
+    public boolean mightContain(Long couponId, Long userId) {
+        if (!enabled) {
+            return true;
+        }
+
+        LocalFilter filter = loadFilter(couponId);
+        if (filter == null) {
+            notReadyCounter.increment();
+            return true;
+        }
+
+        boolean positive = filter.mightContain(couponId, userId);
+        (positive ? positiveCounter : negativeCounter).increment();
+        return positive;
+    }
+
+    @Override
+    public void add(Long couponId, Long userId) {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            LocalFilter filter = filters.get(couponId);
+            if (filter == null && !bufferWhileBuilding(couponId, userId)) {
+                filter = loadFilter(couponId);
+            }
+            if (filter == null) {
+                // 생성 중이거나 필터가 없음: 생성 중인 노드가 DB 조회 이후의 발급을 놓치지 않도록 전파만 함
+                topic.publish(couponId + ":" + userId);
+                return;
+            }
+
+            writeBits(couponId, List.of(filter.add(couponId, userId)));
+            topic.publish(couponId + ":" + userId);
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 필터 추가 실패: couponId={}, userId={}", couponId, userId, e);
+        }
+    }
+
+    @Override
+    public void recordFalsePositive(Long couponId) {
+        if (filters.containsKey(couponId)) {
+            falsePositiveCounter.increment();
+        }
+    }
+
+    /**
+     * 생성 중인 쿠폰이면 추가를 보관합니다. 생성이 이미 끝났으면 false
+     */
+    private boolean bufferWhileBuilding(Long couponId, Long userId) {
+        PendingBuild pending = builds.get(couponId);
+        return pending != null && pending.offer(userId);
+    }
+
+    /**
+     * 생성 중 보관한 추가를 로컬 사본과 Redis 비트맵에 반영합니다.
+     */
+    private void publishPending(Long couponId, LocalFilter filter, List<Long> pendingUserIds) {
+        if (pendingUserIds.isEmpty()) {
+            return;
+        }
+        writeBits(couponId, pendingUserIds.stream().map(userId -> filter.add(couponId, userId)).toList());
+        log.debug("쿠폰 발급 필터 생성 중 추가 반영: couponId={}, count={}", couponId, pendingUserIds.size());
+    }
+
+    private void writeBits(Long couponId, List<long[]> indexesList) {
+        RBatch batch = redissonClient.createBatch();
+        RBitSetAsync bitSet = batch.getBitSet(keyGenerator.generateCouponIssueFilterKey(couponId));
+        for (long[] indexes : indexesList) {
+            for (long index : indexes) {
+                bitSet.setAsync(index);
+            }
+        }
+        batch.execute();
+    }
+
+    private LocalFilter loadFilter(Long couponId) {
+        LocalFilter filter = filters.get(couponId);
+        if (filter != null) {
+            return filter;
+        }
+
+        try {
+            LocalFilter loaded = loadFromRedis(couponId);
+            if (loaded == null) {
+                return null;
+            }
+            LocalFilter existing = filters.putIfAbsent(couponId, loaded);
+            return existing != null ? existing : loaded;
+        } catch (Exception e) {
+            log.warn("쿠폰 발급 필터 로드 실패: couponId={}", couponId, e);
+            return null;
+        }
+    }
+
+    /**
+     * 다른 노드가 만든 필터를 Redis에서 복원합니다. 설정 키가 없으면 null
+     */
+    private LocalFilter loadFromRedis(Long couponId) {
+        RBucket<String> metaBucket = redissonClient.getBucket(keyGenerator.generateCouponIssueFilterMetaKey(couponId), StringCodec.INSTANCE);
+        String meta = metaBucket.get();
+        if (meta == null) {
+            return null;
+        }
+
+        LocalFilter filter = LocalFilter.fromMeta(meta);
+        filter.merge(redissonClient.getBitSet(keyGenerator.generateCouponIssueFilterKey(couponId)).asBitSet());
+        return filter;
+    }
+
+    /**
+     * DB 발급 이력으로 필터를 생성하고 Redis에 기록합니다.
+     */
+    private LocalFilter build(Long couponId, long expectedInsertions, Collection<Long> issuedUserIds) {
+        LocalFilter filter = LocalFilter.create(Math.max(expectedInsertions, MIN_EXPECTED_INSERTIONS), falsePositiveRate);
+        issuedUserIds.forEach(userId -> filter.add(couponId, userId));
+
+        // 임시 키에 기록한 뒤 OR 병합하여 생성 중 다른 노드가 추가한 비트를 보존
+        String filterKey = keyGenerator.generateCouponIssueFilterKey(couponId);
+        RBitSet initBitSet = redissonClient.getBitSet(filterKey + "_init");
+        initBitSet.set(filter.toBitSet());
+        redissonClient.getBitSet(filterKey).or(initBitSet.getName());
+        initBitSet.delete();
+
+        // 설정 키는 비트 기록 후에 저장하여 다른 노드가 빈 필터를 준비된 것으로 보지 않도록 함
+        RBucket<String> metaBucket = redissonClient.getBucket(keyGenerator.generateCouponIssueFilterMetaKey(couponId), StringCodec.INSTANCE);
+        if (!metaBucket.trySet(filter.toMeta())) {
+            // 다른 노드가 먼저 생성한 경우 그 설정을 따름
+            return loadFromRedis(couponId);
+        }
+        filter.merge(redissonClient.getBitSet(filterKey).asBitSet());
+
+        log.info("쿠폰 발급 필터 생성: couponId={}, 기존 발급 수={}, bits={}, hashes={}",
+                couponId, issuedUserIds.size(), filter.bitCount, filter.hashCount);
+        return filter;
+    }
+
+    private void apply(String message) {
+        try {
+            String[] parts = message.split(":");
+            Long couponId = Long.valueOf(parts[0]);
+            Long userId = Long.valueOf(parts[1]);
+            LocalFilter filter = filters.get(couponId);
+            if (filter == null && bufferWhileBuilding(couponId, userId)) {
+                return;
+            }
+            if (filter == null) {
+                filter = filters.get(couponId);
+            }
+            if (filter != null) {
+                filter.add(couponId, userId);
+            }
+        } catch (Exception e) {
+            log.warn("잘못된 쿠폰 발급 필터 메시지 무시: {}", message, e);
+        }
+    }
+
+    private double observedFalsePositiveRate() {
+        double positives = positiveCounter.count();
+        return positives == 0 ? 0 : falsePositiveCounter.count() / positives;
+    }
+
+    private double memoryBytes() {
+        return filters.values().stream().mapToLong(LocalFilter::memoryBytes).sum();
+    }
+
+    /**
+     * 생성 중인 필터에 들어온 추가 보관소
+     *
+     * 생성 스레드는 필터를 맵에 게시한 뒤 닫으므로, 닫힌 뒤의 추가는 게시된 필터에 바로 반영됩니다.
+     * 가상 스레드가 캐리어 스레드에 고정되지 않도록 모니터 대신 ReentrantLock을 사용합니다.
+     */
+    private static final class PendingBuild {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final List<Long> userIds = new ArrayList<>();
+        private boolean closed;
+
+        boolean offer(Long userId) {
+            lock.lock();
+            try {
+                if (closed) {
+                    return false;
+                }
+                userIds.add(userId);
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        List<Long> close() {
+            lock.lock();
+            try {
+                closed = true;
+                List<Long> drained = List.copyOf(userIds);
+                userIds.clear();
+                return drained;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 노드 로컬 Bloom 필터 사본 (비트 연산은 lock-free)
+     */
+    private static final class LocalFilter {
+
+        private final long bitCount;
+        private final int hashCount;
+        private final AtomicLongArray words;
+
+        private LocalFilter(long bitCount, int hashCount) {
+            this.bitCount = bitCount;
+            this.hashCount = hashCount;
+            this.words = new AtomicLongArray((int) ((bitCount + 63) / 64));
+        }
+
+        static LocalFilter create(long expectedInsertions, double falsePositiveRate) {
+            // m = -n ln p / (ln 2)^2, k = m/n ln 2
+            long bitCount = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            bitCount = ((bitCount + 63) / 64) * 64;
+            int hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+            return new LocalFilter(bitCount, hashCount);
+        }
+
+        static LocalFilter fromMeta(String meta) {
+            String[] parts = meta.split(":");
+            return new LocalFilter(Long.parseLong(parts[0]), Integer.parseInt(parts[1]));
+        }
+
+        String toMeta() {
+            return bitCount + ":" + hashCount;
+        }
+
+        long[] add(Long couponId, Long userId) {
+            long[] indexes = indexes(couponId, userId);
+            for (long index : indexes) {
+                int word = (int) (index >>> 6);
+                long mask = 1L << (index & 63);
+                words.getAndUpdate(word, value -> value | mask);
+            }
+            return indexes;
+        }
+
+        boolean mightContain(Long couponId, Long userId) {
+            for (long index : indexes(couponId, userId)) {
+                if ((words.get((int) (index >>> 6)) & (1L << (index & 63))) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void merge(BitSet bits) {
+            for (int index = bits.nextSetBit(0); index >= 0 && index < bitCount; index = bits.nextSetBit(index + 1)) {
+                long mask = 1L << (index & 63);
+                words.getAndUpdate(index >>> 6, value -> value | mask);
+            }
+        }
+
+        BitSet toBitSet() {
+            long[] snapshot = new long[words.length()];
+            for (int i = 0; i < snapshot.length; i++) {
+                snapshot[i] = words.get(i);
+            }
+            return BitSet.valueOf(snapshot);
+        }
+
+        long memoryBytes() {
+            return words.length() * 8L;
+        }
+
+        /**
+         * 이중 해싱(h1 + i*h2)으로 k개의 비트 위치 계산
+         */
+        private long[] indexes(Long couponId, Long userId) {
+            long h1 = mix(userId * 0x9E3779B97F4A7C15L + couponId);
+            long h2 = mix(h1) | 1;
+            long[] indexes = new long[hashCount];
+            for (int i = 0; i < hashCount; i++) {
+                indexes[i] = Math.floorMod(h1 + i * h2, bitCount);
+            }
+            return indexes;
+        }
+
+        private static long mix(long value) {
+            value ^= value >>> 33;
+            value *= 0xff51afd7ed558ccdL;
+            value ^= value >>> 33;
+            value *= 0xc4ceb9fe1a85ec53L;
+            value ^= value >>> 33;
+            return value;
+        }
+    }
+}
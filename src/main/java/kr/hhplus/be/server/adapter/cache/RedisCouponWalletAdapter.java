@@ -0,0 +1,181 @@
+package kr.hhplus.be.server.adapter.cache;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.CouponWalletCursor;
+import kr.hhplus.be.server.domain.dto.CouponWalletEntryDto;
+import kr.hhplus.be.server.domain.enums.CacheTTL;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Redis Sorted Set 기반 쿠폰 지갑
+ *
+ * 키: coupon:wallet:user_{userId}, 멤버: 쿠폰 히스토리 ID, 점수: 발급 일시(epoch 마이크로초)
+ *
+ * 발급 이벤트가 지갑 구성 전에 도착할 수 있으므로 추가는 항상 ZADD하고,
+ * 구성 완료 여부는 점수 0의 표식 멤버(LOADED_MARKER)로 판단합니다.
+ * 표식이 없는 지갑은 조회 시 DB에서 다시 구성되며 기존 항목과 병합됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisCouponWalletAdapter implements CouponWalletPort {
+
+    private static final String LOADED_MARKER = "loaded";
+    private static final String NOT_LOADED = "-";
+
+    /**
+     * keyset 페이지 조회
+     * KEYS[1]=지갑, ARGV[1]=표식 멤버, ARGV[2]=커서 점수(첫 페이지면 빈 값), ARGV[3]=커서 ID, ARGV[4]=limit
+     *
+     * (점수, 멤버) 복합 커서: 지갑 순서(ZREVRANGE)는 점수 내림차순, 같은 점수면 멤버 사전순 내림차순이므로
+     * 커서 점수 이하를 읽으면서 점수가 같고 멤버가 커서 ID 이상인 항목(이미 본 항목)은 건너뜁니다.
+     * 커서 멤버가 이미 제거되었어도 같은 점수의 나머지 항목을 빠뜨리지 않습니다.
+     * 표식 멤버(점수 0)는 범위에서 제외됩니다.
+     */
+    private static final String PAGE_SCRIPT =
+            "if redis.call('ZSCORE', KEYS[1], ARGV[1]) == false then return {'" + NOT_LOADED + "'} end " +
+            "local limit = tonumber(ARGV[4]) " +
+            "if ARGV[2] == '' then " +
+            "  return redis.call('ZREVRANGEBYSCORE', KEYS[1], '+inf', '(0', 'LIMIT', 0, limit) " +
+            "end " +
+            "local cursorScore = tonumber(ARGV[2]) " +
+            "local result = {} " +
+            "local offset = 0 " +
+            "while #result < limit do " +
+            "  local batch = redis.call('ZREVRANGEBYSCORE', KEYS[1], ARGV[2], '(0', 'WITHSCORES', 'LIMIT', offset, limit) " +
+            "  if #batch == 0 then break end " +
+            "  for i = 1, #batch, 2 do " +
+            "    if tonumber(batch[i + 1]) < cursorScore or batch[i] < ARGV[3] then " +
+            "      result[#result + 1] = batch[i] " +
+            "      if #result == limit then break end " +
+            "    end " +
+            "  end " +
+            "  offset = offset + limit " +
+            "end " +
+            "return result";
+
+    private final RedissonClient redissonClient;
+    private final KeyGenerator keyGenerator;
+
+    @Override
+    public Optional<List<Long>> findPage(Long userId, CouponWalletCursor cursor, int limit) {
+        String walletKey = keyGenerator.generateCouponWalletKey(userId);
+
+        try {
+            RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+            List<Object> members = script.eval(RScript.Mode.READ_ONLY, PAGE_SCRIPT, RScript.ReturnType.MULTI,
+                    List.of(walletKey),
+                    LOADED_MARKER,
+                    cursor != null ? String.valueOf(cursor.issuedAtMicros()) : "",
+                    cursor != null ? String.valueOf(cursor.couponHistoryId()) : "",
+                    String.valueOf(limit));
+
+            if (members.size() == 1 && NOT_LOADED.equals(members.get(0))) {
+                return Optional.empty();
+            }
+
+            List<Long> couponHistoryIds = new ArrayList<>(members.size());
+            for (Object member : members) {
+                if (!LOADED_MARKER.equals(member)) {
+                    couponHistoryIds.add(Long.valueOf(member.toString()));
+                }
+            }
+            return Optional.of(couponHistoryIds);
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 조회 실패: userId={}", userId, e);
+            return Optional.empty();
+        }
+    }
+
+    @Override
+    public void load(Long userId, List<CouponWalletEntryDto> entries) {
+        try {
+            RScoredSortedSet<String> wallet = getWallet(userId);
+
+            if (!entries.isEmpty()) {
+                Map<String, Double> scores = new LinkedHashMap<>();
+                for (CouponWalletEntryDto entry : entries) {
+                    scores.put(String.valueOf(entry.couponHistoryId()), score(entry.issuedAt()));
+                }
+                wallet.addAll(scores);
+            }
+
+            // 항목을 모두 넣은 뒤 표식을 추가하여 구성 중인 지갑이 조회되지 않도록 함
+            wallet.add(0, LOADED_MARKER);
+            wallet.expire(Duration.ofSeconds(CacheTTL.USER_COUPON_WALLET.getSeconds()));
+            log.debug("쿠폰 지갑 구성: userId={}, size={}", userId, entries.size());
+        } catch (Exception e) {
+            log.warn("쿠폰 지갑 구성 실패: userId={}", userId, e);
+        }
+    }
+
+    @Override
+    public void add(Long userId, Long couponHistoryId, LocalDateTime issuedAt) {
+        runAfterCommit(() -> {
+            RScoredSortedSet<String> wallet = getWallet(userId);
+            wallet.add(score(issuedAt), String.valueOf(couponHistoryId));
+            wallet.expire(Duration.ofSeconds(CacheTTL.USER_COUPON_WALLET.getSeconds()));
+        }, userId);
+    }
+
+    @Override
+    public void remove(Long userId, Collection<Long> couponHistoryIds) {
+        if (couponHistoryIds.isEmpty()) {
+            return;
+        }
+
+        List<String> members = couponHistoryIds.stream().map(String::valueOf).toList();
+        runAfterCommit(() -> getWallet(userId).removeAll(members), userId);
+    }
+
+    private RScoredSortedSet<String> getWallet(Long userId) {
+        return redissonClient.getScoredSortedSet(keyGenerator.generateCouponWalletKey(userId), StringCodec.INSTANCE);
+    }
+
+    private double score(LocalDateTime issuedAt) {
+        return CouponWalletCursor.toMicros(issuedAt);
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋 이후 반영하여 롤백된 발급/사용이 지갑에 남지 않도록 합니다.
+     */
+    private void runAfterCommit(Runnable update, Long userId) {
+        Runnable safeUpdate = () -> {
+            try {
+                update.run();
+            } catch (Exception e) {
+                // 지갑 오류는 비즈니스 로직에 영향을 주지 않음 (조회 시 DB 상태로 보정)
+                log.warn("쿠폰 지갑 갱신 실패: userId={}", userId, e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    safeUpdate.run();
+                }
+            });
+        } else {
+            safeUpdate.run();
+        }
+    }
+}
@@ -0,0 +1,377 @@
+package kr.hhplus.be.server.adapter.cache;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Redis Hash 기반 재고 원장
+ *
+ * 키: inventory:ledger:product_{id}, 필드: stock, reserved, pending_stock, pending_reserved, inflight_stock, inflight_reserved
+ * stock/reserved는 현재 재고, pending_* 는 아직 DB에 반영되지 않은 누적 변경량입니다.
+ * 변경이 생긴 상품 ID는 inventory:ledger:dirty 집합에 모아 리컨사일러가 꺼내 갑니다.
+ *
+ * 꺼낸 변경량은 바로 지우지 않고 inflight_* 로 옮겨 DB 커밋 후 확인할 때 비웁니다.
+ * 꺼낸 상품 ID는 inventory:ledger:inflight(score = 꺼낸 시각)에 기록하며,
+ * inflight-timeout-ms 동안 확인되지 않으면 리컨사일러가 커밋 전에 종료된 것으로 보고 반영 대기분으로 되돌립니다.
+ * (커밋 직후 확인 전에 종료되면 같은 변경량이 한 번 더 반영될 수 있음)
+ *
+ * 모든 변경은 Lua 스크립트 하나로 검사와 반영을 함께 수행하므로 분산 락이 필요 없습니다.
+ * 원장 키에는 TTL을 두지 않습니다. (만료되면 반영 대기분이 유실됨)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "redis", matchIfMissing = true)
+@RequiredArgsConstructor
+public class RedisInventoryLedgerAdapter implements InventoryLedgerPort {
+
+    private static final long NOT_LOADED = -1L;
+    private static final long VIOLATION = 0L;
+
+    /**
+     * 원장 구성 (이미 있으면 유지)
+     * KEYS[1]=원장, ARGV[1]=stock, ARGV[2]=reserved
+     */
+    private static final String LOAD_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('HSET', KEYS[1], 'stock', ARGV[1], 'reserved', ARGV[2], 'pending_stock', 0, 'pending_reserved', 0, " +
+            "  'inflight_stock', 0, 'inflight_reserved', 0) " +
+            "return 1";
+
+    /**
+     * 변경량 반영 (전부 또는 전무)
+     * KEYS[1]=반영 대기 집합, KEYS[2..]=원장, ARGV=상품별 (상품 ID, stock 변경량, reserved 변경량)
+     *
+     * 모든 상품의 반영 후 값이 product 테이블 @Check 조건을 만족할 때만 반영합니다.
+     */
+    private static final String APPLY_SCRIPT =
+            "for i = 2, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 0 then return -1 end " +
+            "end " +
+            "for i = 2, #KEYS do " +
+            "  local base = (i - 2) * 3 " +
+            "  local stock = tonumber(redis.call('HGET', KEYS[i], 'stock')) + tonumber(ARGV[base + 2]) " +
+            "  local reserved = tonumber(redis.call('HGET', KEYS[i], 'reserved')) + tonumber(ARGV[base + 3]) " +
+            "  if stock < 0 or reserved < 0 or reserved > stock then return 0 end " +
+            "end " +
+            "for i = 2, #KEYS do " +
+            "  local base = (i - 2) * 3 " +
+            "  redis.call('HINCRBY', KEYS[i], 'stock', ARGV[base + 2]) " +
+            "  redis.call('HINCRBY', KEYS[i], 'reserved', ARGV[base + 3]) " +
+            "  redis.call('HINCRBY', KEYS[i], 'pending_stock', ARGV[base + 2]) " +
+            "  redis.call('HINCRBY', KEYS[i], 'pending_reserved', ARGV[base + 3]) " +
+            "  redis.call('SADD', KEYS[1], ARGV[base + 1]) " +
+            "end " +
+            "return 1";
+
+    /**
+     * 반영 대기분 꺼내기 (반영 중으로 이동)
+     * KEYS[1]=반영 대기 집합, KEYS[2]=반영 중 집합, KEYS[3..]=원장, ARGV[1]=현재 시각, ARGV[2..]=상품 ID
+     * 반환: 변경량이 있는 상품별 (상품 ID, stock 변경량, reserved 변경량) 평탄화 목록
+     */
+    private static final String DRAIN_SCRIPT =
+            "local result = {} " +
+            "for i = 3, #KEYS do " +
+            "  redis.call('SREM', KEYS[1], ARGV[i - 1]) " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local ds = tonumber(redis.call('HGET', KEYS[i], 'pending_stock')) " +
+            "    local dr = tonumber(redis.call('HGET', KEYS[i], 'pending_reserved')) " +
+            "    if ds ~= 0 or dr ~= 0 then " +
+            "      redis.call('HSET', KEYS[i], 'pending_stock', 0, 'pending_reserved', 0) " +
+            "      redis.call('HINCRBY', KEYS[i], 'inflight_stock', ds) " +
+            "      redis.call('HINCRBY', KEYS[i], 'inflight_reserved', dr) " +
+            "      redis.call('ZADD', KEYS[2], ARGV[1], ARGV[i - 1]) " +
+            "      table.insert(result, ARGV[i - 1]) " +
+            "      table.insert(result, tostring(ds)) " +
+            "      table.insert(result, tostring(dr)) " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return result";
+
+    /**
+     * 반영 중 변경량 확인 (DB 커밋 후)
+     * KEYS[1]=반영 대기 집합, KEYS[2]=반영 중 집합, KEYS[3..]=원장, ARGV=상품별 (상품 ID, stock 변경량, reserved 변경량)
+     */
+    private static final String ACKNOWLEDGE_SCRIPT =
+            "for i = 3, #KEYS do " +
+            "  local base = (i - 3) * 3 " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local s = redis.call('HINCRBY', KEYS[i], 'inflight_stock', -tonumber(ARGV[base + 2])) " +
+            "    local r = redis.call('HINCRBY', KEYS[i], 'inflight_reserved', -tonumber(ARGV[base + 3])) " +
+            "    if s == 0 and r == 0 then redis.call('ZREM', KEYS[2], ARGV[base + 1]) end " +
+            "  end " +
+            "end " +
+            "return 1";
+
+    /**
+     * 반영 중 변경량을 반영 대기분으로 되돌리기
+     * KEYS[1]=반영 대기 집합, KEYS[2]=반영 중 집합, KEYS[3..]=원장, ARGV=상품별 (상품 ID, stock 변경량, reserved 변경량)
+     */
+    private static final String RESTORE_SCRIPT =
+            "for i = 3, #KEYS do " +
+            "  local base = (i - 3) * 3 " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "    local s = redis.call('HINCRBY', KEYS[i], 'inflight_stock', -tonumber(ARGV[base + 2])) " +
+            "    local r = redis.call('HINCRBY', KEYS[i], 'inflight_reserved', -tonumber(ARGV[base + 3])) " +
+            "    if s == 0 and r == 0 then redis.call('ZREM', KEYS[2], ARGV[base + 1]) end " +
+            "    redis.call('HINCRBY', KEYS[i], 'pending_stock', ARGV[base + 2]) " +
+            "    redis.call('HINCRBY', KEYS[i], 'pending_reserved', ARGV[base + 3]) " +
+            "    redis.call('SADD', KEYS[1], ARGV[base + 1]) " +
+            "  end " +
+            "end " +
+            "return 1";
+
+    /**
+     * 확인되지 않은 채 오래된 반영 중 변경량을 반영 대기분으로 되돌리기
+     * KEYS[1]=반영 대기 집합, KEYS[2]=반영 중 집합, KEYS[3..]=원장, ARGV[1]=기준 시각, ARGV[2..]=상품 ID
+     * 조회 이후 다시 꺼내져 시각이 갱신된 상품은 건너뜁니다.
+     */
+    private static final String RECLAIM_SCRIPT =
+            "local reclaimed = 0 " +
+            "for i = 3, #KEYS do " +
+            "  local score = redis.call('ZSCORE', KEYS[2], ARGV[i - 1]) " +
+            "  if score and tonumber(score) <= tonumber(ARGV[1]) then " +
+            "    redis.call('ZREM', KEYS[2], ARGV[i - 1]) " +
+            "    if redis.call('EXISTS', KEYS[i]) == 1 then " +
+            "      local ds = tonumber(redis.call('HGET', KEYS[i], 'inflight_stock') or 0) " +
+            "      local dr = tonumber(redis.call('HGET', KEYS[i], 'inflight_reserved') or 0) " +
+            "      redis.call('HSET', KEYS[i], 'inflight_stock', 0, 'inflight_reserved', 0) " +
+            "      redis.call('HINCRBY', KEYS[i], 'pending_stock', ds) " +
+            "      redis.call('HINCRBY', KEYS[i], 'pending_reserved', dr) " +
+            "      redis.call('SADD', KEYS[1], ARGV[i - 1]) " +
+            "      reclaimed = reclaimed + 1 " +
+            "    end " +
+            "  end " +
+            "end " +
+            "return reclaimed";
+
+    private final RedissonClient redissonClient;
+    private final KeyGenerator keyGenerator;
+
+    @Value("${product.inventory-ledger.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${product.inventory-ledger.product-ids:}")
+    private Set<Long> managedProductIds = Set.of();
+
+    @Value("${product.inventory-ledger.inflight-timeout-ms:60000}")
+    private long inflightTimeoutMs = 60_000;
+
+    @Override
+    public boolean isManaged(Long productId) {
+        return enabled && managedProductIds.contains(productId);
+    }
+
+    @Override
+    public boolean load(Long productId, int stock, int reservedStock) {
+        Long loaded = getScript().eval(RScript.Mode.READ_WRITE, LOAD_SCRIPT, RScript.ReturnType.INTEGER,
+                List.of(keyGenerator.generateInventoryLedgerKey(productId)),
+                String.valueOf(stock), String.valueOf(reservedStock));
+
+        boolean created = loaded != null && loaded == 1L;
+        if (created) {
+            log.info("재고 원장 구성: productId={}, stock={}, reservedStock={}", productId, stock, reservedStock);
+        }
+        return created;
+    }
+
+    @Override
+    public ApplyResult apply(List<ProductStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return ApplyResult.APPLIED;
+        }
+
+        List<ProductStockDelta> merged = merge(deltas);
+        ApplyResult result = applyMerged(merged);
+
+        if (result == ApplyResult.APPLIED && TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<ProductStockDelta> inverse = merged.stream().map(ProductStockDelta::inverse).toList();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        compensate(inverse);
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    @Override
+    public List<ProductStockDelta> drainPendingDeltas(int limit) {
+        reclaimStaleInflight(limit);
+
+        String dirtyKey = keyGenerator.generateInventoryLedgerDirtyKey();
+        Set<String> productIds = redissonClient.<String>getSet(dirtyKey, StringCodec.INSTANCE).random(limit);
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object> flattened = getScript().eval(RScript.Mode.READ_WRITE, DRAIN_SCRIPT, RScript.ReturnType.MULTI,
+                productKeys(productIds), withProductIds(System.currentTimeMillis(), productIds));
+
+        List<ProductStockDelta> deltas = new ArrayList<>(flattened.size() / 3);
+        for (int i = 0; i + 2 < flattened.size(); i += 3) {
+            deltas.add(new ProductStockDelta(
+                    Long.valueOf(flattened.get(i).toString()),
+                    Integer.parseInt(flattened.get(i + 1).toString()),
+                    Integer.parseInt(flattened.get(i + 2).toString())));
+        }
+        return deltas;
+    }
+
+    @Override
+    public void acknowledgePendingDeltas(List<ProductStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        getScript().eval(RScript.Mode.READ_WRITE, ACKNOWLEDGE_SCRIPT, RScript.ReturnType.INTEGER,
+                inflightKeys(deltas), args(deltas));
+    }
+
+    @Override
+    public void restorePendingDeltas(List<ProductStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        getScript().eval(RScript.Mode.READ_WRITE, RESTORE_SCRIPT, RScript.ReturnType.INTEGER,
+                inflightKeys(deltas), args(deltas));
+    }
+
+    /**
+     * inflight-timeout-ms 동안 확인되지 않은 반영 중 변경량을 반영 대기분으로 되돌립니다.
+     */
+    private void reclaimStaleInflight(int limit) {
+        long threshold = System.currentTimeMillis() - inflightTimeoutMs;
+        Collection<String> staleIds = redissonClient.<String>getScoredSortedSet(
+                        keyGenerator.generateInventoryLedgerInflightKey(), StringCodec.INSTANCE)
+                .valueRange(Double.NEGATIVE_INFINITY, true, threshold, true, 0, limit);
+        if (staleIds.isEmpty()) {
+            return;
+        }
+
+        Long reclaimed = getScript().eval(RScript.Mode.READ_WRITE, RECLAIM_SCRIPT, RScript.ReturnType.INTEGER,
+                productKeys(staleIds), withProductIds(threshold, staleIds));
+        if (reclaimed != null && reclaimed > 0) {
+            log.warn("확인되지 않은 재고 원장 반영 중 변경량을 반영 대기분으로 되돌림: {}개 상품", reclaimed);
+        }
+    }
+
+    private ApplyResult applyMerged(List<ProductStockDelta> merged) {
+        Long result = getScript().eval(RScript.Mode.READ_WRITE, APPLY_SCRIPT, RScript.ReturnType.INTEGER,
+                keys(merged), args(merged));
+
+        if (result == null || result == VIOLATION) {
+            return ApplyResult.VIOLATION;
+        }
+        return result == NOT_LOADED ? ApplyResult.NOT_LOADED : ApplyResult.APPLIED;
+    }
+
+    /**
+     * 롤백된 트랜잭션에서 반영한 변경량을 되돌립니다.
+     */
+    private void compensate(List<ProductStockDelta> inverse) {
+        try {
+            ApplyResult result = applyMerged(inverse);
+            if (result != ApplyResult.APPLIED) {
+                log.error("재고 원장 롤백 보상 실패: result={}, deltas={}", result, inverse);
+            }
+        } catch (Exception e) {
+            log.error("재고 원장 롤백 보상 중 오류: deltas={}", inverse, e);
+        }
+    }
+
+    /**
+     * 같은 상품의 변경량을 합산하고 상품 ID 순으로 정렬합니다.
+     */
+    private List<ProductStockDelta> merge(List<ProductStockDelta> deltas) {
+        Map<Long, int[]> sums = new TreeMap<>();
+        for (ProductStockDelta delta : deltas) {
+            int[] sum = sums.computeIfAbsent(delta.productId(), id -> new int[2]);
+            sum[0] += delta.stockDelta();
+            sum[1] += delta.reservedDelta();
+        }
+
+        List<ProductStockDelta> merged = new ArrayList<>(sums.size());
+        sums.forEach((productId, sum) -> merged.add(new ProductStockDelta(productId, sum[0], sum[1])));
+        return merged;
+    }
+
+    private List<Object> keys(List<ProductStockDelta> deltas) {
+        List<Object> keys = new ArrayList<>(deltas.size() + 1);
+        keys.add(keyGenerator.generateInventoryLedgerDirtyKey());
+        for (ProductStockDelta delta : deltas) {
+            keys.add(keyGenerator.generateInventoryLedgerKey(delta.productId()));
+        }
+        return keys;
+    }
+
+    /**
+     * 반영 대기 집합, 반영 중 집합, 상품별 원장 키
+     */
+    private List<Object> inflightKeys(List<ProductStockDelta> deltas) {
+        List<Object> keys = new ArrayList<>(deltas.size() + 2);
+        keys.add(keyGenerator.generateInventoryLedgerDirtyKey());
+        keys.add(keyGenerator.generateInventoryLedgerInflightKey());
+        for (ProductStockDelta delta : deltas) {
+            keys.add(keyGenerator.generateInventoryLedgerKey(delta.productId()));
+        }
+        return keys;
+    }
+
+    private List<Object> productKeys(Collection<String> productIds) {
+        List<Object> keys = new ArrayList<>(productIds.size() + 2);
+        keys.add(keyGenerator.generateInventoryLedgerDirtyKey());
+        keys.add(keyGenerator.generateInventoryLedgerInflightKey());
+        for (String productId : productIds) {
+            keys.add(keyGenerator.generateInventoryLedgerKey(Long.valueOf(productId)));
+        }
+        return keys;
+    }
+
+    private Object[] withProductIds(long timestamp, Collection<String> productIds) {
+        Object[] args = new Object[productIds.size() + 1];
+        args[0] = String.valueOf(timestamp);
+        int i = 1;
+        for (String productId : productIds) {
+            args[i++] = productId;
+        }
+        return args;
+    }
+
+    private Object[] args(List<ProductStockDelta> deltas) {
+        Object[] args = new Object[deltas.size() * 3];
+        for (int i = 0; i < deltas.size(); i++) {
+            ProductStockDelta delta = deltas.get(i);
+            args[i * 3] = String.valueOf(delta.productId());
+            args[i * 3 + 1] = String.valueOf(delta.stockDelta());
+            args[i * 3 + 2] = String.valueOf(delta.reservedDelta());
+        }
+        return args;
+    }
+
+    private RScript getScript() {
+        return redissonClient.getScript(StringCodec.INSTANCE);
+    }
+}
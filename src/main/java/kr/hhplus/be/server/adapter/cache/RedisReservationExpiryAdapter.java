@@ -0,0 +1,104 @@
+package kr.hhplus.be.server.adapter.cache;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.reservation.ReservationExpiryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis ZSET 기반 주문 예약 만료 대기열
+ *
+ * 키: order:reservation:deadlines, score: 만료 시각(epoch ms), member: 주문 ID
+ * 꺼내기는 Lua 스크립트 하나로 조회와 삭제를 함께 수행하므로 여러 노드의 스위퍼가 같은 주문을 중복 처리하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisReservationExpiryAdapter implements ReservationExpiryPort {
+
+    /**
+     * 만료 시각이 지난 주문 꺼내기
+     * KEYS[1]=대기열, ARGV[1]=현재 시각, ARGV[2]=최대 개수
+     */
+    private static final String POLL_SCRIPT =
+            "local ids = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2])) " +
+            "if #ids > 0 then redis.call('ZREM', KEYS[1], unpack(ids)) end " +
+            "return ids";
+
+    private final RedissonClient redissonClient;
+    private final KeyGenerator keyGenerator;
+
+    @Value("${order.reservation.expiry.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${order.reservation.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    @Override
+    public void register(List<Long> orderIds) {
+        if (!enabled || orderIds.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(orderIds, System.currentTimeMillis() + ttlSeconds * 1000);
+                }
+            });
+            return;
+        }
+        add(orderIds, System.currentTimeMillis() + ttlSeconds * 1000);
+    }
+
+    @Override
+    public void reschedule(List<Long> orderIds, long deadlineEpochMillis) {
+        if (orderIds.isEmpty()) {
+            return;
+        }
+        add(orderIds, deadlineEpochMillis);
+    }
+
+    @Override
+    public List<Long> pollExpired(long nowEpochMillis, int limit) {
+        List<Object> ids = redissonClient.getScript(StringCodec.INSTANCE).eval(
+                RScript.Mode.READ_WRITE, POLL_SCRIPT, RScript.ReturnType.MULTI,
+                List.of(keyGenerator.generateOrderReservationDeadlineKey()),
+                String.valueOf(nowEpochMillis), String.valueOf(limit));
+
+        return ids.stream()
+                .map(id -> Long.valueOf(id.toString()))
+                .toList();
+    }
+
+    @Override
+    public long pendingCount() {
+        return redissonClient.getScoredSortedSet(keyGenerator.generateOrderReservationDeadlineKey(), StringCodec.INSTANCE).size();
+    }
+
+    /**
+     * 등록 실패는 주문 생성에 영향을 주지 않으며, 스위퍼의 DB 재확인으로 만료됩니다.
+     */
+    private void add(List<Long> orderIds, long deadlineEpochMillis) {
+        try {
+            Map<String, Double> entries = new HashMap<>();
+            orderIds.forEach(orderId -> entries.put(String.valueOf(orderId), (double) deadlineEpochMillis));
+            redissonClient.<String>getScoredSortedSet(keyGenerator.generateOrderReservationDeadlineKey(), StringCodec.INSTANCE)
+                    .addAll(entries);
+        } catch (Exception e) {
+            log.warn("주문 예약 만료 등록 실패: orderIds={}", orderIds, e);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package kr.hhplus.be.server.adapter.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis Pub/Sub 기반 품절 레지스트리
+ *
+ * 품절 여부는 노드 메모리(Set)에서만 조회하고, 변경 시 RTopic으로 전 노드에 전파합니다.
+ * 메시지 형식: {domain}:{id}:{1=품절|0=해제} (예: coupon:1:1)
+ *
+ * 트랜잭션 안에서 호출되면 커밋 이후에 반영하여 롤백된 변경이 전파되지 않도록 합니다.
+ * 재시작한 노드는 비어 있는 상태로 시작하며, 첫 품절 판정 시점에 다시 채워집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisSoldOutRegistryAdapter implements SoldOutRegistryPort {
+
+    private static final String SOLD_OUT_TOPIC = "soldout:broadcast";
+    private static final String COUPON_DOMAIN = "coupon";
+    private static final String PRODUCT_DOMAIN = "product";
+
+    private final RedissonClient redissonClient;
+
+    private final Set<Long> soldOutCoupons = ConcurrentHashMap.newKeySet();
+    private final Set<Long> soldOutProducts = ConcurrentHashMap.newKeySet();
+
+    private RTopic topic;
+    private int listenerId;
+
+    @PostConstruct
+    public void subscribe() {
+        topic = redissonClient.getTopic(SOLD_OUT_TOPIC, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> apply(message));
+        log.info("품절 브로드캐스트 구독 시작: topic={}", SOLD_OUT_TOPIC);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    @Override
+    public boolean isCouponSoldOut(Long couponId) {
+        return soldOutCoupons.contains(couponId);
+    }
+
+    @Override
+    public void markCouponSoldOut(Long couponId) {
+        if (!soldOutCoupons.contains(couponId)) {
+            broadcastAfterCommit(COUPON_DOMAIN, couponId, true);
+        }
+    }
+
+    @Override
+    public void clearCouponSoldOut(Long couponId) {
+        // 재시작 등으로 이 노드에 표시가 없어도 다른 노드에는 남아 있을 수 있으므로 항상 전파
+        broadcastAfterCommit(COUPON_DOMAIN, couponId, false);
+    }
+
+    @Override
+    public boolean isProductSoldOut(Long productId) {
+        return soldOutProducts.contains(productId);
+    }
+
+    @Override
+    public void markProductSoldOut(Long productId) {
+        if (!soldOutProducts.contains(productId)) {
+            broadcastAfterCommit(PRODUCT_DOMAIN, productId, true);
+        }
+    }
+
+    @Override
+    public void clearProductSoldOut(Long productId) {
+        broadcastAfterCommit(PRODUCT_DOMAIN, productId, false);
+    }
+
+    private void broadcastAfterCommit(String domain, Long id, boolean soldOut) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    broadcast(domain, id, soldOut);
+                }
+            });
+        } else {
+            broadcast(domain, id, soldOut);
+        }
+    }
+
+    private void broadcast(String domain, Long id, boolean soldOut) {
+        String message = domain + ":" + id + ":" + (soldOut ? "1" : "0");
+
+        // 발행 노드는 브로드캐스트 수신을 기다리지 않고 즉시 반영
+        apply(message);
+
+        try {
+            topic.publish(message);
+            log.info("품절 상태 전파: {}", message);
+        } catch (Exception e) {
+            log.warn("품절 상태 전파 실패 (로컬에만 반영): {}", message, e);
+        }
+    }
+
+    private void apply(String message) {
+        try {
+            String[] parts = message.split(":");
+            Long id = Long.valueOf(parts[1]);
+            boolean soldOut = "1".equals(parts[2]);
+
+            Set<Long> target = COUPON_DOMAIN.equals(parts[0]) ? soldOutCoupons : soldOutProducts;
+            if (soldOut) {
+                target.add(id);
+            } else {
+                target.remove(id);
+            }
+        } catch (Exception e) {
+            log.warn("잘못된 품절 메시지 무시: {}", message, e);
+        }
+    }
+}
@@ -1,22 +1,34 @@
 package kr.hhplus.be.server.adapter.event;
 
+import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.event.CouponRequestEvent;
 import kr.hhplus.be.server.domain.event.CouponResultEvent;
+import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponBatchUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
 import kr.hhplus.be.server.domain.entity.Coupon;
 import kr.hhplus.be.server.domain.entity.CouponHistory;
 import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.service.CouponService;
+import kr.hhplus.be.server.domain.exception.CommonException;
 import kr.hhplus.be.server.domain.exception.CouponException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.support.Acknowledgment;
 import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 /**
  * 선착순 쿠폰 요청 처리 Consumer
@@ -25,6 +37,12 @@ import java.time.LocalDateTime;
  * 결과를 coupon-results 토픽으로 발행합니다.
  * 
  * 파티셔닝: userId 기반으로 파티셔닝하여 동일 사용자의 요청 순서를 보장합니다.
+ * 
+ * 기본은 배치 리스너(coupon.request.batch.enabled=true)로 poll된 요청을 쿠폰별로 묶어
+ * 쿠폰 락 1회 + 트랜잭션 1회로 일괄 발급하며, 비활성화 시 단건 리스너로 처리합니다.
+ * 
+ * 발급되지 않은 요청은 요청 접수 시 선점한 Redis 슬롯을 보상하여 재고와 사용자의 재요청 기회를 돌려줍니다.
+ * 이미 발급된 사용자(ALREADY_ISSUED)는 재전달된 요청일 수 있으므로 선점을 유지합니다.
  */
 @Slf4j
 @Service
@@ -33,11 +51,145 @@ public class CouponRequestConsumer {
 
     private final IssueCouponUseCase issueCouponUseCase;
     private final EventPort eventPort;
+    private final IssueCouponBatchUseCase issueCouponBatchUseCase;
+    private final LockingPort lockingPort;
+    private final KeyGenerator keyGenerator;
+    private final TransactionTemplate transactionTemplate;
+    private final CouponService couponService;
+
+    /**
+     * 쿠폰 요청 배치 처리
+     * 
+     * 쿠폰별로 묶어 발급 수량 UPDATE 1회와 이력 일괄 저장을 하나의 트랜잭션으로 처리합니다.
+     */
+    @KafkaListener(
+        topics = "coupon-requests",
+        groupId = "coupon-processor-group",
+        containerFactory = "couponRequestBatchKafkaListenerContainerFactory",
+        autoStartup = "${coupon.request.batch.enabled:true}"
+    )
+    public void handleCouponRequestBatch(List<CouponRequestEvent> requests, Acknowledgment ack) {
+        long startTime = System.currentTimeMillis();
+        
+        // 역직렬화 실패 레코드(null) 제외 후 쿠폰별 그룹핑 (수신 순서 유지)
+        Map<Long, List<CouponRequestEvent>> requestsByCoupon = requests.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(CouponRequestEvent::getCouponId, LinkedHashMap::new, Collectors.toList()));
+        
+        log.info("선착순 쿠폰 요청 배치 수신: 요청 수={}, 쿠폰 수={}", requests.size(), requestsByCoupon.size());
+        
+        for (Map.Entry<Long, List<CouponRequestEvent>> entry : requestsByCoupon.entrySet()) {
+            Long couponId = entry.getKey();
+            List<CouponRequestEvent> couponRequests = entry.getValue();
+            
+            try {
+                List<IssueCouponBatchUseCase.IssueResult> results = issueCouponGroup(couponId, couponRequests);
+                long processingTime = System.currentTimeMillis() - startTime;
+                results.forEach(result -> {
+                    if (!result.isSuccess()) {
+                        releaseAdmission(result.request(), result.resultCode());
+                    }
+                    publishResult(toResultEvent(result, processingTime));
+                });
+                
+            } catch (Exception e) {
+                CouponResultEvent.ResultCode resultCode = toResultCode(e);
+                long processingTime = System.currentTimeMillis() - startTime;
+                
+                log.warn("쿠폰 일괄 발급 실패: couponId={}, 요청 수={}, resultCode={}", 
+                        couponId, couponRequests.size(), resultCode.getCode(), e);
+                
+                couponRequests.forEach(request -> {
+                    releaseAdmission(request, resultCode);
+                    publishResult(CouponResultEvent.failure(
+                            request.getRequestId(), request.getUserId(), couponId, resultCode, processingTime));
+                });
+            }
+        }
+        
+        // 실패 상황에서도 배치 단위 ACK (무한 재시도 방지)
+        ack.acknowledge();
+        
+        log.info("선착순 쿠폰 요청 배치 처리 완료: 요청 수={}, processingTime={}ms", 
+                requests.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * 쿠폰 락 획득 후 단일 트랜잭션으로 일괄 발급
+     */
+    private List<IssueCouponBatchUseCase.IssueResult> issueCouponGroup(Long couponId, List<CouponRequestEvent> couponRequests) {
+        String lockKey = keyGenerator.generateCouponKey(couponId);
+        
+        if (!lockingPort.acquireLock(lockKey)) {
+            throw new CommonException.ConcurrencyConflict();
+        }
+        
+        try {
+            try {
+                return transactionTemplate.execute(status -> 
+                        issueCouponBatchUseCase.execute(couponId, couponRequests));
+            } catch (DataIntegrityViolationException e) {
+                // Bloom 필터 위음성으로 이미 발급된 사용자가 섞인 경우: 롤백된 배치를 DB 중복 검사로 다시 처리
+                log.warn("쿠폰 일괄 발급 중복 이력 충돌, DB 중복 검사로 재처리: couponId={}, 요청 수={}", 
+                        couponId, couponRequests.size());
+                return transactionTemplate.execute(status -> 
+                        issueCouponBatchUseCase.execute(couponId, couponRequests, true));
+            }
+        } finally {
+            lockingPort.releaseLock(lockKey);
+        }
+    }
+
+    private CouponResultEvent toResultEvent(IssueCouponBatchUseCase.IssueResult result, long processingTime) {
+        CouponRequestEvent request = result.request();
+        
+        if (result.isSuccess()) {
+            return CouponResultEvent.success(request.getRequestId(), request.getUserId(), 
+                    request.getCouponId(), result.couponHistoryId(), processingTime);
+        }
+        return CouponResultEvent.failure(request.getRequestId(), request.getUserId(), 
+                request.getCouponId(), result.resultCode(), processingTime);
+    }
+
+    private CouponResultEvent.ResultCode toResultCode(Exception e) {
+        if (e instanceof CouponException.OutOfStock || e instanceof CouponException.CouponStockExceeded) {
+            return CouponResultEvent.ResultCode.OUT_OF_STOCK;
+        }
+        return CouponResultEvent.ResultCode.SYSTEM_ERROR;
+    }
+
+    /**
+     * 발급되지 않은 요청의 Redis 선점 보상
+     */
+    private void releaseAdmission(CouponRequestEvent request, CouponResultEvent.ResultCode resultCode) {
+        if (resultCode == CouponResultEvent.ResultCode.ALREADY_ISSUED) {
+            return;
+        }
+        try {
+            couponService.releaseCouponAdmission(request.getCouponId(), request.getUserId(), request.getIssueNumber());
+        } catch (Exception e) {
+            log.error("쿠폰 선점 보상 실패: requestId={}, couponId={}, userId={}", 
+                    request.getRequestId(), request.getCouponId(), request.getUserId(), e);
+        }
+    }
 
+    private void publishResult(CouponResultEvent resultEvent) {
+        try {
+            eventPort.publish("coupon-results", resultEvent);
+        } catch (Exception e) {
+            log.error("쿠폰 결과 이벤트 발행 실패: requestId={}, resultCode={}", 
+                    resultEvent.getRequestId(), resultEvent.getResultCode().getCode(), e);
+        }
+    }
+
+    /**
+     * 쿠폰 요청 단건 처리 (coupon.request.batch.enabled=false)
+     */
     @KafkaListener(
         topics = "coupon-requests",
         groupId = "coupon-processor-group",
-        containerFactory = "couponRequestKafkaListenerContainerFactory"
+        containerFactory = "couponRequestKafkaListenerContainerFactory",
+        autoStartup = "#{!${coupon.request.batch.enabled:true}}"
     )
     public void handleCouponRequest(
             CouponRequestEvent request,
@@ -73,32 +225,32 @@ public class CouponRequestConsumer {
                     requestId, userId, couponHistory.getId(), processingTime);
             
         } catch (CouponException.OutOfStock e) {
-            handleCouponError(requestId, userId, couponId, 
+            handleCouponError(request, 
                             CouponResultEvent.ResultCode.OUT_OF_STOCK, 
                             startTime, ack, e);
             
         } catch (CouponException.AlreadyIssued e) {
-            handleCouponError(requestId, userId, couponId, 
+            handleCouponError(request, 
                             CouponResultEvent.ResultCode.ALREADY_ISSUED, 
                             startTime, ack, e);
             
         } catch (CouponException.Expired e) {
-            handleCouponError(requestId, userId, couponId, 
+            handleCouponError(request, 
                             CouponResultEvent.ResultCode.EXPIRED, 
                             startTime, ack, e);
             
         } catch (CouponException.CouponNotYetStarted e) {
-            handleCouponError(requestId, userId, couponId, 
+            handleCouponError(request, 
                             CouponResultEvent.ResultCode.NOT_STARTED, 
                             startTime, ack, e);
             
         } catch (CouponException.NotFound e) {
-            handleCouponError(requestId, userId, couponId, 
+            handleCouponError(request, 
                             CouponResultEvent.ResultCode.COUPON_NOT_FOUND, 
                             startTime, ack, e);
             
         } catch (Exception e) {
-            handleCouponError(requestId, userId, couponId, 
+            handleCouponError(request, 
                             CouponResultEvent.ResultCode.SYSTEM_ERROR, 
                             startTime, ack, e);
         }
@@ -107,12 +259,16 @@ public class CouponRequestConsumer {
     /**
      * 쿠폰 처리 에러 핸들링
      */
-    private void handleCouponError(String requestId, Long userId, Long couponId, 
+    private void handleCouponError(CouponRequestEvent request, 
                                  CouponResultEvent.ResultCode resultCode,
                                  long startTime, Acknowledgment ack, Exception e) {
-        
+        String requestId = request.getRequestId();
+        Long userId = request.getUserId();
+        Long couponId = request.getCouponId();
         long processingTime = System.currentTimeMillis() - startTime;
         
+        releaseAdmission(request, resultCode);
+        
         log.warn("선착순 쿠폰 발급 실패: requestId={}, userId={}, couponId={}, resultCode={}, processingTime={}ms", 
                 requestId, userId, couponId, resultCode.getCode(), processingTime, e);
         
@@ -1,6 +1,9 @@
 package kr.hhplus.be.server.adapter.event;
 
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.enums.CacheTTL;
 import kr.hhplus.be.server.domain.event.CouponResultEvent;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
@@ -14,7 +17,7 @@ import org.springframework.stereotype.Service;
  * 선착순 쿠폰 결과 처리 Consumer
  * 
  * coupon-results 토픽에서 쿠폰 처리 결과를 수신하여 
- * 사용자 알림, 통계 수집, 모니터링 등의 후속 처리를 수행합니다.
+ * 결과 조회용 캐시 저장, 사용자 알림, 통계 수집, 모니터링 등의 후속 처리를 수행합니다.
  * 
  * 파티셔닝: userId 기반으로 파티셔닝하여 동일 사용자의 결과 순서를 보장합니다.
  */
@@ -23,6 +26,8 @@ import org.springframework.stereotype.Service;
 @RequiredArgsConstructor
 public class CouponResultConsumer {
 
+    private final CachePort cachePort;
+    private final KeyGenerator keyGenerator;
 
     @KafkaListener(
         topics = "coupon-results",
@@ -43,6 +48,9 @@ public class CouponResultConsumer {
                 result.isSuccessful(), result.getResultCode().getCode());
         
         try {
+            // 결과 조회 API에서 사용할 수 있도록 최종 결과 저장
+            storeResult(result);
+            
             // 처리 성공/실패에 따른 분기 처리
             if (result.isSuccessful()) {
                 handleSuccessResult(result);
@@ -68,6 +76,19 @@ public class CouponResultConsumer {
         }
     }
 
+    /**
+     * requestId 기준으로 처리 결과 저장 (PENDING 상태를 최종 결과로 대체)
+     */
+    private void storeResult(CouponResultEvent result) {
+        try {
+            String resultKey = keyGenerator.generateCouponRequestResultKey(result.getRequestId());
+            cachePort.put(resultKey, result, CacheTTL.COUPON_ISSUE_RESULT.getSeconds());
+        } catch (Exception e) {
+            log.warn("쿠폰 결과 저장 실패: requestId={}", result.getRequestId(), e);
+            // 캐시 오류는 결과 처리 흐름에 영향을 주지 않음
+        }
+    }
+
     /**
      * 쿠폰 발급 성공 결과 처리
      */
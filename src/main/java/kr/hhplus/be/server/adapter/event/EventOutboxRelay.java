@@ -0,0 +1,149 @@
+package kr.hhplus.be.server.adapter.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.EventLog;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 이벤트 아웃박스 릴레이
+ *
+ * PENDING 이벤트를 ID 순으로 묶어 Kafka로 전송하고, 전송 결과를 묶음 단위 UPDATE로 반영합니다.
+ * - 성공: PUBLISHED 전이 (external_endpoint = stream:{topic})
+ * - 실패: 재시도 횟수 증가 후 retry-delay-ms 뒤 재전송, max-retries 도달 시 FAILED
+ *
+ * 노드 간 중복 전송과 순서 역전을 막기 위해 분산 락을 잡은 노드 하나만 릴레이합니다.
+ * 전송 성공 후 상태 반영 전에 중단되면 다시 전송될 수 있으므로 전달 보장은 at-least-once입니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventOutboxRelay {
+
+    private static final int MAX_ERROR_MESSAGE_LENGTH = 255;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventLogRepositoryPort eventLogRepository;
+    private final LockingPort lockingPort;
+    private final KeyGenerator keyGenerator;
+    private final ObjectMapper kafkaObjectMapper;
+
+    @Value("${event.outbox.relay.batch-size:500}")
+    private int batchSize = 500;
+
+    @Value("${event.outbox.relay.send-timeout-ms:5000}")
+    private long sendTimeoutMs = 5000;
+
+    @Value("${event.outbox.relay.retry-delay-ms:1000}")
+    private long retryDelayMs = 1000;
+
+    @Value("${event.outbox.relay.max-retries:5}")
+    private int maxRetries = 5;
+
+    /**
+     * 아웃박스의 PENDING 이벤트를 한 묶음 전송합니다.
+     *
+     * @return PUBLISHED로 전이된 이벤트 수 (다른 노드가 릴레이 중이면 0)
+     */
+    public int relay() {
+        String lockKey = keyGenerator.generateEventOutboxRelayKey();
+        if (lockingPort.isLocked(lockKey) || !lockingPort.acquireLock(lockKey)) {
+            return 0;
+        }
+
+        try {
+            List<EventLog> eventLogs = eventLogRepository.findRelayable(LocalDateTime.now(), PageRequest.of(0, batchSize));
+            if (eventLogs.isEmpty()) {
+                return 0;
+            }
+
+            // 전송은 모두 비동기로 시작하여 프로듀서 배치로 묶이게 한 뒤 한 번에 대기
+            List<CompletableFuture<?>> futures = new ArrayList<>(eventLogs.size());
+            eventLogs.forEach(eventLog -> futures.add(send(eventLog)));
+            awaitAll(futures);
+
+            List<Long> published = new ArrayList<>();
+            Map<Long, String> errors = new LinkedHashMap<>();
+            for (int i = 0; i < eventLogs.size(); i++) {
+                CompletableFuture<?> future = futures.get(i);
+                Long eventLogId = eventLogs.get(i).getId();
+                if (future.isDone() && !future.isCompletedExceptionally()) {
+                    published.add(eventLogId);
+                } else {
+                    errors.put(eventLogId, errorMessage(future));
+                }
+            }
+
+            eventLogRepository.markPublished(published);
+            if (!errors.isEmpty()) {
+                eventLogRepository.markRetry(errors, LocalDateTime.now().plus(Duration.ofMillis(retryDelayMs)), maxRetries);
+                log.warn("이벤트 아웃박스 전송 실패: 실패 수={}, 이벤트 로그 ID={}", errors.size(), errors.keySet());
+            }
+
+            log.debug("이벤트 아웃박스 릴레이 완료: 전송 성공={}, 실패={}", published.size(), errors.size());
+            return published.size();
+
+        } finally {
+            lockingPort.releaseLock(lockKey);
+        }
+    }
+
+    /**
+     * 저장된 JSON을 다시 객체로 만들지 않고 트리 그대로 전송 (컨슈머는 타입 헤더 대신 기본 타입으로 역직렬화)
+     */
+    private CompletableFuture<?> send(EventLog eventLog) {
+        if (eventLog.getTopic() == null) {
+            return CompletableFuture.failedFuture(new IllegalStateException("발행 토픽이 없는 이벤트"));
+        }
+
+        try {
+            return kafkaTemplate.send(eventLog.getTopic(), eventLog.getEventKey(),
+                    kafkaObjectMapper.readTree(eventLog.getPayload()));
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void awaitAll(List<CompletableFuture<?>> futures) {
+        try {
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            // 개별 결과는 호출 측에서 future별로 판정
+        }
+    }
+
+    private String errorMessage(CompletableFuture<?> future) {
+        if (!future.isDone()) {
+            return "전송 응답 시간 초과";
+        }
+
+        try {
+            future.join();
+            return "알 수 없는 전송 실패";
+        } catch (Exception e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+            return message.length() > MAX_ERROR_MESSAGE_LENGTH ? message.substring(0, MAX_ERROR_MESSAGE_LENGTH) : message;
+        }
+    }
+}
@@ -0,0 +1,332 @@
+package kr.hhplus.be.server.adapter.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.EventLog;
+import kr.hhplus.be.server.domain.enums.EventStatus;
+import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanExpressionContext;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 프로세스 내 이벤트 발행 어댑터 (단일 노드/벤치마크 프로필)
+ *
+ * 아웃박스와 Kafka를 거치지 않고, 기동 시 수집한 @KafkaListener 메서드(기존 컨슈머)를 토픽별로 직접 호출합니다.
+ * - 트랜잭션 안에서 발행하면 커밋 후에 전달 (롤백 시 전달하지 않음, 아웃박스와 같은 의미)
+ * - 이벤트 키(파티션 키)별 단일 가상 스레드 스트라이프에서 호출하여 같은 키의 순서를 유지
+ * - 페이로드는 Kafka 전달과 같이 JSON 변환한 사본을 넘기고, Acknowledgment는 no-op, 파티션은 0
+ * - autoStartup으로 비활성화된 리스너는 호출하지 않음
+ *
+ * 컨슈머가 예외를 던지면 같은 스트라이프에서 max-attempts까지 retry-backoff-ms 간격으로 다시 호출합니다.
+ * 끝내 실패한 이벤트는 FAILED 상태의 아웃박스 레코드로 남겨(데드레터) 유실 대신 수동 재처리할 수 있게 합니다.
+ * 같은 컨슈머가 Kafka에서 중복 수신하지 않도록 기동 시 Kafka 리스너 컨테이너의 자동 시작을 끕니다.
+ *
+ * 재고 액터 원장(product.inventory-ledger.engine=actor)은 Kafka 파티션 할당으로 상품 소유권을 정하므로
+ * 리스너 컨테이너를 끄는 이 프로필과 함께 쓰면 소유 액터가 없어 모든 재고 명령이 실패합니다. 기동 시 거부합니다.
+ */
+@Slf4j
+@Component
+@Profile("inmemory")
+@RequiredArgsConstructor
+public class InMemoryEventAdapter implements EventPort, SmartLifecycle {
+
+    private static final Acknowledgment NO_OP_ACK = () -> { };
+
+    private final ConfigurableListableBeanFactory beanFactory;
+    private final ObjectMapper kafkaObjectMapper;
+    private final ObjectProvider<KafkaListenerEndpointRegistry> listenerEndpointRegistry;
+    private final EventLogRepositoryPort eventLogRepository;
+    private final KeyGenerator keyGenerator;
+
+    @Value("${event.inmemory.stripes:8}")
+    private int stripeCount = 8;
+
+    @Value("${event.inmemory.max-attempts:3}")
+    private int maxAttempts = 3;
+
+    @Value("${event.inmemory.retry-backoff-ms:200}")
+    private long retryBackoffMs = 200;
+
+    @Value("${product.inventory-ledger.engine:redis}")
+    private String inventoryLedgerEngine = "redis";
+
+    private final Map<String, List<Listener>> listenersByTopic = new ConcurrentHashMap<>();
+    private final AtomicLong offsets = new AtomicLong();
+
+    private volatile ExecutorService[] stripes;
+
+    private record Listener(Object bean, Method method) {
+    }
+
+    @PostConstruct
+    void validateConfiguration() {
+        if ("actor".equals(inventoryLedgerEngine)) {
+            throw new IllegalStateException(
+                    "inmemory 프로필은 Kafka 파티션 할당이 필요한 product.inventory-ledger.engine=actor와 함께 사용할 수 없습니다");
+        }
+    }
+
+    @Override
+    public void publish(String topic, Object event) {
+        List<Listener> listeners = listenersByTopic.getOrDefault(topic, List.of());
+        if (listeners.isEmpty()) {
+            log.debug("구독 컨슈머 없는 이벤트: topic={}, event={}", topic, event.getClass().getSimpleName());
+            return;
+        }
+
+        String eventKey = KafkaEventAdapter.eventKeyOf(event);
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    dispatch(topic, eventKey, event, listeners);
+                }
+            });
+            return;
+        }
+
+        dispatch(topic, eventKey, event, listeners);
+    }
+
+    @Override
+    public void start() {
+        collectListeners();
+
+        ExecutorService[] executors = new ExecutorService[Math.max(1, stripeCount)];
+        for (int i = 0; i < executors.length; i++) {
+            executors[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("inmemory-event-" + i).factory());
+        }
+        stripes = executors;
+
+        // 리스너 레지스트리보다 먼저 시작하므로 컨테이너가 Kafka에 연결하지 않음
+        KafkaListenerEndpointRegistry registry = listenerEndpointRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.getListenerContainers().forEach(container -> container.setAutoStartup(false));
+        }
+
+        log.info("프로세스 내 이벤트 전달 시작: topics={}, stripes={}", listenersByTopic.keySet(), executors.length);
+    }
+
+    @Override
+    public void stop() {
+        ExecutorService[] executors = stripes;
+        stripes = null;
+        if (executors != null) {
+            for (ExecutorService executor : executors) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stripes != null;
+    }
+
+    @Override
+    public int getPhase() {
+        // Kafka 리스너 컨테이너(Integer.MAX_VALUE - 100)보다 먼저 시작하고 나중에 종료
+        return Integer.MAX_VALUE - 200;
+    }
+
+    private void dispatch(String topic, String eventKey, Object event, List<Listener> listeners) {
+        ExecutorService[] executors = stripes;
+        if (executors == null) {
+            log.warn("이벤트 전달기 중지 상태로 이벤트 폐기: topic={}, key={}", topic, eventKey);
+            return;
+        }
+
+        long offset = offsets.getAndIncrement();
+        executors[Math.floorMod(eventKey.hashCode(), executors.length)].execute(() ->
+                listeners.forEach(listener -> invoke(listener, topic, eventKey, event, offset)));
+    }
+
+    private void invoke(Listener listener, String topic, String eventKey, Object event, long offset) {
+        int attempts = Math.max(1, maxAttempts);
+        for (int attempt = 1; ; attempt++) {
+            Throwable failure;
+            try {
+                listener.method().invoke(listener.bean(), resolveArguments(listener.method(), topic, eventKey, event, offset));
+                return;
+            } catch (InvocationTargetException e) {
+                failure = e.getCause();
+            } catch (Exception e) {
+                failure = e;
+            }
+
+            if (attempt >= attempts) {
+                log.error("컨슈머 처리 실패, 데드레터 기록: topic={}, key={}, listener={}, attempts={}",
+                        topic, eventKey, listener.method().getName(), attempt, failure);
+                deadLetter(topic, eventKey, event, attempt, failure);
+                return;
+            }
+
+            log.warn("컨슈머 처리 실패, 재시도: topic={}, key={}, listener={}, attempt={}",
+                    topic, eventKey, listener.method().getName(), attempt, failure);
+            try {
+                Thread.sleep(retryBackoffMs);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                deadLetter(topic, eventKey, event, attempt, failure);
+                return;
+            }
+        }
+    }
+
+    /**
+     * 재시도를 모두 소진한 이벤트를 FAILED 상태의 아웃박스 레코드로 남깁니다.
+     */
+    private void deadLetter(String topic, String eventKey, Object event, int attempts, Throwable failure) {
+        try {
+            eventLogRepository.save(EventLog.builder()
+                    .eventType(KafkaEventAdapter.mapEventType(event))
+                    .correlationId(keyGenerator.generateEventCorrelationId())
+                    .payload(kafkaObjectMapper.writeValueAsString(event))
+                    .topic(topic)
+                    .eventKey(eventKey)
+                    .status(EventStatus.FAILED)
+                    .retryCount(attempts)
+                    .errorMessage(String.valueOf(failure))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (Exception e) {
+            log.error("데드레터 기록 실패, 이벤트 유실: topic={}, key={}, event={}", topic, eventKey, event, e);
+        }
+    }
+
+    /**
+     * Kafka 리스너 어댑터가 채우던 인자를 같은 형태로 구성합니다.
+     */
+    private Object[] resolveArguments(Method method, String topic, String eventKey, Object event, long offset) {
+        Parameter[] parameters = method.getParameters();
+        Object[] args = new Object[parameters.length];
+
+        for (int i = 0; i < parameters.length; i++) {
+            Parameter parameter = parameters[i];
+            Class<?> type = parameter.getType();
+            Header header = AnnotatedElementUtils.findMergedAnnotation(parameter, Header.class);
+
+            if (header != null) {
+                args[i] = headerValue(header.value(), type, topic, eventKey, offset);
+            } else if (Acknowledgment.class.isAssignableFrom(type)) {
+                args[i] = NO_OP_ACK;
+            } else if (ConsumerRecord.class.isAssignableFrom(type)) {
+                args[i] = new ConsumerRecord<>(topic, 0, offset, eventKey, kafkaObjectMapper.convertValue(event, Object.class));
+            } else if (List.class.isAssignableFrom(type)) {
+                Class<?> elementType = ResolvableType.forMethodParameter(method, i).resolveGeneric(0);
+                args[i] = List.of(kafkaObjectMapper.convertValue(event, elementType != null ? elementType : Object.class));
+            } else {
+                args[i] = kafkaObjectMapper.convertValue(event, type);
+            }
+        }
+        return args;
+    }
+
+    private Object headerValue(String name, Class<?> type, String topic, String eventKey, long offset) {
+        return switch (name) {
+            case KafkaHeaders.RECEIVED_TOPIC -> topic;
+            case KafkaHeaders.RECEIVED_KEY -> eventKey;
+            case KafkaHeaders.OFFSET -> offset;
+            case KafkaHeaders.RECEIVED_PARTITION -> 0;
+            default -> defaultValue(type);
+        };
+    }
+
+    private Object defaultValue(Class<?> type) {
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == int.class) {
+            return 0;
+        }
+        return null;
+    }
+
+    /**
+     * 모든 빈에서 활성화된 @KafkaListener 메서드를 토픽별로 수집합니다.
+     */
+    private void collectListeners() {
+        BeanExpressionContext expressionContext = new BeanExpressionContext(beanFactory, null);
+
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            if (beanFactory.getBeanDefinition(beanName).isAbstract()) {
+                continue;
+            }
+            Class<?> beanType = beanFactory.getType(beanName);
+            if (beanType == null) {
+                continue;
+            }
+
+            Map<Method, KafkaListener> methods = MethodIntrospector.selectMethods(ClassUtils.getUserClass(beanType),
+                    (MethodIntrospector.MetadataLookup<KafkaListener>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, KafkaListener.class));
+            if (methods.isEmpty()) {
+                continue;
+            }
+
+            Object bean = beanFactory.getBean(beanName);
+            methods.forEach((method, kafkaListener) -> {
+                if (!isAutoStartup(kafkaListener, expressionContext)) {
+                    return;
+                }
+                Method invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+                invocable.setAccessible(true);
+                for (String topic : kafkaListener.topics()) {
+                    listenersByTopic.computeIfAbsent(resolve(topic, expressionContext), key -> new ArrayList<>())
+                            .add(new Listener(bean, invocable));
+                }
+            });
+        }
+    }
+
+    private boolean isAutoStartup(KafkaListener kafkaListener, BeanExpressionContext expressionContext) {
+        if (kafkaListener.autoStartup().isEmpty()) {
+            return true;
+        }
+        return Boolean.parseBoolean(resolve(kafkaListener.autoStartup(), expressionContext));
+    }
+
+    private String resolve(String value, BeanExpressionContext expressionContext) {
+        String resolved = beanFactory.resolveEmbeddedValue(value);
+        if (beanFactory.getBeanExpressionResolver() == null) {
+            return resolved;
+        }
+        Object evaluated = beanFactory.getBeanExpressionResolver().evaluate(resolved, expressionContext);
+        return String.valueOf(evaluated);
+    }
+}
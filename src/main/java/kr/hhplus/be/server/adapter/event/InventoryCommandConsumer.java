@@ -0,0 +1,54 @@
+package kr.hhplus.be.server.adapter.event;
+
+import kr.hhplus.be.server.adapter.inventory.StockActorInventoryAdapter;
+import kr.hhplus.be.server.domain.event.StockCommandEvent;
+import kr.hhplus.be.server.domain.event.StockReplyEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.stereotype.Service;
+
+/**
+ * 재고 액터 명령/응답 Consumer
+ *
+ * inventory.commands: 할당받은 파티션(= 소유 상품)의 명령을 소유 액터에 넘기고 결과를 응답합니다.
+ * inventory.replies: 노드마다 별도 그룹으로 모든 응답을 받아 자신이 보낸 명령의 응답만 처리합니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+@RequiredArgsConstructor
+public class InventoryCommandConsumer {
+
+    private final StockActorInventoryAdapter stockActorInventoryAdapter;
+
+    @KafkaListener(
+        topics = StockActorInventoryAdapter.COMMAND_TOPIC,
+        groupId = "inventory-actor-group",
+        containerFactory = "inventoryCommandKafkaListenerContainerFactory"
+    )
+    public void handleCommand(
+            StockCommandEvent command,
+            @Header(KafkaHeaders.RECEIVED_PARTITION) int partition,
+            Acknowledgment ack) {
+        log.debug("재고 명령 수신: partition={}, commandId={}, type={}, productId={}",
+                partition, command.getCommandId(), command.getType(), command.getProductId());
+
+        stockActorInventoryAdapter.handleCommand(command, partition);
+        ack.acknowledge();
+    }
+
+    @KafkaListener(
+        topics = StockActorInventoryAdapter.REPLY_TOPIC,
+        groupId = "inventory-reply-#{@stockActorInventoryAdapter.nodeId}",
+        containerFactory = "inventoryReplyKafkaListenerContainerFactory"
+    )
+    public void handleReply(StockReplyEvent reply, Acknowledgment ack) {
+        stockActorInventoryAdapter.handleReply(reply);
+        ack.acknowledge();
+    }
+}
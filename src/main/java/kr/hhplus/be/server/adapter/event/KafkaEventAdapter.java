@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.adapter.event;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import kr.hhplus.be.server.domain.port.event.EventPort;
 import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
 import kr.hhplus.be.server.domain.entity.EventLog;
@@ -9,69 +10,118 @@ import kr.hhplus.be.server.domain.event.*;
 import kr.hhplus.be.server.common.util.KeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.core.KafkaTemplate;
-import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.LocalDateTime;
-import java.util.concurrent.CompletableFuture;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Kafka를 통한 이벤트 발행 어댑터
+ * 트랜잭셔널 아웃박스 기반 이벤트 발행 어댑터
  * 
- * EventPort 인터페이스를 구현하여 Kafka로 이벤트를 발행하고,
- * EventLog 테이블에 발행 이력을 저장합니다.
+ * EventPort 인터페이스를 구현하여 이벤트를 EventLog 테이블(아웃박스)에 PENDING으로 저장합니다.
+ * 호출 측 트랜잭션 안에서는 이벤트를 모아 두었다가 커밋 직전 JDBC 배치 INSERT 1회로 함께 커밋하고,
+ * 트랜잭션이 롤백되면 이벤트도 저장되지 않습니다.
+ * Kafka 전송과 PUBLISHED 전이는 EventOutboxRelay가 묶음 단위로 수행하므로 요청 경로에는 Kafka I/O가 없습니다.
+ * 
+ * 커밋 이후 콜백(afterCommit)에서는 새 동기화가 실행되지 않으므로 이 안에서 발행하지 않아야 합니다.
+ * 
+ * 직접 전송 토픽(event.outbox.direct-topics, 기본 coupon-requests)은 아웃박스를 거치지 않고 바로 Kafka로 전송하고
+ * 브로커 응답까지 기다립니다. 선착순 요청처럼 접수 기록이 이미 Redis에 있고 요청량이 많은 토픽에서
+ * 요청마다 DB INSERT와 단일 노드 릴레이를 거치지 않기 위함이며, 전송 실패는 호출자에게 예외로 전달되어 접수를 보상합니다.
  */
 @Slf4j
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class KafkaEventAdapter implements EventPort {
 
-    private final KafkaTemplate<String, Object> kafkaTemplate;
     private final EventLogRepositoryPort eventLogRepository;
     private final KeyGenerator keyGenerator;
+    private final ObjectMapper kafkaObjectMapper;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${event.outbox.direct-topics:coupon-requests}")
+    private List<String> directTopics = List.of("coupon-requests");
+
+    @Value("${event.outbox.direct-send-timeout-ms:3000}")
+    private long directSendTimeoutMs = 3000;
 
     @Override
     public void publish(String topic, Object event) {
-        String correlationId = keyGenerator.generateEventCorrelationId();
-        
-        log.debug("이벤트 발행 시작: topic={}, event={}, correlationId={}", 
-                 topic, event.getClass().getSimpleName(), correlationId);
+        if (directTopics.contains(topic)) {
+            sendDirect(topic, event);
+            return;
+        }
         
-        // EventLog 사전 저장 (PENDING 상태)
+        String correlationId = keyGenerator.generateEventCorrelationId();
         EventLog eventLog = createEventLog(topic, event, correlationId);
-        EventLog savedEventLog = eventLogRepository.save(eventLog);
         
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            currentOutboxBuffer().add(eventLog);
+            log.debug("이벤트 아웃박스 적재: topic={}, event={}, correlationId={}", 
+                     topic, event.getClass().getSimpleName(), correlationId);
+            return;
+        }
+        
+        eventLogRepository.insertAll(List.of(eventLog));
+        log.debug("이벤트 아웃박스 저장: topic={}, event={}, correlationId={}", 
+                 topic, event.getClass().getSimpleName(), correlationId);
+    }
+
+    /**
+     * 아웃박스 없이 바로 전송하고 브로커 응답을 기다립니다. (릴레이와 같은 JSON 트리 형식)
+     */
+    private void sendDirect(String topic, Object event) {
         try {
-            // Kafka로 이벤트 발행
-            String key = generateEventKey(event);
-            CompletableFuture<SendResult<String, Object>> future = kafkaTemplate.send(topic, key, event);
-            
-            // 비동기 결과 처리
-            future.whenComplete((result, ex) -> {
-                if (ex == null) {
-                    // 성공 시 EventLog 상태 업데이트
-                    updateEventLogStatus(savedEventLog.getId(), EventStatus.PUBLISHED, 
-                                       "stream:" + topic, null);
-                    
-                    log.info("이벤트 발행 성공: topic={}, partition={}, offset={}, correlationId={}", 
-                            topic, result.getRecordMetadata().partition(), 
-                            result.getRecordMetadata().offset(), correlationId);
-                } else {
-                    // 실패 시 EventLog 상태 업데이트
-                    updateEventLogStatus(savedEventLog.getId(), EventStatus.FAILED, 
-                                       null, ex.getMessage());
-                    
-                    log.error("이벤트 발행 실패: topic={}, correlationId={}, error={}", 
-                             topic, correlationId, ex.getMessage(), ex);
-                }
-            });
-            
+            kafkaTemplate.send(topic, eventKeyOf(event), kafkaObjectMapper.valueToTree(event))
+                    .get(directSendTimeoutMs, TimeUnit.MILLISECONDS);
+            log.debug("이벤트 직접 전송: topic={}, event={}", topic, event.getClass().getSimpleName());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("이벤트 직접 전송 중단", e);
         } catch (Exception e) {
-            // 동기 예외 처리
-            updateEventLogStatus(savedEventLog.getId(), EventStatus.FAILED, null, e.getMessage());
-            log.error("이벤트 발행 중 예외 발생: topic={}, correlationId={}", topic, correlationId, e);
-            throw new RuntimeException("이벤트 발행 실패", e);
+            log.error("이벤트 직접 전송 실패: topic={}, event={}", topic, event.getClass().getSimpleName(), e);
+            throw new RuntimeException("이벤트 직접 전송 실패", e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션의 아웃박스 버퍼 조회 (없으면 생성 후 커밋 직전 일괄 INSERT 등록)
+     * 동기화 목록은 트랜잭션별로 보관되므로 REQUIRES_NEW 내부 트랜잭션은 별도 버퍼를 사용합니다.
+     */
+    private List<EventLog> currentOutboxBuffer() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof OutboxFlushSynchronization outbox && outbox.owner == this) {
+                return outbox.buffer;
+            }
+        }
+        
+        OutboxFlushSynchronization outbox = new OutboxFlushSynchronization(this);
+        TransactionSynchronizationManager.registerSynchronization(outbox);
+        return outbox.buffer;
+    }
+
+    /**
+     * 커밋 직전 트랜잭션에서 발행된 이벤트를 한 번에 INSERT (롤백 시 버퍼는 버려짐)
+     */
+    @RequiredArgsConstructor
+    private static class OutboxFlushSynchronization implements TransactionSynchronization {
+        
+        private final KafkaEventAdapter owner;
+        private final List<EventLog> buffer = new ArrayList<>();
+        
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            owner.eventLogRepository.insertAll(List.copyOf(buffer));
+            buffer.clear();
         }
     }
 
@@ -86,6 +136,8 @@ public class KafkaEventAdapter implements EventPort {
                 .eventType(eventType)
                 .correlationId(correlationId)
                 .payload(payload)
+                .topic(topic)
+                .eventKey(eventKeyOf(event))
                 .status(EventStatus.PENDING)
                 .createdAt(LocalDateTime.now())
                 .build();
@@ -94,7 +146,7 @@ public class KafkaEventAdapter implements EventPort {
     /**
      * 이벤트 객체를 EventType으로 매핑
      */
-    private EventType mapEventType(Object event) {
+    static EventType mapEventType(Object event) {
         if (event instanceof OrderCompletedEvent) {
             return EventType.ORDER_COMPLETED;
         } else if (event instanceof PaymentCompletedEvent) {
@@ -124,17 +176,14 @@ public class KafkaEventAdapter implements EventPort {
 
     /**
      * 이벤트 객체를 JSON 문자열로 직렬화
+     * 릴레이는 저장된 JSON을 그대로 전송하므로 Kafka 전송과 같은 ObjectMapper를 사용합니다.
      */
     private String serializeEvent(Object event) {
         try {
-            // Jackson을 사용한 JSON 직렬화
-            com.fasterxml.jackson.databind.ObjectMapper mapper = 
-                new com.fasterxml.jackson.databind.ObjectMapper();
-            mapper.registerModule(new com.fasterxml.jackson.datatype.jsr310.JavaTimeModule());
-            return mapper.writeValueAsString(event);
+            return kafkaObjectMapper.writeValueAsString(event);
         } catch (Exception e) {
             log.error("이벤트 직렬화 실패: {}", event, e);
-            return event.toString();
+            throw new RuntimeException("이벤트 직렬화 실패", e);
         }
     }
 
@@ -144,8 +193,10 @@ public class KafkaEventAdapter implements EventPort {
      * - 쿠폰 이벤트: userId 기반 파티셔닝 (동일 사용자 요청 순서 보장)
      * - 주문/결제 이벤트: orderId 기반 파티셔닝
      * - 기타: 이벤트 타입 기반
+     * 
+     * InMemoryEventAdapter도 같은 키로 전달 순서를 유지합니다.
      */
-    private String generateEventKey(Object event) {
+    static String eventKeyOf(Object event) {
         if (event instanceof CouponRequestEvent couponRequestEvent) {
             return "user:" + couponRequestEvent.getUserId();
         } else if (event instanceof CouponIssuedEvent couponEvent) {
@@ -162,29 +213,4 @@ public class KafkaEventAdapter implements EventPort {
             return "default:" + System.currentTimeMillis();
         }
     }
-
-    /**
-     * EventLog 상태 업데이트 (비동기)
-     */
-    private void updateEventLogStatus(Long eventLogId, EventStatus status, 
-                                    String externalEndpoint, String errorMessage) {
-        try {
-            EventLog eventLog = eventLogRepository.findById(eventLogId).orElse(null);
-            if (eventLog != null) {
-                eventLog.updateStatus(status);
-                if (externalEndpoint != null) {
-                    eventLog.setExternalEndpoint(externalEndpoint);
-                }
-                if (errorMessage != null) {
-                    eventLog.setErrorMessage(errorMessage);
-                }
-                eventLogRepository.save(eventLog);
-                
-                log.debug("EventLog 상태 업데이트: id={}, status={}", eventLogId, status);
-            }
-        } catch (Exception e) {
-            log.error("EventLog 상태 업데이트 실패: id={}, status={}", eventLogId, status, e);
-            // EventLog 업데이트 실패 시도 업무 처리는 진행
-        }
-    }
-}
\ No newline at end of file
+}
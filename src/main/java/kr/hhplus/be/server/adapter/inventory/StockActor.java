@@ -0,0 +1,238 @@
+package kr.hhplus.be.server.adapter.inventory;
+
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * 파티션 하나를 소유하는 단일 스레드 재고 액터
+ *
+ * 파티션에 속한 상품의 재고를 원시 배열(long[])로 보관하고, 모든 명령을 전용 스레드 하나에서 순서대로 처리합니다.
+ * 상태를 읽고 쓰는 스레드가 하나뿐이므로 락 없이 Product.reserveStock/confirmReservation과 같은 불변식
+ * (stock >= 0, reserved >= 0, reserved <= stock)을 검사하고 반영합니다.
+ *
+ * 상품 상태는 첫 명령 시 DB에서 읽어 구성하며, 아직 DB에 반영되지 않은 변경량은 pending 배열에 누적합니다.
+ *
+ * 처리한 명령의 결과는 명령 ID별로 기억하여, 재전달된 명령은 다시 반영하지 않고 기억한 결과를 돌려줍니다.
+ * 파티션 소유권이 넘어갈 때 이 기록을 함께 넘겨 새 소유 액터도 같은 명령을 두 번 반영하지 않습니다.
+ */
+@Slf4j
+public class StockActor {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    /**
+     * 재전달/보상 명령 처리를 위해 기억하는 최근 명령 수
+     */
+    private static final int COMMAND_HISTORY_SIZE = 10_000;
+
+    /**
+     * 처리한 명령의 결과 (보상된 명령은 delta 없이 VIOLATION으로 기억)
+     */
+    public record CommandRecord(ProductStockDelta delta, ApplyResult result) {
+    }
+
+    private final int partition;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final ExecutorService executor;
+
+    // 이하 상태는 executor 스레드에서만 접근
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private long[] productIds = new long[INITIAL_CAPACITY];
+    private long[] stock = new long[INITIAL_CAPACITY];
+    private long[] reserved = new long[INITIAL_CAPACITY];
+    private long[] pendingStock = new long[INITIAL_CAPACITY];
+    private long[] pendingReserved = new long[INITIAL_CAPACITY];
+
+    private final Map<String, CommandRecord> commandHistory = new LinkedHashMap<>() {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CommandRecord> eldest) {
+            return size() > COMMAND_HISTORY_SIZE;
+        }
+    };
+
+    public StockActor(int partition, ProductRepositoryPort productRepositoryPort) {
+        this.partition = partition;
+        this.productRepositoryPort = productRepositoryPort;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "stock-actor-" + partition);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getPartition() {
+        return partition;
+    }
+
+    /**
+     * 변경량을 검사 후 반영합니다. 이미 처리한 명령 ID면 반영하지 않고 기억한 결과를 반환합니다.
+     *
+     * @param commandId 재전달/보상 명령을 처리할 수 있도록 기억할 명령 ID (null이면 기억하지 않음)
+     * @return APPLIED, 불변식 위반 시 VIOLATION, 상품이 없으면 NOT_LOADED
+     */
+    public CompletableFuture<ApplyResult> apply(String commandId, ProductStockDelta delta) {
+        return submit(() -> applyOnActor(commandId, delta));
+    }
+
+    /**
+     * commandId 명령이 반영됐다면 되돌리고, 아직 도착하지 않았다면 이후 도착해도 반영하지 않도록 기억합니다.
+     */
+    public CompletableFuture<Void> compensate(String commandId) {
+        return submit(() -> {
+            CommandRecord record = commandHistory.put(commandId, new CommandRecord(null, ApplyResult.VIOLATION));
+            if (record != null && record.result() == ApplyResult.APPLIED) {
+                ApplyResult result = applyOnActor(null, record.delta().inverse());
+                if (result != ApplyResult.APPLIED) {
+                    log.error("재고 액터 보상 실패: partition={}, commandId={}, result={}", partition, commandId, result);
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 소유권을 넘길 때 새 소유 액터에 전달할 명령 기록을 조회합니다.
+     */
+    public CompletableFuture<Map<String, CommandRecord>> commandHistory() {
+        return submit(() -> new LinkedHashMap<>(commandHistory));
+    }
+
+    /**
+     * 이전 소유 액터의 명령 기록을 이어받습니다. (명령을 받기 전에 호출)
+     */
+    public CompletableFuture<Void> restoreCommandHistory(Map<String, CommandRecord> history) {
+        return submit(() -> {
+            history.forEach(commandHistory::putIfAbsent);
+            return null;
+        });
+    }
+
+    /**
+     * DB 반영 대기 변경량을 꺼내고 0으로 초기화합니다.
+     */
+    public CompletableFuture<List<ProductStockDelta>> drain(int limit) {
+        return submit(() -> {
+            List<ProductStockDelta> deltas = new ArrayList<>();
+            for (int slot = 0; slot < slots.size() && deltas.size() < limit; slot++) {
+                if (pendingStock[slot] == 0 && pendingReserved[slot] == 0) {
+                    continue;
+                }
+                deltas.add(new ProductStockDelta(productIds[slot],
+                        Math.toIntExact(pendingStock[slot]), Math.toIntExact(pendingReserved[slot])));
+                pendingStock[slot] = 0;
+                pendingReserved[slot] = 0;
+            }
+            return deltas;
+        });
+    }
+
+    /**
+     * DB 반영에 실패한 변경량을 반영 대기분으로 되돌립니다.
+     */
+    public CompletableFuture<Void> restore(List<ProductStockDelta> deltas) {
+        return submit(() -> {
+            for (ProductStockDelta delta : deltas) {
+                Integer slot = slots.get(delta.productId());
+                if (slot == null) {
+                    log.error("재고 액터 반영 대기분 복원 대상 없음: partition={}, delta={}", partition, delta);
+                    continue;
+                }
+                pendingStock[slot] += delta.stockDelta();
+                pendingReserved[slot] += delta.reservedDelta();
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 이미 받은 명령을 모두 처리한 뒤 스레드를 종료합니다.
+     */
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private ApplyResult applyOnActor(String commandId, ProductStockDelta delta) {
+        if (commandId != null) {
+            CommandRecord record = commandHistory.get(commandId);
+            if (record != null) {
+                log.debug("재고 액터 중복 명령: partition={}, commandId={}, result={}", partition, commandId, record.result());
+                return record.result();
+            }
+        }
+
+        Integer slot = slots.get(delta.productId());
+        if (slot == null) {
+            slot = load(delta.productId());
+            if (slot == null) {
+                return ApplyResult.NOT_LOADED;
+            }
+        }
+
+        long newStock = stock[slot] + delta.stockDelta();
+        long newReserved = reserved[slot] + delta.reservedDelta();
+        if (newStock < 0 || newReserved < 0 || newReserved > newStock) {
+            if (commandId != null) {
+                commandHistory.put(commandId, new CommandRecord(delta, ApplyResult.VIOLATION));
+            }
+            return ApplyResult.VIOLATION;
+        }
+
+        stock[slot] = newStock;
+        reserved[slot] = newReserved;
+        pendingStock[slot] += delta.stockDelta();
+        pendingReserved[slot] += delta.reservedDelta();
+        if (commandId != null) {
+            commandHistory.put(commandId, new CommandRecord(delta, ApplyResult.APPLIED));
+        }
+        return ApplyResult.APPLIED;
+    }
+
+    private Integer load(Long productId) {
+        Product product = productRepositoryPort.findById(productId).orElse(null);
+        if (product == null) {
+            return null;
+        }
+
+        int slot = slots.size();
+        if (slot == productIds.length) {
+            int capacity = slot * 2;
+            productIds = Arrays.copyOf(productIds, capacity);
+            stock = Arrays.copyOf(stock, capacity);
+            reserved = Arrays.copyOf(reserved, capacity);
+            pendingStock = Arrays.copyOf(pendingStock, capacity);
+            pendingReserved = Arrays.copyOf(pendingReserved, capacity);
+        }
+
+        slots.put(productId, slot);
+        productIds[slot] = productId;
+        stock[slot] = product.getStock();
+        reserved[slot] = product.getReservedStock();
+        log.info("재고 액터 상품 구성: partition={}, productId={}, stock={}, reservedStock={}",
+                partition, productId, product.getStock(), product.getReservedStock());
+        return slot;
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            // 파티션 소유권이 회수되어 종료된 액터
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
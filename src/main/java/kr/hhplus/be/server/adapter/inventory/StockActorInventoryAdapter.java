@@ -0,0 +1,578 @@
+package kr.hhplus.be.server.adapter.inventory;
+
+import kr.hhplus.be.server.adapter.inventory.StockActor.CommandRecord;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.event.StockCommandEvent;
+import kr.hhplus.be.server.domain.event.StockReplyEvent;
+import kr.hhplus.be.server.domain.exception.CommonException;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.redisson.api.RMap;
+import org.redisson.api.RQueue;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 단일 소유 액터 기반 재고 원장 (product.inventory-ledger.engine=actor)
+ *
+ * 상품의 소유 노드는 inventory.commands 토픽의 파티션(productId 해시)과 컨슈머 그룹 할당으로 결정됩니다.
+ * 할당받은 파티션마다 StockActor 하나를 띄우고, 해당 파티션 상품의 모든 재고 명령을 그 액터 스레드에서만 처리합니다.
+ * 자신이 소유한 상품은 로컬 액터에 바로 넘기고, 그 외 상품은 명령 토픽으로 전달한 뒤 inventory.replies 응답을 기다립니다.
+ *
+ * 여러 상품에 걸친 변경은 상품별 명령으로 나눠 보내며, 일부가 실패하면 반영된 명령을 되돌립니다. (보상 방식, 원자적이지 않음)
+ * 되돌리기는 결과를 기다리며, 실패한 되돌리기는 Redis 대기열(inventory:actor:failed_compensations)에 기록해
+ * 리컨사일러 주기마다 다시 시도합니다.
+ * DB 반영은 기존 리컨사일러가 drainPendingDeltas로 소유 액터의 반영 대기분을 꺼내 처리하고,
+ * 파티션 소유권이 회수될 때는 새 소유 노드가 DB에서 상태를 읽기 전에 반영 대기분을 바로 DB에 쓰고,
+ * 처리한 명령 기록을 Redis로 넘겨 새 소유 액터가 재전달된 명령을 다시 반영하지 않게 합니다.
+ * 노드가 비정상 종료되면 마지막 반영 이후의 변경량은 유실됩니다. (reconcile-interval-ms 만큼)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+@RequiredArgsConstructor
+public class StockActorInventoryAdapter implements InventoryLedgerPort, ConsumerAwareRebalanceListener {
+
+    public static final String COMMAND_TOPIC = "inventory.commands";
+    public static final String REPLY_TOPIC = "inventory.replies";
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
+    private final RedissonClient redissonClient;
+    private final KeyGenerator keyGenerator;
+
+    @Value("${product.inventory-ledger.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${product.inventory-ledger.product-ids:}")
+    private Set<Long> managedProductIds = Set.of();
+
+    @Value("${product.inventory-ledger.actor.partitions:6}")
+    private int partitions = 6;
+
+    @Value("${product.inventory-ledger.actor.command-timeout-ms:3000}")
+    private long commandTimeoutMs = 3000;
+
+    @Value("${product.inventory-ledger.actor.command-history-ttl-seconds:600}")
+    private long commandHistoryTtlSeconds = 600;
+
+    @Value("${product.inventory-ledger.actor.compensation-retry-batch-size:100}")
+    private int compensationRetryBatchSize = 100;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    /**
+     * 이 노드가 소유한 파티션별 액터
+     */
+    private final Map<Integer, StockActor> actors = new ConcurrentHashMap<>();
+
+    /**
+     * 원격 액터 응답 대기 (commandId 기준)
+     */
+    private final Map<String, CompletableFuture<ApplyResult>> pendingReplies = new ConcurrentHashMap<>();
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    @Override
+    public boolean isManaged(Long productId) {
+        return enabled && managedProductIds.contains(productId);
+    }
+
+    /**
+     * 소유 액터가 첫 명령 시 DB에서 직접 구성하므로 별도 구성하지 않습니다.
+     */
+    @Override
+    public boolean load(Long productId, int stock, int reservedStock) {
+        return false;
+    }
+
+    @Override
+    public ApplyResult apply(List<ProductStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return ApplyResult.APPLIED;
+        }
+
+        List<ProductStockDelta> merged = merge(deltas);
+        ApplyResult result = applyMerged(merged);
+
+        if (result == ApplyResult.APPLIED && TransactionSynchronizationManager.isSynchronizationActive()) {
+            List<ProductStockDelta> inverse = merged.stream().map(ProductStockDelta::inverse).toList();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status == STATUS_ROLLED_BACK) {
+                        revertAll(inverse, "롤백");
+                    }
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 반영 대기분을 꺼내기 전에 이전에 실패한 되돌리기를 다시 시도합니다. (리컨사일러 주기마다 호출됨)
+     */
+    @Override
+    public List<ProductStockDelta> drainPendingDeltas(int limit) {
+        retryFailedCompensations();
+
+        List<ProductStockDelta> deltas = new ArrayList<>();
+        for (StockActor actor : actors.values()) {
+            if (deltas.size() >= limit) {
+                break;
+            }
+            try {
+                deltas.addAll(actor.drain(limit - deltas.size()).join());
+            } catch (Exception e) {
+                // 꺼내는 도중 소유권이 회수된 액터는 회수 시점에 직접 DB에 반영함
+                log.warn("재고 액터 반영 대기분 조회 실패: partition={}", actor.getPartition(), e);
+            }
+        }
+        return deltas;
+    }
+
+    /**
+     * 액터는 꺼낼 때 반영 대기분을 비우므로 확인할 상태가 없습니다.
+     * (노드가 비정상 종료되면 메모리의 반영 대기분이 함께 유실되는 엔진)
+     */
+    @Override
+    public void acknowledgePendingDeltas(List<ProductStockDelta> deltas) {
+    }
+
+    @Override
+    public void restorePendingDeltas(List<ProductStockDelta> deltas) {
+        Map<Integer, List<ProductStockDelta>> byPartition = deltas.stream()
+                .collect(Collectors.groupingBy(delta -> partitionOf(delta.productId())));
+
+        byPartition.forEach((partition, partitionDeltas) -> {
+            StockActor actor = actors.get(partition);
+            if (actor == null) {
+                log.error("재고 액터 소유권 회수로 반영 대기분 복원 불가: partition={}, deltas={}", partition, partitionDeltas);
+                return;
+            }
+            actor.restore(partitionDeltas).join();
+        });
+    }
+
+    /**
+     * 소유 노드에서 원격 명령을 처리합니다. (inventory.commands 컨슈머 스레드)
+     * 소유 액터가 없으면 반영 여부를 판단할 수 없으므로 NOT_LOADED로 응답해 호출 측이 다시 시도하게 합니다.
+     */
+    public void handleCommand(StockCommandEvent command, int partition) {
+        StockActor actor = actors.get(partition);
+        if (actor == null) {
+            log.warn("소유하지 않은 파티션의 재고 명령 수신: partition={}, commandId={}, type={}",
+                    partition, command.getCommandId(), command.getType());
+            reply(command, ApplyResult.NOT_LOADED);
+            return;
+        }
+
+        if (command.getType() == StockCommandEvent.Type.COMPENSATE) {
+            actor.compensate(command.getCommandId()).join();
+            return;
+        }
+
+        ProductStockDelta delta = new ProductStockDelta(command.getProductId(), command.getStockDelta(), command.getReservedDelta());
+        reply(command, actor.apply(command.getCommandId(), delta).join());
+    }
+
+    /**
+     * 이 노드가 보낸 명령의 응답이면 대기 중인 호출을 완료합니다.
+     */
+    public void handleReply(StockReplyEvent reply) {
+        if (!nodeId.equals(reply.getReplyTo())) {
+            return;
+        }
+
+        CompletableFuture<ApplyResult> future = pendingReplies.remove(reply.getCommandId());
+        if (future != null) {
+            future.complete(reply.getResult());
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> assigned) {
+        for (TopicPartition topicPartition : assigned) {
+            if (COMMAND_TOPIC.equals(topicPartition.topic())) {
+                actors.computeIfAbsent(topicPartition.partition(), this::startActor);
+                log.info("재고 액터 파티션 소유: partition={}, nodeId={}", topicPartition.partition(), nodeId);
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> revoked) {
+        release(revoked);
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> lost) {
+        release(lost);
+    }
+
+    /**
+     * 파티션 액터를 띄우고 이전 소유 액터가 넘긴 명령 기록을 이어받습니다.
+     * 기록 복원은 액터 큐의 첫 작업이므로 이후 도착하는 명령보다 먼저 처리됩니다.
+     */
+    private StockActor startActor(int partition) {
+        StockActor actor = new StockActor(partition, productRepositoryPort);
+        try {
+            Map<String, String> encoded = commandHistoryMap(partition).readAllMap();
+            if (!encoded.isEmpty()) {
+                Map<String, CommandRecord> history = new HashMap<>(encoded.size());
+                encoded.forEach((commandId, value) -> history.put(commandId, decode(value)));
+                actor.restoreCommandHistory(history);
+                log.info("재고 액터 명령 기록 인수: partition={}, commands={}", partition, history.size());
+            }
+        } catch (Exception e) {
+            log.error("재고 액터 명령 기록 인수 실패: partition={}", partition, e);
+        }
+        return actor;
+    }
+
+    /**
+     * 회수된 파티션의 액터를 내리고 명령 기록을 넘긴 뒤 반영 대기분을 DB에 씁니다.
+     * 리밸런스 콜백 안에서 끝내야 새 소유 노드가 최신 DB 상태와 명령 기록으로 액터를 구성합니다.
+     */
+    private void release(Collection<TopicPartition> topicPartitions) {
+        for (TopicPartition topicPartition : topicPartitions) {
+            if (!COMMAND_TOPIC.equals(topicPartition.topic())) {
+                continue;
+            }
+
+            StockActor actor = actors.remove(topicPartition.partition());
+            if (actor == null) {
+                continue;
+            }
+
+            try {
+                List<ProductStockDelta> deltas = new ArrayList<>(actor.drain(Integer.MAX_VALUE).join());
+                handOverCommandHistory(topicPartition.partition(), actor.commandHistory().join());
+                if (!deltas.isEmpty()) {
+                    deltas.sort(Comparator.comparing(ProductStockDelta::productId));
+                    int[] updatedCounts = transactionTemplate.execute(status -> productRepositoryPort.applyStockDeltas(deltas));
+                    for (int i = 0; i < deltas.size(); i++) {
+                        if (updatedCounts == null || updatedCounts[i] != 1) {
+                            log.error("재고 액터 반영 대기분 DB 반영 실패: delta={}", deltas.get(i));
+                        }
+                    }
+                }
+            } catch (Exception e) {
+                log.error("재고 액터 소유권 회수 중 DB 반영 실패: partition={}", topicPartition.partition(), e);
+            } finally {
+                actor.shutdown();
+            }
+            log.info("재고 액터 파티션 소유권 회수: partition={}, nodeId={}", topicPartition.partition(), nodeId);
+        }
+    }
+
+    /**
+     * 새 소유 액터가 이어받을 명령 기록을 저장합니다.
+     * 실패하면 오프셋 커밋 전에 처리한 명령이 새 소유 노드에서 다시 반영될 수 있으므로 오류로 남깁니다.
+     */
+    private void handOverCommandHistory(int partition, Map<String, CommandRecord> history) {
+        try {
+            Map<String, String> encoded = new HashMap<>(history.size());
+            history.forEach((commandId, record) -> encoded.put(commandId, encode(record)));
+
+            RMap<String, String> map = commandHistoryMap(partition);
+            map.delete();
+            if (!encoded.isEmpty()) {
+                map.putAll(encoded);
+                map.expire(Duration.ofSeconds(commandHistoryTtlSeconds));
+            }
+        } catch (Exception e) {
+            log.error("재고 액터 명령 기록 전달 실패: partition={}, commands={}", partition, history.size(), e);
+        }
+    }
+
+    private RMap<String, String> commandHistoryMap(int partition) {
+        return redissonClient.getMap(keyGenerator.generateInventoryActorCommandHistoryKey(partition), StringCodec.INSTANCE);
+    }
+
+    /**
+     * 명령 기록 직렬화 (결과:상품ID:stock 변경량:reserved 변경량, 보상된 명령은 결과만)
+     */
+    private String encode(CommandRecord record) {
+        ProductStockDelta delta = record.delta();
+        if (delta == null) {
+            return record.result().name();
+        }
+        return String.join(":", record.result().name(), String.valueOf(delta.productId()),
+                String.valueOf(delta.stockDelta()), String.valueOf(delta.reservedDelta()));
+    }
+
+    /**
+     * 보상 실패분 직렬화 (상품ID:stock 변경량:reserved 변경량)
+     */
+    private String encode(ProductStockDelta delta) {
+        return String.join(":", String.valueOf(delta.productId()),
+                String.valueOf(delta.stockDelta()), String.valueOf(delta.reservedDelta()));
+    }
+
+    private ProductStockDelta decodeDelta(String value) {
+        String[] parts = value.split(":");
+        return new ProductStockDelta(Long.parseLong(parts[0]), Integer.parseInt(parts[1]), Integer.parseInt(parts[2]));
+    }
+
+    private CommandRecord decode(String value) {
+        String[] parts = value.split(":");
+        ApplyResult result = ApplyResult.valueOf(parts[0]);
+        if (parts.length < 4) {
+            return new CommandRecord(null, result);
+        }
+        return new CommandRecord(new ProductStockDelta(Long.parseLong(parts[1]),
+                Integer.parseInt(parts[2]), Integer.parseInt(parts[3])), result);
+    }
+
+    /**
+     * 상품별 명령을 동시에 보내고 모두 반영됐는지 확인합니다.
+     * 일부만 반영됐으면 반영분을 되돌리고, 응답을 받지 못한 명령은 보상 명령으로 무효화합니다.
+     *
+     * @throws CommonException.ConcurrencyConflict 응답 시간 내에 결과를 받지 못한 명령이 있는 경우
+     */
+    private ApplyResult applyMerged(List<ProductStockDelta> merged) {
+        List<String> commandIds = new ArrayList<>(merged.size());
+        List<CompletableFuture<ApplyResult>> futures = new ArrayList<>(merged.size());
+        for (ProductStockDelta delta : merged) {
+            String commandId = UUID.randomUUID().toString();
+            commandIds.add(commandId);
+            futures.add(send(commandId, delta));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commandTimeoutMs);
+        ApplyResult[] results = new ApplyResult[merged.size()];
+        boolean allApplied = true;
+        for (int i = 0; i < futures.size(); i++) {
+            results[i] = await(futures.get(i), deadline);
+            allApplied &= results[i] == ApplyResult.APPLIED;
+        }
+        if (allApplied) {
+            return ApplyResult.APPLIED;
+        }
+
+        boolean unanswered = false;
+        boolean notLoaded = false;
+        List<ProductStockDelta> inverses = new ArrayList<>();
+        for (int i = 0; i < merged.size(); i++) {
+            if (results[i] == ApplyResult.APPLIED) {
+                inverses.add(merged.get(i).inverse());
+            } else if (results[i] == null) {
+                unanswered = true;
+                pendingReplies.remove(commandIds.get(i));
+                sendCompensate(commandIds.get(i), merged.get(i).productId());
+            } else if (results[i] == ApplyResult.NOT_LOADED) {
+                notLoaded = true;
+            }
+        }
+        revertAll(inverses, "부분 반영");
+
+        if (unanswered) {
+            log.warn("재고 액터 응답 시간 초과: deltas={}", merged);
+            throw new CommonException.ConcurrencyConflict();
+        }
+        return notLoaded ? ApplyResult.NOT_LOADED : ApplyResult.VIOLATION;
+    }
+
+    private ApplyResult await(CompletableFuture<ApplyResult> future, long deadline) {
+        try {
+            return future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (ExecutionException | TimeoutException e) {
+            return null;
+        }
+    }
+
+    private CompletableFuture<ApplyResult> send(String commandId, ProductStockDelta delta) {
+        int partition = partitionOf(delta.productId());
+        StockActor actor = actors.get(partition);
+        if (actor != null) {
+            return actor.apply(commandId, delta);
+        }
+
+        CompletableFuture<ApplyResult> future = new CompletableFuture<>();
+        pendingReplies.put(commandId, future);
+
+        StockCommandEvent command = StockCommandEvent.builder()
+                .commandId(commandId)
+                .type(StockCommandEvent.Type.APPLY)
+                .productId(delta.productId())
+                .stockDelta(delta.stockDelta())
+                .reservedDelta(delta.reservedDelta())
+                .replyTo(nodeId)
+                .build();
+        kafkaTemplate.send(COMMAND_TOPIC, partition, String.valueOf(delta.productId()), command)
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        pendingReplies.remove(commandId);
+                        future.completeExceptionally(ex);
+                    }
+                });
+        return future;
+    }
+
+    private void sendCompensate(String commandId, Long productId) {
+        int partition = partitionOf(productId);
+        StockActor actor = actors.get(partition);
+        if (actor != null) {
+            actor.compensate(commandId);
+            return;
+        }
+
+        StockCommandEvent command = StockCommandEvent.builder()
+                .commandId(commandId)
+                .type(StockCommandEvent.Type.COMPENSATE)
+                .productId(productId)
+                .build();
+        kafkaTemplate.send(COMMAND_TOPIC, partition, String.valueOf(productId), command);
+    }
+
+    /**
+     * 이미 반영된 변경량을 되돌리고 결과를 기다립니다.
+     * 되돌리지 못한 변경량은 재시도 대기열에 기록하며, 응답이 없던 되돌리기는 보상 명령으로 무효화한 뒤 기록합니다.
+     * (무효화하지 않으면 늦게 반영된 되돌리기와 재시도가 함께 반영될 수 있음)
+     *
+     * @return 되돌리지 못한 변경량
+     */
+    private List<ProductStockDelta> revertAll(List<ProductStockDelta> inverses, String reason) {
+        if (inverses.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> commandIds = new ArrayList<>(inverses.size());
+        List<CompletableFuture<ApplyResult>> futures = new ArrayList<>(inverses.size());
+        for (ProductStockDelta inverse : inverses) {
+            String commandId = UUID.randomUUID().toString();
+            commandIds.add(commandId);
+            futures.add(send(commandId, inverse));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(commandTimeoutMs);
+        List<ProductStockDelta> failed = new ArrayList<>();
+        for (int i = 0; i < inverses.size(); i++) {
+            ApplyResult result = await(futures.get(i), deadline);
+            if (result == ApplyResult.APPLIED) {
+                continue;
+            }
+            if (result == null) {
+                pendingReplies.remove(commandIds.get(i));
+                sendCompensate(commandIds.get(i), inverses.get(i).productId());
+            }
+            log.error("재고 액터 {} 보상 실패, 재시도 대기열에 기록: delta={}, result={}", reason, inverses.get(i), result);
+            failed.add(inverses.get(i));
+        }
+
+        recordFailedCompensations(failed);
+        return failed;
+    }
+
+    private void recordFailedCompensations(List<ProductStockDelta> failed) {
+        if (failed.isEmpty()) {
+            return;
+        }
+        try {
+            failedCompensationQueue().addAll(failed.stream().map(this::encode).toList());
+        } catch (Exception e) {
+            log.error("재고 액터 보상 실패분 기록 실패 (수동 보정 필요): deltas={}", failed, e);
+        }
+    }
+
+    /**
+     * 기록된 보상 실패분을 다시 되돌립니다. 다시 실패하면 대기열 끝에 기록됩니다.
+     */
+    private void retryFailedCompensations() {
+        List<String> encoded;
+        try {
+            encoded = failedCompensationQueue().poll(compensationRetryBatchSize);
+        } catch (Exception e) {
+            log.warn("재고 액터 보상 실패분 조회 실패", e);
+            return;
+        }
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+
+        List<ProductStockDelta> inverses = encoded.stream().map(this::decodeDelta).toList();
+        List<ProductStockDelta> failed = revertAll(inverses, "재시도");
+        log.info("재고 액터 보상 재시도: 대상 {}건, 실패 {}건", inverses.size(), failed.size());
+    }
+
+    private RQueue<String> failedCompensationQueue() {
+        return redissonClient.getQueue(keyGenerator.generateInventoryActorFailedCompensationKey(), StringCodec.INSTANCE);
+    }
+
+    private void reply(StockCommandEvent command, ApplyResult result) {
+        if (command.getReplyTo() == null) {
+            return;
+        }
+
+        StockReplyEvent reply = StockReplyEvent.builder()
+                .commandId(command.getCommandId())
+                .replyTo(command.getReplyTo())
+                .productId(command.getProductId())
+                .result(result)
+                .build();
+        kafkaTemplate.send(REPLY_TOPIC, command.getReplyTo(), reply);
+    }
+
+    /**
+     * Kafka 기본 파티셔너와 같은 해시로 상품의 소유 파티션을 구합니다.
+     */
+    int partitionOf(Long productId) {
+        byte[] key = String.valueOf(productId).getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(key)) % partitions;
+    }
+
+    /**
+     * 같은 상품의 변경량을 합산하고 상품 ID 순으로 정렬합니다.
+     */
+    private List<ProductStockDelta> merge(List<ProductStockDelta> deltas) {
+        Map<Long, int[]> sums = new TreeMap<>();
+        for (ProductStockDelta delta : deltas) {
+            int[] sum = sums.computeIfAbsent(delta.productId(), id -> new int[2]);
+            sum[0] += delta.stockDelta();
+            sum[1] += delta.reservedDelta();
+        }
+
+        List<ProductStockDelta> merged = new ArrayList<>(sums.size());
+        sums.forEach((productId, sum) -> merged.add(new ProductStockDelta(productId, sum[0], sum[1])));
+        return merged;
+    }
+}
@@ -0,0 +1,259 @@
+package kr.hhplus.be.server.adapter.locking;
+
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내 락 구현체 (단일 노드/벤치마크 프로필)
+ *
+ * RedisLockingAdapter와 같은 의미(대기 시간, 보유 시간 만료, 단일 키 재진입, 다중 키 전부-또는-전무)를
+ * 네트워크 왕복 없이 제공한다. 키는 스트라이프 ReentrantLock으로 보호되는 리스 테이블에 기록되며,
+ * 대기자는 스트라이프의 Condition에서 해제 또는 리스 만료까지 대기한다.
+ *
+ * 여러 노드가 같은 자원을 다루는 배포에서는 사용하지 않는다.
+ */
+@Slf4j
+@Component
+@Profile("inmemory")
+public class InMemoryLockingAdapter implements LockingPort {
+
+    // 락 설정값 (RedisLockingAdapter와 동일)
+    private static final long DEFAULT_WAIT_TIME_MS = TimeUnit.SECONDS.toMillis(5);
+    private static final long DEFAULT_LEASE_TIME_MS = TimeUnit.SECONDS.toMillis(10);
+    private static final long MULTI_LOCK_RETRY_INTERVAL_MS = 20L;
+
+    @Value("${lock.local-stripes:1024}")
+    private int stripeCount = 1024;
+
+    private final Map<String, Lease> leases = new ConcurrentHashMap<>();
+
+    private volatile Stripe[] stripes;
+
+    /**
+     * 키 보유 정보 (스트라이프 락 안에서만 읽고 씀)
+     */
+    private static final class Lease {
+        private final Thread owner;
+        private long expiresAt;
+        private int holds;
+
+        private Lease(Thread owner, long expiresAt) {
+            this.owner = owner;
+            this.expiresAt = expiresAt;
+            this.holds = 1;
+        }
+
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition released = lock.newCondition();
+    }
+
+    @Override
+    public boolean acquireLock(String key) {
+        Stripe stripe = stripeFor(key);
+        long deadline = System.currentTimeMillis() + DEFAULT_WAIT_TIME_MS;
+
+        stripe.lock.lock();
+        try {
+            while (true) {
+                long now = System.currentTimeMillis();
+                Lease lease = leases.get(key);
+
+                if (lease == null || lease.isExpired(now)) {
+                    leases.put(key, new Lease(Thread.currentThread(), now + DEFAULT_LEASE_TIME_MS));
+                    log.debug("Lock acquired successfully: key={}, thread={}", key, Thread.currentThread().getName());
+                    return true;
+                }
+                if (lease.owner == Thread.currentThread()) {
+                    lease.holds++;
+                    lease.expiresAt = now + DEFAULT_LEASE_TIME_MS;
+                    return true;
+                }
+
+                // 해제 신호 또는 상대 리스 만료 중 먼저 오는 시점까지 대기
+                long waitMs = Math.min(deadline, lease.expiresAt) - now;
+                if (now >= deadline) {
+                    log.debug("Failed to acquire lock: key={}, thread={}", key, Thread.currentThread().getName());
+                    return false;
+                }
+                stripe.released.await(Math.max(1L, waitMs), TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while acquiring lock: key={}", key, e);
+            return false;
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public void releaseLock(String key) {
+        Stripe stripe = stripeFor(key);
+
+        stripe.lock.lock();
+        try {
+            Lease lease = leases.get(key);
+            if (lease == null || lease.owner != Thread.currentThread() || lease.isExpired(System.currentTimeMillis())) {
+                log.warn("Attempted to release lock not held by current thread: key={}, thread={}",
+                    key, Thread.currentThread().getName());
+                return;
+            }
+
+            if (--lease.holds == 0) {
+                leases.remove(key);
+                stripe.released.signalAll();
+                log.debug("Lock released successfully: key={}, thread={}", key, Thread.currentThread().getName());
+            }
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean isLocked(String key) {
+        Lease lease = leases.get(key);
+        return lease != null && !lease.isExpired(System.currentTimeMillis());
+    }
+
+    /**
+     * 다중 락 원자적 획득
+     *
+     * 관련 스트라이프를 인덱스 순으로 모두 잡은 상태에서 확인/설정하므로 일부만 획득한 상태가 생기지 않습니다.
+     * 점유 중인 키가 있으면 대기 시간 내에서 재시도합니다. 재진입은 지원하지 않습니다. (RedisLockingAdapter와 동일)
+     */
+    @Override
+    public boolean acquireAll(Collection<String> keys) {
+        List<String> lockKeys = distinct(keys);
+        if (lockKeys.isEmpty()) {
+            return true;
+        }
+
+        List<Stripe> guards = stripesFor(lockKeys);
+        long deadline = System.currentTimeMillis() + DEFAULT_WAIT_TIME_MS;
+
+        try {
+            while (true) {
+                if (tryAcquireAll(lockKeys, guards)) {
+                    log.debug("Multi lock acquired successfully: keys={}, thread={}",
+                        lockKeys, Thread.currentThread().getName());
+                    return true;
+                }
+
+                if (System.currentTimeMillis() >= deadline) {
+                    log.debug("Failed to acquire multi lock: keys={}, thread={}",
+                        lockKeys, Thread.currentThread().getName());
+                    return false;
+                }
+
+                Thread.sleep(MULTI_LOCK_RETRY_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("Interrupted while acquiring multi lock: keys={}", lockKeys, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void releaseAll(Collection<String> keys) {
+        List<String> lockKeys = distinct(keys);
+        if (lockKeys.isEmpty()) {
+            return;
+        }
+
+        List<Stripe> guards = stripesFor(lockKeys);
+        guards.forEach(stripe -> stripe.lock.lock());
+        try {
+            int released = 0;
+            for (String key : lockKeys) {
+                Lease lease = leases.get(key);
+                if (lease != null && lease.owner == Thread.currentThread()) {
+                    leases.remove(key);
+                    released++;
+                }
+            }
+            guards.forEach(stripe -> stripe.released.signalAll());
+
+            if (released < lockKeys.size()) {
+                log.warn("Attempted to release multi lock not fully held by current thread: keys={}, released={}, thread={}",
+                    lockKeys, released, Thread.currentThread().getName());
+            }
+        } finally {
+            guards.forEach(stripe -> stripe.lock.unlock());
+        }
+    }
+
+    private boolean tryAcquireAll(List<String> lockKeys, List<Stripe> guards) {
+        guards.forEach(stripe -> stripe.lock.lock());
+        try {
+            long now = System.currentTimeMillis();
+            for (String key : lockKeys) {
+                Lease lease = leases.get(key);
+                if (lease != null && !lease.isExpired(now)) {
+                    return false;
+                }
+            }
+
+            long expiresAt = now + DEFAULT_LEASE_TIME_MS;
+            lockKeys.forEach(key -> leases.put(key, new Lease(Thread.currentThread(), expiresAt)));
+            return true;
+        } finally {
+            guards.forEach(stripe -> stripe.lock.unlock());
+        }
+    }
+
+    private List<String> distinct(Collection<String> keys) {
+        return keys == null ? List.of() : List.copyOf(new LinkedHashSet<>(keys));
+    }
+
+    /**
+     * 키들이 속한 스트라이프를 인덱스 순으로 반환 (여러 스트라이프를 잡을 때 순서를 고정하여 데드락 방지)
+     */
+    private List<Stripe> stripesFor(List<String> keys) {
+        Stripe[] all = stripes();
+        TreeSet<Integer> indexes = new TreeSet<>();
+        keys.forEach(key -> indexes.add(Math.floorMod(key.hashCode(), all.length)));
+        return indexes.stream().map(index -> all[index]).toList();
+    }
+
+    private Stripe stripeFor(String key) {
+        Stripe[] all = stripes();
+        return all[Math.floorMod(key.hashCode(), all.length)];
+    }
+
+    private Stripe[] stripes() {
+        Stripe[] current = stripes;
+        if (current == null) {
+            synchronized (this) {
+                current = stripes;
+                if (current == null) {
+                    current = new Stripe[Math.max(1, stripeCount)];
+                    for (int i = 0; i < current.length; i++) {
+                        current[i] = new Stripe();
+                    }
+                    stripes = current;
+                }
+            }
+        }
+        return current;
+    }
+}
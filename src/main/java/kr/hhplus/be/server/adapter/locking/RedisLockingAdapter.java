@@ -1,33 +1,174 @@
 package kr.hhplus.be.server.adapter.locking;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Redis(Redisson)를 이용한 분산 락 구현체
  * 
  * 분산 환경에서 동시성 제어를 위한 락 메커니즘을 제공한다.
- * Redisson의 RLock을 사용하여 공정성과 재진입을 지원한다.
+ * 
+ * 단일 키 락은 키별 로컬 ReentrantLock을 먼저 잡고 Redis 락을 잡는다.
+ * 같은 JVM의 경합자는 메모리에서 대기하고 키마다 한 스레드만 Redis에 요청하므로,
+ * 경합 시 Redis 재시도/구독 부하가 노드 수 수준으로 줄어든다.
+ * 로컬 락은 참조 수로 관리해 획득 시도 중이거나 보유 중인 스레드가 없으면 제거하므로, 서로 다른 키는 함께 직렬화되지 않는다.
+ * 
+ * Redis 락 종류는 키 도메인(KeyGenerator.extractDomain)별로 선택한다.
+ * - non-fair(기본): RLock. 경합이 없으면 Lua 1회로 획득/해제
+ * - fair: FIFO 보장. 대기 큐/타임아웃 구조를 추가로 유지하므로 순서가 필요한 도메인에만 사용
+ * - spin: pub/sub 없이 백오프 재시도. 보유 시간이 매우 짧은 도메인용
+ * 
+ * 다중 락(acquireAll)은 Redisson 락이 아니므로 워치독이 없어, 획득 후 보유 시간의 1/3마다 소유 키의 만료를 직접 연장한다.
+ * 연장 시점에 소유하지 않은 키가 있으면(보유 시간 경과로 만료되어 다른 스레드가 획득 등) 연장을 멈추고 lock.lease.lost로 기록한다.
+ * 
+ * 지표 (domain 태그):
+ * - lock.wait: 획득까지 걸린 시간 / lock.hold: 보유 시간
+ * - lock.acquire.failed: 획득 실패까지 걸린 시간 (reason 태그: timeout, interrupted, error)
+ * - lock.lease.lost: 다중 락 보유 중 소유권을 잃은 횟수
  */
 @Slf4j
 @Component
+@Profile("!inmemory")
 @RequiredArgsConstructor
 public class RedisLockingAdapter implements LockingPort {
     
     private final RedissonClient redissonClient;
+    private final KeyGenerator keyGenerator;
+    private final MeterRegistry meterRegistry;
     
     // 락 설정값
     private static final long DEFAULT_WAIT_TIME = 5L; // 5초 대기
     private static final long DEFAULT_LEASE_TIME = 10L; // 10초 보유
     private static final TimeUnit TIME_UNIT = TimeUnit.SECONDS;
     private static final String LOCK_KEY_PREFIX = "lock:";
+    private static final long MULTI_LOCK_RETRY_INTERVAL_MS = 20L;
+    private static final String METRIC_PREFIX = "lock";
+    private static final String UNKNOWN_DOMAIN = "unknown";
+    
+    /**
+     * Redis 락 종류
+     */
+    public enum LockMode {
+        NON_FAIR, FAIR, SPIN
+    }
+    
+    @Value("${lock.fair-domains:}")
+    private Set<String> fairDomains = Set.of();
+    
+    @Value("${lock.spin-domains:}")
+    private Set<String> spinDomains = Set.of();
+    
+    // 다중 락 보유 시간 (이 시간의 1/3마다 연장, 연장이 멈추면 이 시간 뒤 만료)
+    @Value("${lock.multi-lease-ms:10000}")
+    private long multiLockLeaseMs = 10000L;
+    
+    // 키별 로컬 락 (획득 시도/보유 중인 스레드가 있는 동안만 유지)
+    private final Map<String, LocalGate> localGates = new ConcurrentHashMap<>();
+    
+    private final Map<String, LockMetrics> metricsByDomain = new ConcurrentHashMap<>();
+    
+    // 현재 스레드가 보유한 단일 키 락 (재진입 횟수, 최초 획득 시각)
+    private final ThreadLocal<Map<String, HeldLock>> heldLocks = ThreadLocal.withInitial(HashMap::new);
+    
+    private static final class HeldLock {
+        private final long acquiredAt;
+        private int holds;
+        
+        private HeldLock(long acquiredAt) {
+            this.acquiredAt = acquiredAt;
+        }
+    }
+    
+    /**
+     * 키별 로컬 락과 참조 수 (참조 수는 localGates.compute 안에서만 읽고 씀)
+     */
+    private static final class LocalGate {
+        // 비공정 모드: 방금 풀린 락을 깨어나는 대기자보다 실행 중인 스레드가 먼저 가져갈 수 있어 처리량 우선
+        private final ReentrantLock lock = new ReentrantLock();
+        private int refs;
+    }
+    
+    private record LockMetrics(Timer wait, Timer hold, Timer timeout, Timer interrupted, Timer error) {
+    }
+    
+    /**
+     * 다중 락 획득: 하나라도 점유 중이면 아무것도 설정하지 않고 0 반환
+     * KEYS=락 키 목록, ARGV[1]=소유자 토큰, ARGV[2]=보유 시간(ms)
+     */
+    private static final String ACQUIRE_ALL_SCRIPT =
+            "for i = 1, #KEYS do " +
+            "  if redis.call('EXISTS', KEYS[i]) == 1 then return 0 end " +
+            "end " +
+            "for i = 1, #KEYS do " +
+            "  redis.call('SET', KEYS[i], ARGV[1], 'PX', ARGV[2]) " +
+            "end " +
+            "return 1";
+    
+    /**
+     * 다중 락 해제: 소유자 토큰이 일치하는 키만 삭제
+     * KEYS=락 키 목록, ARGV[1]=소유자 토큰
+     */
+    private static final String RELEASE_ALL_SCRIPT =
+            "local released = 0 " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('GET', KEYS[i]) == ARGV[1] then " +
+            "    redis.call('DEL', KEYS[i]) " +
+            "    released = released + 1 " +
+            "  end " +
+            "end " +
+            "return released";
+    
+    /**
+     * 다중 락 보유 연장: 소유자 토큰이 일치하는 키만 만료 시간을 다시 설정
+     * KEYS=락 키 목록, ARGV[1]=소유자 토큰, ARGV[2]=보유 시간(ms)
+     */
+    private static final String RENEW_ALL_SCRIPT =
+            "local renewed = 0 " +
+            "for i = 1, #KEYS do " +
+            "  if redis.call('GET', KEYS[i]) == ARGV[1] then " +
+            "    redis.call('PEXPIRE', KEYS[i], ARGV[2]) " +
+            "    renewed = renewed + 1 " +
+            "  end " +
+            "end " +
+            "return renewed";
+    
+    // 다중 락 소유자 식별 (인스턴스 ID + 스레드 ID, 해제는 획득한 스레드만 가능)
+    private final String instanceId = UUID.randomUUID().toString();
+    
+    // 보유 중인 다중 락의 만료 연장 작업 (소유자 토큰 + 락 키 목록)
+    private final Map<MultiLockId, ScheduledFuture<?>> leaseRenewals = new ConcurrentHashMap<>();
+    
+    private volatile ScheduledExecutorService leaseRenewer;
+    
+    private record MultiLockId(String owner, List<Object> lockKeys) {
+    }
     
     /**
      * 분산 락 획득
@@ -37,29 +178,7 @@ public class RedisLockingAdapter implements LockingPort {
      */
     @Override
     public boolean acquireLock(String key) {
-        String lockKey = LOCK_KEY_PREFIX + key;
-        RLock lock = redissonClient.getFairLock(lockKey); // 공정한 락 사용 (FIFO)
-        
-        try {
-            boolean acquired = lock.tryLock(DEFAULT_WAIT_TIME, DEFAULT_LEASE_TIME, TIME_UNIT);
-            
-            if (acquired) {
-                log.debug("Lock acquired successfully: key={}, thread={}", 
-                    lockKey, Thread.currentThread().getName());
-            } else {
-                log.debug("Failed to acquire lock: key={}, thread={}", 
-                    lockKey, Thread.currentThread().getName());
-            }
-            
-            return acquired;
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            log.error("Interrupted while acquiring lock: key={}", lockKey, e);
-            return false;
-        } catch (Exception e) {
-            log.error("Error acquiring lock: key={}", lockKey, e);
-            return false;
-        }
+        return tryAcquire(key, DEFAULT_WAIT_TIME, DEFAULT_LEASE_TIME, TIME_UNIT);
     }
     
     /**
@@ -70,7 +189,7 @@ public class RedisLockingAdapter implements LockingPort {
     @Override
     public void releaseLock(String key) {
         String lockKey = LOCK_KEY_PREFIX + key;
-        RLock lock = redissonClient.getFairLock(lockKey);
+        RLock lock = lockFor(key);
         
         try {
             if (lock.isHeldByCurrentThread()) {
@@ -83,6 +202,8 @@ public class RedisLockingAdapter implements LockingPort {
             }
         } catch (Exception e) {
             log.error("Error releasing lock: key={}", lockKey, e);
+        } finally {
+            releaseLocal(key);
         }
     }
     
@@ -95,7 +216,7 @@ public class RedisLockingAdapter implements LockingPort {
     @Override
     public boolean isLocked(String key) {
         String lockKey = LOCK_KEY_PREFIX + key;
-        RLock lock = redissonClient.getFairLock(lockKey);
+        RLock lock = lockFor(key);
         
         try {
             boolean locked = lock.isLocked();
@@ -107,6 +228,176 @@ public class RedisLockingAdapter implements LockingPort {
         }
     }
     
+    /**
+     * 다중 락 원자적 획득
+     * 
+     * Lua 스크립트 1회 호출로 모든 키를 확인/설정하므로 경합이 없으면 1 RTT로 끝나고,
+     * 일부만 획득한 상태가 생기지 않습니다. 점유 중인 키가 있으면 대기 시간 내에서 재시도합니다.
+     * 재진입은 지원하지 않으며, 획득한 락은 releaseAll까지 만료 시간이 주기적으로 연장됩니다.
+     * 
+     * @param keys 락 키 목록
+     * @return 전체 획득 성공 여부
+     */
+    @Override
+    public boolean acquireAll(Collection<String> keys) {
+        List<Object> lockKeys = toLockKeys(keys);
+        if (lockKeys.isEmpty()) {
+            return true;
+        }
+        
+        RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+        String owner = currentOwner();
+        String leaseMillis = String.valueOf(multiLockLeaseMs);
+        long deadline = System.currentTimeMillis() + TIME_UNIT.toMillis(DEFAULT_WAIT_TIME);
+        LockMetrics metrics = metricsFor(keys.iterator().next());
+        long startedAt = System.nanoTime();
+        
+        try {
+            while (true) {
+                Long acquired = script.eval(RScript.Mode.READ_WRITE, ACQUIRE_ALL_SCRIPT,
+                        RScript.ReturnType.INTEGER, lockKeys, owner, leaseMillis);
+                
+                if (acquired != null && acquired == 1L) {
+                    metrics.wait().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    scheduleLeaseRenewal(new MultiLockId(owner, lockKeys), keys.iterator().next());
+                    log.debug("Multi lock acquired successfully: keys={}, thread={}", 
+                        lockKeys, Thread.currentThread().getName());
+                    return true;
+                }
+                
+                if (System.currentTimeMillis() >= deadline) {
+                    metrics.timeout().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                    log.debug("Failed to acquire multi lock: keys={}, thread={}", 
+                        lockKeys, Thread.currentThread().getName());
+                    return false;
+                }
+                
+                Thread.sleep(MULTI_LOCK_RETRY_INTERVAL_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.interrupted().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("Interrupted while acquiring multi lock: keys={}", lockKeys, e);
+            return false;
+        } catch (Exception e) {
+            metrics.error().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("Error acquiring multi lock: keys={}", lockKeys, e);
+            return false;
+        }
+    }
+    
+    /**
+     * 다중 락 해제 (현재 스레드가 획득한 키만 해제)
+     * 
+     * @param keys 락 키 목록
+     */
+    @Override
+    public void releaseAll(Collection<String> keys) {
+        List<Object> lockKeys = toLockKeys(keys);
+        if (lockKeys.isEmpty()) {
+            return;
+        }
+        
+        String owner = currentOwner();
+        cancelLeaseRenewal(new MultiLockId(owner, lockKeys));
+        
+        try {
+            RScript script = redissonClient.getScript(StringCodec.INSTANCE);
+            Long released = script.eval(RScript.Mode.READ_WRITE, RELEASE_ALL_SCRIPT,
+                    RScript.ReturnType.INTEGER, lockKeys, owner);
+            
+            if (released == null || released < lockKeys.size()) {
+                log.warn("Attempted to release multi lock not fully held by current thread: keys={}, released={}, thread={}", 
+                    lockKeys, released, Thread.currentThread().getName());
+            } else {
+                log.debug("Multi lock released successfully: keys={}, thread={}", 
+                    lockKeys, Thread.currentThread().getName());
+            }
+        } catch (Exception e) {
+            log.error("Error releasing multi lock: keys={}", lockKeys, e);
+        }
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        ScheduledExecutorService renewer = leaseRenewer;
+        if (renewer != null) {
+            renewer.shutdownNow();
+        }
+    }
+    
+    /**
+     * 보유 시간의 1/3마다 다중 락 만료를 연장합니다. (releaseAll에서 취소)
+     */
+    private void scheduleLeaseRenewal(MultiLockId lockId, String domainKey) {
+        long leaseMillis = multiLockLeaseMs;
+        long intervalMillis = Math.max(1L, leaseMillis / 3);
+        ScheduledFuture<?> renewal = leaseRenewer().scheduleAtFixedRate(
+                () -> renewLease(lockId, domainKey, leaseMillis), intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        ScheduledFuture<?> previous = leaseRenewals.put(lockId, renewal);
+        if (previous != null) {
+            previous.cancel(false);
+        }
+    }
+    
+    private void renewLease(MultiLockId lockId, String domainKey, long leaseMillis) {
+        try {
+            Long renewed = redissonClient.getScript(StringCodec.INSTANCE).eval(RScript.Mode.READ_WRITE, RENEW_ALL_SCRIPT,
+                    RScript.ReturnType.INTEGER, lockId.lockKeys(), lockId.owner(), String.valueOf(leaseMillis));
+            if ((renewed == null || renewed < lockId.lockKeys().size()) && leaseRenewals.containsKey(lockId)) {
+                // 만료로 소유권을 잃은 키가 있음: 다른 소유자의 키는 연장하지 않도록 중단
+                cancelLeaseRenewal(lockId);
+                meterRegistry.counter(METRIC_PREFIX + ".lease.lost", "domain", domainOf(domainKey)).increment();
+                log.error("Multi lock lease lost while held: keys={}, renewed={}", lockId.lockKeys(), renewed);
+            }
+        } catch (Exception e) {
+            // 일시적인 Redis 오류는 다음 주기에 다시 연장
+            log.warn("Error renewing multi lock lease: keys={}", lockId.lockKeys(), e);
+        }
+    }
+    
+    private void cancelLeaseRenewal(MultiLockId lockId) {
+        ScheduledFuture<?> renewal = leaseRenewals.remove(lockId);
+        if (renewal != null) {
+            renewal.cancel(false);
+        }
+    }
+    
+    private ScheduledExecutorService leaseRenewer() {
+        ScheduledExecutorService renewer = leaseRenewer;
+        if (renewer == null) {
+            synchronized (this) {
+                renewer = leaseRenewer;
+                if (renewer == null) {
+                    renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                        Thread thread = new Thread(runnable, "multi-lock-lease-renewer");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                    leaseRenewer = renewer;
+                }
+            }
+        }
+        return renewer;
+    }
+    
+    private List<Object> toLockKeys(Collection<String> keys) {
+        List<Object> lockKeys = new ArrayList<>();
+        if (keys == null) {
+            return lockKeys;
+        }
+        
+        // 중복 키는 한 번만 잠금 (전달된 순서 유지)
+        for (String key : new LinkedHashSet<>(keys)) {
+            lockKeys.add(LOCK_KEY_PREFIX + key);
+        }
+        return lockKeys;
+    }
+    
+    private String currentOwner() {
+        return instanceId + ":" + Thread.currentThread().getId();
+    }
+    
     /**
      * 커스텀 설정으로 락 획득 (확장 메서드)
      * 
@@ -117,16 +408,157 @@ public class RedisLockingAdapter implements LockingPort {
      * @return 락 획득 성공 여부
      */
     public boolean acquireLockWithCustomSettings(String key, long waitTime, long leaseTime, TimeUnit timeUnit) {
+        return tryAcquire(key, waitTime, leaseTime, timeUnit);
+    }
+    
+    /**
+     * 도메인에 설정된 Redis 락 종류
+     * 
+     * @param key 락 키
+     * @return 락 종류 (fair/spin 도메인으로 설정되지 않았으면 NON_FAIR)
+     */
+    public LockMode lockModeOf(String key) {
+        String domain = domainOf(key);
+        if (fairDomains.contains(domain)) {
+            return LockMode.FAIR;
+        }
+        if (spinDomains.contains(domain)) {
+            return LockMode.SPIN;
+        }
+        return LockMode.NON_FAIR;
+    }
+    
+    /**
+     * 키별 로컬 락 → Redis 락 순서로 대기 시간 안에서 획득합니다.
+     * Redis 락 획득에 실패하면 로컬 락도 풀어 같은 JVM의 다음 대기자가 시도하게 합니다.
+     */
+    private boolean tryAcquire(String key, long waitTime, long leaseTime, TimeUnit timeUnit) {
         String lockKey = LOCK_KEY_PREFIX + key;
-        RLock lock = redissonClient.getFairLock(lockKey);
+        LockMetrics metrics = metricsFor(key);
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + timeUnit.toNanos(waitTime);
+        ReentrantLock localLock = retainLocalGate(key).lock;
         
         try {
-            return lock.tryLock(waitTime, leaseTime, timeUnit);
+            if (!localLock.tryLock(waitTime, timeUnit)) {
+                releaseLocalGate(key);
+                metrics.timeout().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                log.debug("Failed to acquire local lock: key={}, thread={}", 
+                    lockKey, Thread.currentThread().getName());
+                return false;
+            }
         } catch (InterruptedException e) {
+            releaseLocalGate(key);
             Thread.currentThread().interrupt();
-            log.error("Interrupted while acquiring lock with custom settings: key={}", lockKey, e);
+            metrics.interrupted().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("Interrupted while acquiring local lock: key={}", lockKey, e);
             return false;
         }
+        
+        boolean acquired = false;
+        try {
+            long remaining = Math.max(0L, deadline - System.nanoTime());
+            acquired = lockFor(key).tryLock(remaining, timeUnit.toNanos(leaseTime), TimeUnit.NANOSECONDS);
+            
+            if (acquired) {
+                long acquiredAt = System.nanoTime();
+                metrics.wait().record(acquiredAt - startedAt, TimeUnit.NANOSECONDS);
+                heldLocks.get().computeIfAbsent(key, k -> new HeldLock(acquiredAt)).holds++;
+                log.debug("Lock acquired successfully: key={}, thread={}", 
+                    lockKey, Thread.currentThread().getName());
+            } else {
+                metrics.timeout().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                log.debug("Failed to acquire lock: key={}, thread={}", 
+                    lockKey, Thread.currentThread().getName());
+            }
+            
+            return acquired;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            metrics.interrupted().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("Interrupted while acquiring lock: key={}", lockKey, e);
+            return false;
+        } catch (Exception e) {
+            metrics.error().record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            log.error("Error acquiring lock: key={}", lockKey, e);
+            return false;
+        } finally {
+            if (!acquired) {
+                localLock.unlock();
+                releaseLocalGate(key);
+            }
+        }
+    }
+    
+    /**
+     * 키별 로컬 락을 풀고, 마지막 재진입 해제이면 보유 시간을 기록합니다.
+     * 
+     * 이 스레드가 이 키로 획득한 기록이 있을 때만 풉니다. (보유하지 않은 키의 해제는 로컬 락에 영향 없음)
+     */
+    private void releaseLocal(String key) {
+        Map<String, HeldLock> held = heldLocks.get();
+        HeldLock heldLock = held.get(key);
+        if (heldLock == null) {
+            return;
+        }
+        
+        if (--heldLock.holds == 0) {
+            held.remove(key);
+            metricsFor(key).hold().record(System.nanoTime() - heldLock.acquiredAt, TimeUnit.NANOSECONDS);
+        }
+        localGates.get(key).lock.unlock();
+        releaseLocalGate(key);
+    }
+    
+    private RLock lockFor(String key) {
+        String lockKey = LOCK_KEY_PREFIX + key;
+        return switch (lockModeOf(key)) {
+            case FAIR -> redissonClient.getFairLock(lockKey);
+            case SPIN -> redissonClient.getSpinLock(lockKey);
+            case NON_FAIR -> redissonClient.getLock(lockKey);
+        };
+    }
+    
+    /**
+     * 키의 로컬 락 참조 수를 늘립니다. (획득 시도 또는 재진입 보유 1회당 1)
+     */
+    private LocalGate retainLocalGate(String key) {
+        return localGates.compute(key, (k, gate) -> {
+            LocalGate retained = gate != null ? gate : new LocalGate();
+            retained.refs++;
+            return retained;
+        });
+    }
+    
+    /**
+     * 키의 로컬 락 참조 수를 줄이고, 남은 참조가 없으면 맵에서 제거합니다.
+     */
+    private void releaseLocalGate(String key) {
+        localGates.computeIfPresent(key, (k, gate) -> --gate.refs == 0 ? null : gate);
+    }
+    
+    private String domainOf(String key) {
+        String domain = keyGenerator.extractDomain(key);
+        return domain != null ? domain : UNKNOWN_DOMAIN;
+    }
+    
+    private LockMetrics metricsFor(String key) {
+        return metricsByDomain.computeIfAbsent(domainOf(key), domain -> new LockMetrics(
+                timer(METRIC_PREFIX + ".wait", domain, null),
+                timer(METRIC_PREFIX + ".hold", domain, null),
+                timer(METRIC_PREFIX + ".acquire.failed", domain, "timeout"),
+                timer(METRIC_PREFIX + ".acquire.failed", domain, "interrupted"),
+                timer(METRIC_PREFIX + ".acquire.failed", domain, "error")));
+    }
+    
+    private Timer timer(String name, String domain, String reason) {
+        Timer.Builder builder = Timer.builder(name)
+                .tag("domain", domain)
+                .publishPercentileHistogram();
+        if (reason != null) {
+            builder.tag("reason", reason);
+        }
+        return builder.register(meterRegistry);
     }
     
     /**
@@ -136,9 +568,7 @@ public class RedisLockingAdapter implements LockingPort {
      * @return 현재 스레드의 락 보유 여부
      */
     public boolean isHeldByCurrentThread(String key) {
-        String lockKey = LOCK_KEY_PREFIX + key;
-        RLock lock = redissonClient.getFairLock(lockKey);
-        return lock.isHeldByCurrentThread();
+        return lockFor(key).isHeldByCurrentThread();
     }
     
     /**
@@ -149,7 +579,7 @@ public class RedisLockingAdapter implements LockingPort {
      */
     public void forceUnlock(String key) {
         String lockKey = LOCK_KEY_PREFIX + key;
-        RLock lock = redissonClient.getFairLock(lockKey);
+        RLock lock = lockFor(key);
         
         try {
             lock.forceUnlock();
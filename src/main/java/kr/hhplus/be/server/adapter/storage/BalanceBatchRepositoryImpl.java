@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.adapter.storage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.hhplus.be.server.domain.port.storage.BalanceBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * BalanceBatchRepository JDBC 구현
+ * 
+ * JpaTransactionManager가 노출한 커넥션을 사용하므로 호출 측 트랜잭션에 참여합니다.
+ * 실행 전 영속성 컨텍스트를 flush하여 대기 중인 변경과 순서를 맞춥니다.
+ */
+@RequiredArgsConstructor
+public class BalanceBatchRepositoryImpl implements BalanceBatchRepository {
+    
+    private static final String ROLL_FORWARD_SQL =
+            "INSERT INTO balances (user_id, amount, version, created_at, updated_at) VALUES (?, ?, 0, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount = amount + VALUES(amount), version = version + 1, " +
+            "updated_at = VALUES(updated_at)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public int[] rollForward(Map<Long, BigDecimal> amounts) {
+        if (amounts.isEmpty()) {
+            return new int[0];
+        }
+        
+        entityManager.flush();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = amounts.entrySet().stream()
+                .map(entry -> new Object[]{entry.getKey(), entry.getValue(), now, now})
+                .toList();
+        
+        // 다중 VALUES INSERT로 재작성되면 SUCCESS_NO_INFO가 오므로 행별 갱신 수를 검증하지 않음 (upsert는 항상 반영)
+        return jdbcTemplate.batchUpdate(ROLL_FORWARD_SQL, args);
+    }
+}
@@ -0,0 +1,67 @@
+package kr.hhplus.be.server.adapter.storage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.hhplus.be.server.common.util.BatchUpdateCounts;
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+import kr.hhplus.be.server.domain.port.storage.BalanceLedgerBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * BalanceLedgerBatchRepository JDBC 구현
+ * 
+ * JpaTransactionManager가 노출한 커넥션을 사용하므로 호출 측 트랜잭션에 참여합니다.
+ * 실행 전 영속성 컨텍스트를 flush하여 대기 중인 변경과 순서를 맞춥니다.
+ */
+@RequiredArgsConstructor
+public class BalanceLedgerBatchRepositoryImpl implements BalanceLedgerBatchRepository {
+    
+    private static final String INSERT_LEDGER_SQL =
+            "INSERT INTO balance_ledger (user_id, amount, entry_type, snapshotted, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, FALSE, 0, ?, ?)";
+    
+    private static final String MARK_SNAPSHOTTED_SQL =
+            "UPDATE balance_ledger SET snapshotted = TRUE, version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND snapshotted = FALSE";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public void insertAll(List<BalanceLedger> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = entries.stream()
+                .map(entry -> new Object[]{
+                        entry.getUserId(), entry.getAmount(), entry.getEntryType().name(), now, now})
+                .toList();
+        
+        jdbcTemplate.batchUpdate(INSERT_LEDGER_SQL, args);
+    }
+    
+    @Override
+    public int[] markSnapshotted(List<Long> ledgerIds) {
+        if (ledgerIds.isEmpty()) {
+            return new int[0];
+        }
+        
+        entityManager.flush();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = ledgerIds.stream()
+                .map(id -> new Object[]{now, id})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(MARK_SNAPSHOTTED_SQL, jdbcTemplate.batchUpdate(MARK_SNAPSHOTTED_SQL, args));
+    }
+}
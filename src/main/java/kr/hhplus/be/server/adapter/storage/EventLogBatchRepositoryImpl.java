@@ -0,0 +1,83 @@
+package kr.hhplus.be.server.adapter.storage;
+
+import kr.hhplus.be.server.common.util.BatchUpdateCounts;
+import kr.hhplus.be.server.domain.entity.EventLog;
+import kr.hhplus.be.server.domain.enums.EventStatus;
+import kr.hhplus.be.server.domain.port.storage.EventLogBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * EventLogBatchRepository JDBC 구현
+ * 
+ * JpaTransactionManager가 노출한 커넥션을 사용하므로 호출 측 트랜잭션에 참여합니다.
+ */
+@RequiredArgsConstructor
+public class EventLogBatchRepositoryImpl implements EventLogBatchRepository {
+    
+    private static final String INSERT_EVENT_LOG_SQL =
+            "INSERT INTO event_log (event_type, payload, status, topic, event_key, correlation_id, retry_count, " +
+            "version, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, 0, 0, ?, ?)";
+    
+    private static final String MARK_PUBLISHED_SQL =
+            "UPDATE event_log SET status = 'PUBLISHED', external_endpoint = CONCAT('stream:', topic), " +
+            "version = version + 1, updated_at = ? WHERE id = ? AND status = 'PENDING'";
+    
+    // MySQL은 SET 절을 왼쪽부터 평가하므로 상태 판정을 retry_count 증가보다 먼저 둠
+    private static final String MARK_RETRY_SQL =
+            "UPDATE event_log SET status = CASE WHEN retry_count + 1 >= ? THEN 'FAILED' ELSE status END, " +
+            "retry_count = retry_count + 1, error_message = ?, next_retry_at = ?, " +
+            "version = version + 1, updated_at = ? WHERE id = ? AND status = 'PENDING'";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void insertAll(List<EventLog> eventLogs) {
+        if (eventLogs.isEmpty()) {
+            return;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = eventLogs.stream()
+                .map(eventLog -> new Object[]{
+                        eventLog.getEventType().name(), eventLog.getPayload(), EventStatus.PENDING.name(),
+                        eventLog.getTopic(), eventLog.getEventKey(), eventLog.getCorrelationId(), now, now})
+                .toList();
+        
+        jdbcTemplate.batchUpdate(INSERT_EVENT_LOG_SQL, args);
+    }
+    
+    @Override
+    public int[] markPublished(List<Long> eventLogIds) {
+        if (eventLogIds.isEmpty()) {
+            return new int[0];
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = eventLogIds.stream()
+                .map(id -> new Object[]{now, id})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(MARK_PUBLISHED_SQL, jdbcTemplate.batchUpdate(MARK_PUBLISHED_SQL, args));
+    }
+    
+    @Override
+    public int[] markRetry(Map<Long, String> errors, LocalDateTime nextRetryAt, int maxRetries) {
+        if (errors.isEmpty()) {
+            return new int[0];
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp retryAt = Timestamp.valueOf(nextRetryAt);
+        List<Object[]> args = errors.entrySet().stream()
+                .map(entry -> new Object[]{maxRetries, entry.getValue(), retryAt, now, entry.getKey()})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(MARK_RETRY_SQL, jdbcTemplate.batchUpdate(MARK_RETRY_SQL, args));
+    }
+}
@@ -0,0 +1,123 @@
+package kr.hhplus.be.server.adapter.storage;
+
+import kr.hhplus.be.server.common.util.BatchUpdateCounts;
+import kr.hhplus.be.server.domain.dto.OrderPaymentLookup;
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.enums.OrderStatus;
+import kr.hhplus.be.server.domain.port.storage.OrderBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OrderBatchRepository JDBC 구현
+ * 
+ * JpaTransactionManager가 노출한 커넥션을 사용하므로 호출 측 트랜잭션에 참여합니다.
+ */
+@RequiredArgsConstructor
+public class OrderBatchRepositoryImpl implements OrderBatchRepository {
+    
+    private static final String INSERT_ORDER_SQL =
+            "INSERT INTO orders (user_id, total_amount, status, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, 0, ?, ?)";
+    
+    private static final String UPDATE_STATUS_IF_PENDING_SQL =
+            "UPDATE orders SET status = ?, version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND status = 'PENDING'";
+    
+    // 주문이 없어도 한 행을 반환하도록 단일 행 파생 테이블에 주문을 LEFT JOIN
+    private static final String SELECT_PAYMENT_LOOKUP_SQL =
+            "SELECT EXISTS (SELECT 1 FROM users u WHERE u.id = ?) AS user_exists, " +
+            "EXISTS (SELECT 1 FROM payment p WHERE p.order_id = ?) AS paid, " +
+            "(SELECT c.discount_rate FROM coupon c WHERE c.id = ?) AS coupon_discount_rate, " +
+            "o.id, o.user_id, o.total_amount, o.status, o.version, o.created_at, o.updated_at " +
+            "FROM (SELECT 1 AS one) lookup LEFT JOIN orders o ON o.id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public List<Order> insertAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return orders;
+        }
+        
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp timestamp = Timestamp.valueOf(now);
+        
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INSERT_ORDER_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                for (Order order : orders) {
+                    statement.setLong(1, order.getUserId());
+                    statement.setBigDecimal(2, order.getTotalAmount());
+                    statement.setString(3, order.getStatus().name());
+                    statement.setTimestamp(4, timestamp);
+                    statement.setTimestamp(5, timestamp);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+                
+                // 생성 키는 배치에 추가한 순서대로 반환됨
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    int index = 0;
+                    while (keys.next() && index < orders.size()) {
+                        Order order = orders.get(index++);
+                        order.setId(keys.getLong(1));
+                        order.setCreatedAt(now);
+                        order.setUpdatedAt(now);
+                    }
+                    if (index != orders.size()) {
+                        throw new IllegalStateException("생성된 주문 ID 수가 일치하지 않습니다: expected="
+                                + orders.size() + ", actual=" + index);
+                    }
+                }
+            }
+            return null;
+        });
+        
+        return orders;
+    }
+    
+    @Override
+    public int[] updateStatusIfPending(List<Long> orderIds, OrderStatus status) {
+        if (orderIds.isEmpty()) {
+            return new int[0];
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = orderIds.stream()
+                .map(orderId -> new Object[]{status.name(), now, orderId})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(UPDATE_STATUS_IF_PENDING_SQL, jdbcTemplate.batchUpdate(UPDATE_STATUS_IF_PENDING_SQL, args));
+    }
+    
+    @Override
+    public OrderPaymentLookup findPaymentLookup(Long orderId, Long userId, Long couponId) {
+        return jdbcTemplate.queryForObject(SELECT_PAYMENT_LOOKUP_SQL, (rs, rowNum) -> {
+            Order order = null;
+            long id = rs.getLong("id");
+            if (!rs.wasNull()) {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                Timestamp updatedAt = rs.getTimestamp("updated_at");
+                order = Order.builder()
+                        .id(id)
+                        .version(rs.getLong("version"))
+                        .userId(rs.getLong("user_id"))
+                        .totalAmount(rs.getBigDecimal("total_amount"))
+                        .status(OrderStatus.valueOf(rs.getString("status")))
+                        .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                        .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                        .build();
+            }
+            return new OrderPaymentLookup(order, rs.getBoolean("user_exists"), rs.getBoolean("paid"),
+                    rs.getBigDecimal("coupon_discount_rate"));
+        }, userId, orderId, couponId, orderId);
+    }
+}
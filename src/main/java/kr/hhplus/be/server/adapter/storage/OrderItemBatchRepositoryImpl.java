@@ -0,0 +1,40 @@
+package kr.hhplus.be.server.adapter.storage;
+
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.port.storage.OrderItemBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * OrderItemBatchRepository JDBC 구현
+ * 
+ * JpaTransactionManager가 노출한 커넥션을 사용하므로 호출 측 트랜잭션에 참여합니다.
+ */
+@RequiredArgsConstructor
+public class OrderItemBatchRepositoryImpl implements OrderItemBatchRepository {
+    
+    private static final String INSERT_ORDER_ITEM_SQL =
+            "INSERT INTO order_item (order_id, product_id, quantity, price, version, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, 0, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @Override
+    public void insertAll(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = orderItems.stream()
+                .map(item -> new Object[]{
+                        item.getOrderId(), item.getProductId(), item.getQuantity(), item.getPrice(), now, now})
+                .toList();
+        
+        jdbcTemplate.batchUpdate(INSERT_ORDER_ITEM_SQL, args);
+    }
+}
@@ -0,0 +1,120 @@
+package kr.hhplus.be.server.adapter.storage;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import kr.hhplus.be.server.common.util.BatchUpdateCounts;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.port.storage.ProductStockBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * ProductStockBatchRepository JDBC 구현
+ * 
+ * JpaTransactionManager가 노출한 커넥션을 사용하므로 호출 측 트랜잭션에 참여합니다.
+ * 실행 전 영속성 컨텍스트를 flush하여 대기 중인 변경과 순서를 맞춥니다.
+ */
+@RequiredArgsConstructor
+public class ProductStockBatchRepositoryImpl implements ProductStockBatchRepository {
+    
+    private static final String RESERVE_STOCK_SQL =
+            "UPDATE product SET reserved_stock = reserved_stock + ?, " +
+            "version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND stock - reserved_stock >= ?";
+    
+    private static final String CONFIRM_RESERVATION_SQL =
+            "UPDATE product SET stock = stock - ?, reserved_stock = reserved_stock - ?, " +
+            "version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND reserved_stock >= ? AND stock >= ?";
+    
+    private static final String CANCEL_RESERVATION_SQL =
+            "UPDATE product SET reserved_stock = reserved_stock - ?, " +
+            "version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND reserved_stock >= ?";
+    
+    private static final String APPLY_STOCK_DELTA_SQL =
+            "UPDATE product SET stock = stock + ?, reserved_stock = reserved_stock + ?, " +
+            "version = version + 1, updated_at = ? " +
+            "WHERE id = ? AND stock + ? >= 0 AND reserved_stock + ? >= 0 AND reserved_stock + ? <= stock + ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public int[] reserveStocks(List<ProductQuantityDto> items) {
+        if (items.isEmpty()) {
+            return new int[0];
+        }
+        
+        entityManager.flush();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = items.stream()
+                .map(item -> new Object[]{
+                        item.getQuantity(), now, item.getProductId(), item.getQuantity()})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(RESERVE_STOCK_SQL, jdbcTemplate.batchUpdate(RESERVE_STOCK_SQL, args));
+    }
+    
+    @Override
+    public int[] confirmReservations(List<ProductQuantityDto> items) {
+        if (items.isEmpty()) {
+            return new int[0];
+        }
+        
+        entityManager.flush();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = items.stream()
+                .map(item -> new Object[]{
+                        item.getQuantity(), item.getQuantity(), now,
+                        item.getProductId(), item.getQuantity(), item.getQuantity()})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(CONFIRM_RESERVATION_SQL, jdbcTemplate.batchUpdate(CONFIRM_RESERVATION_SQL, args));
+    }
+    
+    @Override
+    public int[] cancelReservations(List<ProductQuantityDto> items) {
+        if (items.isEmpty()) {
+            return new int[0];
+        }
+        
+        entityManager.flush();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = items.stream()
+                .map(item -> new Object[]{
+                        item.getQuantity(), now, item.getProductId(), item.getQuantity()})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(CANCEL_RESERVATION_SQL, jdbcTemplate.batchUpdate(CANCEL_RESERVATION_SQL, args));
+    }
+    
+    @Override
+    public int[] applyStockDeltas(List<ProductStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return new int[0];
+        }
+        
+        entityManager.flush();
+        
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> args = deltas.stream()
+                .map(delta -> new Object[]{
+                        delta.stockDelta(), delta.reservedDelta(), now,
+                        delta.productId(), delta.stockDelta(), delta.reservedDelta(),
+                        delta.reservedDelta(), delta.stockDelta()})
+                .toList();
+        
+        return BatchUpdateCounts.requireRowCounts(APPLY_STOCK_DELTA_SQL, jdbcTemplate.batchUpdate(APPLY_STOCK_DELTA_SQL, args));
+    }
+}
@@ -61,6 +61,7 @@ public enum ErrorCode {
     COUPON_NOT_YET_STARTED("C004", "아직 사용할 수 없는 쿠폰입니다."),
     COUPON_ALREADY_ISSUED("C005", "이미 발급된 쿠폰입니다."),
     COUPON_ISSUE_LIMIT_EXCEEDED("C006", "쿠폰 발급 한도를 초과했습니다."),
+    COUPON_REQUEST_NOT_FOUND("C007", "쿠폰 발급 요청을 찾을 수 없습니다."),
     
     // === 입력 검증 에러 (V001~V999) ===
     INVALID_INPUT("V001", "유효하지 않은 입력입니다."),
@@ -186,6 +187,7 @@ public enum ErrorCode {
         map.put(OrderException.NotFound.class, ORDER_NOT_FOUND);
         map.put(OrderException.Unauthorized.class, FORBIDDEN);
         map.put(OrderException.AlreadyPaid.class, ORDER_ALREADY_PAID);
+        map.put(OrderException.Expired.class, ORDER_EXPIRED);
         map.put(OrderException.EmptyItems.class, INVALID_INPUT);
         
         // 쿠폰 관련 예외
@@ -200,6 +202,7 @@ public enum ErrorCode {
         map.put(CouponException.InvalidUserData.class, INVALID_INPUT);
         map.put(CouponException.InvalidCouponHistoryData.class, INVALID_INPUT);
         map.put(CouponException.InvalidPaginationParams.class, INVALID_INPUT);
+        map.put(CouponException.RequestNotFound.class, COUPON_REQUEST_NOT_FOUND);
         
         // 동시성 관련 예외
         map.put(CommonException.ConcurrencyConflict.class, CONCURRENCY_ERROR);
@@ -257,6 +260,7 @@ public enum ErrorCode {
         map.put(PRODUCT_NOT_FOUND, HttpStatus.NOT_FOUND);
         map.put(ORDER_NOT_FOUND, HttpStatus.NOT_FOUND);
         map.put(COUPON_NOT_FOUND, HttpStatus.NOT_FOUND);
+        map.put(COUPON_REQUEST_NOT_FOUND, HttpStatus.NOT_FOUND);
         map.put(NOT_FOUND, HttpStatus.NOT_FOUND);
         
         // 400 Bad Request
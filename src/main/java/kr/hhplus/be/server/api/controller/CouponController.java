@@ -6,10 +6,14 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import kr.hhplus.be.server.api.dto.request.CouponRequest;
+import kr.hhplus.be.server.api.dto.response.CouponIssueRequestResponse;
 import kr.hhplus.be.server.api.dto.response.CouponResponse;
+import kr.hhplus.be.server.api.dto.response.CouponWalletResponse;
 import kr.hhplus.be.server.api.docs.annotation.CouponApiDocs;
+import kr.hhplus.be.server.domain.dto.CouponWalletPage;
 import kr.hhplus.be.server.domain.entity.Coupon;
 import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.event.CouponResultEvent;
 import kr.hhplus.be.server.domain.exception.CouponException;
 import kr.hhplus.be.server.domain.service.CouponService;
 
@@ -58,6 +62,26 @@ public class CouponController {
         );
     }
 
+    @CouponApiDocs(summary = "쿠폰 발급 요청 (비동기)", 
+                   description = "선착순 검증 후 발급 요청을 접수하고 requestId를 반환합니다",
+                   successStatus = HttpStatus.ACCEPTED,
+                   responseType = CouponIssueRequestResponse.class)
+    @PostMapping("/issue/async")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    public CouponIssueRequestResponse requestCouponIssue(@Valid @RequestBody CouponRequest request) {
+        CouponResultEvent pending = couponService.requestCouponIssue(request.getCouponId(), request.getUserId());
+        return toIssueRequestResponse(pending);
+    }
+
+    @CouponApiDocs(summary = "쿠폰 발급 요청 결과 조회", 
+                   description = "비동기 쿠폰 발급 요청의 처리 결과를 조회합니다",
+                   responseType = CouponIssueRequestResponse.class)
+    @GetMapping("/issue/result/{requestId}")
+    public CouponIssueRequestResponse getCouponIssueResult(@PathVariable String requestId) {
+        CouponResultEvent result = couponService.getCouponIssueResult(requestId);
+        return toIssueRequestResponse(result);
+    }
+
     @CouponApiDocs(summary = "보유 쿠폰 조회", description = "사용자가 보유한 쿠폰 목록을 조회합니다")
     @GetMapping("/user/{userId}")
     public List<CouponResponse> getCoupons(
@@ -72,6 +96,35 @@ public class CouponController {
                 .toList();
     }
     
+    @CouponApiDocs(summary = "쿠폰 지갑 조회", 
+                   description = "사용 가능한 쿠폰을 발급일시 내림차순으로 커서 기반 페이지 조회합니다",
+                   responseType = CouponWalletResponse.class)
+    @GetMapping("/user/{userId}/wallet")
+    public CouponWalletResponse getCouponWallet(
+            @PathVariable @Positive Long userId,
+            @RequestParam(defaultValue = "10") @Positive @Max(100) int limit,
+            @RequestParam(required = false) String cursor) {
+        CouponWalletPage page = couponService.getCouponWallet(userId, cursor, limit);
+        List<CouponResponse> coupons = page.histories().stream()
+                .map(history -> safeCouponLookup(history))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .toList();
+        return new CouponWalletResponse(coupons, page.nextCursor());
+    }
+    
+    private CouponIssueRequestResponse toIssueRequestResponse(CouponResultEvent result) {
+        return new CouponIssueRequestResponse(
+                result.getRequestId(),
+                result.getUserId(),
+                result.getCouponId(),
+                result.getResultCode().getCode(),
+                result.getMessage(),
+                result.getCouponHistoryId(),
+                result.getProcessedAt()
+        );
+    }
+    
     /**
      * 쿠폰 정보를 안전하게 조회하고 CouponResponse를 생성합니다.
      * 쿠폰 조회에 실패해도 전체 요청이 실패하지 않도록 예외를 처리합니다.
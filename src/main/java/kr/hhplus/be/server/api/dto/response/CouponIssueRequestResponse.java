@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.hhplus.be.server.api.docs.schema.DocumentedDto;
+import kr.hhplus.be.server.api.docs.schema.FieldDocumentation;
+
+import java.time.LocalDateTime;
+
+@Schema(description = "비동기 쿠폰 발급 요청 응답")
+public record CouponIssueRequestResponse(
+        @Schema(description = "쿠폰 발급 요청 ID", example = "COUPON_REQ_1_1_1735689600000")
+        String requestId,
+        
+        @Schema(description = "사용자 ID", example = "1")
+        Long userId,
+        
+        @Schema(description = "쿠폰 ID", example = "1")
+        Long couponId,
+        
+        @Schema(description = "처리 상태 코드", example = "PENDING")
+        String resultCode,
+        
+        @Schema(description = "처리 결과 메시지", example = "쿠폰 발급 처리 중")
+        String message,
+        
+        @Schema(description = "발급된 쿠폰 히스토리 ID (성공 시)", example = "1")
+        Long couponHistoryId,
+        
+        @Schema(description = "처리 완료일시", example = "2025-01-01T00:00:00")
+        LocalDateTime processedAt
+) implements DocumentedDto {
+    
+    @Override
+    public FieldDocumentation getFieldDocumentation() {
+        return FieldDocumentation.builder()
+                .field("requestId", "쿠폰 발급 요청 ID", "COUPON_REQ_1_1_1735689600000")
+                .field("userId", "사용자 ID", "1")
+                .field("couponId", "쿠폰 ID", "1")
+                .field("resultCode", "처리 상태 코드", "PENDING")
+                .field("message", "처리 결과 메시지", "쿠폰 발급 처리 중")
+                .field("couponHistoryId", "발급된 쿠폰 히스토리 ID (성공 시)", "1")
+                .field("processedAt", "처리 완료일시", "2025-01-01T00:00:00")
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package kr.hhplus.be.server.api.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import kr.hhplus.be.server.api.docs.schema.DocumentedDto;
+import kr.hhplus.be.server.api.docs.schema.FieldDocumentation;
+
+import java.util.List;
+
+@Schema(description = "쿠폰 지갑 응답")
+public record CouponWalletResponse(
+        @Schema(description = "사용 가능한 쿠폰 목록 (발급일시 내림차순)")
+        List<CouponResponse> coupons,
+        
+        @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "1735689600000000_42")
+        String nextCursor
+) implements DocumentedDto {
+    
+    @Override
+    public FieldDocumentation getFieldDocumentation() {
+        return FieldDocumentation.builder()
+                .field("coupons", "사용 가능한 쿠폰 목록 (발급일시 내림차순)", "[]")
+                .field("nextCursor", "다음 페이지 커서 (마지막 페이지면 null)", "1735689600000000_42")
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.api.scheduler;
+
+import kr.hhplus.be.server.domain.usecase.balance.RollBalanceSnapshotUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 잔액 스냅샷 롤포워드 스케줄러
+ * 스냅샷에 반영되지 않은 잔액 원장을 주기적으로 balances에 합산합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "balance.snapshot.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class BalanceSnapshotScheduler {
+    
+    private final RollBalanceSnapshotUseCase rollBalanceSnapshotUseCase;
+    
+    @Scheduled(fixedDelayString = "${balance.snapshot.interval-ms:1000}")
+    public void rollForward() {
+        try {
+            rollBalanceSnapshotUseCase.execute();
+        } catch (Exception e) {
+            log.error("잔액 스냅샷 롤포워드 중 오류 발생", e);
+        }
+    }
+}
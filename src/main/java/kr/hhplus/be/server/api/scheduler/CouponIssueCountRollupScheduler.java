@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.api.scheduler;
+
+import kr.hhplus.be.server.domain.usecase.coupon.RollupCouponIssuedCountUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 쿠폰 발급 수량 롤업 스케줄러
+ * 슬롯 카운터 모드에서만 동작하며, 슬롯 합계를 주기적으로 쿠폰 행에 반영합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "coupon.issue-counter.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class CouponIssueCountRollupScheduler {
+    
+    private final RollupCouponIssuedCountUseCase rollupCouponIssuedCountUseCase;
+    
+    @Scheduled(fixedDelayString = "${coupon.issue-counter.rollup-interval-ms:1000}")
+    public void rollupIssuedCounts() {
+        try {
+            rollupCouponIssuedCountUseCase.execute();
+        } catch (Exception e) {
+            log.error("쿠폰 발급 수량 롤업 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.api.scheduler;
+
+import kr.hhplus.be.server.adapter.event.EventOutboxRelay;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트 아웃박스 릴레이 스케줄러
+ * 아웃박스(EventLog)에 쌓인 PENDING 이벤트를 주기적으로 Kafka로 전송합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "event.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class EventOutboxRelayScheduler {
+    
+    private final EventOutboxRelay eventOutboxRelay;
+    
+    @Scheduled(fixedDelayString = "${event.outbox.relay.interval-ms:100}")
+    public void relay() {
+        try {
+            eventOutboxRelay.relay();
+        } catch (Exception e) {
+            log.error("이벤트 아웃박스 릴레이 중 오류 발생", e);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.api.scheduler;
+
+import kr.hhplus.be.server.domain.usecase.product.ReconcileInventoryLedgerUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재고 원장 리컨사일 스케줄러
+ * 재고 원장 모드에서만 동작하며, 원장의 반영 대기 변경량을 주기적으로 product 테이블에 반영합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "product.inventory-ledger.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class InventoryLedgerReconcileScheduler {
+    
+    private final ReconcileInventoryLedgerUseCase reconcileInventoryLedgerUseCase;
+    
+    @Scheduled(fixedDelayString = "${product.inventory-ledger.reconcile-interval-ms:1000}")
+    public void reconcile() {
+        try {
+            reconcileInventoryLedgerUseCase.execute();
+        } catch (Exception e) {
+            log.error("재고 원장 DB 반영 중 오류 발생", e);
+        }
+    }
+}
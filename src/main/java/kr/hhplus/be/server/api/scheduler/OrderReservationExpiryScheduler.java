@@ -0,0 +1,87 @@
+package kr.hhplus.be.server.api.scheduler;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import kr.hhplus.be.server.domain.usecase.order.ExpireOrderReservationsUseCase;
+import kr.hhplus.be.server.domain.usecase.order.ExpireOrderReservationsUseCase.ExpiryResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 재고 예약 만료 스케줄러
+ * 예약 만료 모드에서만 동작하며, 결제되지 않은 채 TTL이 지난 주문의 예약 재고를 해제하고 관련 지표를 노출합니다.
+ *
+ * 지표:
+ * - order.reservation.expired.orders / order.reservation.released.quantity: 만료 주문 수, 해제 수량 누계
+ * - order.reservation.reserved.unpaid: 결제 대기 중인 예약 재고 합계 (재고 원장 상품은 DB 반영 주기만큼 지연)
+ * - order.reservation.expiry.pending: 만료 대기열 크기
+ */
+@Component
+@ConditionalOnProperty(name = "order.reservation.expiry.enabled", havingValue = "true")
+@RequiredArgsConstructor
+@Slf4j
+public class OrderReservationExpiryScheduler {
+
+    private static final String METRIC_PREFIX = "order.reservation";
+
+    private final ExpireOrderReservationsUseCase expireOrderReservationsUseCase;
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicLong reservedUnpaidStock = new AtomicLong();
+    private final AtomicLong pendingExpiryCount = new AtomicLong();
+
+    private Counter expiredOrderCounter;
+    private Counter releasedQuantityCounter;
+
+    @PostConstruct
+    public void registerMetrics() {
+        expiredOrderCounter = Counter.builder(METRIC_PREFIX + ".expired.orders").register(meterRegistry);
+        releasedQuantityCounter = Counter.builder(METRIC_PREFIX + ".released.quantity").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".reserved.unpaid", reservedUnpaidStock, AtomicLong::get)
+                .description("결제 대기 중인 예약 재고 합계")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".expiry.pending", pendingExpiryCount, AtomicLong::get)
+                .description("만료 대기열 크기")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.reservation.expiry.sweep-interval-ms:1000}")
+    public void expire() {
+        try {
+            record(expireOrderReservationsUseCase.execute());
+        } catch (Exception e) {
+            log.error("주문 예약 만료 처리 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.reservation.expiry.stale-scan-interval-ms:60000}")
+    public void sweepStale() {
+        try {
+            record(expireOrderReservationsUseCase.sweepStale());
+        } catch (Exception e) {
+            log.error("만료 주문 DB 재확인 중 오류 발생", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${order.reservation.expiry.metrics-interval-ms:10000}")
+    public void refreshMetrics() {
+        try {
+            reservedUnpaidStock.set(expireOrderReservationsUseCase.reservedUnpaidStock());
+            pendingExpiryCount.set(expireOrderReservationsUseCase.pendingExpiryCount());
+        } catch (Exception e) {
+            log.warn("주문 예약 지표 갱신 실패", e);
+        }
+    }
+
+    private void record(ExpiryResult result) {
+        expiredOrderCounter.increment(result.expiredOrders());
+        releasedQuantityCounter.increment(result.releasedQuantity());
+    }
+}
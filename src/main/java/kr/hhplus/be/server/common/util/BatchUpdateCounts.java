@@ -0,0 +1,30 @@
+package kr.hhplus.be.server.common.util;
+
+import java.sql.Statement;
+
+/**
+ * JDBC 배치 조건부 UPDATE 결과 검증
+ *
+ * 호출 측은 행별 갱신 수(0 또는 1)로 조건 충족 여부를 판단합니다.
+ * MySQL 드라이버의 rewriteBatchedStatements=true는 UPDATE 배치를 다중 문장으로 보내 문장별 갱신 수를 돌려주지만,
+ * 다중 VALUES INSERT로 재작성되는 문장처럼 SUCCESS_NO_INFO(-2)가 돌아오면 행별 결과를 알 수 없으므로
+ * 조건 실패로 잘못 판단하지 않도록 즉시 실패합니다.
+ */
+public final class BatchUpdateCounts {
+
+    private BatchUpdateCounts() {
+    }
+
+    /**
+     * @return 행별 갱신 수가 모두 있으면 그대로 반환
+     * @throws IllegalStateException 행별 갱신 수를 알 수 없는 결과가 포함된 경우
+     */
+    public static int[] requireRowCounts(String sql, int[] counts) {
+        for (int count : counts) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                throw new IllegalStateException("배치 UPDATE의 행별 갱신 수를 알 수 없습니다: " + sql);
+            }
+        }
+        return counts;
+    }
+}
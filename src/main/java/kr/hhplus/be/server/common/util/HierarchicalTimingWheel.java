@@ -0,0 +1,210 @@
+package kr.hhplus.be.server.common.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 계층형 타이밍 휠
+ *
+ * 만료 시각을 tick 단위로 올림한 뒤, 지연 시간에 맞는 레벨의 슬롯에 등록합니다.
+ * - 레벨 0: tickMs 단위 슬롯 wheelSize개
+ * - 레벨 n: tickMs * wheelSize^n 단위 슬롯 wheelSize개
+ * - 최상위 레벨 범위를 넘는 작업은 overflow에 보관 후 최상위 레벨이 한 바퀴 돌 때마다 재배치
+ *
+ * 시간이 상위 레벨의 슬롯 경계를 지나면 해당 슬롯의 작업을 하위 레벨로 내려보내고(cascade),
+ * 레벨 0 슬롯에 도달한 작업만 실행 대상으로 반환합니다.
+ * 등록/취소는 O(1)이며, 작업은 만료 시각 이전에 반환되지 않습니다.
+ *
+ * 시계를 직접 읽지 않으므로 호출자가 advance(now)로 시간을 진행시켜야 합니다.
+ * 요청 스레드(가상 스레드 포함)가 등록 중 경합해도 캐리어 스레드에 고정되지 않도록 모니터 대신 ReentrantLock을 사용합니다.
+ */
+public class HierarchicalTimingWheel {
+
+    private final long tickMs;
+    private final int wheelSize;
+    private final int levelCount;
+    private final List<List<List<Timeout>>> levels;
+    private final List<Timeout> overflow = new ArrayList<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private long currentTimeMs;
+    private int pendingCount;
+
+    public HierarchicalTimingWheel(long tickMs, int wheelSize, int levelCount, long startTimeMs) {
+        if (tickMs <= 0 || wheelSize < 2 || levelCount < 1) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration");
+        }
+        this.tickMs = tickMs;
+        this.wheelSize = wheelSize;
+        this.levelCount = levelCount;
+        this.currentTimeMs = startTimeMs - Math.floorMod(startTimeMs, tickMs);
+        this.levels = new ArrayList<>(levelCount);
+        for (int level = 0; level < levelCount; level++) {
+            List<List<Timeout>> slots = new ArrayList<>(wheelSize);
+            for (int slot = 0; slot < wheelSize; slot++) {
+                slots.add(new ArrayList<>());
+            }
+            levels.add(slots);
+        }
+    }
+
+    /**
+     * 등록된 작업 핸들
+     */
+    public static final class Timeout {
+        private final long deadlineMs;
+        private final Runnable task;
+        private volatile boolean cancelled;
+
+        private Timeout(long deadlineMs, Runnable task) {
+            this.deadlineMs = deadlineMs;
+            this.task = task;
+        }
+
+        /**
+         * 실행 전이라면 작업을 취소합니다. (슬롯에서는 도달 시점에 제거)
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+    /**
+     * 만료 시각에 실행할 작업을 등록합니다.
+     *
+     * @param expirationMs 실행 시각 (epoch millis)
+     * @param task 실행할 작업
+     * @return 작업 핸들, 이미 만료 시각이 지난 경우 null (호출자가 즉시 실행)
+     */
+    public Timeout schedule(long expirationMs, Runnable task) {
+        // tick 경계로 올림하여 만료 시각보다 일찍 실행되지 않도록 보장
+        long deadlineMs = Math.floorDiv(expirationMs + tickMs - 1, tickMs) * tickMs;
+        Timeout timeout = new Timeout(deadlineMs, task);
+
+        lock.lock();
+        try {
+            if (!place(timeout)) {
+                return null;
+            }
+            pendingCount++;
+            return timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 지정한 시각까지 시간을 진행시키고 실행할 작업을 반환합니다.
+     * 작업 실행은 락 밖에서 호출자가 수행합니다.
+     *
+     * @param nowMs 현재 시각 (epoch millis)
+     * @return 실행 시각에 도달한 작업 목록 (취소된 작업 제외)
+     */
+    public List<Runnable> advance(long nowMs) {
+        List<Runnable> due = new ArrayList<>();
+
+        lock.lock();
+        try {
+            while (currentTimeMs + tickMs <= nowMs) {
+                currentTimeMs += tickMs;
+
+                // 상위 레벨부터 경계를 지난 슬롯을 하위 레벨로 내려보냄
+                long topSpanMs = levelTickMs(levelCount);
+                if (currentTimeMs % topSpanMs == 0) {
+                    List<Timeout> entries = new ArrayList<>(overflow);
+                    overflow.clear();
+                    cascade(entries, due);
+                }
+                for (int level = levelCount - 1; level >= 1; level--) {
+                    long levelTickMs = levelTickMs(level);
+                    if (currentTimeMs % levelTickMs == 0) {
+                        List<Timeout> bucket = levels.get(level).get(slotIndex(currentTimeMs, levelTickMs));
+                        List<Timeout> entries = new ArrayList<>(bucket);
+                        bucket.clear();
+                        cascade(entries, due);
+                    }
+                }
+
+                List<Timeout> bucket = levels.get(0).get(slotIndex(currentTimeMs, tickMs));
+                for (Timeout timeout : bucket) {
+                    collect(timeout, due);
+                }
+                bucket.clear();
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return due;
+    }
+
+    /**
+     * 실행 대기 중인 작업 수 (취소되었지만 아직 슬롯에 남은 작업 포함)
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return pendingCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getTickMs() {
+        return tickMs;
+    }
+
+    private void cascade(List<Timeout> entries, List<Runnable> due) {
+        for (Timeout timeout : entries) {
+            if (!place(timeout)) {
+                collect(timeout, due);
+            }
+        }
+    }
+
+    private void collect(Timeout timeout, List<Runnable> due) {
+        pendingCount--;
+        if (!timeout.cancelled) {
+            due.add(timeout.task);
+        }
+    }
+
+    /**
+     * 남은 지연 시간에 맞는 가장 낮은 레벨에 배치합니다.
+     *
+     * @return 배치 여부 (false면 이미 실행 시각 도달)
+     */
+    private boolean place(Timeout timeout) {
+        long delayMs = timeout.deadlineMs - currentTimeMs;
+        if (delayMs <= 0) {
+            return false;
+        }
+
+        for (int level = 0; level < levelCount; level++) {
+            long levelTickMs = levelTickMs(level);
+            if (delayMs < levelTickMs * wheelSize) {
+                levels.get(level).get(slotIndex(timeout.deadlineMs, levelTickMs)).add(timeout);
+                return true;
+            }
+        }
+
+        overflow.add(timeout);
+        return true;
+    }
+
+    private long levelTickMs(int level) {
+        long value = tickMs;
+        for (int i = 0; i < level; i++) {
+            value *= wheelSize;
+        }
+        return value;
+    }
+
+    private int slotIndex(long timeMs, long levelTickMs) {
+        return (int) Math.floorMod(Math.floorDiv(timeMs, levelTickMs), (long) wheelSize);
+    }
+}
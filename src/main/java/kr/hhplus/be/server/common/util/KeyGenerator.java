@@ -2,6 +2,9 @@ package kr.hhplus.be.server.common.util;
 
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 분산락 및 캐시 키 생성
  * 
@@ -23,6 +26,8 @@ public class KeyGenerator {
     private static final String ORDER_DOMAIN = "order";
     private static final String COUPON_DOMAIN = "coupon";
     private static final String PAYMENT_DOMAIN = "payment";
+    private static final String INVENTORY_DOMAIN = "inventory";
+    private static final String EVENT_DOMAIN = "event";
     
     // Resource types
     private static final String CREATE_RESOURCE = "create";
@@ -37,6 +42,13 @@ public class KeyGenerator {
     private static final String RANKING_TYPE = "ranking";
     private static final String COUNTER_TYPE = "counter";
     private static final String USER_TYPE = "user";
+    private static final String RESULT_TYPE = "result";
+    private static final String STOCK_TYPE = "stock";
+    private static final String SOLD_OUT_TYPE = "soldout";
+    private static final String BLOOM_TYPE = "bloom";
+    private static final String WALLET_TYPE = "wallet";
+    private static final String LEDGER_TYPE = "ledger";
+    private static final String HOLD_TYPE = "hold";
     
     private static final String SEPARATOR = ":";
     
@@ -113,22 +125,6 @@ public class KeyGenerator {
         return String.join(SEPARATOR, COUPON_DOMAIN, USE_RESOURCE, "user_" + userId + "_coupon_" + couponId);
     }
     
-    /**
-     * 복합 락 키 생성 (여러 리소스를 동시에 잠글 때)
-     * 주문 생성 시 여러 상품의 재고를 동시에 차감할 때 사용
-     * 
-     * @param userId 사용자 ID
-     * @param productIds 상품 ID 리스트 (정렬된 상태로 전달되어야 함)
-     * @return 복합 락 키 (예: order:create_multi:user_1:products_1_2_3)
-     */
-    public String generateOrderCreateMultiProductKey(Long userId, Long... productIds) {
-        java.util.Arrays.sort(productIds); // How: 항상 동일한 순서로 락 획득하여 데드락 방지
-        String productList = java.util.Arrays.stream(productIds)
-            .map(String::valueOf)
-            .collect(java.util.stream.Collectors.joining("_"));
-        
-        return String.join(SEPARATOR, ORDER_DOMAIN, "create_multi", "user_" + userId, "products_" + productList);
-    }
     
     // Why: 사용자 차단/정지 등 관리 목적의 전역 락 필요
     public String generateUserGlobalKey(Long userId) {
@@ -229,13 +225,11 @@ public class KeyGenerator {
     }
     
     /**
+     * 사용자 쿠폰 지갑 (사용 가능한 쿠폰 히스토리 ID Sorted Set)
      * @param userId 사용자 ID
-     * @param limit 조회 개수
-     * @param offset 오프셋
      */
-    public String generateCouponListCacheKey(Long userId, int limit, int offset) {
-        return String.join(SEPARATOR, COUPON_DOMAIN, LIST_TYPE, 
-            "user_" + userId + "_limit_" + limit + "_offset_" + offset);
+    public String generateCouponWalletKey(Long userId) {
+        return String.join(SEPARATOR, COUPON_DOMAIN, WALLET_TYPE, "user_" + userId);
     }
     
     /**
@@ -303,15 +297,6 @@ public class KeyGenerator {
         return String.join(SEPARATOR, ORDER_DOMAIN, LIST_TYPE, "user_" + userId + "_*");
     }
     
-    /**
-     * 사용자 쿠폰 목록 캐시 무효화 패턴
-     * @param userId 사용자 ID
-     * @return 무효화 패턴 (예: "coupon:list:user_1_*")
-     */
-    public String generateCouponListCachePattern(Long userId) {
-        return String.join(SEPARATOR, COUPON_DOMAIN, LIST_TYPE, "user_" + userId + "_*");
-    }
-    
     /**
      * 상품 관련 모든 캐시 무효화 패턴
      * @param productId 상품 ID
@@ -357,6 +342,159 @@ public class KeyGenerator {
         return String.join(SEPARATOR, COUPON_DOMAIN, USER_TYPE, "coupon_" + couponId + "_user_" + userId);
     }
     
+    /**
+     * 비동기 쿠폰 발급 요청 결과 캐시 키 생성
+     * 
+     * @param requestId 쿠폰 발급 요청 ID
+     * @return 결과 캐시 키 (예: coupon:result:COUPON_REQ_1_1_1700000000000)
+     */
+    public String generateCouponRequestResultKey(String requestId) {
+        return String.join(SEPARATOR, COUPON_DOMAIN, RESULT_TYPE, requestId);
+    }
+    
+    /**
+     * 샤딩된 쿠폰 재고 카운터 키 목록 생성
+     * 
+     * @param couponId 쿠폰 ID
+     * @param shardCount 샤드 개수
+     * @return 샤드 순서대로 정렬된 재고 키 (예: coupon:stock:coupon_1_shard_0)
+     */
+    public List<String> generateCouponStockShardKeys(Long couponId, int shardCount) {
+        List<String> shardKeys = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shardKeys.add(String.join(SEPARATOR, COUPON_DOMAIN, STOCK_TYPE, "coupon_" + couponId + "_shard_" + shard));
+        }
+        return shardKeys;
+    }
+    
+    /**
+     * 쿠폰 전체 품절 플래그 키 생성
+     * 
+     * @param couponId 쿠폰 ID
+     * @return 품절 플래그 키 (예: coupon:soldout:coupon_1)
+     */
+    public String generateCouponSoldOutKey(Long couponId) {
+        return String.join(SEPARATOR, COUPON_DOMAIN, SOLD_OUT_TYPE, "coupon_" + couponId);
+    }
+    
+    /**
+     * 쿠폰 발급 여부 Bloom 필터 비트맵 키 생성
+     * 
+     * @param couponId 쿠폰 ID
+     * @return Bloom 필터 키 (예: coupon:bloom:coupon_1)
+     */
+    public String generateCouponIssueFilterKey(Long couponId) {
+        return String.join(SEPARATOR, COUPON_DOMAIN, BLOOM_TYPE, "coupon_" + couponId);
+    }
+    
+    /**
+     * 쿠폰 발급 여부 Bloom 필터 설정(비트 수, 해시 수) 키 생성
+     * 
+     * @param couponId 쿠폰 ID
+     * @return Bloom 필터 설정 키 (예: coupon:bloom:coupon_1_meta)
+     */
+    public String generateCouponIssueFilterMetaKey(Long couponId) {
+        return String.join(SEPARATOR, COUPON_DOMAIN, BLOOM_TYPE, "coupon_" + couponId + "_meta");
+    }
+    
+    // ========================= 재고 원장 키 생성 메서드들 =========================
+    
+    /**
+     * 상품 재고 원장 키 생성
+     * product 도메인의 캐시 무효화 패턴(product:*:product_1*)에 걸리지 않도록 별도 도메인을 사용
+     * 
+     * @param productId 상품 ID
+     * @return 재고 원장 키 (예: inventory:ledger:product_1)
+     */
+    public String generateInventoryLedgerKey(Long productId) {
+        return String.join(SEPARATOR, INVENTORY_DOMAIN, LEDGER_TYPE, "product_" + productId);
+    }
+    
+    /**
+     * DB 반영 대기 델타가 있는 상품 ID 집합 키 생성
+     * 
+     * @return 반영 대기 집합 키 (예: inventory:ledger:dirty)
+     */
+    public String generateInventoryLedgerDirtyKey() {
+        return String.join(SEPARATOR, INVENTORY_DOMAIN, LEDGER_TYPE, "dirty");
+    }
+    
+    /**
+     * DB 반영 중(꺼낸 뒤 확인 전) 변경량이 있는 상품 ID 집합 키 생성 (score = 꺼낸 시각)
+     * 
+     * @return 반영 중 집합 키 (예: inventory:ledger:inflight)
+     */
+    public String generateInventoryLedgerInflightKey() {
+        return String.join(SEPARATOR, INVENTORY_DOMAIN, LEDGER_TYPE, "inflight");
+    }
+
+    /**
+     * 재고 액터 소유권 이전 시 넘겨주는 명령 기록 키 생성
+     *
+     * @param partition inventory.commands 파티션
+     * @return 명령 기록 키 (예: inventory:actor:partition_1:commands)
+     */
+    public String generateInventoryActorCommandHistoryKey(int partition) {
+        return String.join(SEPARATOR, INVENTORY_DOMAIN, "actor", "partition_" + partition, "commands");
+    }
+
+    /**
+     * 재고 액터 보상(되돌리기) 실패분 재시도 대기열 키 생성
+     *
+     * @return 보상 실패 대기열 키 (예: inventory:actor:failed_compensations)
+     */
+    public String generateInventoryActorFailedCompensationKey() {
+        return String.join(SEPARATOR, INVENTORY_DOMAIN, "actor", "failed_compensations");
+    }
+    
+    /**
+     * 주문 재고 예약 만료 시각 ZSET 키 생성 (score = 만료 시각 epoch ms, member = 주문 ID)
+     * 
+     * @return 예약 만료 대기열 키 (예: order:reservation:deadlines)
+     */
+    public String generateOrderReservationDeadlineKey() {
+        return String.join(SEPARATOR, ORDER_DOMAIN, "reservation", "deadlines");
+    }
+    
+    /**
+     * 잔액 차감 가능 금액(홀드) 키 생성
+     * 
+     * @param userId 사용자 ID
+     * @return 홀드 키 (예: balance:hold:user_1)
+     */
+    public String generateBalanceHoldKey(Long userId) {
+        return String.join(SEPARATOR, BALANCE_DOMAIN, HOLD_TYPE, "user_" + userId);
+    }
+
+    /**
+     * 잔액 홀드 구성 표시 키 생성
+     *
+     * @param userId 사용자 ID
+     * @return 구성 표시 키 (예: balance:hold:user_1:loading)
+     */
+    public String generateBalanceHoldLoadingKey(Long userId) {
+        return String.join(SEPARATOR, BALANCE_DOMAIN, HOLD_TYPE, "user_" + userId, "loading");
+    }
+
+    /**
+     * 잔액 홀드 진행 중인 충전/차감 키 생성
+     *
+     * @param userId 사용자 ID
+     * @return 진행 중 목록 키 (예: balance:hold:user_1:inflight)
+     */
+    public String generateBalanceHoldInflightKey(Long userId) {
+        return String.join(SEPARATOR, BALANCE_DOMAIN, HOLD_TYPE, "user_" + userId, "inflight");
+    }
+    
+    /**
+     * 이벤트 아웃박스 릴레이 락 키 생성 (노드 간 릴레이 단일 실행)
+     * 
+     * @return 릴레이 락 키 (예: event:outbox:relay)
+     */
+    public String generateEventOutboxRelayKey() {
+        return String.join(SEPARATOR, EVENT_DOMAIN, "outbox", "relay");
+    }
+    
     // ========================= Phase 4: 이벤트 기반 캐시 무효화를 위한 메서드들 =========================
     
     /**
@@ -0,0 +1,97 @@
+package kr.hhplus.be.server.common.util;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 독립적인 조회를 가상 스레드로 동시에 실행하는 구조적 팬아웃
+ *
+ * try-with-resources 블록이 하위 작업의 수명을 한정합니다. (StructuredTaskScope.ShutdownOnFailure와 같은 의미)
+ * - fork: 작업마다 가상 스레드 하나에서 실행
+ * - join: 모든 작업 완료까지 대기, 하나라도 실패하면 나머지를 취소(인터럽트)하고 첫 실패를 다시 던짐
+ * - close: 블록을 벗어날 때 끝나지 않은 작업을 취소하고 종료까지 대기 (호출 측 예외 시 형제 작업 정리)
+ *
+ * 하위 작업은 호출 스레드의 트랜잭션/커넥션에 참여하지 않으므로 캐시처럼 트랜잭션과 무관한 조회에만 사용합니다.
+ * (StructuredTaskScope는 Java 21에서 preview API이므로 같은 동작을 가상 스레드 실행기로 구성)
+ */
+public final class StructuredFanOut implements AutoCloseable {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final List<Future<?>> forks = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Throwable> firstFailure = new AtomicReference<>();
+
+    /**
+     * 작업을 가상 스레드에서 시작합니다.
+     *
+     * @return join 이후에 결과를 반환하는 핸들
+     */
+    public <T> Supplier<T> fork(Callable<T> task) {
+        Future<T> future = executor.submit(() -> {
+            try {
+                return task.call();
+            } catch (Exception | Error e) {
+                if (firstFailure.compareAndSet(null, e)) {
+                    cancelAll();
+                }
+                throw e;
+            }
+        });
+        forks.add(future);
+        if (firstFailure.get() != null) {
+            // 다른 작업이 이미 실패했으면 등록 직후 취소
+            future.cancel(true);
+        }
+        return future::resultNow;
+    }
+
+    /**
+     * 모든 작업의 완료를 기다립니다.
+     *
+     * @throws RuntimeException 실패한 첫 작업의 예외 (검사 예외는 CompletionException으로 감쌈)
+     */
+    public void join() {
+        try {
+            for (Future<?> fork : forks) {
+                try {
+                    fork.get();
+                } catch (ExecutionException | CancellationException e) {
+                    // 실패 원인은 firstFailure에 기록됨
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelAll();
+            throw new CompletionException(e);
+        }
+
+        Throwable failure = firstFailure.get();
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        if (failure != null) {
+            throw new CompletionException(failure);
+        }
+    }
+
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    private void cancelAll() {
+        forks.forEach(fork -> fork.cancel(true));
+    }
+}
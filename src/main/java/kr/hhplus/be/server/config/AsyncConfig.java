@@ -2,8 +2,10 @@ package kr.hhplus.be.server.config;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
@@ -17,6 +19,10 @@ import java.util.concurrent.ThreadPoolExecutor;
  * 
  * @Async 어노테이션 사용 시 기본 SimpleAsyncTaskExecutor 대신
  * 제한된 스레드풀을 사용하여 리소스 제어 및 성능 최적화
+ *
+ * spring.threads.virtual.enabled=true(가상 스레드 모드)이면 스레드풀 대신
+ * 작업마다 가상 스레드를 만들고 동시 실행 수만 제한합니다.
+ * (같은 설정으로 Spring Boot가 Tomcat 요청 처리와 스케줄러를 가상 스레드로 전환)
  */
 @Slf4j
 @Configuration
@@ -24,6 +30,12 @@ import java.util.concurrent.ThreadPoolExecutor;
 @EnableScheduling
 public class AsyncConfig implements AsyncConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Value("${async.virtual-concurrency-limit:100}")
+    private int virtualConcurrencyLimit;
+
     /**
      * 기본 비동기 실행기
      * 
@@ -35,6 +47,10 @@ public class AsyncConfig implements AsyncConfigurer {
     @Override
     @Bean(name = "defaultExecutor")
     public Executor getAsyncExecutor() {
+        if (virtualThreads) {
+            return virtualThreadExecutor();
+        }
+
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         
         // 스레드풀 기본 설정
@@ -53,6 +69,21 @@ public class AsyncConfig implements AsyncConfigurer {
         return executor;
     }
 
+    /**
+     * 가상 스레드 비동기 실행기
+     *
+     * 블로킹 I/O 동안 캐리어 스레드를 반납하므로 스레드 수가 처리량 한도가 되지 않습니다.
+     * 대신 DB 커넥션 풀 등 하위 자원이 한도가 되므로 동시 실행 수를 제한하고,
+     * 한도에 도달하면 호출자가 대기하여 기존 CallerRunsPolicy와 같은 백프레셔를 적용합니다.
+     */
+    private Executor virtualThreadExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("Async-vt-");
+        executor.setVirtualThreads(true);
+        executor.setConcurrencyLimit(virtualConcurrencyLimit);
+        log.info("가상 스레드 비동기 실행기 사용: concurrencyLimit={}", virtualConcurrencyLimit);
+        return executor;
+    }
+
 
     /**
      * 비동기 작업에서 발생하는 예외 처리
@@ -16,7 +16,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
     havingValue = "true", 
     matchIfMissing = true  // 기본값은 true
 )
-@EnableJpaRepositories(basePackages = "kr.hhplus.be.server.domain.port.storage")
+// 저장소 포트(인터페이스)는 domain.port.storage, 배치 조각(*BatchRepositoryImpl) JDBC 구현은 adapter.storage에서 찾음
+@EnableJpaRepositories(basePackages = {
+    "kr.hhplus.be.server.domain.port.storage",
+    "kr.hhplus.be.server.adapter.storage"
+})
 public class JpaConfig {
     // JPA 관련 추가 설정이 필요한 경우 여기에 추가
 }
\ No newline at end of file
@@ -6,11 +6,14 @@ import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
 import org.springframework.kafka.support.serializer.JsonSerializer;
@@ -27,6 +30,9 @@ import java.util.Map;
  * - external-events: 외부 데이터 플랫폼 연동 이벤트
  * - coupon-requests: 선착순 쿠폰 요청 이벤트
  * - coupon-results: 선착순 쿠폰 처리 결과 이벤트
+ * - inventory.commands / inventory.replies: 재고 액터 명령 전달과 응답 (product.inventory-ledger.engine=actor)
+ *
+ * spring.threads.virtual.enabled=true이면 모든 리스너 컨테이너의 컨슈머 스레드를 가상 스레드로 실행합니다.
  */
 @Slf4j
 @Configuration
@@ -39,6 +45,12 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id:hhplus-server}")
     private String groupId;
 
+    @Value("${product.inventory-ledger.actor.partitions:6}")
+    private int inventoryCommandPartitions;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
     /**
      * Kafka용 ObjectMapper 설정
      * 
@@ -194,6 +206,7 @@ public class KafkaConfig {
         factory.setConcurrency(3); // 파티션 수와 동일하게 설정
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         
+        applyListenerTaskExecutor(factory);
         return factory;
     }
 
@@ -223,6 +236,7 @@ public class KafkaConfig {
             }
         ));
         
+        applyListenerTaskExecutor(factory);
         return factory;
     }
 
@@ -253,6 +267,38 @@ public class KafkaConfig {
             }
         ));
         
+        applyListenerTaskExecutor(factory);
+        return factory;
+    }
+
+    /**
+     * 쿠폰 요청 배치 Listener Container Factory
+     * 
+     * poll 단위로 요청을 묶어 쿠폰별 일괄 발급을 처리합니다.
+     * ACK는 배치 단위로 커밋됩니다.
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, kr.hhplus.be.server.domain.event.CouponRequestEvent> couponRequestBatchKafkaListenerContainerFactory(ConsumerFactory<String, kr.hhplus.be.server.domain.event.CouponRequestEvent> couponRequestConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, kr.hhplus.be.server.domain.event.CouponRequestEvent> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        
+        factory.setConsumerFactory(couponRequestConsumerFactory);
+        factory.setBatchListener(true);
+        
+        // 동시성 설정 - 파티션 수와 동일하게 설정
+        factory.setConcurrency(3);
+        
+        // 수동 ACK 모드 - 배치 처리 완료 후 명시적으로 커밋
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler(
+            (record, exception) -> {
+                log.error("쿠폰 요청 배치 처리 실패: topic={}, key={}, value={}", 
+                         record.topic(), record.key(), record.value(), exception);
+            }
+        ));
+        
+        applyListenerTaskExecutor(factory);
         return factory;
     }
 
@@ -275,6 +321,7 @@ public class KafkaConfig {
             }
         ));
         
+        applyListenerTaskExecutor(factory);
         return factory;
     }
 
@@ -302,6 +349,7 @@ public class KafkaConfig {
             }
         ));
         
+        applyListenerTaskExecutor(factory);
         return factory;
     }
 
@@ -352,6 +400,119 @@ public class KafkaConfig {
             }
         ));
         
+        applyListenerTaskExecutor(factory);
+        return factory;
+    }
+
+    /**
+     * 재고 액터 명령용 Consumer Factory
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+    public ConsumerFactory<String, kr.hhplus.be.server.domain.event.StockCommandEvent> stockCommandConsumerFactory(ObjectMapper kafkaObjectMapper) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "inventory-actor-group");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, 
+            "org.springframework.kafka.support.serializer.ErrorHandlingDeserializer");
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, 
+            "org.springframework.kafka.support.serializer.ErrorHandlingDeserializer");
+        
+        props.put("spring.deserializer.key.delegate.class", StringDeserializer.class.getName());
+        props.put("spring.deserializer.value.delegate.class", JsonDeserializer.class.getName());
+        
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, 
+            "kr.hhplus.be.server.domain.event.StockCommandEvent");
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    /**
+     * 재고 액터 명령용 Listener Container Factory
+     * 
+     * 파티션 할당이 곧 상품 소유권이므로, 리밸런스 리스너로 액터를 띄우고 내립니다.
+     * 파티션마다 컨슈머 스레드 하나가 소유 액터에 명령을 순서대로 넘깁니다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+    public ConcurrentKafkaListenerContainerFactory<String, kr.hhplus.be.server.domain.event.StockCommandEvent> inventoryCommandKafkaListenerContainerFactory(
+            ConsumerFactory<String, kr.hhplus.be.server.domain.event.StockCommandEvent> stockCommandConsumerFactory,
+            ConsumerAwareRebalanceListener inventoryRebalanceListener) {
+        ConcurrentKafkaListenerContainerFactory<String, kr.hhplus.be.server.domain.event.StockCommandEvent> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        
+        factory.setConsumerFactory(stockCommandConsumerFactory);
+        factory.setConcurrency(inventoryCommandPartitions);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        factory.getContainerProperties().setConsumerRebalanceListener(inventoryRebalanceListener);
+        
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler(
+            (record, exception) -> {
+                log.error("재고 명령 처리 실패: topic={}, key={}, value={}", 
+                         record.topic(), record.key(), record.value(), exception);
+            }
+        ));
+        
+        applyListenerTaskExecutor(factory);
+        return factory;
+    }
+
+    /**
+     * 재고 액터 응답용 Consumer Factory
+     * 
+     * 노드별 그룹으로 기동 이후의 응답만 받습니다. (그룹 ID는 리스너에서 지정)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+    public ConsumerFactory<String, kr.hhplus.be.server.domain.event.StockReplyEvent> stockReplyConsumerFactory(ObjectMapper kafkaObjectMapper) {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, 
+            "org.springframework.kafka.support.serializer.ErrorHandlingDeserializer");
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, 
+            "org.springframework.kafka.support.serializer.ErrorHandlingDeserializer");
+        
+        props.put("spring.deserializer.key.delegate.class", StringDeserializer.class.getName());
+        props.put("spring.deserializer.value.delegate.class", JsonDeserializer.class.getName());
+        
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, 
+            "kr.hhplus.be.server.domain.event.StockReplyEvent");
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    /**
+     * 재고 액터 응답용 Listener Container Factory
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+    public ConcurrentKafkaListenerContainerFactory<String, kr.hhplus.be.server.domain.event.StockReplyEvent> inventoryReplyKafkaListenerContainerFactory(
+            ConsumerFactory<String, kr.hhplus.be.server.domain.event.StockReplyEvent> stockReplyConsumerFactory) {
+        ConcurrentKafkaListenerContainerFactory<String, kr.hhplus.be.server.domain.event.StockReplyEvent> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        
+        factory.setConsumerFactory(stockReplyConsumerFactory);
+        factory.setConcurrency(3);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
+        
+        factory.setCommonErrorHandler(new org.springframework.kafka.listener.DefaultErrorHandler(
+            (record, exception) -> {
+                log.error("재고 응답 처리 실패: topic={}, key={}, value={}", 
+                         record.topic(), record.key(), record.value(), exception);
+            }
+        ));
+        
+        applyListenerTaskExecutor(factory);
         return factory;
     }
 
@@ -443,4 +604,43 @@ public class KafkaConfig {
                 .replicas(1)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 재고 액터 명령 토픽 (productId 키, 파티션 = 상품 소유 단위)
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+    public org.apache.kafka.clients.admin.NewTopic inventoryCommandsTopic() {
+        return org.springframework.kafka.config.TopicBuilder.name("inventory.commands")
+                .partitions(inventoryCommandPartitions)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 재고 액터 응답 토픽
+     */
+    @Bean
+    @ConditionalOnProperty(name = "product.inventory-ledger.engine", havingValue = "actor")
+    public org.apache.kafka.clients.admin.NewTopic inventoryRepliesTopic() {
+        return org.springframework.kafka.config.TopicBuilder.name("inventory.replies")
+                .partitions(3)
+                .replicas(1)
+                .build();
+    }
+
+    /**
+     * 가상 스레드 모드에서 리스너 컨테이너의 컨슈머 스레드를 가상 스레드로 지정합니다.
+     *
+     * 자체 컨테이너 팩토리를 정의하면 Spring Boot의 자동 설정이 적용되지 않으므로 팩토리마다 직접 지정합니다.
+     * 컨슈머 스레드는 poll과 리스너의 블로킹 I/O(DB, Redis, 외부 API 호출) 동안 캐리어 스레드를 반납합니다.
+     */
+    private void applyListenerTaskExecutor(ConcurrentKafkaListenerContainerFactory<?, ?> factory) {
+        if (!virtualThreads) {
+            return;
+        }
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("kafka-vt-");
+        executor.setVirtualThreads(true);
+        factory.getContainerProperties().setListenerTaskExecutor(executor);
+    }
+}
@@ -0,0 +1,62 @@
+package kr.hhplus.be.server.domain.dto;
+
+import kr.hhplus.be.server.domain.entity.CouponHistory;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * 쿠폰 지갑 keyset 커서
+ * 
+ * 정렬 기준은 (발급 일시 내림차순, 히스토리 ID 내림차순)이며,
+ * 이전 페이지 마지막 항목의 (발급 일시, ID)를 "{epochMicros}_{couponHistoryId}" 문자열로 전달합니다.
+ * 발급 일시는 DATETIME(6) 정밀도와 맞추기 위해 마이크로초 단위로 표현합니다.
+ */
+public record CouponWalletCursor(long issuedAtMicros, long couponHistoryId) {
+    
+    private static final String DELIMITER = "_";
+    
+    public static CouponWalletCursor of(CouponHistory history) {
+        return new CouponWalletCursor(toMicros(history.getIssuedAt()), history.getId());
+    }
+    
+    /**
+     * @param cursor 커서 문자열 (null 또는 빈 값이면 첫 페이지)
+     * @return 커서, 첫 페이지면 null
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static CouponWalletCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        
+        String[] parts = cursor.split(DELIMITER);
+        try {
+            if (parts.length != 2) {
+                throw new NumberFormatException();
+            }
+            return new CouponWalletCursor(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid coupon wallet cursor: " + cursor);
+        }
+    }
+    
+    public String encode() {
+        return issuedAtMicros + DELIMITER + couponHistoryId;
+    }
+    
+    public LocalDateTime issuedAt() {
+        Instant instant = Instant.EPOCH.plus(issuedAtMicros, ChronoUnit.MICROS);
+        return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+    }
+    
+    /**
+     * 지갑 정렬 점수 (epoch 마이크로초, double로 2^53까지 정확히 표현됨)
+     */
+    public static long toMicros(LocalDateTime issuedAt) {
+        Instant instant = issuedAt.atZone(ZoneId.systemDefault()).toInstant();
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+}
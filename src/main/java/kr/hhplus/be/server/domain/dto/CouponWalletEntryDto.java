@@ -0,0 +1,11 @@
+package kr.hhplus.be.server.domain.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 지갑 인덱스 항목
+ * 
+ * 지갑 재구성 시 엔티티 전체를 로딩하지 않고 히스토리 ID와 정렬 기준(발급 일시)만 조회합니다.
+ */
+public record CouponWalletEntryDto(Long couponHistoryId, LocalDateTime issuedAt) {
+}
@@ -0,0 +1,14 @@
+package kr.hhplus.be.server.domain.dto;
+
+import kr.hhplus.be.server.domain.entity.CouponHistory;
+
+import java.util.List;
+
+/**
+ * 쿠폰 지갑 한 페이지
+ * 
+ * @param histories 사용 가능한 쿠폰 히스토리 (발급 일시 내림차순)
+ * @param nextCursor 다음 페이지 커서, 마지막 페이지면 null
+ */
+public record CouponWalletPage(List<CouponHistory> histories, String nextCursor) {
+}
@@ -0,0 +1,9 @@
+package kr.hhplus.be.server.domain.dto;
+
+/**
+ * 만료 대상 쿠폰 히스토리의 식별 정보
+ * 
+ * 만료 배치에서 엔티티 전체를 로딩하지 않고 UPDATE 대상 ID와 캐시 무효화 대상 사용자만 조회합니다.
+ */
+public record ExpiringCouponHistoryDto(Long historyId, Long userId) {
+}
@@ -0,0 +1,18 @@
+package kr.hhplus.be.server.domain.dto;
+
+import kr.hhplus.be.server.domain.entity.Order;
+
+import java.math.BigDecimal;
+
+/**
+ * 결제 검증용 조회 결과
+ * 
+ * 사용자 존재 여부, 주문, 기존 결제 존재 여부, 쿠폰 할인율을 한 번의 쿼리로 읽은 결과입니다.
+ * 
+ * @param order 주문 (없으면 null)
+ * @param userExists 사용자 존재 여부
+ * @param paid 해당 주문의 결제 존재 여부
+ * @param couponDiscountRate 쿠폰 할인율 (쿠폰을 요청하지 않았거나 없으면 null)
+ */
+public record OrderPaymentLookup(Order order, boolean userExists, boolean paid, BigDecimal couponDiscountRate) {
+}
@@ -0,0 +1,16 @@
+package kr.hhplus.be.server.domain.dto;
+
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.entity.Payment;
+
+import java.util.List;
+
+/**
+ * 주문 결제 결과
+ * 
+ * 결제 트랜잭션에서 이미 읽은 주문과 주문 항목을 함께 담아,
+ * 주문 완료 이벤트 발행과 결제 완료 주문 캐시 갱신을 재조회 없이 수행합니다.
+ */
+public record OrderPaymentResult(Order order, List<OrderItem> orderItems, Payment payment) {
+}
@@ -0,0 +1,29 @@
+package kr.hhplus.be.server.domain.dto;
+
+/**
+ * 상품 재고 변경량
+ * 
+ * 재고 원장 연산(예약/확정/취소)과 DB 반영 대기분을 (stock, reserved_stock) 증감으로 표현합니다.
+ * 예약: (0, +q), 확정: (-q, -q), 취소: (0, -q)
+ */
+public record ProductStockDelta(Long productId, int stockDelta, int reservedDelta) {
+    
+    public static ProductStockDelta reserve(Long productId, int quantity) {
+        return new ProductStockDelta(productId, 0, quantity);
+    }
+    
+    public static ProductStockDelta confirm(Long productId, int quantity) {
+        return new ProductStockDelta(productId, -quantity, -quantity);
+    }
+    
+    public static ProductStockDelta cancel(Long productId, int quantity) {
+        return new ProductStockDelta(productId, 0, -quantity);
+    }
+    
+    /**
+     * 역방향 변경량 (롤백 보상용)
+     */
+    public ProductStockDelta inverse() {
+        return new ProductStockDelta(productId, -stockDelta, -reservedDelta);
+    }
+}
@@ -57,4 +57,19 @@ public class Balance extends BaseEntity {
         this.amount = this.amount.subtract(amount);
     }
 
+    /**
+     * 스냅샷 행 정보에 현재 잔액(스냅샷 + 미반영 원장 합계)을 담은 조회용 객체
+     * 영속성 컨텍스트에 등록되지 않으므로 저장하지 않습니다.
+     */
+    public Balance withCurrentAmount(BigDecimal currentAmount) {
+        return Balance.builder()
+                .id(getId())
+                .version(getVersion())
+                .createdAt(getCreatedAt())
+                .updatedAt(getUpdatedAt())
+                .userId(userId)
+                .amount(currentAmount)
+                .build();
+    }
+
 } 
\ No newline at end of file
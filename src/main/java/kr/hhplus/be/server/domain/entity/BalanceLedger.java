@@ -0,0 +1,77 @@
+package kr.hhplus.be.server.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import kr.hhplus.be.server.domain.enums.BalanceLedgerType;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 잔액 원장 (추가 전용)
+ * 
+ * 충전/차감을 balances 행 갱신 대신 원장 행 INSERT로 기록하여 같은 사용자의 쓰기끼리 행 락을 다투지 않게 합니다.
+ * 현재 잔액 = balances.amount(스냅샷) + 스냅샷에 반영되지 않은(snapshotted = false) 원장 합계이며,
+ * 스냅샷 롤포워드가 주기적으로 원장을 balances에 합산하고 snapshotted로 표시합니다.
+ * 
+ * 원장 행은 금액을 수정하거나 삭제하지 않습니다. (스냅샷 반영 여부만 전이)
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+@Table(name = "balance_ledger",
+       indexes = {
+           @Index(name = "idx_balance_ledger_user_snapshotted", columnList = "user_id, snapshotted"),
+           @Index(name = "idx_balance_ledger_snapshotted", columnList = "snapshotted, id")
+       })
+public class BalanceLedger extends BaseEntity {
+
+    // amount 컬럼(DECIMAL(19,2))의 소수 자릿수
+    public static final int AMOUNT_SCALE = 2;
+
+    @Column(name = "user_id", nullable = false)
+    @NotNull
+    private Long userId;
+
+    // 충전은 양수, 차감은 음수
+    @Column(nullable = false, precision = 19, scale = 2)
+    @NotNull
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    @NotNull
+    private BalanceLedgerType entryType;
+
+    @Column(nullable = false)
+    private boolean snapshotted;
+
+    /**
+     * 금액을 amount 컬럼의 소수 자릿수에 맞춥니다.
+     * 할인 적용 금액처럼 자릿수가 더 긴 값은 DB가 저장 시 반올림하는 것과 같은 HALF_UP으로 반올림하여,
+     * 홀드와 원장에 같은 금액이 반영되게 합니다.
+     */
+    public static BigDecimal normalizeAmount(BigDecimal amount) {
+        return amount.scale() > AMOUNT_SCALE ? amount.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP) : amount;
+    }
+
+    public static BalanceLedger charge(Long userId, BigDecimal amount) {
+        return BalanceLedger.builder()
+                .userId(userId)
+                .amount(amount)
+                .entryType(BalanceLedgerType.CHARGE)
+                .build();
+    }
+
+    public static BalanceLedger deduct(Long userId, BigDecimal amount) {
+        return BalanceLedger.builder()
+                .userId(userId)
+                .amount(amount.negate())
+                .entryType(BalanceLedgerType.DEDUCT)
+                .build();
+    }
+}
@@ -87,13 +87,36 @@ public class Coupon extends BaseEntity {
      * 조건에 따른 쿠폰 상태를 계산합니다.
      */
     private CouponStatus calculateStatus(LocalDateTime now) {
+        return resolveStatus(calculatePhase(now));
+    }
+
+    /**
+     * 시작/종료 시각 기준의 기간 상태(INACTIVE/ACTIVE/EXPIRED)를 계산합니다.
+     */
+    private CouponStatus calculatePhase(LocalDateTime now) {
+        // 만료 시간 체크
+        if (now.isAfter(this.endDate)) {
+            return CouponStatus.EXPIRED;
+        }
+        
+        // 시작 시간 체크
+        if (now.isBefore(this.startDate)) {
+            return CouponStatus.INACTIVE;
+        }
+        
+        return CouponStatus.ACTIVE;
+    }
+
+    /**
+     * 기간 상태에 비활성화/재고 소진 여부를 더해 최종 상태를 결정합니다.
+     */
+    private CouponStatus resolveStatus(CouponStatus phase) {
         // 비활성화된 쿠폰은 그대로 유지
         if (this.status == CouponStatus.DISABLED) {
             return CouponStatus.DISABLED;
         }
         
-        // 만료 시간 체크
-        if (now.isAfter(this.endDate)) {
+        if (phase == CouponStatus.EXPIRED) {
             return CouponStatus.EXPIRED;
         }
         
@@ -102,12 +125,7 @@ public class Coupon extends BaseEntity {
             return CouponStatus.SOLD_OUT;
         }
         
-        // 시작 시간 체크
-        if (now.isBefore(this.startDate)) {
-            return CouponStatus.INACTIVE;
-        }
-        
-        return CouponStatus.ACTIVE;
+        return phase;
     }
 
     /**
@@ -141,6 +159,40 @@ public class Coupon extends BaseEntity {
         return currentStatus.isIssuable();
     }
 
+    /**
+     * 미리 계산된 기간 상태로 발급 가능 여부를 확인합니다 (시계 조회 없음).
+     */
+    public boolean canIssueInPhase(CouponStatus phase) {
+        return resolveStatus(phase).isIssuable();
+    }
+
+    /**
+     * 미리 계산된 기간 상태로 쿠폰 상태를 업데이트합니다 (시계 조회 없음).
+     */
+    public void updateStatusByPhase(CouponStatus phase) {
+        CouponStatus newStatus = resolveStatus(phase);
+        
+        if (this.status != newStatus && this.status.canTransitionTo(newStatus)) {
+            this.status = newStatus;
+        }
+    }
+
+    /**
+     * 기간 상태(타이밍 휠이 미리 계산한 값)로 상태를 맞추고 발급 가능 여부를 판단합니다.
+     * 기간 상태가 없으면 현재 시각 기준으로 판단합니다.
+     *
+     * @param phase INACTIVE/ACTIVE/EXPIRED, 모르면 null
+     */
+    public boolean refreshIssuable(CouponStatus phase) {
+        if (phase == null) {
+            updateStatusIfNeeded();
+            return canIssue();
+        }
+
+        updateStatusByPhase(phase);
+        return canIssueInPhase(phase);
+    }
+
     /**
      * 쿠폰 상태를 조건에 따라 업데이트합니다.
      */
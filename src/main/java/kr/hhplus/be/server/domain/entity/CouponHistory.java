@@ -19,8 +19,12 @@ import java.time.LocalDateTime;
            @Index(name = "idx_coupon_history_user_id", columnList = "userId"),
            @Index(name = "idx_coupon_history_coupon_id", columnList = "couponId"),
            @Index(name = "idx_coupon_history_status", columnList = "status"),
+           @Index(name = "idx_coupon_history_coupon_status", columnList = "couponId, status"),
            @Index(name = "idx_coupon_history_user_status", columnList = "userId, status"),
-           @Index(name = "idx_coupon_history_user_coupon", columnList = "userId, couponId")
+           // 사용자당 쿠폰 1회 발급 보장 (Bloom 필터 위음성 시에도 DB에서 중복 차단)
+           @Index(name = "uk_coupon_history_user_coupon", columnList = "userId, couponId", unique = true),
+           @Index(name = "idx_coupon_history_user_issued", columnList = "userId, issuedAt"),
+           @Index(name = "idx_coupon_history_user_status_issued", columnList = "userId, status, issuedAt")
        })
 public class CouponHistory extends BaseEntity {
 
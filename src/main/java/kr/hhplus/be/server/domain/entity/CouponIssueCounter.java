@@ -0,0 +1,39 @@
+package kr.hhplus.be.server.domain.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * 쿠폰 발급 수량 슬롯 카운터
+ * 
+ * 쿠폰당 K개의 슬롯 행으로 발급 수량을 나누어 기록하여 coupon 행 하나에 몰리던
+ * 행 락 경합을 K개 행으로 분산합니다. 전체 발급 수량은 슬롯 합계이며,
+ * coupon.issued_count는 주기적으로 합산(rollup)한 값입니다.
+ * 
+ * 증가는 INSERT ... ON DUPLICATE KEY UPDATE로만 수행하므로 엔티티를 직접 수정하지 않습니다.
+ */
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@SuperBuilder
+@Entity
+@Table(name = "coupon_issue_counter",
+       uniqueConstraints = {
+           @UniqueConstraint(name = "uk_coupon_issue_counter_coupon_slot", columnNames = {"coupon_id", "slot"})
+       })
+public class CouponIssueCounter extends BaseEntity {
+
+    @Column(name = "coupon_id", nullable = false)
+    @NotNull
+    private Long couponId;
+
+    @Column(nullable = false)
+    @PositiveOrZero
+    private int slot;
+
+    @Column(name = "issued_count", nullable = false)
+    @PositiveOrZero
+    private int issuedCount;
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 @Table(name = "event_log",
        indexes = {
            @Index(name = "idx_event_log_status", columnList = "status"),
-           @Index(name = "idx_event_log_correlation", columnList = "correlationId")
+           @Index(name = "idx_event_log_correlation", columnList = "correlationId"),
+           @Index(name = "idx_event_log_status_retry", columnList = "status, nextRetryAt")
        })
 public class EventLog extends BaseEntity {
 
@@ -33,6 +34,11 @@ public class EventLog extends BaseEntity {
     @NotNull
     private EventStatus status;
 
+    // 아웃박스 릴레이가 Kafka로 전송할 대상
+    private String topic; // 발행 토픽
+
+    private String eventKey; // 파티션 키
+
     // STEP 15 추가 필드들
     private String externalEndpoint; // 전송 대상 엔드포인트
 
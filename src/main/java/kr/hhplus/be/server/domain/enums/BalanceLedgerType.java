@@ -0,0 +1,6 @@
+package kr.hhplus.be.server.domain.enums;
+
+public enum BalanceLedgerType {
+    CHARGE,
+    DEDUCT
+}
@@ -50,6 +50,18 @@ public enum CacheTTL {
      */
     USER_COUPON_LIST(300),
     
+    /**
+     * 사용자 쿠폰 지갑 인덱스 - 1일
+     * 발급/사용/만료 시 직접 갱신되므로 긴 TTL 설정
+     */
+    USER_COUPON_WALLET(86400),
+    
+    /**
+     * 비동기 쿠폰 발급 요청 결과 - 10분
+     * 클라이언트 폴링 구간만 유지하면 되므로 짧은 TTL 설정
+     */
+    COUPON_ISSUE_RESULT(600),
+    
     // === 결제 관련 캐시 ===
     
     /**
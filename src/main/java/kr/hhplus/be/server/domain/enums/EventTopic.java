@@ -12,6 +12,10 @@ public enum EventTopic {
     PRODUCT_UPDATED("product.updated"),
     PRODUCT_DELETED("product.deleted"),
     
+    // 선착순 쿠폰 비동기 발급 이벤트
+    COUPON_REQUESTS("coupon-requests"),
+    COUPON_RESULTS("coupon-results"),
+    
     // 외부 데이터 플랫폼 동기화 이벤트
     DATA_PLATFORM_PRODUCT_CREATED("data-platform.product.created"),
     DATA_PLATFORM_PRODUCT_UPDATED("data-platform.product.updated"),
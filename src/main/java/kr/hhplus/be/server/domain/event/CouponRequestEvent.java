@@ -49,6 +49,12 @@ public class CouponRequestEvent {
      * 요청 출처 (web, mobile-app, api 등)
      */
     private String source;
+    
+    /**
+     * Redis 선착순 선점 번호 (재고 샤딩 모드에서는 선점한 샤드 번호)
+     * DB 반영에 실패하면 Consumer가 이 번호로 선점을 보상합니다.
+     */
+    private Long issueNumber;
 
     /**
      * 팩토리 메서드: 기본 쿠폰 요청 이벤트 생성
@@ -78,6 +84,13 @@ public class CouponRequestEvent {
                 .build();
     }
 
+    /**
+     * Redis 선점 번호를 기록한 사본
+     */
+    public CouponRequestEvent withIssueNumber(long issueNumber) {
+        return new CouponRequestEvent(requestId, userId, couponId, requestedAt, clientInfo, source, issueNumber);
+    }
+
     /**
      * 요청 ID 생성 (중복 요청 방지용)
      */
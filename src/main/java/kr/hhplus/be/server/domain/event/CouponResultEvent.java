@@ -68,6 +68,7 @@ public class CouponResultEvent {
      * 결과 코드 열거형
      */
     public enum ResultCode {
+        PENDING("PENDING", "쿠폰 발급 처리 중"),
         SUCCESS("SUCCESS", "쿠폰 발급 성공"),
         OUT_OF_STOCK("OUT_OF_STOCK", "쿠폰 재고 소진"),
         ALREADY_ISSUED("ALREADY_ISSUED", "이미 발급받은 쿠폰"),
@@ -94,6 +95,27 @@ public class CouponResultEvent {
         }
     }
 
+    /**
+     * 팩토리 메서드: 처리 대기 결과 생성 (요청 접수 직후 결과 조회용)
+     */
+    public static CouponResultEvent pending(String requestId, Long userId, Long couponId) {
+        return CouponResultEvent.builder()
+                .requestId(requestId)
+                .userId(userId)
+                .couponId(couponId)
+                .success(false)
+                .resultCode(ResultCode.PENDING)
+                .message(ResultCode.PENDING.getMessage())
+                .build();
+    }
+
+    /**
+     * 처리 대기 중 여부
+     */
+    public boolean isPending() {
+        return resultCode == ResultCode.PENDING;
+    }
+
     /**
      * 팩토리 메서드: 성공 결과 이벤트 생성
      */
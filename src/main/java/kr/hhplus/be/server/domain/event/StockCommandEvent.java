@@ -0,0 +1,51 @@
+package kr.hhplus.be.server.domain.event;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * 재고 액터 명령 이벤트
+ * 
+ * 상품 소유 노드가 아닌 노드가 inventory.commands 토픽으로 전달하는 재고 변경 명령입니다.
+ * productId를 키로 발행하므로 같은 상품의 명령은 같은 파티션(소유 액터)에서 순서대로 처리됩니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockCommandEvent {
+
+    /**
+     * 명령 종류
+     * APPLY: 변경량 반영, COMPENSATE: commandId 명령이 반영됐다면 되돌리고, 아니면 이후 반영을 막음
+     */
+    public enum Type {
+        APPLY, COMPENSATE
+    }
+
+    /**
+     * 명령 ID (StockReplyEvent의 commandId와 매칭)
+     */
+    private String commandId;
+
+    private Type type;
+
+    private Long productId;
+
+    /**
+     * stock 변경량
+     */
+    private int stockDelta;
+
+    /**
+     * reserved_stock 변경량
+     */
+    private int reservedDelta;
+
+    /**
+     * 응답을 기다리는 노드 ID
+     */
+    private String replyTo;
+}
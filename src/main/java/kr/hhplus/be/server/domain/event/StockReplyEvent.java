@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.domain.event;
+
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+/**
+ * 재고 액터 응답 이벤트
+ * 
+ * 소유 액터가 StockCommandEvent 처리 결과를 inventory.replies 토픽으로 돌려줍니다.
+ * 모든 노드가 수신하며, replyTo가 자신인 응답만 처리합니다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StockReplyEvent {
+
+    /**
+     * 원본 명령 ID
+     */
+    private String commandId;
+
+    /**
+     * 응답을 기다리는 노드 ID
+     */
+    private String replyTo;
+
+    private Long productId;
+
+    private ApplyResult result;
+}
@@ -40,6 +40,12 @@ public class CouponException extends RuntimeException {
         }
     }
 
+    public static class RequestNotFound extends CouponException {
+        public RequestNotFound() {
+            super(ErrorCode.COUPON_REQUEST_NOT_FOUND.getCode(), ErrorCode.COUPON_REQUEST_NOT_FOUND.getMessage());
+        }
+    }
+
     public static class FailedToRetrieveCouponList extends CouponException {
         public FailedToRetrieveCouponList() {
             super(ErrorCode.DATABASE_ERROR.getCode(), ErrorCode.DATABASE_ERROR.getMessage());
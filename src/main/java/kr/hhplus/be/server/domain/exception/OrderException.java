@@ -44,6 +44,12 @@ public class OrderException extends RuntimeException {
             super(ErrorCode.ORDER_ALREADY_PAID.getCode(), ErrorCode.ORDER_ALREADY_PAID.getMessage());
         }
     }
+    
+    public static class Expired extends OrderException {
+        public Expired() {
+            super(ErrorCode.ORDER_EXPIRED.getCode(), ErrorCode.ORDER_EXPIRED.getMessage());
+        }
+    }
 
 
     public static class ProductsCannotBeNull extends OrderException {
@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.domain.port.balance;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+/**
+ * 잔액 차감 홀드
+ *
+ * 사용자별 차감 가능 금액(현재 잔액 - 진행 중인 차감)을 원자적으로 검사/예약하여
+ * 원장 INSERT만으로 차감해도 잔액이 음수가 되지 않도록 합니다.
+ *
+ * - 차감: 커밋 전에 홀드하고 진행 중인 차감으로 기록, 트랜잭션이 롤백되면 홀드를 해제
+ * - 충전: 커밋 직전에 진행 중인 충전으로 기록하고, 커밋된 뒤에만 차감 가능 금액에 더함
+ *
+ * 구성되지 않은 사용자는 구성 표시(beginLoad) → DB 현재 잔액 조회 → 구성 완료(finishLoad) 순서로 구성합니다.
+ * 구성 중에 충전이 반영되면 구성이 무효화되고, 진행 중인 차감은 DB 값에서 빼고 구성합니다.
+ * 차감 가능 금액은 고정 TTL로 만료되어 주기적으로 DB 값으로 다시 구성됩니다.
+ */
+public interface BalanceHoldPort {
+
+    enum HoldResult {
+        /** 홀드 성공 */
+        HELD,
+        /** 차감 가능 금액 부족 */
+        INSUFFICIENT,
+        /** 차감 가능 금액이 구성되지 않음 */
+        NOT_LOADED
+    }
+
+    /**
+     * 구성 표시를 남깁니다. DB 현재 잔액은 이 호출 이후에 조회해야 합니다.
+     *
+     * @return 구성 토큰 (이미 구성되었거나 다른 요청이 구성 중이면 empty)
+     */
+    Optional<String> beginLoad(Long userId);
+
+    /**
+     * 조회한 DB 현재 잔액에서 진행 중인 차감을 빼고 차감 가능 금액을 구성합니다.
+     * 구성 표시 이후 충전이 반영되었거나 진행 중인 충전이 있으면 구성하지 않습니다.
+     *
+     * @param token beginLoad가 반환한 토큰
+     * @param committedAmount 구성 표시 이후 새 트랜잭션에서 조회한 현재 잔액
+     * @return 구성했으면 true
+     */
+    boolean finishLoad(Long userId, String token, BigDecimal committedAmount);
+
+    /**
+     * 차감 가능 금액에서 amount를 홀드합니다.
+     * 트랜잭션 안에서 홀드했다면 완료 시 진행 중인 차감에서 제거하고, 롤백 시 홀드를 해제합니다.
+     */
+    HoldResult hold(Long userId, BigDecimal amount);
+
+    /**
+     * 충전 금액을 차감 가능 금액에 더합니다.
+     * 트랜잭션 안에서 호출하면 커밋 후에 반영하며, 구성되지 않은 사용자는 무시합니다.
+     * 트랜잭션 밖에서 호출하면 이미 커밋된 충전이므로 차감 가능 금액을 무효화합니다.
+     */
+    void credit(Long userId, BigDecimal amount);
+
+    /**
+     * 차감 가능 금액을 무효화하여 다음 차감 시 DB 값으로 다시 구성되게 합니다.
+     */
+    void invalidate(Long userId);
+}
@@ -42,9 +42,55 @@ public interface CachePort {
     
     // ========================= 선착순 쿠폰 관련 메서드 =========================
     
+    /** 선착순 발급 실패: 발급 한도 소진 (이 결과만 품절로 전파) */
+    long COUPON_SOLD_OUT = -1L;
+    
+    /** 선착순 발급 실패: 이미 발급받은 사용자 */
+    long COUPON_ALREADY_ISSUED = -2L;
+    
+    /** 선착순 발급 실패: 락 획득 실패, 인터럽트, Redis 오류 등으로 판단하지 못함 */
+    long COUPON_UNAVAILABLE = -3L;
+    
+    /**
+     * 단일 카운터에서 선착순 발급 슬롯 선점
+     * 
+     * @return 발급 순번(1부터 시작), 실패 시 COUPON_SOLD_OUT / COUPON_ALREADY_ISSUED / COUPON_UNAVAILABLE
+     */
     long issueCouponAtomically(String couponCounterKey, String couponUserKey, long maxCount);
     
     long getCouponCount(String couponCounterKey);
     
     boolean hasCouponIssued(String couponUserKey);
+    
+    /**
+     * issueCouponAtomically로 선점한 발급 슬롯을 되돌림
+     * 
+     * 선점 이후 후속 처리(이벤트 발행 등)가 실패했을 때 카운터와 사용자 키를 보상합니다.
+     */
+    void rollbackCouponIssue(String couponCounterKey, String couponUserKey);
+    
+    /**
+     * 샤딩된 재고 카운터에서 선착순 발급 슬롯 선점
+     * 
+     * 재고를 샤드별 잔여 수량으로 미리 나눠두고 startShard부터 차례로 차감을 시도합니다.
+     * 모든 샤드가 소진되면 품절 플래그를 기록하여 이후 요청은 샤드 조회 없이 실패합니다.
+     * 
+     * @param shardKeys 샤드 재고 키 목록
+     * @param soldOutKey 전체 품절 플래그 키
+     * @param couponUserKey 사용자 발급 여부 키
+     * @param initialStock 남은 발급 수량 (최초 샤드 분배에만 사용)
+     * @param startShard 먼저 차감을 시도할 샤드 인덱스
+     * @return 차감된 샤드 번호(1부터 시작), 실패 시 COUPON_SOLD_OUT / COUPON_ALREADY_ISSUED / COUPON_UNAVAILABLE
+     */
+    long issueCouponFromShards(List<String> shardKeys, String soldOutKey, String couponUserKey, long initialStock, int startShard);
+    
+    /**
+     * issueCouponFromShards로 선점한 발급 슬롯을 해당 샤드에 되돌림
+     */
+    void rollbackCouponShardIssue(String shardKey, String soldOutKey, String couponUserKey);
+    
+    /**
+     * 샤딩 모드 선착순이 시작된 쿠폰인지 확인 (샤드 재고가 분배되었거나 품절 플래그가 있음)
+     */
+    boolean hasCouponShardStock(List<String> shardKeys, String soldOutKey);
 } 
\ No newline at end of file
@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.domain.port.filter;
+
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 쿠폰별 발급 여부 Bloom 필터
+ *
+ * mightContain이 false면 "확실히 발급받지 않음"이므로 DB/Redis 정확 조회를 생략할 수 있습니다.
+ * true(양성)인 경우에만 정확 조회로 확인하며, 양성이었지만 실제로 발급받지 않은 경우
+ * recordFalsePositive로 보고하여 오탐률을 집계합니다.
+ *
+ * 필터가 준비되지 않은 쿠폰은 항상 true를 반환하여 정확 조회로 넘깁니다.
+ */
+public interface CouponIssueFilterPort {
+
+    /**
+     * 필터가 없으면 기존 발급 사용자로 생성합니다. (노드당 쿠폰별 1회, 생성 중인 다른 요청은 기다리지 않음)
+     *
+     * @param expectedInsertions 예상 발급 수 (보통 최대 발급 수량)
+     * @param issuedUserIdsLoader 이미 발급받은 사용자 ID 조회 (필터가 없을 때만 호출)
+     */
+    void ensureReady(Long couponId, long expectedInsertions, Supplier<Collection<Long>> issuedUserIdsLoader);
+
+    boolean mightContain(Long couponId, Long userId);
+
+    /**
+     * 발급(또는 선착순 슬롯 선점)된 사용자를 추가합니다.
+     * 이후 롤백되더라도 오탐 1건이 늘어날 뿐 정확성에는 영향이 없습니다.
+     */
+    void add(Long couponId, Long userId);
+
+    void recordFalsePositive(Long couponId);
+}
@@ -0,0 +1,60 @@
+package kr.hhplus.be.server.domain.port.inventory;
+
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+
+import java.util.List;
+
+/**
+ * 핫 상품 재고 원장
+ * 
+ * 지정된 상품의 재고(stock)/예약 재고(reserved_stock)를 원장에서 원자적으로 변경하여
+ * 주문 생성/결제 시 product 행 락을 잡지 않도록 합니다.
+ * 원장에 반영된 변경량은 반영 대기분으로 누적되며, 리컨사일러가 주기적으로 DB에 일괄 반영합니다.
+ * 
+ * 관리 대상 상품의 재고는 원장이 기준이므로 DB의 재고 컬럼은 반영 주기만큼 지연됩니다.
+ */
+public interface InventoryLedgerPort {
+    
+    enum ApplyResult {
+        /** 모든 변경량 반영 */
+        APPLIED,
+        /** 재고 불변식(stock >= 0, reserved_stock >= 0, reserved_stock <= stock) 위반으로 전체 미반영 */
+        VIOLATION,
+        /** 원장이 구성되지 않은 상품이 있어 전체 미반영 */
+        NOT_LOADED
+    }
+    
+    /**
+     * 원장 관리 대상 상품인지 확인합니다.
+     */
+    boolean isManaged(Long productId);
+    
+    /**
+     * DB 재고로 원장을 구성합니다. 이미 구성된 원장은 덮어쓰지 않습니다.
+     * 
+     * @return 새로 구성했으면 true
+     */
+    boolean load(Long productId, int stock, int reservedStock);
+    
+    /**
+     * 여러 상품의 변경량을 하나의 원자 연산으로 반영합니다. (전부 반영 또는 전부 미반영)
+     * 트랜잭션 안에서 반영되었다면 롤백 시 역방향 변경량으로 보상합니다.
+     */
+    ApplyResult apply(List<ProductStockDelta> deltas);
+    
+    /**
+     * DB 반영 대기분을 최대 limit개 상품만큼 꺼냅니다.
+     * 꺼낸 변경량은 확인(acknowledge)하거나 되돌리기 전까지 반영 중으로 남습니다.
+     */
+    List<ProductStockDelta> drainPendingDeltas(int limit);
+    
+    /**
+     * DB에 반영되어 커밋된 변경량을 원장의 반영 중 상태에서 비웁니다. (DB 커밋 후 호출)
+     */
+    void acknowledgePendingDeltas(List<ProductStockDelta> deltas);
+    
+    /**
+     * DB 반영에 실패한 변경량을 반영 대기분으로 되돌립니다.
+     */
+    void restorePendingDeltas(List<ProductStockDelta> deltas);
+}
@@ -1,7 +1,24 @@
 package kr.hhplus.be.server.domain.port.locking;
 
+import java.util.Collection;
+
 public interface LockingPort {
     boolean acquireLock(String key);
     void releaseLock(String key);
     boolean isLocked(String key);
-} 
\ No newline at end of file
+    
+    /**
+     * 여러 락을 원자적으로 획득합니다. (전부 획득하거나 하나도 획득하지 않음)
+     * 
+     * @param keys 락 키 목록 (데드락 방지를 위해 정렬된 순서로 전달)
+     * @return 전체 획득 성공 여부
+     */
+    boolean acquireAll(Collection<String> keys);
+    
+    /**
+     * acquireAll로 획득한 락을 해제합니다.
+     * 
+     * @param keys 락 키 목록
+     */
+    void releaseAll(Collection<String> keys);
+}
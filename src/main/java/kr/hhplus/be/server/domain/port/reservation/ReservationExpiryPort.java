@@ -0,0 +1,34 @@
+package kr.hhplus.be.server.domain.port.reservation;
+
+import java.util.List;
+
+/**
+ * 주문 재고 예약 만료 대기열
+ * 
+ * 결제 대기(PENDING) 주문의 예약 만료 시각을 보관하고, 만료 시각이 지난 주문을 꺼내 줍니다.
+ * 대기열은 만료 처리 대상을 찾는 인덱스일 뿐이며, 실제 만료 여부는 주문 상태 전이로 판단합니다.
+ */
+public interface ReservationExpiryPort {
+    
+    /**
+     * 새로 생성된 주문을 예약 TTL 뒤 만료되도록 등록합니다.
+     * 트랜잭션 안에서 호출되면 커밋 이후에 등록하며, 비활성화 시 아무것도 하지 않습니다.
+     */
+    void register(List<Long> orderIds);
+    
+    /**
+     * 주문을 지정한 시각에 다시 만료 대상으로 등록합니다. (만료 처리 실패 시 재시도용)
+     */
+    void reschedule(List<Long> orderIds, long deadlineEpochMillis);
+    
+    /**
+     * 만료 시각이 지난 주문 ID를 만료 시각 순으로 최대 limit개 꺼냅니다.
+     * 꺼낸 주문은 대기열에서 제거되므로 여러 노드가 동시에 호출해도 한 노드만 받습니다.
+     */
+    List<Long> pollExpired(long nowEpochMillis, int limit);
+    
+    /**
+     * 만료 대기 중인 주문 수
+     */
+    long pendingCount();
+}
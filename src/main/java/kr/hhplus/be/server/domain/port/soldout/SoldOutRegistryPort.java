@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.domain.port.soldout;
+
+/**
+ * 노드 로컬 품절 레지스트리
+ * 
+ * 품절 여부를 각 노드 메모리에 보관하여 품절 이후 요청을 I/O 없이 거절합니다.
+ * 품절 표시/해제는 모든 노드에 브로드캐스트됩니다.
+ */
+public interface SoldOutRegistryPort {
+    
+    boolean isCouponSoldOut(Long couponId);
+    
+    void markCouponSoldOut(Long couponId);
+    
+    void clearCouponSoldOut(Long couponId);
+    
+    boolean isProductSoldOut(Long productId);
+    
+    void markProductSoldOut(Long productId);
+    
+    void clearProductSoldOut(Long productId);
+}
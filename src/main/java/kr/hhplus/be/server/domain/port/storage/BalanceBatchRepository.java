@@ -0,0 +1,19 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * 잔액 스냅샷 롤포워드 (BalanceRepositoryPort 커스텀 프래그먼트)
+ */
+public interface BalanceBatchRepository {
+    
+    /**
+     * 사용자별 원장 합계를 잔액 스냅샷(balances.amount)에 하나의 JDBC 배치로 더합니다.
+     * 스냅샷 행이 없으면 합계 금액으로 생성합니다.
+     * 
+     * @param amounts 사용자 ID별 원장 합계 (사용자 ID 순으로 전달해야 행 락 순서가 일정함)
+     * @return 전달 순서대로의 영향 행 수 (배치가 다중 VALUES INSERT로 재작성되면 SUCCESS_NO_INFO일 수 있음)
+     */
+    int[] rollForward(Map<Long, BigDecimal> amounts);
+}
@@ -0,0 +1,27 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+
+import java.util.List;
+
+/**
+ * 잔액 원장 일괄 INSERT/스냅샷 반영 표시 (BalanceLedgerRepositoryPort 커스텀 프래그먼트)
+ */
+public interface BalanceLedgerBatchRepository {
+    
+    /**
+     * 원장 행을 하나의 JDBC 배치로 INSERT합니다.
+     * 
+     * @param entries 저장할 원장 (영속성 컨텍스트에 등록되지 않음)
+     */
+    void insertAll(List<BalanceLedger> entries);
+    
+    /**
+     * 스냅샷에 반영되지 않은 원장 행을 반영됨으로 일괄 표시합니다.
+     * 이미 표시된 행은 갱신되지 않으므로, 영향 행 수가 1인 원장만 스냅샷에 합산해야 합니다.
+     * 
+     * @param ledgerIds 원장 ID
+     * @return ID 순서대로의 영향 행 수
+     */
+    int[] markSnapshotted(List<Long> ledgerIds);
+}
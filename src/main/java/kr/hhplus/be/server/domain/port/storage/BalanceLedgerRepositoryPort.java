@@ -0,0 +1,33 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface BalanceLedgerRepositoryPort extends JpaRepository<BalanceLedger, Long>, BalanceLedgerBatchRepository {
+    
+    /**
+     * 스냅샷에 반영되지 않은 원장을 ID 순으로 조회합니다.
+     */
+    @Query("SELECT l FROM BalanceLedger l WHERE l.snapshotted = false ORDER BY l.id")
+    List<BalanceLedger> findUnsnapshotted(Pageable pageable);
+    
+    /**
+     * 지정한 사용자를 제외하고 스냅샷에 반영되지 않은 원장을 ID 순으로 조회합니다. (격리된 사용자 제외)
+     */
+    @Query("SELECT l FROM BalanceLedger l WHERE l.snapshotted = false AND l.userId NOT IN :userIds ORDER BY l.id")
+    List<BalanceLedger> findUnsnapshottedExcluding(@Param("userIds") Collection<Long> userIds, Pageable pageable);
+    
+    /**
+     * 지정한 사용자의 스냅샷에 반영되지 않은 원장 전체를 ID 순으로 조회합니다.
+     */
+    @Query("SELECT l FROM BalanceLedger l WHERE l.snapshotted = false AND l.userId IN :userIds ORDER BY l.id")
+    List<BalanceLedger> findUnsnapshottedByUserIdIn(@Param("userIds") Collection<Long> userIds);
+}
@@ -2,11 +2,44 @@ package kr.hhplus.be.server.domain.port.storage;
 
 import kr.hhplus.be.server.domain.entity.Balance;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+/**
+ * 잔액 스냅샷 저장소
+ * 
+ * balances.amount는 스냅샷 롤포워드 시점까지의 잔액이며, 충전/차감은 balance_ledger에 추가됩니다.
+ */
 @Repository
-public interface BalanceRepositoryPort extends JpaRepository<Balance, Long> {
+public interface BalanceRepositoryPort extends JpaRepository<Balance, Long>, BalanceBatchRepository {
     Optional<Balance> findByUserId(Long userId);
-} 
\ No newline at end of file
+    
+    List<Balance> findByUserIdIn(Collection<Long> userIds);
+    
+    /**
+     * 현재 잔액 (스냅샷 + 스냅샷에 반영되지 않은 원장 합계)
+     * 
+     * 한 문장으로 조회하므로 롤포워드 커밋 전후 어느 쪽이든 같은 시점의 스냅샷과 원장을 읽습니다.
+     * 
+     * @return 현재 잔액 (스냅샷 행이 없으면 empty)
+     */
+    @Query("SELECT b.amount + COALESCE((SELECT SUM(l.amount) FROM BalanceLedger l " +
+           "WHERE l.userId = b.userId AND l.snapshotted = false), 0) " +
+           "FROM Balance b WHERE b.userId = :userId")
+    Optional<BigDecimal> findCurrentAmount(@Param("userId") Long userId);
+    
+    /**
+     * 현재 잔액(스냅샷 + 스냅샷에 반영되지 않은 원장 합계)이 음수인 사용자
+     * 
+     * 홀드는 Redis에만 있으므로 키 유실 등으로 초과 차감된 잔액을 DB에서 감지하는 데 사용합니다.
+     */
+    @Query("SELECT b.userId FROM Balance b WHERE b.userId IN :userIds AND b.amount + COALESCE((SELECT SUM(l.amount) " +
+           "FROM BalanceLedger l WHERE l.userId = b.userId AND l.snapshotted = false), 0) < 0")
+    List<Long> findNegativeUserIds(@Param("userIds") Collection<Long> userIds);
+}
@@ -1,13 +1,17 @@
 package kr.hhplus.be.server.domain.port.storage;
 
+import kr.hhplus.be.server.domain.dto.CouponWalletEntryDto;
+import kr.hhplus.be.server.domain.dto.ExpiringCouponHistoryDto;
 import kr.hhplus.be.server.domain.entity.CouponHistory;
 import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,9 +21,45 @@ import org.springframework.stereotype.Repository;
 public interface CouponHistoryRepositoryPort extends JpaRepository<CouponHistory, Long> {
     boolean existsByUserIdAndCouponId(Long userId, Long couponId);
     
-    @Query("SELECT ch FROM CouponHistory ch WHERE ch.userId = :userId")
+    /**
+     * 발급 일시 내림차순 오프셋 조회 (userId, issuedAt 인덱스 사용)
+     */
+    @Query("SELECT ch FROM CouponHistory ch WHERE ch.userId = :userId ORDER BY ch.issuedAt DESC, ch.id DESC")
     List<CouponHistory> findByUserIdWithPagination(@Param("userId") Long userId, Pageable pageable);
     
+    /**
+     * 쿠폰 지갑 구성용 히스토리 ID와 발급 일시 조회
+     */
+    @Query("SELECT new kr.hhplus.be.server.domain.dto.CouponWalletEntryDto(ch.id, ch.issuedAt) " +
+           "FROM CouponHistory ch WHERE ch.userId = :userId AND ch.status = :status")
+    List<CouponWalletEntryDto> findWalletEntries(@Param("userId") Long userId,
+                                                 @Param("status") CouponHistoryStatus status);
+    
+    /**
+     * 쿠폰 지갑 첫 페이지 (발급 일시, ID 내림차순)
+     */
+    @Query("SELECT ch FROM CouponHistory ch " +
+           "WHERE ch.userId = :userId AND ch.status = :status " +
+           "ORDER BY ch.issuedAt DESC, ch.id DESC")
+    List<CouponHistory> findWalletFirstPage(@Param("userId") Long userId,
+                                            @Param("status") CouponHistoryStatus status,
+                                            Pageable pageable);
+    
+    /**
+     * 쿠폰 지갑 keyset 페이지 - 커서 (발급 일시, ID) 다음부터 조회
+     * 
+     * (userId, status, issuedAt) 인덱스 범위 탐색으로 깊은 페이지도 앞 페이지를 건너뛰지 않습니다.
+     */
+    @Query("SELECT ch FROM CouponHistory ch " +
+           "WHERE ch.userId = :userId AND ch.status = :status " +
+           "AND (ch.issuedAt < :cursorIssuedAt OR (ch.issuedAt = :cursorIssuedAt AND ch.id < :cursorId)) " +
+           "ORDER BY ch.issuedAt DESC, ch.id DESC")
+    List<CouponHistory> findWalletPageAfter(@Param("userId") Long userId,
+                                            @Param("status") CouponHistoryStatus status,
+                                            @Param("cursorIssuedAt") LocalDateTime cursorIssuedAt,
+                                            @Param("cursorId") Long cursorId,
+                                            Pageable pageable);
+    
     List<CouponHistory> findByUserIdAndStatus(Long userId, CouponHistoryStatus status);
     
     @Query("SELECT ch FROM CouponHistory ch " +
@@ -28,6 +68,45 @@ public interface CouponHistoryRepositoryPort extends JpaRepository<CouponHistory
     List<CouponHistory> findExpiredHistoriesInStatus(@Param("now") LocalDateTime now, 
                                                      @Param("status") CouponHistoryStatus status);
     
+    /**
+     * 만료된 쿠폰들의 히스토리 중 cursorId 이후의 ID와 사용자 ID만 ID 순으로 조회 (청크 단위 만료 처리용)
+     * 
+     * 쿠폰 테이블과의 상관 서브쿼리 없이 idx_coupon_history_coupon_status (couponId, status) 범위로 찾습니다.
+     * 
+     * @param couponIds 종료일이 지난 쿠폰 ID
+     * @param cursorId 이전 청크의 마지막 히스토리 ID (처음이면 0)
+     */
+    @Query("SELECT new kr.hhplus.be.server.domain.dto.ExpiringCouponHistoryDto(ch.id, ch.userId) " +
+           "FROM CouponHistory ch " +
+           "WHERE ch.couponId IN :couponIds AND ch.status = :status AND ch.id > :cursorId " +
+           "ORDER BY ch.id")
+    List<ExpiringCouponHistoryDto> findExpiringHistories(@Param("couponIds") Collection<Long> couponIds,
+                                                         @Param("status") CouponHistoryStatus status,
+                                                         @Param("cursorId") Long cursorId,
+                                                         Pageable pageable);
+    
+    /**
+     * 주어진 히스토리들을 한 번의 UPDATE로 만료 처리
+     * 
+     * 조회 이후 사용된 히스토리는 상태 조건으로 제외됩니다.
+     * 
+     * @return 만료 처리된 히스토리 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CouponHistory ch SET ch.status = :expiredStatus, ch.version = ch.version + 1, ch.updatedAt = :now " +
+           "WHERE ch.id IN :historyIds AND ch.status = :currentStatus")
+    int updateStatusByIds(@Param("historyIds") Collection<Long> historyIds,
+                          @Param("currentStatus") CouponHistoryStatus currentStatus,
+                          @Param("expiredStatus") CouponHistoryStatus expiredStatus,
+                          @Param("now") LocalDateTime now);
+    
+    /**
+     * 주어진 히스토리 중 해당 상태인 ID 조회 (청크 UPDATE에서 실제로 바뀐 행 확인용)
+     */
+    @Query("SELECT ch.id FROM CouponHistory ch WHERE ch.id IN :historyIds AND ch.status = :status")
+    List<Long> findIdsByIdInAndStatus(@Param("historyIds") Collection<Long> historyIds,
+                                      @Param("status") CouponHistoryStatus status);
+    
     /**
      * @param userId 사용자 ID
      * @param status 쿠폰 히스토리 상태
@@ -54,6 +133,19 @@ public interface CouponHistoryRepositoryPort extends JpaRepository<CouponHistory
      */
     Optional<CouponHistory> findByUserIdAndCouponId(Long userId, Long couponId);
 
+    /**
+     * 주어진 사용자 중 해당 쿠폰을 이미 발급받은 사용자 ID 조회 (배치 중복 검증용)
+     */
+    @Query("SELECT ch.userId FROM CouponHistory ch WHERE ch.couponId = :couponId AND ch.userId IN :userIds")
+    List<Long> findIssuedUserIds(@Param("couponId") Long couponId, 
+                                 @Param("userIds") Collection<Long> userIds);
+
+    /**
+     * 해당 쿠폰을 발급받은 전체 사용자 ID 조회 (발급 여부 Bloom 필터 생성용)
+     */
+    @Query("SELECT ch.userId FROM CouponHistory ch WHERE ch.couponId = :couponId")
+    List<Long> findUserIdsByCouponId(@Param("couponId") Long couponId);
+
     /**
      * 쿠폰 ID로 발급된 쿠폰 개수 조회
      */
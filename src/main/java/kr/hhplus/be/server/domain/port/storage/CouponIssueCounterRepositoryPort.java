@@ -0,0 +1,92 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import kr.hhplus.be.server.domain.entity.CouponIssueCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface CouponIssueCounterRepositoryPort extends JpaRepository<CouponIssueCounter, Long> {
+    
+    /**
+     * 발급 수량 0인 슬롯 행을 만듭니다. 이미 있으면 무시합니다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO coupon_issue_counter (coupon_id, slot, issued_count, version, created_at, updated_at) " +
+                   "VALUES (:couponId, :slot, 0, 0, :now, :now)",
+           nativeQuery = true)
+    int insertSlotIfAbsent(@Param("couponId") Long couponId,
+                           @Param("slot") int slot,
+                           @Param("now") LocalDateTime now);
+    
+    /**
+     * 슬롯 할당량 안에서만 슬롯 카운터를 증가시킵니다. (조건부 UPDATE)
+     * 
+     * (coupon_id, slot) 유니크 인덱스로 해당 슬롯 행만 잠그므로
+     * 서로 다른 슬롯을 증가시키는 트랜잭션끼리는 대기하지 않습니다.
+     * 슬롯마다 한도를 나눈 할당량을 넘지 않으므로 슬롯 합계도 쿠폰 한도를 넘지 않습니다.
+     * 
+     * @return 갱신된 행 수 (0이면 슬롯 행이 없거나 할당량 초과)
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE coupon_issue_counter SET issued_count = issued_count + :count, updated_at = :now " +
+                   "WHERE coupon_id = :couponId AND slot = :slot AND issued_count + :count <= :quota",
+           nativeQuery = true)
+    int incrementSlotWithinQuota(@Param("couponId") Long couponId,
+                                 @Param("slot") int slot,
+                                 @Param("count") int count,
+                                 @Param("quota") int quota,
+                                 @Param("now") LocalDateTime now);
+    
+    List<CouponIssueCounter> findByCouponId(Long couponId);
+    
+    /**
+     * 쿠폰의 전체 발급 수량 (슬롯 합계)
+     */
+    @Query("SELECT COALESCE(SUM(c.issuedCount), 0) FROM CouponIssueCounter c WHERE c.couponId = :couponId")
+    long sumIssuedCount(@Param("couponId") Long couponId);
+    
+    /**
+     * 지정한 쿠폰의 슬롯 합계를 coupon.issued_count에 반영하고, 한도에 도달한 발급 가능 쿠폰은 SOLD_OUT으로 전환합니다.
+     * 
+     * 발급이 있었던 쿠폰의 슬롯만 합산하고, 값이 바뀐 쿠폰 행만 갱신합니다.
+     * 
+     * @return 갱신된 쿠폰 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE coupon c " +
+                   "JOIN (SELECT coupon_id, SUM(issued_count) AS total FROM coupon_issue_counter " +
+                   "WHERE coupon_id IN (:couponIds) GROUP BY coupon_id) s " +
+                   "ON s.coupon_id = c.id " +
+                   "SET c.status = CASE WHEN s.total >= c.max_issuance AND c.status = 'ACTIVE' THEN 'SOLD_OUT' ELSE c.status END, " +
+                   "c.issued_count = LEAST(s.total, c.max_issuance), " +
+                   "c.version = c.version + 1, " +
+                   "c.updated_at = :now " +
+                   "WHERE c.issued_count <> LEAST(s.total, c.max_issuance)",
+           nativeQuery = true)
+    int rollupIssuedCounts(@Param("couponIds") Collection<Long> couponIds, @Param("now") LocalDateTime now);
+    
+    /**
+     * 모든 쿠폰의 슬롯 합계를 반영합니다. 발급 기록을 메모리에 두므로 기동 직후 한 번 실행하여
+     * 이전 프로세스가 반영하지 못한 슬롯 합계를 맞춥니다.
+     * 
+     * @return 갱신된 쿠폰 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE coupon c " +
+                   "JOIN (SELECT coupon_id, SUM(issued_count) AS total FROM coupon_issue_counter GROUP BY coupon_id) s " +
+                   "ON s.coupon_id = c.id " +
+                   "SET c.status = CASE WHEN s.total >= c.max_issuance AND c.status = 'ACTIVE' THEN 'SOLD_OUT' ELSE c.status END, " +
+                   "c.issued_count = LEAST(s.total, c.max_issuance), " +
+                   "c.version = c.version + 1, " +
+                   "c.updated_at = :now " +
+                   "WHERE c.issued_count <> LEAST(s.total, c.max_issuance)",
+           nativeQuery = true)
+    int rollupAllIssuedCounts(@Param("now") LocalDateTime now);
+}
@@ -3,6 +3,7 @@ package kr.hhplus.be.server.domain.port.storage;
 import kr.hhplus.be.server.domain.entity.Coupon;
 import kr.hhplus.be.server.domain.enums.CouponStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -23,8 +24,83 @@ public interface CouponRepositoryPort extends JpaRepository<Coupon, Long> {
     @Query("SELECT c FROM Coupon c WHERE c.endDate < :now")
     List<Coupon> findExpiredCoupons(@Param("now") LocalDateTime now);
     
+    /**
+     * 종료일이 지난 쿠폰을 최대 limit개까지 한 번에 만료 처리합니다.
+     * 
+     * idx_coupon_end_date_status 인덱스 범위 스캔으로 대상을 찾으며,
+     * 반환값이 limit보다 작아질 때까지 반복 호출하여 트랜잭션 크기를 제한합니다.
+     * 
+     * @return 만료 처리된 쿠폰 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE coupon SET status = :expiredStatus, version = version + 1, updated_at = :now " +
+                   "WHERE end_date < :now AND status IN (:targetStatuses) LIMIT :limit",
+           nativeQuery = true)
+    int expireCouponsInChunk(@Param("now") LocalDateTime now,
+                             @Param("expiredStatus") String expiredStatus,
+                             @Param("targetStatuses") Collection<String> targetStatuses,
+                             @Param("limit") int limit);
+    
+    default int expireCouponsInChunk(LocalDateTime now, int limit) {
+        return expireCouponsInChunk(now, CouponStatus.EXPIRED.name(),
+                List.of(CouponStatus.INACTIVE.name(), CouponStatus.ACTIVE.name(), CouponStatus.SOLD_OUT.name()),
+                limit);
+    }
+    
+    /**
+     * 종료일이 지난 쿠폰 ID를 조회합니다. (만료 히스토리 조회용)
+     * 
+     * idx_coupon_end_date_status 인덱스의 endDate 범위만 읽습니다. (ID는 보조 인덱스에 포함)
+     */
+    @Query("SELECT c.id FROM Coupon c WHERE c.endDate < :now ORDER BY c.id")
+    List<Long> findIdsByEndDateBefore(@Param("now") LocalDateTime now);
+    
+    /**
+     * 종료일이 지나지 않은 쿠폰을 조회합니다. (타이밍 휠 재구성용)
+     * 
+     * idx_coupon_end_date_status 인덱스의 endDate 범위 스캔으로 조회합니다.
+     */
+    List<Coupon> findByEndDateGreaterThanEqualAndStatusIn(LocalDateTime now, Collection<CouponStatus> statuses);
+    
+    /**
+     * 현재 상태가 currentStatuses 중 하나인 경우에만 쿠폰 상태를 전환합니다.
+     * 
+     * @return 갱신된 행 수 (0이면 이미 다른 상태로 전환됨)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Coupon c SET c.status = :newStatus, c.version = c.version + 1, c.updatedAt = :now " +
+           "WHERE c.id = :couponId AND c.status IN (:currentStatuses)")
+    int transitionStatus(@Param("couponId") Long couponId,
+                         @Param("currentStatuses") Collection<CouponStatus> currentStatuses,
+                         @Param("newStatus") CouponStatus newStatus,
+                         @Param("now") LocalDateTime now);
+    
     /**
      * 상태별 쿠폰 수를 조회합니다.
      */
     long countByStatus(CouponStatus status);
+    
+    /**
+     * 발급 수량을 한 번의 UPDATE로 증가시킵니다.
+     * 
+     * 한도를 넘는 경우 갱신하지 않으며, 한도에 도달하면 SOLD_OUT으로 전환합니다.
+     * (MySQL은 SET 절을 왼쪽부터 평가하므로 status를 issuedCount보다 먼저 계산)
+     * 
+     * @return 갱신된 행 수 (0이면 한도 초과)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Coupon c SET " +
+           "c.status = CASE WHEN c.issuedCount + :count >= c.maxIssuance THEN :soldOutStatus ELSE c.status END, " +
+           "c.issuedCount = c.issuedCount + :count, " +
+           "c.version = c.version + 1, " +
+           "c.updatedAt = :now " +
+           "WHERE c.id = :couponId AND c.issuedCount + :count <= c.maxIssuance")
+    int increaseIssuedCount(@Param("couponId") Long couponId, 
+                            @Param("count") int count,
+                            @Param("soldOutStatus") CouponStatus soldOutStatus,
+                            @Param("now") LocalDateTime now);
+    
+    default int increaseIssuedCount(Long couponId, int count) {
+        return increaseIssuedCount(couponId, count, CouponStatus.SOLD_OUT, LocalDateTime.now());
+    }
 } 
\ No newline at end of file
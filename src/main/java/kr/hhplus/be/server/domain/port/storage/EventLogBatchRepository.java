@@ -0,0 +1,42 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import kr.hhplus.be.server.domain.entity.EventLog;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 이벤트 아웃박스 일괄 INSERT/상태 전이 (EventLogRepositoryPort 커스텀 프래그먼트)
+ * 
+ * 이벤트는 호출 측 트랜잭션에서 PENDING으로 일괄 INSERT되고,
+ * 릴레이가 Kafka 전송 결과에 따라 묶음 단위로 상태를 전이합니다.
+ */
+public interface EventLogBatchRepository {
+    
+    /**
+     * 이벤트 로그를 하나의 JDBC 배치로 INSERT합니다.
+     * 
+     * @param eventLogs 저장할 이벤트 로그 (영속성 컨텍스트에 등록되지 않음)
+     */
+    void insertAll(List<EventLog> eventLogs);
+    
+    /**
+     * PENDING 이벤트를 PUBLISHED로 일괄 전이하고 전송 엔드포인트(stream:{topic})를 기록합니다.
+     * 
+     * @param eventLogIds 전송에 성공한 이벤트 로그 ID
+     * @return ID 순서대로의 영향 행 수
+     */
+    int[] markPublished(List<Long> eventLogIds);
+    
+    /**
+     * 전송에 실패한 PENDING 이벤트의 재시도 횟수를 올리고 다음 재시도 시각을 기록합니다.
+     * 재시도 횟수가 maxRetries에 도달한 이벤트는 FAILED로 전이합니다.
+     * 
+     * @param errors 이벤트 로그 ID별 실패 사유
+     * @param nextRetryAt 다음 재시도 시각
+     * @param maxRetries 최대 재시도 횟수
+     * @return 전달 순서대로의 영향 행 수
+     */
+    int[] markRetry(Map<Long, String> errors, LocalDateTime nextRetryAt, int maxRetries);
+}
@@ -3,7 +3,10 @@ package kr.hhplus.be.server.domain.port.storage;
 import kr.hhplus.be.server.domain.entity.EventLog;
 import kr.hhplus.be.server.domain.enums.EventStatus;
 import kr.hhplus.be.server.domain.enums.EventType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,10 +15,17 @@ import java.util.Optional;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface EventLogRepositoryPort extends JpaRepository<EventLog, Long> {
+public interface EventLogRepositoryPort extends JpaRepository<EventLog, Long>, EventLogBatchRepository {
     List<EventLog> findByStatus(EventStatus status);
     List<EventLog> findByEventType(EventType eventType);
     List<EventLog> findByCorrelationId(String correlationId);
     Optional<EventLog> findTopByStatusOrderByCreatedAtDesc(EventStatus status);
     Optional<EventLog> findTopByCorrelationIdAndStatusOrderByCreatedAtDesc(String correlationId, EventStatus status);
-} 
\ No newline at end of file
+
+    /**
+     * 릴레이 대상 아웃박스 이벤트 조회 (발행 순서 유지를 위해 ID 순)
+     */
+    @Query("SELECT e FROM EventLog e WHERE e.status = kr.hhplus.be.server.domain.enums.EventStatus.PENDING " +
+           "AND (e.nextRetryAt IS NULL OR e.nextRetryAt <= :now) ORDER BY e.id")
+    List<EventLog> findRelayable(@Param("now") LocalDateTime now, Pageable pageable);
+} 
@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import kr.hhplus.be.server.domain.dto.OrderPaymentLookup;
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.enums.OrderStatus;
+
+import java.util.List;
+
+/**
+ * 주문 일괄 INSERT/상태 전이 (OrderRepositoryPort 커스텀 프래그먼트)
+ * 
+ * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로
+ * 주문 묶음 생성 시 JDBC 배치로 직접 INSERT합니다.
+ */
+public interface OrderBatchRepository {
+    
+    /**
+     * 주문을 하나의 JDBC 배치로 INSERT하고 생성된 ID를 각 엔티티에 설정합니다.
+     * 
+     * @param orders 저장할 주문 (영속성 컨텍스트에 등록되지 않음)
+     * @return ID가 설정된 동일한 주문 목록
+     */
+    List<Order> insertAll(List<Order> orders);
+    
+    /**
+     * PENDING 주문만 지정한 상태로 일괄 전이합니다.
+     * 
+     * 결제(PAID)와 예약 만료(CANCELLED)가 같은 조건부 UPDATE로 경합하므로 둘 중 하나만 성공합니다.
+     * 반환된 영향 행 수가 1이 아닌 주문은 이미 다른 상태로 전이된 것입니다.
+     * 
+     * @param orderIds 주문 ID (ID 순으로 전달하여 행 락 순서를 고정)
+     * @param status 전이할 상태
+     * @return 주문 순서대로의 영향 행 수
+     */
+    int[] updateStatusIfPending(List<Long> orderIds, OrderStatus status);
+    
+    /**
+     * 결제 검증에 필요한 값을 한 번의 쿼리로 조회합니다.
+     * 
+     * 사용자/주문/결제/쿠폰 조회를 각각 왕복하지 않고 하나의 SELECT로 묶어,
+     * 결제 락을 잡고 있는 동안의 조회 시간을 왕복 1회로 줄입니다.
+     * 호출 측 트랜잭션의 커넥션에서 실행되므로 이후 갱신과 같은 트랜잭션에서 읽습니다.
+     * 
+     * @param orderId 주문 ID
+     * @param userId 사용자 ID
+     * @param couponId 쿠폰 ID (없으면 null, 할인율을 조회하지 않음)
+     * @return 조회 결과 (주문이 없어도 항상 반환)
+     */
+    OrderPaymentLookup findPaymentLookup(Long orderId, Long userId, Long couponId);
+}
@@ -0,0 +1,22 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import kr.hhplus.be.server.domain.entity.OrderItem;
+
+import java.util.List;
+
+/**
+ * 주문 항목 일괄 INSERT (OrderItemRepositoryPort 커스텀 프래그먼트)
+ * 
+ * IDENTITY 전략 엔티티는 Hibernate가 INSERT를 배치로 묶지 못하므로
+ * 주문 묶음 생성 시 JDBC 배치로 직접 INSERT합니다.
+ */
+public interface OrderItemBatchRepository {
+    
+    /**
+     * 주문 항목을 하나의 JDBC 배치로 INSERT합니다.
+     * 생성된 ID는 엔티티에 설정하지 않습니다. (주문 ID로 조회)
+     * 
+     * @param orderItems 주문 ID가 설정된 주문 항목
+     */
+    void insertAll(List<OrderItem> orderItems);
+}
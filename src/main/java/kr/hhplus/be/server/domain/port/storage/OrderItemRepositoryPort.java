@@ -4,15 +4,21 @@ import kr.hhplus.be.server.domain.entity.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
  * OrderItem 저장소 포트
  */
 @Repository
-public interface OrderItemRepositoryPort extends JpaRepository<OrderItem, Long> {
+public interface OrderItemRepositoryPort extends JpaRepository<OrderItem, Long>, OrderItemBatchRepository {
     /**
      * 주문 ID로 OrderItem 목록을 조회합니다.
      */
     List<OrderItem> findByOrderId(Long orderId);
+    
+    /**
+     * 여러 주문의 OrderItem을 한 번에 조회합니다.
+     */
+    List<OrderItem> findByOrderIdIn(Collection<Long> orderIds);
 }
\ No newline at end of file
@@ -1,22 +1,32 @@
 package kr.hhplus.be.server.domain.port.storage;
 
 import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.enums.OrderStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface OrderRepositoryPort extends JpaRepository<Order, Long> {
+public interface OrderRepositoryPort extends JpaRepository<Order, Long>, OrderBatchRepository {
     List<Order> findByUserId(Long userId);
     
     @Query("SELECT o FROM Order o WHERE o.userId = :userId")
     List<Order> findByUserId(@Param("userId") Long userId, Pageable pageable);
     
     Optional<Order> findByIdAndUserId(Long id, Long userId);
+    
+    /**
+     * 지정 시각 이전에 생성되어 아직 해당 상태인 주문 ID를 ID 순으로 조회합니다.
+     */
+    @Query("SELECT o.id FROM Order o WHERE o.status = :status AND o.createdAt < :before ORDER BY o.id")
+    List<Long> findIdsByStatusAndCreatedAtBefore(@Param("status") OrderStatus status,
+                                                 @Param("before") LocalDateTime before,
+                                                 Pageable pageable);
 } 
\ No newline at end of file
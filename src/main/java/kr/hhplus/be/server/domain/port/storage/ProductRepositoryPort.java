@@ -18,7 +18,7 @@ import java.util.Comparator;
 import java.util.List;
 
 @Repository
-public interface ProductRepositoryPort extends JpaRepository<Product, Long> {
+public interface ProductRepositoryPort extends JpaRepository<Product, Long>, ProductStockBatchRepository {
     
     /**
      * ID 목록으로 상품들을 조회합니다.
@@ -43,6 +43,12 @@ public interface ProductRepositoryPort extends JpaRepository<Product, Long> {
         return products;
     }
     
+    /**
+     * 전체 상품의 예약 재고 합계 (결제 대기 중인 재고)
+     */
+    @Query("SELECT COALESCE(SUM(p.reservedStock), 0) FROM Product p")
+    long sumReservedStock();
+    
     /**
      * @param periodDate 조회 시작 날짜
      * @param pageable 페이지네이션 및 정렬 정보
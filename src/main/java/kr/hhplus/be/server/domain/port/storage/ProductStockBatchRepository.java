@@ -0,0 +1,59 @@
+package kr.hhplus.be.server.domain.port.storage;
+
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+
+import java.util.List;
+
+/**
+ * 상품 재고 일괄 조건부 UPDATE (ProductRepositoryPort 커스텀 프래그먼트)
+ * 
+ * 엔티티 조회/저장과 상품별 분산 락 없이, 조건을 만족하는 행만 갱신하는
+ * UPDATE 문을 하나의 JDBC 배치로 실행합니다.
+ */
+public interface ProductStockBatchRepository {
+    
+    /**
+     * 재고를 일괄 예약합니다. (reserved_stock 증가)
+     * 
+     * 항목별로 가용 재고(stock - reserved_stock)가 수량 이상인 경우에만 갱신되며,
+     * 반환된 영향 행 수가 1이 아닌 항목은 예약되지 않은 것입니다.
+     * 
+     * @param items 상품별 예약 수량 (상품 ID 순으로 전달하여 행 락 순서를 고정)
+     * @return 항목 순서대로의 영향 행 수
+     */
+    int[] reserveStocks(List<ProductQuantityDto> items);
+    
+    /**
+     * 예약된 재고를 일괄 확정합니다. (stock, reserved_stock 동시 차감)
+     * 
+     * 항목별로 reserved_stock과 stock이 수량 이상인 경우에만 갱신되며,
+     * 반환된 영향 행 수가 1이 아닌 항목은 확정되지 않은 것입니다.
+     * 
+     * @param items 상품별 확정 수량 (상품 ID 순으로 전달하여 행 락 순서를 고정)
+     * @return 항목 순서대로의 영향 행 수
+     */
+    int[] confirmReservations(List<ProductQuantityDto> items);
+    
+    /**
+     * 예약된 재고를 일괄 해제합니다. (reserved_stock 차감)
+     * 
+     * 항목별로 reserved_stock이 수량 이상인 경우에만 갱신되며,
+     * 반환된 영향 행 수가 1이 아닌 항목은 해제되지 않은 것입니다.
+     * 
+     * @param items 상품별 해제 수량 (상품 ID 순으로 전달하여 행 락 순서를 고정)
+     * @return 항목 순서대로의 영향 행 수
+     */
+    int[] cancelReservations(List<ProductQuantityDto> items);
+    
+    /**
+     * 재고 원장의 반영 대기 변경량을 일괄 적용합니다.
+     * 
+     * 적용 후 값이 @Check 조건(stock >= 0, reserved_stock >= 0, reserved_stock <= stock)을
+     * 만족하는 행만 갱신되며, 반환된 영향 행 수가 1이 아닌 항목은 적용되지 않은 것입니다.
+     * 
+     * @param deltas 상품별 변경량 (상품 ID 순으로 전달하여 행 락 순서를 고정)
+     * @return 항목 순서대로의 영향 행 수
+     */
+    int[] applyStockDeltas(List<ProductStockDelta> deltas);
+}
@@ -0,0 +1,45 @@
+package kr.hhplus.be.server.domain.port.wallet;
+
+import kr.hhplus.be.server.domain.dto.CouponWalletCursor;
+import kr.hhplus.be.server.domain.dto.CouponWalletEntryDto;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 사용자별 쿠폰 지갑 인덱스
+ * 
+ * 사용 가능한(ISSUED) 쿠폰 히스토리 ID를 발급 일시 순으로 보관하여
+ * 깊은 페이지도 커서 위치 탐색(O(log N)) 후 limit개만 읽도록 합니다.
+ * 발급 시 추가, 사용/만료 시 제거하며 목록 캐시를 패턴으로 무효화하지 않습니다.
+ * 
+ * 인덱스는 ID만 보관하므로 조회 측에서 DB 상태로 다시 걸러내야 합니다.
+ */
+public interface CouponWalletPort {
+    
+    /**
+     * 커서 다음부터 limit개의 히스토리 ID를 조회합니다.
+     * 
+     * @param cursor 이전 페이지 마지막 항목 (첫 페이지면 null)
+     * @return 히스토리 ID 목록 (발급 일시 내림차순), 지갑이 구성되지 않았으면 Optional.empty()
+     */
+    Optional<List<Long>> findPage(Long userId, CouponWalletCursor cursor, int limit);
+    
+    /**
+     * DB에서 조회한 항목으로 지갑을 구성합니다.
+     * 구성 중 반영된 추가/제거와 병합되며, 이미 사용된 항목은 조회 시 걸러집니다.
+     */
+    void load(Long userId, List<CouponWalletEntryDto> entries);
+    
+    /**
+     * 발급된 쿠폰을 지갑에 추가합니다. (트랜잭션 안이면 커밋 이후 반영)
+     */
+    void add(Long userId, Long couponHistoryId, LocalDateTime issuedAt);
+    
+    /**
+     * 사용/만료된 쿠폰을 지갑에서 제거합니다. (트랜잭션 안이면 커밋 이후 반영)
+     */
+    void remove(Long userId, Collection<Long> couponHistoryIds);
+}
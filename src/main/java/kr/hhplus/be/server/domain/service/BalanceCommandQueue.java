@@ -0,0 +1,271 @@
+package kr.hhplus.be.server.domain.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.Balance;
+import kr.hhplus.be.server.domain.exception.BalanceException;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.usecase.balance.ChargeBalanceUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자별 잔액 명령 큐
+ *
+ * 충전 명령을 사용자 ID로 나눈 스트라이프(단일 가상 스레드 실행기)에서 처리하여
+ * 같은 사용자의 명령은 항상 같은 스트라이프에서 순서대로 반영되고, 처리 중에 쌓인 명령은
+ * 다음 차례에 최대 max-batch-size건씩 트랜잭션 1회(원장 INSERT 배치 1회)로 병합됩니다.
+ *
+ * 리스(lease) 모드:
+ * - local: 단일 노드 배포. 스트라이프 직렬화만으로 충분하므로 분산 락을 사용하지 않음
+ * - redis: 다중 노드 배포. 노드 간 직렬화를 위해 병합 묶음마다 사용자 잔액 락을 잡음
+ *
+ * 비활성화(balance.command-queue.enabled=false) 시 BalanceService는 요청별로 처리합니다.
+ * 차감은 결제 트랜잭션 안에서 홀드로 처리되므로 큐를 거치지 않습니다.
+ *
+ * 호출자는 await-timeout-ms까지만 기다리며, 처리 전에 포기한 명령은 반영하지 않습니다.
+ * (처리 중에 시간이 초과되면 충전은 반영되었을 수 있으므로 호출자는 잔액을 조회해 확인해야 합니다)
+ * 종료 시에는 쌓인 명령을 처리할 시간을 준 뒤 남은 명령을 모두 실패 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceCommandQueue {
+
+    private static final String LEASE_REDIS = "redis";
+
+    private final ChargeBalanceUseCase chargeBalanceUseCase;
+    private final LockingPort lockingPort;
+    private final KeyGenerator keyGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${balance.command-queue.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${balance.command-queue.stripes:16}")
+    private int stripeCount = 16;
+
+    @Value("${balance.command-queue.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    @Value("${balance.command-queue.lease:local}")
+    private String lease = "local";
+
+    @Value("${balance.command-queue.await-timeout-ms:10000}")
+    private long awaitTimeoutMs = 10000;
+
+    private final Map<Long, UserQueue> pendingQueues = new ConcurrentHashMap<>();
+
+    /**
+     * 결과를 받지 못한 명령 (종료 시 실패 처리)
+     */
+    private final Set<PendingCharge> unfinishedCharges = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService[] stripes;
+
+    /**
+     * 사용자별로 모이는 충전 명령 (스트라이프에서 처리가 시작되면 closed)
+     */
+    private static final class UserQueue {
+        private final Long userId;
+        private final List<PendingCharge> charges = new ArrayList<>();
+        // 가상 스레드가 경합 대기 중 캐리어에 고정되지 않도록 모니터 대신 사용
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+
+        private UserQueue(Long userId) {
+            this.userId = userId;
+        }
+    }
+
+    private record PendingCharge(BigDecimal amount, CompletableFuture<Balance> future) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        stripes = new ExecutorService[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = Executors.newSingleThreadExecutor(Thread.ofVirtual().name("balance-command-" + i).factory());
+        }
+        log.info("잔액 명령 큐 시작: stripes={}, maxBatchSize={}, lease={}", stripeCount, maxBatchSize, lease);
+    }
+
+    /**
+     * 쌓인 명령은 await-timeout-ms 동안 처리하고, 그 뒤에도 남은 명령은 실패 처리합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (stripes == null) {
+            return;
+        }
+
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(awaitTimeoutMs);
+        try {
+            for (ExecutorService stripe : stripes) {
+                stripe.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        for (ExecutorService stripe : stripes) {
+            stripe.shutdownNow();
+        }
+
+        if (!unfinishedCharges.isEmpty()) {
+            log.warn("잔액 명령 큐 종료로 대기 명령 실패 처리: 명령 수={}", unfinishedCharges.size());
+        }
+        unfinishedCharges.forEach(charge -> charge.future().completeExceptionally(new BalanceException.ConcurrencyConflict()));
+    }
+
+    public boolean isEnabled() {
+        return enabled && stripes != null;
+    }
+
+    /**
+     * 충전 명령을 큐에 넣고 반영 결과를 await-timeout-ms까지 기다립니다.
+     *
+     * @return 충전 반영 후 잔액
+     * @throws BalanceException.ConcurrencyConflict 제한 시간 안에 결과를 받지 못한 경우
+     * @throws RuntimeException 금액 검증 실패 또는 병합 묶음 전체 실패 예외
+     */
+    public Balance charge(Long userId, BigDecimal amount) {
+        CompletableFuture<Balance> future = submit(userId, amount);
+        try {
+            return future.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 처리 전이면 반영되지 않음
+            future.cancel(false);
+            log.warn("잔액 충전 명령 대기 시간 초과: userId={}, timeoutMs={}", userId, awaitTimeoutMs);
+            throw new BalanceException.ConcurrencyConflict();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new BalanceException.ConcurrencyConflict();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 충전 명령을 사용자의 대기 큐에 추가합니다.
+     * 금액이 잘못된 명령은 다른 명령과 병합되지 않도록 큐에 넣기 전에 거부합니다.
+     */
+    public CompletableFuture<Balance> submit(Long userId, BigDecimal amount) {
+        try {
+            ChargeBalanceUseCase.validateAmount(amount);
+        } catch (BalanceException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+
+        PendingCharge pendingCharge = new PendingCharge(amount, new CompletableFuture<>());
+        unfinishedCharges.add(pendingCharge);
+        pendingCharge.future().whenComplete((balance, error) -> unfinishedCharges.remove(pendingCharge));
+
+        while (true) {
+            UserQueue queue;
+            try {
+                queue = pendingQueues.computeIfAbsent(userId, this::openQueue);
+            } catch (RejectedExecutionException e) {
+                // 종료 중인 큐
+                pendingCharge.future().completeExceptionally(new BalanceException.ConcurrencyConflict());
+                return pendingCharge.future();
+            }
+            queue.lock.lock();
+            try {
+                if (queue.closed) {
+                    // 처리 시작된 큐면 새 큐로 다시 시도
+                    continue;
+                }
+                queue.charges.add(pendingCharge);
+            } finally {
+                queue.lock.unlock();
+            }
+            return pendingCharge.future();
+        }
+    }
+
+    /**
+     * 새 큐를 만들고 사용자의 스트라이프에 처리를 예약합니다.
+     * 같은 사용자의 이전 큐가 처리 중이면 스트라이프가 단일 스레드이므로 그 뒤에 처리됩니다.
+     */
+    private UserQueue openQueue(Long userId) {
+        UserQueue queue = new UserQueue(userId);
+        stripes[Math.floorMod(userId.hashCode(), stripes.length)].execute(() -> drain(queue));
+        return queue;
+    }
+
+    private void drain(UserQueue queue) {
+        queue.lock.lock();
+        try {
+            queue.closed = true;
+            pendingQueues.remove(queue.userId, queue);
+        } finally {
+            queue.lock.unlock();
+        }
+
+        // 대기 시간 초과로 호출자가 포기한 명령은 반영하지 않음
+        List<PendingCharge> charges = queue.charges.stream()
+                .filter(charge -> !charge.future().isDone())
+                .toList();
+        for (int from = 0; from < charges.size(); from += maxBatchSize) {
+            flush(queue.userId, charges.subList(from, Math.min(from + maxBatchSize, charges.size())));
+        }
+    }
+
+    /**
+     * 병합된 충전 명령을 트랜잭션 1회로 반영하고 명령별 Future를 완료합니다.
+     */
+    private void flush(Long userId, List<PendingCharge> charges) {
+        String leaseKey = LEASE_REDIS.equals(lease) ? keyGenerator.generateBalanceKey(userId) : null;
+
+        try {
+            if (leaseKey != null && !lockingPort.acquireLock(leaseKey)) {
+                throw new BalanceException.ConcurrencyConflict();
+            }
+
+            try {
+                List<BigDecimal> amounts = charges.stream().map(PendingCharge::amount).toList();
+                Balance result = transactionTemplate.execute(status ->
+                        chargeBalanceUseCase.executeAll(userId, amounts));
+
+                charges.forEach(charge -> charge.future().complete(result));
+            } finally {
+                if (leaseKey != null) {
+                    lockingPort.releaseLock(leaseKey);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("잔액 충전 명령 처리 실패: userId={}, 명령 수={}", userId, charges.size(), e);
+            charges.forEach(charge -> charge.future().completeExceptionally(e));
+        }
+    }
+}
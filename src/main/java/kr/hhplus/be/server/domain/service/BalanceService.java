@@ -3,11 +3,8 @@ package kr.hhplus.be.server.domain.service;
 import kr.hhplus.be.server.domain.entity.Balance;
 import kr.hhplus.be.server.domain.usecase.balance.ChargeBalanceUseCase;
 import kr.hhplus.be.server.domain.usecase.balance.GetBalanceUseCase;
-import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
-import kr.hhplus.be.server.domain.exception.CommonException;
 import kr.hhplus.be.server.domain.exception.UserException;
-import kr.hhplus.be.server.common.util.KeyGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,9 +25,8 @@ public class BalanceService {
     private final TransactionTemplate transactionTemplate;
     private final ChargeBalanceUseCase chargeBalanceUseCase;
     private final GetBalanceUseCase getBalanceUseCase;
-    private final LockingPort lockingPort;
     private final UserRepositoryPort userRepositoryPort;
-    private final KeyGenerator keyGenerator;
+    private final BalanceCommandQueue balanceCommandQueue;
     
     /**
      * 사용자 잔액 조회
@@ -52,6 +48,9 @@ public class BalanceService {
     /**
      * 사용자 잔액 충전
      * 
+     * 충전은 잔액 원장에 행을 추가하므로 분산 락 없이 트랜잭션만 사용합니다.
+     * 잔액 명령 큐가 활성화되어 있으면 같은 사용자의 충전을 큐에서 순서대로 병합 처리합니다.
+     * 
      * @param userId 사용자 ID
      * @param chargeAmount 충전 금액
      * @return 충전 후 잔액 정보
@@ -59,25 +58,15 @@ public class BalanceService {
     public Balance chargeBalance(Long userId, BigDecimal chargeAmount) {
         log.info("잔액 충전 요청: userId={}, amount={}", userId, chargeAmount);
         
-        String lockKey = keyGenerator.generateBalanceKey(userId);
-        
         if (!userRepositoryPort.existsById(userId)) {
             throw new UserException.NotFound();
         }
         
-        if (!lockingPort.acquireLock(lockKey)) {
-            throw new CommonException.ConcurrencyConflict();
-        }
+        Balance result = balanceCommandQueue.isEnabled()
+                ? balanceCommandQueue.charge(userId, chargeAmount)
+                : transactionTemplate.execute(status -> chargeBalanceUseCase.execute(userId, chargeAmount));
         
-        try {
-            Balance result = transactionTemplate.execute(status -> {
-                return chargeBalanceUseCase.execute(userId, chargeAmount);
-            });
-            
-            log.info("잔액 충전 완료: userId={}, newAmount={}", userId, result.getAmount());
-            return result;
-        } finally {
-            lockingPort.releaseLock(lockKey);
-        }
+        log.info("잔액 충전 완료: userId={}, newAmount={}", userId, result.getAmount());
+        return result;
     }
-}
\ No newline at end of file
+}
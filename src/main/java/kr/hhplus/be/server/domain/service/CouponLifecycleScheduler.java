@@ -0,0 +1,302 @@
+package kr.hhplus.be.server.domain.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.util.HierarchicalTimingWheel;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.enums.CouponStatus;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 쿠폰 시작/종료 시각 전환 스케줄러
+ *
+ * 쿠폰이 조회되거나 재구성될 때 startDate/endDate 전환을 타이밍 휠에 등록하고,
+ * 전환 시각이 되면 메모리의 기간 상태(INACTIVE → ACTIVE → EXPIRED)를 갱신한 뒤
+ * DB 상태를 조건부 UPDATE로 맞추고 쿠폰 캐시를 무효화합니다.
+ *
+ * 발급 경로는 getPhase()로 미리 계산된 기간 상태만 읽으므로 요청마다 시계를 조회하지 않습니다.
+ * 등록(register)은 발급 트랜잭션 안에서도 호출되므로 기간 상태와 타이밍 휠만 갱신하고,
+ * DB/캐시 전환은 전환 대기열에 넣어 틱 스레드가 별도 트랜잭션으로 실행합니다.
+ * 만료된 쿠폰의 등록 정보는 보관 기간(expired-retention-ms)이 지나면 제거합니다.
+ * 재시작 시에는 종료되지 않은 쿠폰을 endDate 인덱스 범위 조회로 다시 등록합니다.
+ * 쿠폰 이력 만료는 기존 시간 단위 배치(CouponExpirationScheduler)가 계속 담당합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponLifecycleScheduler {
+
+    private static final int WHEEL_SIZE = 60;
+    private static final int LEVEL_COUNT = 4;
+    private static final List<CouponStatus> ACTIVATABLE_STATUSES = List.of(CouponStatus.INACTIVE);
+    private static final List<CouponStatus> EXPIRABLE_STATUSES =
+            List.of(CouponStatus.INACTIVE, CouponStatus.ACTIVE, CouponStatus.SOLD_OUT);
+
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final CachePort cachePort;
+    private final KeyGenerator keyGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${coupon.lifecycle.tick-ms:100}")
+    private long tickMs = 100;
+
+    @Value("${coupon.lifecycle.expired-retention-ms:3600000}")
+    private long expiredRetentionMs = 3_600_000;
+
+    private final Map<Long, CouponStatus> phases = new ConcurrentHashMap<>();
+    private final Map<Long, Registration> registrations = new ConcurrentHashMap<>();
+    private final Queue<Runnable> queuedTransitions = new ConcurrentLinkedQueue<>();
+    private long nextSweepMs;
+
+    private volatile HierarchicalTimingWheel timingWheel;
+    private ScheduledExecutorService ticker;
+
+    /**
+     * 쿠폰별 등록 정보 (기간이 바뀌면 기존 작업을 취소하고 다시 등록)
+     */
+    private record Registration(LocalDateTime startDate,
+                                LocalDateTime endDate,
+                                HierarchicalTimingWheel.Timeout startTimeout,
+                                HierarchicalTimingWheel.Timeout endTimeout) {
+
+        boolean matches(Coupon coupon) {
+            return startDate.equals(coupon.getStartDate()) && endDate.equals(coupon.getEndDate());
+        }
+
+        void cancel() {
+            if (startTimeout != null) {
+                startTimeout.cancel();
+            }
+            if (endTimeout != null) {
+                endTimeout.cancel();
+            }
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        initialize(System.currentTimeMillis());
+
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "coupon-lifecycle-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(() -> advanceTo(System.currentTimeMillis()), tickMs, tickMs, TimeUnit.MILLISECONDS);
+        log.info("쿠폰 전환 타이밍 휠 시작: tickMs={}", tickMs);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+        }
+    }
+
+    /**
+     * 타이밍 휠 초기화 (start 또는 테스트에서 호출)
+     */
+    public void initialize(long startTimeMs) {
+        timingWheel = new HierarchicalTimingWheel(tickMs, WHEEL_SIZE, LEVEL_COUNT, startTimeMs);
+    }
+
+    /**
+     * 재시작 시 종료되지 않은 쿠폰의 전환을 다시 등록합니다.
+     */
+    @EventListener
+    public void onApplicationReady(ApplicationReadyEvent event) {
+        rebuild();
+    }
+
+    public void rebuild() {
+        try {
+            List<Coupon> coupons = couponRepositoryPort.findByEndDateGreaterThanEqualAndStatusIn(
+                    LocalDateTime.now(), EXPIRABLE_STATUSES);
+            coupons.forEach(this::register);
+            log.info("쿠폰 전환 타이밍 휠 재구성 완료: 등록 쿠폰 수={}", coupons.size());
+        } catch (Exception e) {
+            log.error("쿠폰 전환 타이밍 휠 재구성 실패", e);
+        }
+    }
+
+    /**
+     * 쿠폰의 시작/종료 전환을 등록합니다.
+     * 같은 기간으로 이미 등록된 쿠폰은 시계 조회 없이 바로 반환합니다.
+     * compute 안에서는 메모리 상태만 바꾸며, 이미 지난 전환의 DB/캐시 반영은 다음 틱에 실행됩니다.
+     */
+    public void register(Coupon coupon) {
+        if (coupon == null || coupon.getId() == null
+                || coupon.getStartDate() == null || coupon.getEndDate() == null || timingWheel == null) {
+            return;
+        }
+
+        Registration existing = registrations.get(coupon.getId());
+        if (existing != null && existing.matches(coupon)) {
+            return;
+        }
+
+        registrations.compute(coupon.getId(), (couponId, current) -> {
+            if (current != null) {
+                if (current.matches(coupon)) {
+                    return current;
+                }
+                current.cancel();
+            }
+            return schedule(couponId, coupon.getStartDate(), coupon.getEndDate());
+        });
+    }
+
+    /**
+     * 미리 계산된 기간 상태를 조회합니다.
+     *
+     * @return INACTIVE/ACTIVE/EXPIRED, 등록되지 않은 쿠폰은 null
+     */
+    public CouponStatus getPhase(Long couponId) {
+        return phases.get(couponId);
+    }
+
+    /**
+     * 지정한 시각까지 타이밍 휠을 진행시키고 도달한 전환과 대기 중인 DB/캐시 반영을 실행합니다.
+     */
+    public void advanceTo(long nowMs) {
+        HierarchicalTimingWheel wheel = timingWheel;
+        if (wheel == null) {
+            return;
+        }
+
+        for (Runnable transition : wheel.advance(nowMs)) {
+            runSafely(transition);
+        }
+
+        Runnable queued;
+        while ((queued = queuedTransitions.poll()) != null) {
+            runSafely(queued);
+        }
+
+        if (nowMs >= nextSweepMs) {
+            evictExpired(nowMs);
+            nextSweepMs = nowMs + Math.max(tickMs, expiredRetentionMs / 10);
+        }
+    }
+
+    /**
+     * 등록된 전환 작업 수
+     */
+    public int pendingTransitions() {
+        HierarchicalTimingWheel wheel = timingWheel;
+        return wheel == null ? 0 : wheel.size();
+    }
+
+    private Registration schedule(Long couponId, LocalDateTime startDate, LocalDateTime endDate) {
+        long nowMs = System.currentTimeMillis();
+        long startMs = toEpochMilli(startDate);
+        // 종료 시각(endDate)까지는 발급 가능하므로 그 다음 밀리초에 만료
+        long expireMs = toEpochMilli(endDate) + 1;
+
+        HierarchicalTimingWheel.Timeout startTimeout = null;
+        HierarchicalTimingWheel.Timeout endTimeout = null;
+
+        if (nowMs >= expireMs) {
+            expire(couponId);
+        } else {
+            if (nowMs < startMs) {
+                phases.put(couponId, CouponStatus.INACTIVE);
+                startTimeout = timingWheel.schedule(startMs, () -> activate(couponId));
+                if (startTimeout == null) {
+                    activate(couponId);
+                }
+            } else {
+                phases.put(couponId, CouponStatus.ACTIVE);
+            }
+            endTimeout = timingWheel.schedule(expireMs, () -> expire(couponId));
+            if (endTimeout == null) {
+                expire(couponId);
+            }
+        }
+
+        log.debug("쿠폰 전환 등록: couponId={}, phase={}, startDate={}, endDate={}",
+                couponId, phases.get(couponId), startDate, endDate);
+        return new Registration(startDate, endDate, startTimeout, endTimeout);
+    }
+
+    private void activate(Long couponId) {
+        if (!phases.replace(couponId, CouponStatus.INACTIVE, CouponStatus.ACTIVE)) {
+            return;
+        }
+        queuedTransitions.add(() -> applyTransition(couponId, ACTIVATABLE_STATUSES, CouponStatus.ACTIVE));
+    }
+
+    private void expire(Long couponId) {
+        CouponStatus previous = phases.put(couponId, CouponStatus.EXPIRED);
+        if (previous == CouponStatus.EXPIRED) {
+            return;
+        }
+        queuedTransitions.add(() -> applyTransition(couponId, EXPIRABLE_STATUSES, CouponStatus.EXPIRED));
+    }
+
+    /**
+     * 보관 기간이 지난 만료 쿠폰의 등록 정보와 기간 상태를 제거합니다.
+     * 제거된 쿠폰이 다시 조회되면 등록 시 즉시 만료로 다시 계산됩니다.
+     */
+    private void evictExpired(long nowMs) {
+        registrations.forEach((couponId, registration) -> {
+            if (phases.get(couponId) == CouponStatus.EXPIRED
+                    && toEpochMilli(registration.endDate()) + expiredRetentionMs < nowMs
+                    && registrations.remove(couponId, registration)) {
+                phases.remove(couponId, CouponStatus.EXPIRED);
+            }
+        });
+    }
+
+    private void runSafely(Runnable transition) {
+        try {
+            transition.run();
+        } catch (Exception e) {
+            log.error("쿠폰 상태 전환 실행 실패", e);
+        }
+    }
+
+    /**
+     * DB 상태와 쿠폰 캐시를 전환된 기간 상태에 맞춥니다. (틱 스레드에서 실행)
+     * 실패해도 메모리 상태는 이미 반영되었으며, DB는 시간 단위 만료 배치가 보정합니다.
+     */
+    private void applyTransition(Long couponId, List<CouponStatus> currentStatuses, CouponStatus newStatus) {
+        try {
+            Integer updated = transactionTemplate.execute(status ->
+                    couponRepositoryPort.transitionStatus(couponId, currentStatuses, newStatus, LocalDateTime.now()));
+            log.info("쿠폰 상태 전환: couponId={}, newStatus={}, updated={}", couponId, newStatus, updated);
+        } catch (Exception e) {
+            log.warn("쿠폰 상태 DB 반영 실패: couponId={}, newStatus={}", couponId, newStatus, e);
+        }
+
+        try {
+            cachePort.evict(keyGenerator.generateCouponCacheKey(couponId));
+        } catch (Exception e) {
+            log.warn("쿠폰 캐시 무효화 실패: couponId={}", couponId, e);
+        }
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
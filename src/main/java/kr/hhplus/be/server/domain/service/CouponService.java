@@ -1,19 +1,28 @@
 package kr.hhplus.be.server.domain.service;
 
 import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.CouponWalletPage;
 import kr.hhplus.be.server.domain.entity.Coupon;
 import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.enums.CacheTTL;
+import kr.hhplus.be.server.domain.enums.EventTopic;
+import kr.hhplus.be.server.domain.event.CouponRequestEvent;
+import kr.hhplus.be.server.domain.event.CouponResultEvent;
 import kr.hhplus.be.server.domain.usecase.coupon.GetCouponListUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponWalletUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.GetCouponByIdUseCase;
 import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
 import kr.hhplus.be.server.domain.exception.CommonException;
 import kr.hhplus.be.server.domain.exception.UserException;
 import kr.hhplus.be.server.domain.exception.CouponException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -38,6 +47,20 @@ public class CouponService {
     private final UserRepositoryPort userRepositoryPort;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final EventPort eventPort;
+    private final SoldOutRegistryPort soldOutRegistryPort;
+    private final GetCouponWalletUseCase getCouponWalletUseCase;
+    
+    // 재고 샤딩 모드: 단일 카운터 키 대신 N개의 샤드 카운터로 선착순 처리
+    @Value("${coupon.stock.sharding.enabled:false}")
+    private boolean stockShardingEnabled;
+    
+    @Value("${coupon.stock.sharding.shard-count:8}")
+    private int stockShardCount;
+    
+    // 발급 수량 슬롯 카운터 모드 (coupon_issue_counter)
+    @Value("${coupon.issue-counter.enabled:false}")
+    private boolean issueCounterEnabled;
     
     /**
      * 사용자의 쿠폰 히스토리 목록 조회
@@ -56,6 +79,20 @@ public class CouponService {
         
         return getCouponListUseCase.execute(userId, limit, offset);
     }
+    
+    /**
+     * 사용자의 쿠폰 지갑 조회 (사용 가능한 쿠폰, 커서 기반 페이지)
+     * 
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 조회할 쿠폰 개수
+     * @return 쿠폰 지갑 페이지
+     */
+    public CouponWalletPage getCouponWallet(Long userId, String cursor, int limit) {
+        log.debug("쿠폰 지갑 조회 요청: userId={}, cursor={}, limit={}", userId, cursor, limit);
+        
+        return getCouponWalletUseCase.execute(userId, cursor, limit);
+    }
 
     /**
      * 쿠폰 발급 (Redis 원자적 연산 기반)
@@ -68,6 +105,8 @@ public class CouponService {
      * @return 발급된 쿠폰 히스토리
      */
     public CouponHistory issueCoupon(Long couponId, Long userId) {
+        rejectIfSoldOut(couponId);
+        
         if (!userRepositoryPort.existsById(userId)) {
             throw new UserException.NotFound();
         }
@@ -75,20 +114,34 @@ public class CouponService {
         // 쿠폰 정보 조회
         Coupon coupon = getCouponByIdUseCase.execute(couponId);
         
-        // Redis 키 생성
-        String couponCounterKey = keyGenerator.generateCouponCounterKey(couponId);
-        String couponUserKey = keyGenerator.generateCouponUserKey(couponId, userId);
-        
         // Redis에서 원자적 선착순 처리
-        long issueNumber = cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, coupon.getMaxIssuance());
+        long issueNumber = admitCouponIssue(coupon, userId);
         
-        if (issueNumber == -1) {
-            // 중복 발급 또는 한도 초과
-            if (cachePort.hasCouponIssued(couponUserKey)) {
-                throw new CouponException.AlreadyIssued();
-            } else {
-                throw new CouponException.OutOfStock();
+        try {
+            CouponHistory result = saveCouponIssue(couponId, userId);
+            
+            log.info("쿠폰 발급 완료: couponId={}, userId={}, issueNumber={}", 
+                     couponId, userId, issueNumber);
+            
+            return result;
+        } catch (RuntimeException e) {
+            // DB 반영 실패 시 선점한 Redis 슬롯 보상 (이미 발급된 사용자는 선점이 유효하므로 유지)
+            if (!(e instanceof CouponException.AlreadyIssued)) {
+                releaseCouponAdmission(couponId, userId, issueNumber);
             }
+            throw e;
+        }
+    }
+    
+    /**
+     * Redis 검증을 통과한 발급을 DB에 저장
+     */
+    private CouponHistory saveCouponIssue(Long couponId, Long userId) {
+        // 슬롯 카운터 모드: 한도는 슬롯 할당량 조건부 UPDATE, 중복은 Redis 선점/유니크 제약이 보장하므로 쿠폰 락 생략
+        if (issueCounterEnabled) {
+            return transactionTemplate.execute(status -> {
+                return issueCouponUseCase.execute(userId, couponId);
+            });
         }
         
         // Redis 검증 통과 시 DB에 저장 (기존 락 방식 유지)
@@ -99,19 +152,168 @@ public class CouponService {
         }
         
         try {
-            CouponHistory result = transactionTemplate.execute(status -> {
+            return transactionTemplate.execute(status -> {
                 return issueCouponUseCase.execute(userId, couponId);
             });
-            
-            log.info("쿠폰 발급 완료: couponId={}, userId={}, issueNumber={}", 
-                     couponId, userId, issueNumber);
-            
-            return result;
         } finally {
             lockingPort.releaseLock(lockKey);
         }
     }
     
+    /**
+     * 쿠폰 발급 요청 (비동기)
+     * 
+     * Redis 선착순 검증만 동기로 수행하고, DB 저장은 coupon-requests 토픽의
+     * Consumer에 위임합니다. 처리 결과는 requestId로 조회할 수 있습니다.
+     * 
+     * @param couponId 쿠폰 ID
+     * @param userId 사용자 ID
+     * @return 처리 대기 상태의 요청 결과 (requestId 포함)
+     */
+    public CouponResultEvent requestCouponIssue(Long couponId, Long userId) {
+        rejectIfSoldOut(couponId);
+        
+        if (!userRepositoryPort.existsById(userId)) {
+            throw new UserException.NotFound();
+        }
+        
+        Coupon coupon = getCouponByIdUseCase.execute(couponId);
+        long issueNumber = admitCouponIssue(coupon, userId);
+        
+        CouponRequestEvent requestEvent = CouponRequestEvent.create(userId, couponId).withIssueNumber(issueNumber);
+        CouponResultEvent pending = CouponResultEvent.pending(requestEvent.getRequestId(), userId, couponId);
+        String resultKey = keyGenerator.generateCouponRequestResultKey(requestEvent.getRequestId());
+        
+        try {
+            // Consumer 결과가 먼저 도착해도 덮어쓰지 않도록 발행 전에 PENDING 기록
+            cachePort.put(resultKey, pending, CacheTTL.COUPON_ISSUE_RESULT.getSeconds());
+            eventPort.publish(EventTopic.COUPON_REQUESTS.getTopic(), requestEvent);
+        } catch (Exception e) {
+            // 발행 실패 시 선점한 Redis 슬롯 보상
+            releaseCouponAdmission(couponId, userId, issueNumber);
+            cachePort.evict(resultKey);
+            log.error("쿠폰 발급 요청 발행 실패: couponId={}, userId={}", couponId, userId, e);
+            throw e;
+        }
+        
+        log.info("쿠폰 발급 요청 접수: requestId={}, couponId={}, userId={}", 
+                 requestEvent.getRequestId(), couponId, userId);
+        
+        return pending;
+    }
+    
+    /**
+     * 비동기 쿠폰 발급 요청 결과 조회
+     * 
+     * @param requestId 쿠폰 발급 요청 ID
+     * @return 요청 처리 결과 (처리 전이면 PENDING)
+     * @throws CouponException.RequestNotFound 요청이 없거나 결과 보관 기간이 지난 경우
+     */
+    public CouponResultEvent getCouponIssueResult(String requestId) {
+        String resultKey = keyGenerator.generateCouponRequestResultKey(requestId);
+        CouponResultEvent result = cachePort.get(resultKey, CouponResultEvent.class);
+        
+        if (result == null) {
+            throw new CouponException.RequestNotFound();
+        }
+        
+        return result;
+    }
+    
+    /**
+     * Redis 원자적 연산으로 선착순 발급 슬롯 선점
+     * 
+     * 샤딩 모드에서는 userId 해시로 샤드를 배정하고, 소진된 샤드는 다음 샤드로 넘깁니다.
+     * 샤드는 발급 한도가 아닌 남은 수량(한도 - 이미 발급된 수량)으로 처음 한 번 나눕니다.
+     * 
+     * @return 발급 순번 (샤딩 모드에서는 차감된 샤드 번호)
+     * @throws CouponException.AlreadyIssued 이미 발급받은 사용자인 경우
+     * @throws CouponException.OutOfStock 발급 한도를 초과한 경우 (이 경우에만 품절 전파)
+     * @throws CommonException.ConcurrencyConflict 락 획득 실패나 Redis 오류로 선점 여부를 판단하지 못한 경우
+     */
+    private long admitCouponIssue(Coupon coupon, Long userId) {
+        Long couponId = coupon.getId();
+        long maxIssuance = coupon.getMaxIssuance();
+        String couponUserKey = keyGenerator.generateCouponUserKey(couponId, userId);
+        
+        long issueNumber;
+        if (stockShardingEnabled) {
+            issueNumber = cachePort.issueCouponFromShards(
+                    keyGenerator.generateCouponStockShardKeys(couponId, stockShardCount),
+                    keyGenerator.generateCouponSoldOutKey(couponId),
+                    couponUserKey,
+                    Math.max(0, maxIssuance - coupon.getIssuedCount()),
+                    Math.floorMod(Long.hashCode(userId), stockShardCount));
+        } else {
+            String couponCounterKey = keyGenerator.generateCouponCounterKey(couponId);
+            issueNumber = cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, maxIssuance);
+        }
+        
+        if (issueNumber == CachePort.COUPON_UNAVAILABLE) {
+            // 락/Redis 오류는 재고 상태를 알 수 없으므로 품절로 전파하지 않고 재시도를 유도
+            throw new CommonException.ConcurrencyConflict();
+        }
+        if (issueNumber == CachePort.COUPON_ALREADY_ISSUED) {
+            throw new CouponException.AlreadyIssued();
+        }
+        if (issueNumber == CachePort.COUPON_SOLD_OUT) {
+            // 한도 소진 (샤딩 모드는 품절 플래그를 먼저 보므로 이미 발급받은 사용자도 포함될 수 있음)
+            // Bloom 필터는 DB 커밋 후에 갱신되어 처리 중인 중복 요청을 음성으로 판단하므로, 품절 전파 전에 항상 정확히 확인
+            if (cachePort.hasCouponIssued(couponUserKey)) {
+                throw new CouponException.AlreadyIssued();
+            }
+            soldOutRegistryPort.markCouponSoldOut(couponId);
+            throw new CouponException.OutOfStock();
+        }
+        
+        // 마지막 슬롯을 가져간 요청이 품절을 전파 (샤딩 모드는 issueNumber가 샤드 번호이므로 실패 시점에 전파)
+        if (!stockShardingEnabled && issueNumber == maxIssuance) {
+            soldOutRegistryPort.markCouponSoldOut(couponId);
+        }
+        
+        return issueNumber;
+    }
+    
+    /**
+     * 품절이 전파된 쿠폰은 DB/Redis 조회 없이 즉시 거절
+     * 
+     * 품절 이후에는 이미 발급받은 사용자도 중복 발급 대신 재고 부족으로 응답합니다.
+     */
+    private void rejectIfSoldOut(Long couponId) {
+        if (soldOutRegistryPort.isCouponSoldOut(couponId)) {
+            throw new CouponException.OutOfStock();
+        }
+    }
+    
+    /**
+     * admitCouponIssue로 선점한 슬롯 보상
+     * 
+     * 사용자 선점 키가 있을 때만 카운터를 되돌리므로 같은 요청을 여러 번 보상해도 한 번만 반영됩니다.
+     * 
+     * @param issueNumber 선점 번호 (샤딩 모드에서는 샤드 번호, 모르면 null)
+     */
+    public void releaseCouponAdmission(Long couponId, Long userId, Long issueNumber) {
+        String couponUserKey = keyGenerator.generateCouponUserKey(couponId, userId);
+        
+        if (stockShardingEnabled) {
+            if (issueNumber == null || issueNumber < 1 || issueNumber > stockShardCount) {
+                log.warn("선점 샤드를 알 수 없어 쿠폰 선점 보상 생략: couponId={}, userId={}, issueNumber={}", 
+                         couponId, userId, issueNumber);
+                return;
+            }
+            List<String> shardKeys = keyGenerator.generateCouponStockShardKeys(couponId, stockShardCount);
+            cachePort.rollbackCouponShardIssue(
+                    shardKeys.get(issueNumber.intValue() - 1),
+                    keyGenerator.generateCouponSoldOutKey(couponId),
+                    couponUserKey);
+        } else {
+            cachePort.rollbackCouponIssue(keyGenerator.generateCouponCounterKey(couponId), couponUserKey);
+        }
+        
+        // 되돌린 슬롯만큼 다시 발급 가능
+        soldOutRegistryPort.clearCouponSoldOut(couponId);
+    }
+    
     /**
      * 쿠폰 ID로 쿠폰 정보 조회
      * 
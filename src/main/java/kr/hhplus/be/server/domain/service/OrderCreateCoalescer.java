@@ -0,0 +1,298 @@
+package kr.hhplus.be.server.domain.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.common.util.LockOrderManager;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.exception.CommonException;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase.OrderRequest;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase.OrderResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 주문 생성 요청 묶음 처리기 (group commit)
+ *
+ * 같은 상품 묶음에 대한 주문 생성 요청을 짧은 시간(window-ms) 동안 모아
+ * 상품 락 1회 + 트랜잭션 1회로 CreateOrderBatchUseCase에 넘기고,
+ * 요청별 결과(주문 또는 예외)로 각 호출자의 Future를 완료합니다.
+ *
+ * 묶음은 첫 요청 이후 window-ms가 지나거나 max-batch-size에 도달하면 처리됩니다.
+ * 비활성화(order.create.coalescing.enabled=false) 시 OrderService는 요청별로 처리합니다.
+ *
+ * 호출자는 await-timeout-ms까지만 기다리며, 처리 전에 포기한 요청은 묶음에서 제외됩니다.
+ * 종료 시에는 모인 묶음을 처리할 시간을 준 뒤 남은 요청을 모두 실패 처리합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderCreateCoalescer {
+
+    private final CreateOrderBatchUseCase createOrderBatchUseCase;
+    private final LockingPort lockingPort;
+    private final KeyGenerator keyGenerator;
+    private final LockOrderManager lockOrderManager;
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.create.coalescing.enabled:false}")
+    private boolean enabled = false;
+
+    @Value("${order.create.coalescing.window-ms:5}")
+    private long windowMs = 5;
+
+    @Value("${order.create.coalescing.max-batch-size:100}")
+    private int maxBatchSize = 100;
+
+    @Value("${order.create.coalescing.flush-threads:4}")
+    private int flushThreads = 4;
+
+    @Value("${order.create.coalescing.await-timeout-ms:10000}")
+    private long awaitTimeoutMs = 10000;
+
+    private final Map<String, Batch> pendingBatches = new ConcurrentHashMap<>();
+
+    /**
+     * 결과를 받지 못한 요청 (종료 시 실패 처리)
+     */
+    private final Set<PendingOrder> unfinishedOrders = ConcurrentHashMap.newKeySet();
+
+    private ScheduledExecutorService flusher;
+
+    /**
+     * 상품 묶음별로 모이는 요청 (처리가 시작되면 closed)
+     *
+     * 인기 상품 묶음은 요청 스레드가 몰려 경합하므로, 가상 스레드가 대기 중 캐리어에 고정되지 않도록 ReentrantLock으로 보호합니다.
+     */
+    private static final class Batch {
+        private final List<Long> productIds;
+        private final List<PendingOrder> orders = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private boolean closed;
+
+        private Batch(List<Long> productIds) {
+            this.productIds = productIds;
+        }
+    }
+
+    private record PendingOrder(OrderRequest request, CompletableFuture<Order> future) {
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        flusher = Executors.newScheduledThreadPool(flushThreads, runnable -> {
+            Thread thread = new Thread(runnable, "order-create-coalescer-" + threadIndex.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("주문 생성 묶음 처리 시작: windowMs={}, maxBatchSize={}, flushThreads={}",
+                windowMs, maxBatchSize, flushThreads);
+    }
+
+    /**
+     * 이미 모인 묶음은 await-timeout-ms 동안 처리하고, 그 뒤에도 남은 요청은 실패 처리합니다.
+     */
+    @PreDestroy
+    public void stop() {
+        if (flusher == null) {
+            return;
+        }
+
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(awaitTimeoutMs, TimeUnit.MILLISECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            flusher.shutdownNow();
+        }
+
+        if (!unfinishedOrders.isEmpty()) {
+            log.warn("주문 묶음 처리기 종료로 대기 요청 실패 처리: 요청 수={}", unfinishedOrders.size());
+        }
+        unfinishedOrders.forEach(order -> order.future().completeExceptionally(new CommonException.ConcurrencyConflict()));
+    }
+
+    public boolean isEnabled() {
+        return enabled && flusher != null;
+    }
+
+    /**
+     * 주문 생성 요청을 묶음에 추가하고 처리 결과를 await-timeout-ms까지 기다립니다.
+     *
+     * @return 생성된 주문
+     * @throws CommonException.ConcurrencyConflict 제한 시간 안에 결과를 받지 못한 경우
+     * @throws RuntimeException 요청별 실패(재고 부족 등) 또는 묶음 전체 실패 예외
+     */
+    public Order create(Long userId, List<ProductQuantityDto> productQuantities) {
+        CompletableFuture<Order> future = submit(userId, productQuantities);
+        try {
+            return future.get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 아직 처리 전이면 묶음에서 제외됨 (처리 중이었다면 생성된 주문은 예약 만료로 정리)
+            future.cancel(false);
+            log.warn("주문 묶음 처리 대기 시간 초과: userId={}, timeoutMs={}", userId, awaitTimeoutMs);
+            throw new CommonException.ConcurrencyConflict();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw new CommonException.ConcurrencyConflict();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 주문 생성 요청을 같은 상품 묶음의 대기 묶음에 추가합니다.
+     */
+    public CompletableFuture<Order> submit(Long userId, List<ProductQuantityDto> productQuantities) {
+        List<Long> productIds = lockOrderManager.getOrderedLockIds(productQuantities.stream()
+                .map(ProductQuantityDto::getProductId)
+                .toList());
+        String groupKey = productIds.toString();
+        PendingOrder pendingOrder = new PendingOrder(new OrderRequest(userId, productQuantities), new CompletableFuture<>());
+        unfinishedOrders.add(pendingOrder);
+        pendingOrder.future().whenComplete((order, error) -> unfinishedOrders.remove(pendingOrder));
+
+        while (true) {
+            Batch batch;
+            try {
+                batch = pendingBatches.computeIfAbsent(groupKey, key -> openBatch(key, productIds));
+            } catch (RejectedExecutionException e) {
+                // 종료 중인 처리기
+                pendingOrder.future().completeExceptionally(new CommonException.ConcurrencyConflict());
+                return pendingOrder.future();
+            }
+            boolean full;
+            batch.lock.lock();
+            try {
+                if (batch.closed) {
+                    // 처리 시작된 묶음이면 새 묶음으로 다시 시도
+                    continue;
+                }
+                batch.orders.add(pendingOrder);
+                full = batch.orders.size() >= maxBatchSize && close(groupKey, batch);
+            } finally {
+                batch.lock.unlock();
+            }
+            if (full) {
+                try {
+                    flusher.execute(() -> flush(batch));
+                } catch (RejectedExecutionException e) {
+                    batch.orders.forEach(order -> order.future().completeExceptionally(new CommonException.ConcurrencyConflict()));
+                }
+            }
+            return pendingOrder.future();
+        }
+    }
+
+    private Batch openBatch(String groupKey, List<Long> productIds) {
+        Batch batch = new Batch(productIds);
+        flusher.schedule(() -> {
+            boolean closed;
+            batch.lock.lock();
+            try {
+                closed = close(groupKey, batch);
+            } finally {
+                batch.lock.unlock();
+            }
+            if (closed) {
+                flush(batch);
+            }
+        }, windowMs, TimeUnit.MILLISECONDS);
+        return batch;
+    }
+
+    /**
+     * 묶음을 닫고 대기 목록에서 제거합니다. (batch 락 안에서 호출)
+     *
+     * @return 이번 호출로 닫혔으면 true
+     */
+    private boolean close(String groupKey, Batch batch) {
+        if (batch.closed) {
+            return false;
+        }
+        batch.closed = true;
+        pendingBatches.remove(groupKey, batch);
+        return true;
+    }
+
+    /**
+     * 상품 락 1회 + 트랜잭션 1회로 묶음을 처리하고 요청별 Future를 완료합니다.
+     * 원장 관리 대상 상품은 원장 연산이 원자적이므로 락에서 제외합니다.
+     */
+    private void flush(Batch batch) {
+        // 대기 시간 초과로 호출자가 포기한 요청은 처리하지 않음
+        List<PendingOrder> orders = batch.orders.stream()
+                .filter(order -> !order.future().isDone())
+                .toList();
+        if (orders.isEmpty()) {
+            return;
+        }
+
+        List<String> lockKeys = batch.productIds.stream()
+                .filter(productId -> !inventoryLedgerPort.isManaged(productId))
+                .map(keyGenerator::generateProductKey)
+                .toList();
+
+        try {
+            if (!lockKeys.isEmpty() && !lockingPort.acquireAll(lockKeys)) {
+                throw new CommonException.ConcurrencyConflict();
+            }
+
+            try {
+                List<OrderRequest> requests = orders.stream().map(PendingOrder::request).toList();
+                List<OrderResult> results = transactionTemplate.execute(status ->
+                        createOrderBatchUseCase.execute(requests));
+
+                for (int i = 0; i < orders.size(); i++) {
+                    OrderResult result = results.get(i);
+                    if (result.isSuccess()) {
+                        orders.get(i).future().complete(result.order());
+                    } else {
+                        orders.get(i).future().completeExceptionally(result.error());
+                    }
+                }
+            } finally {
+                if (!lockKeys.isEmpty()) {
+                    lockingPort.releaseAll(lockKeys);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("주문 묶음 처리 실패: productIds={}, 요청 수={}", batch.productIds, orders.size(), e);
+            orders.forEach(order -> order.future().completeExceptionally(e));
+        }
+    }
+}
@@ -4,6 +4,10 @@ import kr.hhplus.be.server.domain.entity.Order;
 import kr.hhplus.be.server.domain.entity.OrderItem;
 import kr.hhplus.be.server.domain.entity.Payment;
 import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.common.util.LockOrderManager;
+import kr.hhplus.be.server.common.util.StructuredFanOut;
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.dto.OrderPaymentResult;
 import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
 import kr.hhplus.be.server.domain.usecase.order.CreateOrderUseCase;
 import kr.hhplus.be.server.domain.usecase.order.GetOrderUseCase;
@@ -15,11 +19,10 @@ import kr.hhplus.be.server.domain.usecase.balance.DeductBalanceUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.ApplyCouponUseCase;
 import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
-import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
-import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
 import kr.hhplus.be.server.domain.exception.CommonException;
 import kr.hhplus.be.server.domain.exception.UserException;
 import kr.hhplus.be.server.domain.exception.OrderException;
+import kr.hhplus.be.server.domain.exception.ProductException;
 import kr.hhplus.be.server.domain.event.OrderCompletedEvent;
 import kr.hhplus.be.server.domain.enums.EventTopic;
 import lombok.RequiredArgsConstructor;
@@ -27,9 +30,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.support.TransactionTemplate;
 import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * 주문 관련 비즈니스 로직을 처리하는 서비스
@@ -53,10 +59,12 @@ public class OrderService {
     private final ApplyCouponUseCase applyCouponUseCase;
     private final LockingPort lockingPort;
     private final UserRepositoryPort userRepositoryPort;
-    private final OrderRepositoryPort orderRepositoryPort;
-    private final OrderItemRepositoryPort orderItemRepositoryPort;
     private final KeyGenerator keyGenerator;
     private final EventPort eventPort;
+    private final SoldOutRegistryPort soldOutRegistryPort;
+    private final LockOrderManager lockOrderManager;
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final OrderCreateCoalescer orderCreateCoalescer;
     
 
     /**
@@ -72,14 +80,31 @@ public class OrderService {
     public Order createOrder(Long userId, List<ProductQuantityDto> productQuantities) {
         log.debug("주문 생성 요청: userId={}, productCount={}", userId, productQuantities.size());
         
-        Long[] productIds = productQuantities.stream()
-            .map(ProductQuantityDto::getProductId)
-            .sorted()
-            .toArray(Long[]::new);
+        // 품절이 전파된 상품이 포함되면 락/DB 접근 없이 즉시 거절
+        for (ProductQuantityDto productQuantity : productQuantities) {
+            if (soldOutRegistryPort.isProductSoldOut(productQuantity.getProductId())) {
+                throw new ProductException.OutOfStock();
+            }
+        }
+        
+        // 묶음 처리 모드에서는 같은 상품 묶음의 요청을 모아 락/트랜잭션 1회로 처리
+        if (orderCreateCoalescer.isEnabled()) {
+            Order result = orderCreateCoalescer.create(userId, productQuantities);
+            log.info("주문 생성 완료: orderId={}, userId={}", result.getId(), userId);
+            return result;
+        }
         
-        String lockKey = keyGenerator.generateOrderCreateMultiProductKey(userId, productIds);
+        // 상품별 락을 ID 오름차순으로 한 번에 획득 (상품을 공유하는 주문끼리 직렬화)
+        // 재고 원장 관리 대상 상품은 원장 연산 자체가 원자적이므로 락에서 제외
+        List<Long> productIds = lockOrderManager.getOrderedLockIds(productQuantities.stream()
+            .map(ProductQuantityDto::getProductId)
+            .filter(productId -> !inventoryLedgerPort.isManaged(productId))
+            .toList());
+        List<String> lockKeys = productIds.stream()
+            .map(keyGenerator::generateProductKey)
+            .toList();
         
-        if (!lockingPort.acquireLock(lockKey)) {
+        if (!lockKeys.isEmpty() && !lockingPort.acquireAll(lockKeys)) {
             throw new CommonException.ConcurrencyConflict();
         }
         
@@ -91,7 +116,9 @@ public class OrderService {
             log.info("주문 생성 완료: orderId={}, userId={}", result.getId(), userId);
             return result;
         } finally {
-            lockingPort.releaseLock(lockKey);
+            if (!lockKeys.isEmpty()) {
+                lockingPort.releaseAll(lockKeys);
+            }
         }
     }
 
@@ -151,12 +178,16 @@ public class OrderService {
      * 주문 결제 처리
      * 
      * 여러 UseCase를 조합하여 결제 프로세스를 수행합니다:
-     * 1. 사용자 존재 확인
-     * 2. 주문 검증
-     * 3. 쿠폰 적용
-     * 4. 잔액 차감
-     * 5. 주문 완료 처리
-     * 6. 결제 생성
+     * 1. 사용자 존재 확인 및 주문 검증 (한 번의 쿼리)
+     * 2. 쿠폰 적용
+     * 3. 잔액 차감
+     * 4. 주문 완료 처리
+     * 5. 결제 생성
+     * 
+     * 서로 독립적인 조회는 동시에 실행하여 락 보유 구간을 조회 지연의 합이 아닌 최댓값으로 줄입니다.
+     * - 쿠폰 캐시 조회: 락 획득 전에 가상 스레드로 시작 (락 대기와도 겹침)
+     * - 사용자/주문/기존 결제 DB 조회: 트랜잭션 커넥션에서 하나의 쿼리로 조회
+     * 검증이 실패하면 진행 중인 캐시 조회는 취소됩니다.
      * 
      * 동시성 제어를 위해 분산 락을 사용하고, TransactionTemplate으로 명시적 트랜잭션 관리합니다.
      * 실행 순서: Lock 획득 → Transaction 시작 → Logic 실행 → Transaction 종료 → Lock 해제
@@ -167,58 +198,60 @@ public class OrderService {
      * @return 결제 정보
      */
     public Payment payOrder(Long orderId, Long userId, Long couponId) {
+        // 잔액은 차감 가능 금액 홀드 후 원장 추가로 차감하므로 잔액 락 없이 주문 결제 락만 사용
         String paymentLockKey = keyGenerator.generateOrderPaymentKey(orderId);
-        String balanceLockKey = keyGenerator.generateBalanceKey(userId);
         
-        if (!lockingPort.acquireLock(paymentLockKey)) {
-            throw new CommonException.ConcurrencyConflict();
-        }
-        
-        if (!lockingPort.acquireLock(balanceLockKey)) {
-            lockingPort.releaseLock(paymentLockKey);
-            throw new CommonException.ConcurrencyConflict();
-        }
-        
-        try {
-            Payment result = transactionTemplate.execute(status -> {
-                if (!userRepositoryPort.existsById(userId)) {
-                    throw new UserException.NotFound();
-                }
-                
-                Order order = validateOrderUseCase.execute(orderId, userId);
-                BigDecimal finalAmount = applyCouponUseCase.execute(order.getTotalAmount(), couponId);
-                deductBalanceUseCase.execute(userId, finalAmount);
-                completeOrderUseCase.execute(order);
-                
-                return createPaymentUseCase.execute(order.getId(), userId, finalAmount);
-            });
-            
-            // 주문 완료 이벤트 발행 (랭킹 업데이트용)
-            publishOrderCompletedEvent(result.getOrderId(), userId);
+        try (StructuredFanOut fanOut = new StructuredFanOut()) {
+            Supplier<Coupon> cachedCoupon = couponId != null
+                ? fanOut.fork(() -> applyCouponUseCase.findCachedCoupon(couponId))
+                : () -> null;
             
-            log.info("주문 결제 완료: orderId={}, userId={}, amount={}", orderId, userId, result.getAmount());
-            return result;
+            if (!lockingPort.acquireLock(paymentLockKey)) {
+                throw new CommonException.ConcurrencyConflict();
+            }
             
-        } finally {
-            lockingPort.releaseLock(balanceLockKey);
-            lockingPort.releaseLock(paymentLockKey);
+            try {
+                OrderPaymentResult result = transactionTemplate.execute(status -> {
+                    // 사용자/주문/기존 결제를 한 번에 검증하는 동안 쿠폰 캐시 조회가 동시에 진행됨
+                    Order order = validateOrderUseCase.execute(orderId, userId);
+                    fanOut.join();
+                    
+                    BigDecimal finalAmount = applyCouponUseCase.execute(order.getTotalAmount(), couponId, cachedCoupon.get());
+                    deductBalanceUseCase.execute(userId, finalAmount);
+                    List<OrderItem> orderItems = completeOrderUseCase.execute(order);
+                    Payment payment = createPaymentUseCase.execute(order.getId(), userId, finalAmount);
+                    
+                    OrderPaymentResult paymentResult = new OrderPaymentResult(order, orderItems, payment);
+                    
+                    // 주문 완료 이벤트 발행 (랭킹 업데이트용, 아웃박스에 결제와 함께 커밋)
+                    publishOrderCompletedEvent(paymentResult);
+                    
+                    return paymentResult;
+                });
+                
+                // 커밋 이후 결제 완료 주문 캐시 갱신 (이미 읽은 주문으로 스냅샷 구성)
+                completeOrderUseCase.updatePaidOrderCache(result.order());
+                
+                Payment payment = result.payment();
+                log.info("주문 결제 완료: orderId={}, userId={}, amount={}", orderId, userId, payment.getAmount());
+                return payment;
+                
+            } finally {
+                lockingPort.releaseLock(paymentLockKey);
+            }
         }
     }
     
     /**
      * 주문 완료 이벤트를 발행합니다.
      * 상품 랭킹 업데이트를 위한 비동기 처리를 수행합니다.
+     * 결제 과정에서 이미 읽은 주문 항목으로 이벤트를 구성하므로 주문/주문 항목을 다시 조회하지 않습니다.
      */
-    private void publishOrderCompletedEvent(Long orderId, Long userId) {
+    private void publishOrderCompletedEvent(OrderPaymentResult paymentResult) {
+        Long orderId = paymentResult.order().getId();
+        Long userId = paymentResult.order().getUserId();
         try {
-            // 주문 정보와 OrderItem 조회
-            Order order = orderRepositoryPort.findById(orderId)
-                    .orElseThrow(() -> new OrderException.NotFound());
-                    
-            List<OrderItem> orderItems = orderItemRepositoryPort.findByOrderId(orderId);
-            
-            // OrderCompletedEvent 생성
-            List<OrderCompletedEvent.ProductOrderInfo> productInfos = orderItems.stream()
+            List<OrderCompletedEvent.ProductOrderInfo> productInfos = paymentResult.orderItems().stream()
                     .map(item -> new OrderCompletedEvent.ProductOrderInfo(item.getProductId(), item.getQuantity()))
                     .toList();
                     
@@ -236,4 +269,4 @@ public class OrderService {
         }
     }
     
-}
\ No newline at end of file
+}
@@ -0,0 +1,165 @@
+package kr.hhplus.be.server.domain.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 커밋 이후 부수 효과(캐시 쓰기/무효화 등) 비동기 실행기
+ *
+ * 트랜잭션 안에서 등록하면 커밋된 뒤에만 실행하고, 롤백되면 버립니다.
+ * 트랜잭션 밖에서 등록하면 즉시 실행을 요청합니다.
+ * - 실행은 defaultExecutor(@Async 실행기)에서 하므로 DB 커넥션과 행 락을 Redis 응답 대기 동안 잡고 있지 않음
+ * - 백프레셔: 대기/실행 중인 부수 효과가 side-effect.max-pending에 도달하면 호출 스레드에서 직접 실행
+ * - 부수 효과의 예외는 기록만 하고 전파하지 않음 (캐시 오류는 비즈니스 로직에 영향을 주지 않음)
+ *
+ * 캐시 무효화는 evictAfterCommit으로 커밋 직후 호출 스레드에서 실행합니다.
+ * 비동기로 미루면 응답 이후 무효화 전까지 다른 요청이 이전 값을 읽거나 다시 캐시에 적재할 수 있기 때문입니다.
+ *
+ * 메트릭 (name 태그는 부수 효과 이름):
+ * - side_effect.dispatched: 실행 방식별 건수 (mode=async|inline|sync|discarded)
+ * - side_effect.execution: 실행 시간 (result=success|failure)
+ * - side_effect.pending: 대기/실행 중인 비동기 부수 효과 수
+ *
+ * 아웃박스 이벤트 기록처럼 비즈니스 데이터와 함께 커밋되어야 하는 작업에는 사용하지 않습니다.
+ */
+@Slf4j
+@Component
+public class SideEffectDispatcher {
+
+    private final Executor executor;
+    private final MeterRegistry meterRegistry;
+    private final int maxPending;
+    private final Semaphore permits;
+
+    public SideEffectDispatcher(@Qualifier("defaultExecutor") Executor executor,
+                                MeterRegistry meterRegistry,
+                                @Value("${side-effect.max-pending:1000}") int maxPending) {
+        this.executor = executor;
+        this.meterRegistry = meterRegistry;
+        this.maxPending = Math.max(1, maxPending);
+        this.permits = new Semaphore(this.maxPending);
+        meterRegistry.gauge("side_effect.pending", permits, semaphore -> this.maxPending - semaphore.availablePermits());
+    }
+
+    /**
+     * 부수 효과를 커밋 이후에 실행하도록 등록합니다.
+     *
+     * @param name 메트릭/로그용 이름 (예: order.cache.put)
+     * @param sideEffect 실행할 작업
+     */
+    public void dispatchAfterCommit(String name, Runnable sideEffect) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    submit(name, sideEffect);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        count(name, "discarded");
+                        log.debug("트랜잭션 미커밋으로 부수 효과 폐기: name={}", name);
+                    }
+                }
+            });
+            return;
+        }
+
+        submit(name, sideEffect);
+    }
+
+    /**
+     * 캐시 무효화를 커밋 직후 호출 스레드에서 실행하도록 등록합니다.
+     * 트랜잭션 밖에서 호출하면 즉시 실행합니다.
+     *
+     * @param name 메트릭/로그용 이름 (예: balance.cache.evict)
+     * @param eviction 실행할 무효화 작업
+     */
+    public void evictAfterCommit(String name, Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    count(name, "sync");
+                    run(name, eviction);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        count(name, "discarded");
+                        log.debug("트랜잭션 미커밋으로 캐시 무효화 폐기: name={}", name);
+                    }
+                }
+            });
+            return;
+        }
+
+        count(name, "sync");
+        run(name, eviction);
+    }
+
+    private void submit(String name, Runnable sideEffect) {
+        if (!permits.tryAcquire()) {
+            // 대기 한도 초과: 호출 스레드에서 실행하여 요청 유입 속도를 늦춤
+            count(name, "inline");
+            run(name, sideEffect);
+            return;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    run(name, sideEffect);
+                } finally {
+                    permits.release();
+                }
+            });
+            count(name, "async");
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            count(name, "inline");
+            run(name, sideEffect);
+        }
+    }
+
+    private void run(String name, Runnable sideEffect) {
+        long startNanos = System.nanoTime();
+        String result = "success";
+        try {
+            sideEffect.run();
+        } catch (Exception e) {
+            result = "failure";
+            log.warn("부수 효과 실행 실패: name={}", name, e);
+        } finally {
+            Timer.builder("side_effect.execution")
+                    .tag("name", name)
+                    .tag("result", result)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private void count(String name, String mode) {
+        Counter.builder("side_effect.dispatched")
+                .tag("name", name)
+                .tag("mode", mode)
+                .register(meterRegistry)
+                .increment();
+    }
+}
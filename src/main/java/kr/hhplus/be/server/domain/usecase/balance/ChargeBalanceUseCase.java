@@ -1,19 +1,21 @@
 package kr.hhplus.be.server.domain.usecase.balance;
 
 import kr.hhplus.be.server.domain.entity.Balance;
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort;
+import kr.hhplus.be.server.domain.port.storage.BalanceLedgerRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.BalanceRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
-import kr.hhplus.be.server.domain.enums.CacheTTL;
 import kr.hhplus.be.server.domain.exception.*;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -21,72 +23,84 @@ import java.math.BigDecimal;
 public class ChargeBalanceUseCase {
     
     private final BalanceRepositoryPort balanceRepositoryPort;
+    private final BalanceLedgerRepositoryPort balanceLedgerRepositoryPort;
+    private final BalanceHoldPort balanceHoldPort;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final SideEffectDispatcher sideEffectDispatcher;
     
     private static final BigDecimal MIN_CHARGE_AMOUNT = new BigDecimal("1000");
     private static final BigDecimal MAX_CHARGE_AMOUNT = new BigDecimal("1000000");
     
     /**
-     * 잔액을 충전합니다 (Write-Through 캐시 적용)
+     * 잔액을 충전합니다.
      * 
      * 동시성 제어:
-     * - 낙관적 락 (@Version) 사용으로 동시 충전 방지
-     * - OptimisticLockingFailureException 발생 시 최대 3회 재시도
+     * - 원장에 충전 행을 추가하므로 balances 행을 갱신하지 않음 (쓰기끼리 행 락 경합 없음)
+     * - 차감 가능 금액(홀드)에는 커밋 후에 반영
+     * - 잔액 스냅샷 행이 없으면 0원으로 생성 (동시 최초 충전으로 user_id 유니크 충돌 시 동시성 충돌 예외)
      * 
      * @param userId 사용자 ID
      * @param amount 충전할 금액
-     * @return 충전 후 잔액 엔티티
+     * @return 충전 후 잔액 (스냅샷 + 미반영 원장 합계)
      */
-    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
     public Balance execute(Long userId, BigDecimal amount) {
-        log.info("잔액 충전 요청: userId={}, amount={}", userId, amount);
+        return executeAll(userId, List.of(amount));
+    }
+    
+    /**
+     * 같은 사용자의 충전 여러 건을 한 번에 반영합니다. (잔액 명령 큐의 병합 처리용)
+     * 원장 INSERT 배치 1회 + 홀드 반영 1회 + 현재 잔액 조회 1회로 처리하며, 한 건이라도 금액이 잘못되면 전체를 반영하지 않습니다.
+     * 
+     * @param userId 사용자 ID
+     * @param requestedAmounts 충전할 금액 목록 (요청 순서)
+     * @return 모든 충전 반영 후 잔액
+     */
+    public Balance executeAll(Long userId, List<BigDecimal> requestedAmounts) {
+        // 원장과 홀드에 같은 금액이 반영되도록 한 번만 자릿수를 맞춤
+        List<BigDecimal> amounts = requestedAmounts.stream().map(BalanceLedger::normalizeAmount).toList();
+        log.info("잔액 충전 요청: userId={}, amounts={}", userId, amounts);
         
-        validateAmount(amount);
+        amounts.forEach(ChargeBalanceUseCase::validateAmount);
         
-        Balance balance = balanceRepositoryPort.findByUserId(userId)
-                .orElse(Balance.builder().userId(userId).amount(BigDecimal.ZERO).build());
+        Balance snapshot = balanceRepositoryPort.findByUserId(userId)
+                .orElseGet(() -> createBalance(userId));
         
-        BigDecimal originalAmount = balance.getAmount();
+        balanceLedgerRepositoryPort.insertAll(amounts.stream()
+                .map(amount -> BalanceLedger.charge(userId, amount))
+                .toList());
         
-        balance.addAmount(amount);
-        Balance savedBalance = balanceRepositoryPort.save(balance);
+        BigDecimal totalAmount = amounts.stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        balanceHoldPort.credit(userId, totalAmount);
         
-        // Write-Through: 새로운 잔액을 캐시에 즉시 업데이트
-        try {
-            String cacheKey = keyGenerator.generateBalanceCacheKey(userId);
-            cachePort.put(cacheKey, savedBalance, CacheTTL.USER_BALANCE.getSeconds());
-            log.debug("잔액 캐시 업데이트 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.warn("잔액 캐시 업데이트 실패: userId={}", userId, e);
-        }
+        BigDecimal currentAmount = balanceRepositoryPort.findCurrentAmount(userId)
+                .orElseThrow(BalanceException.NotFound::new);
         
-        log.info("잔액 충전 완료: userId={}, 이전잔액={}, 충전금액={}, 현재잔액={}", 
-                userId, originalAmount, amount, savedBalance.getAmount());
+        // 같은 사용자의 차감이 원장에 동시에 추가될 수 있으므로 계산한 잔액을 캐시에 쓰지 않고 무효화 (커밋 직후 동기 실행)
+        sideEffectDispatcher.evictAfterCommit("balance.cache.evict", () -> {
+            cachePort.evict(keyGenerator.generateBalanceCacheKey(userId));
+            log.debug("잔액 캐시 무효화 완료: userId={}", userId);
+        });
         
-        return savedBalance;
+        log.info("잔액 충전 완료: userId={}, 충전건수={}, 충전금액={}, 현재잔액={}", 
+                userId, amounts.size(), totalAmount, currentAmount);
+        
+        return snapshot.withCurrentAmount(currentAmount);
+    }
+    
+    private Balance createBalance(Long userId) {
+        try {
+            return balanceRepositoryPort.saveAndFlush(Balance.builder().userId(userId).amount(BigDecimal.ZERO).build());
+        } catch (DataIntegrityViolationException e) {
+            log.warn("최초 잔액 동시 생성 충돌: userId={}", userId);
+            throw new BalanceException.ConcurrencyConflict();
+        }
     }
     
     // 비즈니스 로직 검증: 최소/최대 충전 금액 체크
-    private void validateAmount(BigDecimal amount) {
+    public static void validateAmount(BigDecimal amount) {
         if (amount.compareTo(MIN_CHARGE_AMOUNT) < 0 || amount.compareTo(MAX_CHARGE_AMOUNT) > 0) {
             throw new BalanceException.InvalidAmount();
         }
     }
-    
-    /**
-     * 낙관적 락 충돌로 재시도가 모두 실패했을 때 호출되는 복구 메서드
-     * 
-     * @param ex 최종 발생한 OptimisticLockingFailureException
-     * @param userId 사용자 ID
-     * @param amount 충전 금액
-     * @return 예외 발생
-     * @throws BalanceException.ConcurrencyConflict 동시성 충돌 예외
-     */
-    @Recover
-    public Balance recover(OptimisticLockingFailureException ex, Long userId, BigDecimal amount) {
-        log.error("잔액 충전 재시도 모두 실패: userId={}, amount={}, error={}", 
-                userId, amount, ex.getMessage());
-        throw new BalanceException.ConcurrencyConflict();
-    }
-} 
\ No newline at end of file
+}
@@ -1,19 +1,23 @@
 package kr.hhplus.be.server.domain.usecase.balance;
 
-import kr.hhplus.be.server.domain.entity.Balance;
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort.HoldResult;
+import kr.hhplus.be.server.domain.port.storage.BalanceLedgerRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.BalanceRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
-import kr.hhplus.be.server.domain.enums.CacheTTL;
 import kr.hhplus.be.server.domain.exception.BalanceException;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.dao.OptimisticLockingFailureException;
-import org.springframework.retry.annotation.Recover;
-import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.Optional;
 
 @Component
 @RequiredArgsConstructor
@@ -21,74 +25,78 @@ import java.math.BigDecimal;
 public class DeductBalanceUseCase {
     
     private final BalanceRepositoryPort balanceRepositoryPort;
+    private final BalanceLedgerRepositoryPort balanceLedgerRepositoryPort;
+    private final BalanceHoldPort balanceHoldPort;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final SideEffectDispatcher sideEffectDispatcher;
+    private final PlatformTransactionManager transactionManager;
     
     /**
      * 잔액을 차감합니다.
      * 
      * 동시성 제어:
-     * - 낙관적 락 (@Version) 사용으로 동시 차감 방지
-     * - OptimisticLockingFailureException 발생 시 최대 3회 재시도
+     * - 차감 가능 금액을 홀드한 뒤 원장에 차감 행을 추가하므로 balances 행을 갱신하지 않음 (쓰기끼리 행 락 경합 없음)
+     * - 트랜잭션이 롤백되면 홀드가 해제됨
+     * - 홀드가 구성되지 않은 사용자는 DB 현재 잔액으로 구성한 뒤 한 번 더 시도
+     *   (다른 요청이 구성 중이어서 구성되지 않았으면 동시성 충돌 예외)
      * 
      * @param userId 사용자 ID
-     * @param amount 차감할 금액
-     * @return 차감 후 잔액 엔티티
+     * @param requestedAmount 차감할 금액 (소수 셋째 자리 이하는 DB 컬럼과 같은 HALF_UP으로 반올림)
+     * @throws BalanceException.NotFound 잔액 정보가 없는 경우
+     * @throws BalanceException.InsufficientBalance 잔액이 부족한 경우
+     * @throws BalanceException.ConcurrencyConflict 홀드를 구성하지 못한 경우
      */
-    @Retryable(retryFor = OptimisticLockingFailureException.class, maxAttempts = 3)
-    public Balance execute(Long userId, BigDecimal amount) {
+    public void execute(Long userId, BigDecimal requestedAmount) {
+        // 홀드와 원장에 같은 금액이 반영되도록 한 번만 자릿수를 맞춤
+        BigDecimal amount = BalanceLedger.normalizeAmount(requestedAmount);
         log.debug("잔액 차감: userId={}, amount={}", userId, amount);
         
-        // 잔액 조회
-        Balance balance = balanceRepositoryPort.findByUserId(userId)
-                .orElseThrow(() -> {
-                    log.warn("잔액 정보 없음: userId={}", userId);
-                    return new BalanceException.NotFound();
-                });
+        HoldResult result = balanceHoldPort.hold(userId, amount);
+        if (result == HoldResult.NOT_LOADED) {
+            loadHold(userId);
+            result = balanceHoldPort.hold(userId, amount);
+            if (result == HoldResult.NOT_LOADED) {
+                log.warn("잔액 홀드 구성 실패: userId={}", userId);
+                throw new BalanceException.ConcurrencyConflict();
+            }
+        }
         
-        // 잔액 부족 확인
-        if (balance.getAmount().compareTo(amount) < 0) {
-            log.warn("잔액 부족: userId={}, balance={}, requiredAmount={}", 
-                    userId, balance.getAmount(), amount);
+        if (result != HoldResult.HELD) {
+            log.warn("잔액 부족: userId={}, requiredAmount={}, result={}", userId, amount, result);
             throw new BalanceException.InsufficientBalance();
         }
         
-        // 잔액 차감
-        BigDecimal originalAmount = balance.getAmount();
-        balance.subtractAmount(amount);
-        
-        // 저장
-        Balance savedBalance = balanceRepositoryPort.save(balance);
+        balanceLedgerRepositoryPort.save(BalanceLedger.deduct(userId, amount));
         
-        // Write-Through: 데이터베이스 업데이트 후 캐시도 업데이트
-        try {
-            String cacheKey = keyGenerator.generateBalanceCacheKey(userId);
-            cachePort.put(cacheKey, savedBalance, CacheTTL.USER_BALANCE.getSeconds());
-            log.debug("잔액 차감 후 캐시 업데이트 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.warn("잔액 차감 캐시 처리 실패: userId={}, amount={}", userId, amount, e);
-            // 캐시 오류는 비즈니스 로직에 영향을 주지 않음
-        }
+        // 차감 후 잔액은 조회하지 않으므로 캐시는 무효화 (다음 조회 시 DB에서 적재, 커밋 직후 동기 실행)
+        sideEffectDispatcher.evictAfterCommit("balance.cache.evict", () -> {
+            cachePort.evict(keyGenerator.generateBalanceCacheKey(userId));
+            log.debug("잔액 차감 후 캐시 무효화 완료: userId={}", userId);
+        });
         
-        log.info("잔액 차감 완료: userId={}, 이전잔액={}, 차감금액={}, 현재잔액={}", 
-                userId, originalAmount, amount, savedBalance.getAmount());
-        
-        return savedBalance;
+        log.info("잔액 차감 완료: userId={}, 차감금액={}", userId, amount);
     }
     
     /**
-     * 낙관적 락 충돌로 재시도가 모두 실패했을 때 호출되는 복구 메서드
-     * 
-     * @param ex 최종 발생한 OptimisticLockingFailureException
-     * @param userId 사용자 ID
-     * @param amount 차감 금액
-     * @return 예외 발생
-     * @throws BalanceException.ConcurrencyConflict 동시성 충돌 예외
+     * 구성 표시를 남긴 뒤 새 트랜잭션에서 현재 잔액을 조회하여 홀드를 구성합니다.
+     * 호출 측 트랜잭션의 읽기 시점은 구성 표시보다 앞설 수 있으므로 그 사이에 커밋된 충전이 빠지지 않도록 새로 조회합니다.
      */
-    @Recover
-    public Balance recover(OptimisticLockingFailureException ex, Long userId, BigDecimal amount) {
-        log.error("잔액 차감 재시도 모두 실패: userId={}, amount={}, error={}", 
-                userId, amount, ex.getMessage());
-        throw new BalanceException.ConcurrencyConflict();
+    private void loadHold(Long userId) {
+        Optional<String> token = balanceHoldPort.beginLoad(userId);
+        if (token.isEmpty()) {
+            return;
+        }
+        
+        TransactionTemplate loadTransaction = new TransactionTemplate(transactionManager);
+        loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        loadTransaction.setReadOnly(true);
+        
+        Optional<BigDecimal> currentAmount = loadTransaction.execute(status -> balanceRepositoryPort.findCurrentAmount(userId));
+        if (currentAmount == null || currentAmount.isEmpty()) {
+            log.warn("잔액 정보 없음: userId={}", userId);
+            throw new BalanceException.NotFound();
+        }
+        balanceHoldPort.finishLoad(userId, token.get(), currentAmount.get());
     }
-}
\ No newline at end of file
+}
@@ -26,6 +26,8 @@ public class GetBalanceUseCase {
     /**
      * 잔액 조회 (캐시 적용)
      * 
+     * 현재 잔액은 잔액 스냅샷에 스냅샷 롤포워드 전의 원장 합계를 더한 값입니다.
+     * 
      * @param userId 사용자 ID
      * @return 사용자 잔액 정보
      */
@@ -48,8 +50,8 @@ public class GetBalanceUseCase {
                 return Optional.of(cachedBalance);
             }
             
-            // 캐시 미스 - 데이터베이스에서 조회
-            Optional<Balance> balanceOpt = balanceRepositoryPort.findByUserId(userId);
+            // 캐시 미스 - 데이터베이스에서 조회 (스냅샷 + 미반영 원장 합계)
+            Optional<Balance> balanceOpt = loadCurrentBalance(userId);
             if (balanceOpt.isPresent()) {
                 Balance balance = balanceOpt.get();
                 log.debug("데이터베이스에서 잔액 조회: userId={}, amount={}", userId, balance.getAmount());
@@ -65,8 +67,19 @@ public class GetBalanceUseCase {
         } catch (Exception e) {
             log.error("잔액 조회 중 오류 발생: userId={}", userId, e);
             // 캐시 오류 시 직접 DB에서 조회
-            return balanceRepositoryPort.findByUserId(userId);
+            return loadCurrentBalance(userId);
         }
     }
     
+    /**
+     * 스냅샷 행에 현재 잔액을 담아 반환합니다.
+     * 스냅샷 조회와 현재 잔액 계산 사이에 행이 사라진 경우에만 스냅샷 금액을 그대로 사용합니다.
+     */
+    private Optional<Balance> loadCurrentBalance(Long userId) {
+        return balanceRepositoryPort.findByUserId(userId)
+                .map(snapshot -> balanceRepositoryPort.findCurrentAmount(userId)
+                        .map(snapshot::withCurrentAmount)
+                        .orElse(snapshot));
+    }
+    
 } 
\ No newline at end of file
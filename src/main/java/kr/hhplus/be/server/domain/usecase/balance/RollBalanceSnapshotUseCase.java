@@ -0,0 +1,178 @@
+package kr.hhplus.be.server.domain.usecase.balance;
+
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort;
+import kr.hhplus.be.server.domain.port.storage.BalanceLedgerRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.BalanceRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 잔액 스냅샷 롤포워드 UseCase
+ * 
+ * 스냅샷에 반영되지 않은 원장을 ID 순으로 묶어 사용자별로 합산하고, 한 트랜잭션에서
+ * 원장 반영 표시 UPDATE 배치 1회 + 스냅샷 UPDATE 배치 1회로 balances에 더합니다.
+ * 현재 잔액 조회가 합산하는 미반영 원장 수를 일정하게 유지하는 것이 목적이며, 잔액 값 자체는 바뀌지 않습니다.
+ * 
+ * 원장 반영 표시를 먼저 조건부로 수행하고 표시에 성공한 원장만 합산하므로,
+ * 여러 노드가 동시에 실행해도 같은 원장이 두 번 더해지지 않습니다.
+ * 
+ * 차감 한도는 Redis 홀드만 검사하므로, 반영 전에 현재 잔액이 음수인 사용자를 초과 차감으로 기록하고
+ * 홀드를 무효화하여 다음 차감부터 DB 값으로 다시 구성되게 합니다.
+ * 
+ * 스냅샷에 더하면 음수가 되는 사용자(초과 차감 또는 원장 ID 순서와 커밋 순서 차이)는 CHECK 제약으로
+ * 묶음 전체를 실패시키므로 이번 묶음에서 제외하고 노드 내에서 격리합니다. 격리된 사용자의 원장은 묶음 조회에서
+ * 빠지므로 같은 원장이 매번 묶음 앞을 차지하지 않으며, 현재 잔액이 음수가 아니게 되면 미반영 원장 전체를 한 번에 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RollBalanceSnapshotUseCase {
+    
+    private final BalanceLedgerRepositoryPort balanceLedgerRepositoryPort;
+    private final BalanceRepositoryPort balanceRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
+    private final BalanceHoldPort balanceHoldPort;
+    
+    @Value("${balance.snapshot.batch-size:1000}")
+    private int batchSize = 1000;
+    
+    // 스냅샷이 음수가 되어 롤포워드에서 제외한 사용자
+    private final Set<Long> quarantinedUserIds = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * @return 스냅샷에 반영된 원장 수
+     */
+    public int execute() {
+        int recovered = rollForwardRecoveredUsers();
+        
+        List<Long> negativeUserIds = new ArrayList<>();
+        Integer rolled = transactionTemplate.execute(status -> {
+            List<BalanceLedger> entries = quarantinedUserIds.isEmpty()
+                    ? balanceLedgerRepositoryPort.findUnsnapshotted(PageRequest.of(0, batchSize))
+                    : balanceLedgerRepositoryPort.findUnsnapshottedExcluding(
+                            List.copyOf(quarantinedUserIds), PageRequest.of(0, batchSize));
+            if (entries.isEmpty()) {
+                return 0;
+            }
+            
+            Map<Long, BigDecimal> batchAmounts = new TreeMap<>();
+            entries.forEach(entry -> batchAmounts.merge(entry.getUserId(), entry.getAmount(), BigDecimal::add));
+            
+            // 반영 전에 감지: 현재 잔액 음수(초과 차감)와 스냅샷이 음수가 될 사용자는 제외
+            negativeUserIds.addAll(balanceRepositoryPort.findNegativeUserIds(batchAmounts.keySet()));
+            Set<Long> excluded = new HashSet<>(negativeUserIds);
+            Map<Long, BigDecimal> snapshots = new HashMap<>();
+            balanceRepositoryPort.findByUserIdIn(batchAmounts.keySet())
+                    .forEach(balance -> snapshots.put(balance.getUserId(), balance.getAmount()));
+            batchAmounts.forEach((userId, amount) -> {
+                if (snapshots.getOrDefault(userId, BigDecimal.ZERO).add(amount).signum() < 0) {
+                    excluded.add(userId);
+                }
+            });
+            if (!excluded.isEmpty()) {
+                quarantinedUserIds.addAll(excluded);
+                log.warn("스냅샷이 음수가 되는 사용자를 롤포워드에서 격리: userIds={}", excluded);
+            }
+            
+            return applyEntries(entries.stream()
+                    .filter(entry -> !excluded.contains(entry.getUserId()))
+                    .toList());
+        });
+        
+        negativeUserIds.forEach(userId -> {
+            log.error("잔액 초과 차감 감지 (현재 잔액 음수): userId={}", userId);
+            balanceHoldPort.invalidate(userId);
+        });
+        
+        int result = recovered + (rolled != null ? rolled : 0);
+        if (result > 0) {
+            log.debug("잔액 스냅샷 롤포워드 완료: 원장 수={}", result);
+        }
+        return result;
+    }
+    
+    /**
+     * 현재 잔액이 음수가 아니게 된 격리 사용자의 미반영 원장 전체를 반영하고 격리를 해제합니다.
+     * (전체 합계를 더하면 현재 잔액이 되므로 원장 순서와 무관하게 스냅샷이 음수가 되지 않음)
+     */
+    private int rollForwardRecoveredUsers() {
+        if (quarantinedUserIds.isEmpty()) {
+            return 0;
+        }
+        
+        List<Long> quarantined = List.copyOf(quarantinedUserIds);
+        try {
+            List<Long> recoveredUserIds = new ArrayList<>();
+            Integer rolled = transactionTemplate.execute(status -> {
+                List<BalanceLedger> entries = balanceLedgerRepositoryPort.findUnsnapshottedByUserIdIn(quarantined);
+                Map<Long, BigDecimal> currentAmounts = new TreeMap<>();
+                balanceRepositoryPort.findByUserIdIn(quarantined)
+                        .forEach(balance -> currentAmounts.put(balance.getUserId(), balance.getAmount()));
+                entries.forEach(entry -> currentAmounts.merge(entry.getUserId(), entry.getAmount(), BigDecimal::add));
+                
+                quarantined.forEach(userId -> {
+                    if (currentAmounts.getOrDefault(userId, BigDecimal.ZERO).signum() >= 0) {
+                        recoveredUserIds.add(userId);
+                    }
+                });
+                return applyEntries(entries.stream()
+                        .filter(entry -> recoveredUserIds.contains(entry.getUserId()))
+                        .toList());
+            });
+            
+            if (!recoveredUserIds.isEmpty()) {
+                recoveredUserIds.forEach(quarantinedUserIds::remove);
+                log.info("격리 사용자 롤포워드 재개: userIds={}", recoveredUserIds);
+            }
+            return rolled != null ? rolled : 0;
+        } catch (Exception e) {
+            // 격리 사용자 처리 실패가 다른 사용자의 롤포워드를 막지 않도록 다음 실행에서 재시도
+            log.warn("격리 사용자 롤포워드 실패: userIds={}", quarantined, e);
+            return 0;
+        }
+    }
+    
+    /**
+     * 원장 반영 표시에 성공한 원장만 사용자별로 합산해 스냅샷에 더합니다.
+     * 
+     * @return 반영된 원장 수
+     */
+    private int applyEntries(List<BalanceLedger> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        
+        List<Long> ledgerIds = new ArrayList<>(entries.size());
+        entries.forEach(entry -> ledgerIds.add(entry.getId()));
+        int[] markedCounts = balanceLedgerRepositoryPort.markSnapshotted(ledgerIds);
+        
+        // 사용자 ID 순으로 갱신하여 스냅샷 행 락 획득 순서를 일정하게 유지
+        Map<Long, BigDecimal> amounts = new TreeMap<>();
+        int marked = 0;
+        for (int i = 0; i < entries.size(); i++) {
+            if (markedCounts[i] == 1) {
+                BalanceLedger entry = entries.get(i);
+                amounts.merge(entry.getUserId(), entry.getAmount(), BigDecimal::add);
+                marked++;
+            }
+        }
+        
+        balanceRepositoryPort.rollForward(amounts);
+        return marked;
+    }
+}
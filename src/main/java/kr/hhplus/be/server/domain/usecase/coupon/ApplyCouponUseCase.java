@@ -22,6 +22,18 @@ public class ApplyCouponUseCase {
     private final KeyGenerator keyGenerator;
     
     public BigDecimal execute(BigDecimal originalAmount, Long couponId) {
+        return execute(originalAmount, couponId, null);
+    }
+    
+    /**
+     * 미리 캐시에서 읽어 둔 쿠폰으로 할인을 적용합니다.
+     * 
+     * 결제 경로는 주문 검증 조회와 동시에 findCachedCoupon을 실행해 두고 결과를 넘깁니다.
+     * 캐시 미스(null)이면 데이터베이스에서 조회하여 캐시에 저장합니다.
+     * 
+     * @param cachedCoupon findCachedCoupon으로 읽은 쿠폰 (없으면 null)
+     */
+    public BigDecimal execute(BigDecimal originalAmount, Long couponId, Coupon cachedCoupon) {
         log.debug("쿠폰 적용: originalAmount={}, couponId={}", originalAmount, couponId);
         
         // 쿠폰이 없는 경우 원래 금액 반환
@@ -34,7 +46,7 @@ public class ApplyCouponUseCase {
         validateAmount(originalAmount);
         
         // 쿠폰 조회 (Cache-Aside 패턴)
-        Coupon coupon = getCouponWithCache(couponId);
+        Coupon coupon = cachedCoupon != null ? cachedCoupon : loadCoupon(couponId);
                 
         // 할인 금액 계산
         BigDecimal discountedAmount = originalAmount.multiply(BigDecimal.ONE.subtract(coupon.getDiscountRate()));
@@ -45,37 +57,51 @@ public class ApplyCouponUseCase {
         return discountedAmount;
     }
     
-    private Coupon getCouponWithCache(Long couponId) {
+    /**
+     * 캐시에서만 쿠폰을 조회합니다. (데이터베이스 조회 없음)
+     * 
+     * 트랜잭션과 무관하므로 다른 스레드에서 미리 실행할 수 있습니다.
+     * 
+     * @return 캐시된 쿠폰, 캐시 미스 또는 캐시 오류 시 null
+     */
+    public Coupon findCachedCoupon(Long couponId) {
+        if (couponId == null) {
+            return null;
+        }
         try {
-            String cacheKey = keyGenerator.generateCouponCacheKey(couponId);
-            
-            // 캐시에서 조회 시도
-            Coupon cachedCoupon = cachePort.get(cacheKey, Coupon.class);
+            Coupon cachedCoupon = cachePort.get(keyGenerator.generateCouponCacheKey(couponId), Coupon.class);
             if (cachedCoupon != null) {
                 log.debug("캐시에서 쿠폰 조회 성공: couponId={}", couponId);
-                return cachedCoupon;
             }
-            
-            // 캐시 미스 - 데이터베이스에서 조회
-            Coupon coupon = couponRepositoryPort.findById(couponId)
-                    .orElseThrow(() -> {
-                        log.warn("존재하지 않는 쿠폰: couponId={}", couponId);
-                        return new CouponException.NotFound();
-                    });
-            
-            // 캐시에 저장
-            cachePort.put(cacheKey, coupon, CacheTTL.USER_COUPON_LIST.getSeconds());
+            return cachedCoupon;
+        } catch (Exception e) {
+            log.warn("쿠폰 캐시 조회 실패, DB에서 조회 예정: couponId={}", couponId, e);
+            return null;
+        }
+    }
+    
+    private Coupon loadCoupon(Long couponId) {
+        Coupon cachedCoupon = findCachedCoupon(couponId);
+        if (cachedCoupon != null) {
+            return cachedCoupon;
+        }
+        
+        // 캐시 미스 - 데이터베이스에서 조회
+        Coupon coupon = couponRepositoryPort.findById(couponId)
+                .orElseThrow(() -> {
+                    log.warn("존재하지 않는 쿠폰: couponId={}", couponId);
+                    return new CouponException.NotFound();
+                });
+        
+        // 캐시에 저장
+        try {
+            cachePort.put(keyGenerator.generateCouponCacheKey(couponId), coupon, CacheTTL.USER_COUPON_LIST.getSeconds());
             log.debug("쿠폰 캐시 저장 완료: couponId={}", couponId);
-            
-            return coupon;
-        } catch (CouponException e) {
-            throw e;
         } catch (Exception e) {
-            log.warn("쿠폰 캐시 처리 실패, DB에서 직접 조회: couponId={}", couponId, e);
-            // 캐시 오류 시 직접 DB에서 조회
-            return couponRepositoryPort.findById(couponId)
-                    .orElseThrow(() -> new CouponException.NotFound());
+            log.warn("쿠폰 캐시 저장 실패: couponId={}", couponId, e);
         }
+        
+        return coupon;
     }
     
     private void validateAmount(BigDecimal amount) {
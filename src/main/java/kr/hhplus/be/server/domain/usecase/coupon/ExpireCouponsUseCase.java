@@ -1,53 +1,65 @@
 package kr.hhplus.be.server.domain.usecase.coupon;
 
-import kr.hhplus.be.server.domain.entity.Coupon;
-import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.dto.ExpiringCouponHistoryDto;
 import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
-import kr.hhplus.be.server.domain.enums.CouponStatus;
 import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
-import kr.hhplus.be.server.domain.port.cache.CachePort;
-import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 만료 쿠폰 처리 배치 UseCase
  * 주기적으로 실행되어 만료된 쿠폰들의 상태를 업데이트합니다.
+ * 
+ * 엔티티를 로딩해 건별로 저장하지 않고, chunkSize 단위의 UPDATE를 반복합니다.
+ * 청크마다 트랜잭션을 분리하여 락 보유 시간을 제한하고, 청크 사이에 잠시 쉬어 DB 부하를 분산합니다.
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ExpireCouponsUseCase {
     
+    private final TransactionTemplate transactionTemplate;
     private final CouponRepositoryPort couponRepositoryPort;
     private final CouponHistoryRepositoryPort couponHistoryRepositoryPort;
-    private final CachePort cachePort;
-    private final KeyGenerator keyGenerator;
+    private final CouponWalletPort couponWalletPort;
     
+    @Value("${coupon.expiration.chunk-size:1000}")
+    private int chunkSize = 1000;
+    
+    @Value("${coupon.expiration.chunk-pause-ms:50}")
+    private long chunkPauseMs = 50;
+    
+    /**
+     * 히스토리 조회 IN 절에 한 번에 넣는 만료 쿠폰 ID 수
+     */
+    private static final int COUPON_ID_BATCH_SIZE = 1000;
     
     public void execute() {
         LocalDateTime now = LocalDateTime.now();
-        log.info("만료 쿠폰 처리 시작: {}", now);
+        log.info("만료 쿠폰 처리 시작: {}, chunkSize={}", now, chunkSize);
         
         try {
             // 1. 만료된 쿠폰들의 상태 업데이트
             int expiredCouponsCount = expireCoupons(now);
             
-            // 2. 만료된 쿠폰 히스토리들의 상태 업데이트
+            // 2. 만료된 쿠폰 히스토리들의 상태 업데이트 (청크마다 만료된 히스토리를 사용자 쿠폰 지갑에서 제거)
             int expiredHistoriesCount = expireCouponHistories(now);
             
-            // 3. 대량 캐시 무효화 (배치 처리 특성상 모든 쿠폰 관련 캐시 클리어)
-            if (expiredCouponsCount > 0 || expiredHistoriesCount > 0) {
-                clearExpiredCouponsCache();
-            }
-            
-            log.info("만료 쿠폰 처리 완료: 쿠폰 {}개, 히스토리 {}개", 
-                    expiredCouponsCount, expiredHistoriesCount);
+            log.info("만료 쿠폰 처리 완료: 쿠폰 {}개, 히스토리 {}개", expiredCouponsCount, expiredHistoriesCount);
             
         } catch (Exception e) {
             log.error("만료 쿠폰 처리 중 오류 발생", e);
@@ -56,69 +68,129 @@ public class ExpireCouponsUseCase {
     }
     
     private int expireCoupons(LocalDateTime now) {
-        // 만료되었지만 아직 EXPIRED 상태가 아닌 쿠폰들 조회
-        List<CouponStatus> excludeStatuses = List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED);
-        List<Coupon> expiredCoupons = excludeStatuses.isEmpty() 
-                ? couponRepositoryPort.findExpiredCoupons(now)
-                : couponRepositoryPort.findExpiredCouponsNotInStatus(now, excludeStatuses);
+        int totalCount = 0;
         
-        if (expiredCoupons.isEmpty()) {
-            log.debug("만료 처리할 쿠폰이 없습니다");
-            return 0;
-        }
-        
-        // 각 쿠폰의 상태를 EXPIRED로 업데이트
-        for (Coupon coupon : expiredCoupons) {
-            try {
-                coupon.updateStatus(CouponStatus.EXPIRED);
-                couponRepositoryPort.save(coupon);
-                log.debug("쿠폰 만료 처리: couponId={}, code={}", 
-                        coupon.getId(), coupon.getCode());
-            } catch (Exception e) {
-                log.warn("쿠폰 만료 처리 실패: couponId={}, error={}", 
-                        coupon.getId(), e.getMessage());
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> 
+                    couponRepositoryPort.expireCouponsInChunk(now, chunkSize));
+            int updatedCount = updated != null ? updated : 0;
+            totalCount += updatedCount;
+            
+            log.debug("쿠폰 만료 청크 처리: updated={}, total={}", updatedCount, totalCount);
+            
+            // 청크가 가득 차지 않았으면 남은 대상 없음
+            if (updatedCount < chunkSize || !pause()) {
+                break;
             }
         }
         
-        return expiredCoupons.size();
+        return totalCount;
+    }
+    
+    /**
+     * 청크 처리 결과
+     * 
+     * @param selectedCount 조회한 만료 대상 수 (남은 대상 판단용)
+     * @param lastHistoryId 조회한 마지막 히스토리 ID (다음 청크 커서)
+     * @param expired 실제로 만료 상태로 바뀐 히스토리
+     */
+    private record HistoryChunk(int selectedCount, Long lastHistoryId, List<ExpiringCouponHistoryDto> expired) {
     }
     
+    /**
+     * 종료일이 지난 쿠폰 ID를 인덱스로 먼저 조회한 뒤, 그 쿠폰들의 히스토리를 ID 커서로 청크 처리합니다.
+     */
     private int expireCouponHistories(LocalDateTime now) {
-        // 만료되었지만 아직 EXPIRED 상태가 아닌 쿠폰 히스토리들 조회
-        List<CouponHistory> expiredHistories = couponHistoryRepositoryPort
-                .findExpiredHistoriesInStatus(now, CouponHistoryStatus.ISSUED);
+        List<Long> expiredCouponIds = couponRepositoryPort.findIdsByEndDateBefore(now);
+        int totalCount = 0;
         
-        if (expiredHistories.isEmpty()) {
-            log.debug("만료 처리할 쿠폰 히스토리가 없습니다");
-            return 0;
+        for (int from = 0; from < expiredCouponIds.size(); from += COUPON_ID_BATCH_SIZE) {
+            List<Long> couponIds = expiredCouponIds.subList(from, Math.min(from + COUPON_ID_BATCH_SIZE, expiredCouponIds.size()));
+            long cursorId = 0L;
+            
+            while (true) {
+                long cursor = cursorId;
+                HistoryChunk chunk = transactionTemplate.execute(status -> expireHistoryChunk(now, couponIds, cursor));
+                if (chunk == null || chunk.selectedCount() == 0) {
+                    break;
+                }
+                
+                // 커밋된 청크의 변경분만 지갑에 반영 (실행 전체를 모으지 않음)
+                totalCount += chunk.expired().size();
+                removeFromCouponWallets(chunk.expired());
+                
+                if (chunk.selectedCount() < chunkSize) {
+                    break;
+                }
+                if (!pause()) {
+                    return totalCount;
+                }
+                cursorId = chunk.lastHistoryId();
+            }
         }
         
-        // 각 쿠폰 히스토리의 상태를 EXPIRED로 업데이트
-        for (CouponHistory history : expiredHistories) {
-            try {
-                history.expire();
-                couponHistoryRepositoryPort.save(history);
-                log.debug("쿠폰 히스토리 만료 처리: historyId={}, couponId={}", 
-                        history.getId(), history.getCouponId());
-            } catch (Exception e) {
-                log.warn("쿠폰 히스토리 만료 처리 실패: historyId={}, error={}", 
-                        history.getId(), e.getMessage());
-            }
+        return totalCount;
+    }
+    
+    private HistoryChunk expireHistoryChunk(LocalDateTime now, List<Long> couponIds, long cursorId) {
+        List<ExpiringCouponHistoryDto> targets = couponHistoryRepositoryPort.findExpiringHistories(
+                couponIds, CouponHistoryStatus.ISSUED, cursorId, PageRequest.of(0, chunkSize));
+        if (targets.isEmpty()) {
+            return new HistoryChunk(0, cursorId, List.of());
+        }
+        Long lastHistoryId = targets.get(targets.size() - 1).historyId();
+        
+        List<Long> historyIds = targets.stream()
+                .map(ExpiringCouponHistoryDto::historyId)
+                .toList();
+        int updatedCount = couponHistoryRepositoryPort.updateStatusByIds(
+                historyIds, CouponHistoryStatus.ISSUED, CouponHistoryStatus.EXPIRED, now);
+        log.debug("쿠폰 히스토리 만료 청크 처리: selected={}, updated={}", targets.size(), updatedCount);
+        
+        if (updatedCount == targets.size()) {
+            return new HistoryChunk(targets.size(), lastHistoryId, targets);
         }
         
-        return expiredHistories.size();
+        // 조회 이후 사용된 히스토리는 갱신되지 않았으므로 만료 상태로 바뀐 것만 남김
+        Set<Long> expiredIds = new HashSet<>(
+                couponHistoryRepositoryPort.findIdsByIdInAndStatus(historyIds, CouponHistoryStatus.EXPIRED));
+        List<ExpiringCouponHistoryDto> expired = targets.stream()
+                .filter(target -> expiredIds.contains(target.historyId()))
+                .toList();
+        return new HistoryChunk(targets.size(), lastHistoryId, expired);
     }
     
-    private void clearExpiredCouponsCache() {
+    /**
+     * 청크 사이 대기 (인터럽트 시 false를 반환하여 남은 처리는 다음 실행으로 넘김)
+     */
+    private boolean pause() {
+        if (chunkPauseMs <= 0) {
+            return true;
+        }
+        
         try {
-            // 모든 쿠폰 목록 캐시 패턴 무효화 (배치 작업 특성상 전체 무효화)
-            String couponListPattern = "coupon:list:*";
-            cachePort.evictByPattern(couponListPattern);
-            
-            log.info("만료 쿠폰 대량 캐시 무효화 완료");
-        } catch (Exception e) {
-            log.warn("만료 쿠폰 캐시 무효화 실패", e);
-            // 캐시 오류는 배치 작업에 영향을 주지 않음
+            Thread.sleep(chunkPauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("만료 쿠폰 처리 중단 (인터럽트), 남은 대상은 다음 실행에서 처리");
+            return false;
         }
     }
-}
\ No newline at end of file
+    
+    private void removeFromCouponWallets(List<ExpiringCouponHistoryDto> expired) {
+        Map<Long, List<Long>> expiredHistoryIdsByUser = new HashMap<>();
+        expired.forEach(target -> expiredHistoryIdsByUser
+                .computeIfAbsent(target.userId(), userId -> new ArrayList<>())
+                .add(target.historyId()));
+        
+        expiredHistoryIdsByUser.forEach((userId, historyIds) -> {
+            try {
+                couponWalletPort.remove(userId, historyIds);
+            } catch (Exception e) {
+                log.warn("만료 쿠폰 지갑 갱신 실패: userId={}", userId, e);
+                // 지갑 오류는 배치 작업에 영향을 주지 않음 (조회 시 DB 상태로 보정)
+            }
+        });
+    }
+}
@@ -6,6 +6,7 @@ import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.enums.CacheTTL;
+import kr.hhplus.be.server.domain.service.CouponLifecycleScheduler;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,6 +22,7 @@ public class GetCouponByIdUseCase {
     private final CouponRepositoryPort couponRepositoryPort;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final CouponLifecycleScheduler couponLifecycleScheduler;
     
     /**
      * 쿠폰 ID로 쿠폰 정보 조회
@@ -53,6 +55,9 @@ public class GetCouponByIdUseCase {
                         return new CouponException.NotFound();
                     });
             
+            // 시작/종료 전환 등록 (이미 등록된 쿠폰은 무시)
+            couponLifecycleScheduler.register(coupon);
+            
             // 캐시에 저장
             cachePort.put(cacheKey, coupon, CacheTTL.USER_COUPON_LIST.getSeconds());
             log.debug("쿠폰 캐시 저장 완료: couponId={}", couponId);
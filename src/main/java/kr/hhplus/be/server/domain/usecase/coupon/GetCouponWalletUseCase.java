@@ -0,0 +1,133 @@
+package kr.hhplus.be.server.domain.usecase.coupon;
+
+import kr.hhplus.be.server.domain.dto.CouponWalletCursor;
+import kr.hhplus.be.server.domain.dto.CouponWalletPage;
+import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
+import kr.hhplus.be.server.domain.exception.UserException;
+import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 지갑 조회 UseCase
+ *
+ * 사용 가능한 쿠폰을 발급 일시 내림차순으로 커서 기반(keyset) 페이지 조회합니다.
+ *
+ * 1. 지갑 인덱스(Redis)에서 커서 다음 ID limit개 조회 (없으면 DB에서 지갑 구성 후 재조회)
+ * 2. ID로 히스토리 조회 후 DB 상태가 ISSUED가 아닌 항목은 제외하고 지갑에서도 제거
+ * 3. 지갑을 사용할 수 없으면 DB keyset 쿼리로 조회
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class GetCouponWalletUseCase {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final UserRepositoryPort userRepositoryPort;
+    private final CouponHistoryRepositoryPort couponHistoryRepositoryPort;
+    private final CouponWalletPort couponWalletPort;
+
+    /**
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit 조회할 쿠폰 개수
+     * @return 쿠폰 지갑 페이지
+     */
+    public CouponWalletPage execute(Long userId, String cursor, int limit) {
+        validateInputs(userId, limit);
+        CouponWalletCursor walletCursor = CouponWalletCursor.decode(cursor);
+
+        if (!userRepositoryPort.existsById(userId)) {
+            log.warn("사용자 없음: userId={}", userId);
+            throw new UserException.NotFound();
+        }
+
+        Optional<List<Long>> walletIds = couponWalletPort.findPage(userId, walletCursor, limit);
+        if (walletIds.isEmpty()) {
+            // 지갑 미구성: DB에서 사용 가능한 쿠폰으로 구성 후 재조회
+            couponWalletPort.load(userId, couponHistoryRepositoryPort.findWalletEntries(userId, CouponHistoryStatus.ISSUED));
+            walletIds = couponWalletPort.findPage(userId, walletCursor, limit);
+        }
+
+        if (walletIds.isEmpty()) {
+            log.debug("쿠폰 지갑 사용 불가, DB keyset 조회: userId={}", userId);
+            return findFromDatabase(userId, walletCursor, limit);
+        }
+
+        return toPage(userId, walletIds.get(), limit);
+    }
+
+    private CouponWalletPage toPage(Long userId, List<Long> couponHistoryIds, int limit) {
+        if (couponHistoryIds.isEmpty()) {
+            return new CouponWalletPage(List.of(), null);
+        }
+
+        Map<Long, CouponHistory> historiesById = couponHistoryRepositoryPort.findAllById(couponHistoryIds).stream()
+                .collect(Collectors.toMap(CouponHistory::getId, Function.identity()));
+
+        List<CouponHistory> usable = new ArrayList<>(couponHistoryIds.size());
+        List<Long> stale = new ArrayList<>();
+        CouponHistory last = null;
+
+        for (Long couponHistoryId : couponHistoryIds) {
+            CouponHistory history = historiesById.get(couponHistoryId);
+            if (history == null || !history.getUserId().equals(userId)) {
+                stale.add(couponHistoryId);
+                continue;
+            }
+
+            last = history;
+            if (history.getStatus() == CouponHistoryStatus.ISSUED) {
+                usable.add(history);
+            } else {
+                stale.add(couponHistoryId);
+            }
+        }
+
+        // 지갑 구성 중 사용/만료된 항목 등은 조회 시점에 정리
+        if (!stale.isEmpty()) {
+            log.debug("쿠폰 지갑 정리: userId={}, staleIds={}", userId, stale);
+            couponWalletPort.remove(userId, stale);
+        }
+
+        String nextCursor = couponHistoryIds.size() == limit && last != null
+                ? CouponWalletCursor.of(last).encode()
+                : null;
+        return new CouponWalletPage(usable, nextCursor);
+    }
+
+    private CouponWalletPage findFromDatabase(Long userId, CouponWalletCursor cursor, int limit) {
+        PageRequest pageable = PageRequest.of(0, limit);
+        List<CouponHistory> histories = cursor == null
+                ? couponHistoryRepositoryPort.findWalletFirstPage(userId, CouponHistoryStatus.ISSUED, pageable)
+                : couponHistoryRepositoryPort.findWalletPageAfter(userId, CouponHistoryStatus.ISSUED,
+                        cursor.issuedAt(), cursor.couponHistoryId(), pageable);
+
+        String nextCursor = histories.size() == limit
+                ? CouponWalletCursor.of(histories.get(histories.size() - 1)).encode()
+                : null;
+        return new CouponWalletPage(histories, nextCursor);
+    }
+
+    private void validateInputs(Long userId, int limit) {
+        if (userId == null) {
+            throw new IllegalArgumentException("User ID cannot be null");
+        }
+        if (limit <= 0 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package kr.hhplus.be.server.domain.usecase.coupon;
+
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.entity.CouponIssueCounter;
+import kr.hhplus.be.server.domain.port.storage.CouponIssueCounterRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 쿠폰 발급 수량 증가 UseCase
+ * 
+ * 슬롯 카운터 모드(coupon.issue-counter.enabled)에서는 coupon 행 대신
+ * coupon_issue_counter의 임의 슬롯 행을 증가시켜 행 락 경합을 슬롯 수만큼 분산합니다.
+ * 이때 coupon.issued_count/status는 CouponIssueCountRollupScheduler가 주기적으로 합산하여 반영합니다.
+ * 
+ * 한도는 슬롯마다 나눈 할당량을 조건부 UPDATE로 지켜 보장합니다. (슬롯 합계 ≤ 할당량 합계 = 한도)
+ * 고른 슬롯이 가득 차면 다른 슬롯을 시도하고, 묶음 수량이 한 슬롯 여유보다 크면 여러 슬롯에 나누어 반영합니다.
+ * 나누어 반영하다 실패하면 false를 반환하며 호출 측 트랜잭션 롤백으로 앞서 반영한 슬롯도 되돌아갑니다.
+ * 
+ * 커밋된 증가가 있었던 쿠폰은 롤업 대상으로 기록하여 롤업이 전체 슬롯 테이블을 합산하지 않게 합니다.
+ * 
+ * 기본 모드에서는 coupon 행에 대한 조건부 UPDATE 1회로 증가시킵니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IncreaseCouponIssuedCountUseCase {
+    
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final CouponIssueCounterRepositoryPort couponIssueCounterRepositoryPort;
+    
+    @Value("${coupon.issue-counter.enabled:false}")
+    private boolean slotCounterEnabled = false;
+    
+    @Value("${coupon.issue-counter.slot-count:16}")
+    private int slotCount = 16;
+    
+    private final Set<Long> initializedCouponIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> dirtyCouponIds = ConcurrentHashMap.newKeySet();
+    
+    /**
+     * 발급 수량을 증가시킵니다.
+     * 
+     * @param coupon 발급 대상 쿠폰
+     * @param count 증가시킬 수량
+     * @return 증가 여부 (false면 발급 한도 초과)
+     */
+    public boolean execute(Coupon coupon, int count) {
+        Long couponId = coupon.getId();
+        
+        if (!slotCounterEnabled) {
+            return couponRepositoryPort.increaseIssuedCount(couponId, count) > 0;
+        }
+        
+        initializeSlots(couponId);
+        LocalDateTime now = LocalDateTime.now();
+        int start = ThreadLocalRandom.current().nextInt(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            int slot = (start + i) % slotCount;
+            if (couponIssueCounterRepositoryPort.incrementSlotWithinQuota(
+                    couponId, slot, count, quotaOf(coupon, slot), now) > 0) {
+                log.debug("발급 수량 슬롯 증가: couponId={}, slot={}, count={}", couponId, slot, count);
+                afterCommit(() -> dirtyCouponIds.add(couponId));
+                return true;
+            }
+        }
+        
+        if (count > 1 && spreadAcrossSlots(coupon, count, now)) {
+            afterCommit(() -> dirtyCouponIds.add(couponId));
+            return true;
+        }
+        
+        log.warn("슬롯 할당량 기준 발급 한도 초과: couponId={}, count={}", couponId, count);
+        return false;
+    }
+    
+    public boolean isSlotCounterEnabled() {
+        return slotCounterEnabled;
+    }
+    
+    /**
+     * 롤업 대상 쿠폰 ID를 꺼냅니다. 꺼낸 ID는 다시 기록될 때까지 롤업하지 않습니다.
+     */
+    public Set<Long> drainDirtyCouponIds() {
+        Set<Long> drained = new HashSet<>();
+        for (Long couponId : dirtyCouponIds) {
+            if (dirtyCouponIds.remove(couponId)) {
+                drained.add(couponId);
+            }
+        }
+        return drained;
+    }
+    
+    /**
+     * 롤업에 실패한 쿠폰 ID를 다음 롤업 대상으로 되돌립니다.
+     */
+    public void markDirty(Collection<Long> couponIds) {
+        dirtyCouponIds.addAll(couponIds);
+    }
+    
+    /**
+     * 쿠폰 한도를 슬롯 수로 나눈 할당량 (나머지는 앞 슬롯부터 1씩 더함)
+     */
+    private int quotaOf(Coupon coupon, int slot) {
+        int maxIssuance = coupon.getMaxIssuance();
+        return maxIssuance / slotCount + (slot < maxIssuance % slotCount ? 1 : 0);
+    }
+    
+    /**
+     * 조건부 UPDATE는 행이 있어야 하므로 쿠폰별로 한 번 모든 슬롯 행을 만듭니다.
+     * 호출 측 트랜잭션이 롤백되면 행도 사라지므로 커밋된 뒤에만 생성 완료로 기록합니다.
+     */
+    private void initializeSlots(Long couponId) {
+        if (initializedCouponIds.contains(couponId)) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        for (int slot = 0; slot < slotCount; slot++) {
+            couponIssueCounterRepositoryPort.insertSlotIfAbsent(couponId, slot, now);
+        }
+        afterCommit(() -> initializedCouponIds.add(couponId));
+    }
+    
+    /**
+     * 슬롯별 남은 할당량만큼 나누어 반영합니다.
+     */
+    private boolean spreadAcrossSlots(Coupon coupon, int count, LocalDateTime now) {
+        Long couponId = coupon.getId();
+        Map<Integer, Integer> issuedBySlot = couponIssueCounterRepositoryPort.findByCouponId(couponId).stream()
+                .collect(Collectors.toMap(CouponIssueCounter::getSlot, CouponIssueCounter::getIssuedCount));
+        
+        int remaining = count;
+        for (int slot = 0; slot < slotCount && remaining > 0; slot++) {
+            int quota = quotaOf(coupon, slot);
+            int take = Math.min(remaining, quota - issuedBySlot.getOrDefault(slot, 0));
+            if (take <= 0) {
+                continue;
+            }
+            if (couponIssueCounterRepositoryPort.incrementSlotWithinQuota(couponId, slot, take, quota, now) == 0) {
+                return false;
+            }
+            remaining -= take;
+        }
+        return remaining == 0;
+    }
+    
+    /**
+     * 롤업이 커밋 전의 슬롯 값을 읽고 대상에서 빼지 않도록 커밋 이후에 기록합니다.
+     */
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+}
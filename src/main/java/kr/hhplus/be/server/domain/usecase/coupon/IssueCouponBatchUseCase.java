@@ -0,0 +1,236 @@
+package kr.hhplus.be.server.domain.usecase.coupon;
+
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.entity.User;
+import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
+import kr.hhplus.be.server.domain.enums.CouponStatus;
+import kr.hhplus.be.server.domain.event.CouponRequestEvent;
+import kr.hhplus.be.server.domain.event.CouponResultEvent.ResultCode;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.filter.CouponIssueFilterPort;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.service.CouponLifecycleScheduler;
+import kr.hhplus.be.server.domain.exception.CouponException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 동일 쿠폰에 대한 발급 요청을 묶어서 처리하는 UseCase
+ *
+ * 요청 단위로 조회/저장하던 IssueCouponUseCase와 달리,
+ * 쿠폰 조회 1회 + 중복 검증 1회 + 발급 수량 UPDATE 1회 + 이력 일괄 저장으로 처리합니다.
+ * 트랜잭션과 쿠폰 락은 호출자가 관리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IssueCouponBatchUseCase {
+
+    private final UserRepositoryPort userRepositoryPort;
+    private final CouponRepositoryPort couponRepositoryPort;
+    private final CouponHistoryRepositoryPort couponHistoryRepositoryPort;
+    private final CachePort cachePort;
+    private final KeyGenerator keyGenerator;
+    private final CouponLifecycleScheduler couponLifecycleScheduler;
+    private final CouponIssueFilterPort couponIssueFilterPort;
+    private final IncreaseCouponIssuedCountUseCase increaseCouponIssuedCountUseCase;
+    private final CouponWalletPort couponWalletPort;
+
+    // 재고 샤딩 모드: 선착순 선점이 단일 카운터 대신 샤드 카운터에 기록됨 (CouponService와 같은 설정)
+    @Value("${coupon.stock.sharding.enabled:false}")
+    private boolean stockShardingEnabled = false;
+
+    @Value("${coupon.stock.sharding.shard-count:8}")
+    private int stockShardCount = 8;
+
+    /**
+     * 요청별 발급 결과
+     */
+    public record IssueResult(CouponRequestEvent request, ResultCode resultCode, Long couponHistoryId) {
+        public boolean isSuccess() {
+            return resultCode == ResultCode.SUCCESS;
+        }
+    }
+
+    /**
+     * 동일 쿠폰에 대한 발급 요청 일괄 처리
+     *
+     * @param couponId 쿠폰 ID
+     * @param requests 해당 쿠폰에 대한 발급 요청 (수신 순서 = 선착순)
+     * @return 요청 순서대로 정렬된 발급 결과
+     */
+    public List<IssueResult> execute(Long couponId, List<CouponRequestEvent> requests) {
+        return execute(couponId, requests, false);
+    }
+
+    /**
+     * 동일 쿠폰에 대한 발급 요청 일괄 처리
+     *
+     * 이력 저장이 유니크 제약(사용자당 1회)에 걸리면 DataIntegrityViolationException이 전파되어 트랜잭션 전체가 롤백됩니다.
+     * 호출자는 exactDuplicateCheck=true로 다시 처리하여 Bloom 필터 없이 모든 요청 사용자를 DB로 검사합니다.
+     *
+     * @param couponId 쿠폰 ID
+     * @param requests 해당 쿠폰에 대한 발급 요청 (수신 순서 = 선착순)
+     * @param exactDuplicateCheck true면 Bloom 필터를 거치지 않고 중복 발급 여부를 DB로 검사
+     * @return 요청 순서대로 정렬된 발급 결과
+     */
+    public List<IssueResult> execute(Long couponId, List<CouponRequestEvent> requests, boolean exactDuplicateCheck) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+
+        Coupon coupon = couponRepositoryPort.findById(couponId).orElse(null);
+        if (coupon == null) {
+            log.warn("쿠폰 없음: couponId={}, 요청 수={}", couponId, requests.size());
+            return rejectAll(requests, ResultCode.COUPON_NOT_FOUND);
+        }
+
+        // 타이밍 휠이 미리 계산한 기간 상태로 발급 가능 여부 판단 (기간이 바뀐 쿠폰은 다시 등록)
+        couponLifecycleScheduler.register(coupon);
+        if (!coupon.refreshIssuable(couponLifecycleScheduler.getPhase(coupon.getId()))) {
+            log.warn("발급 불가능한 쿠폰: couponId={}, status={}, 요청 수={}", couponId, coupon.getStatus(), requests.size());
+            return rejectAll(requests, toResultCode(coupon.getStatus()));
+        }
+
+        Set<Long> requestUserIds = requests.stream()
+                .map(CouponRequestEvent::getUserId)
+                .collect(Collectors.toSet());
+        Set<Long> existingUserIds = userRepositoryPort.findAllById(requestUserIds).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+        Set<Long> issuedUserIds = exactDuplicateCheck
+                ? new HashSet<>(couponHistoryRepositoryPort.findIssuedUserIds(couponId, requestUserIds))
+                : findIssuedUserIds(couponId, coupon.getMaxIssuance(), requestUserIds);
+
+        // Redis 선착순 카운터가 있는 쿠폰은 Redis 검증을 통과한 요청만 DB에 반영
+        boolean redisAdmission = isRedisAdmissionStarted(couponId);
+        int remaining = coupon.getMaxIssuance() - coupon.getIssuedCount();
+
+        ResultCode[] resultCodes = new ResultCode[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        Set<Long> batchUserIds = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            Long userId = requests.get(i).getUserId();
+
+            if (!existingUserIds.contains(userId)) {
+                resultCodes[i] = ResultCode.USER_NOT_FOUND;
+            } else if (issuedUserIds.contains(userId) || !batchUserIds.add(userId)) {
+                resultCodes[i] = ResultCode.ALREADY_ISSUED;
+            } else if (redisAdmission && !cachePort.hasCouponIssued(keyGenerator.generateCouponUserKey(couponId, userId))) {
+                resultCodes[i] = ResultCode.OUT_OF_STOCK;
+            } else if (acceptedIndexes.size() >= remaining) {
+                resultCodes[i] = ResultCode.OUT_OF_STOCK;
+            } else {
+                acceptedIndexes.add(i);
+            }
+        }
+
+        Long[] historyIds = new Long[requests.size()];
+
+        if (!acceptedIndexes.isEmpty()) {
+            // 쿠폰당 배치 1회 UPDATE (조건부 증가로 한도 초과 방지)
+            if (!increaseCouponIssuedCountUseCase.execute(coupon, acceptedIndexes.size())) {
+                log.warn("발급 수량 갱신 실패 (한도 초과): couponId={}, count={}", couponId, acceptedIndexes.size());
+                throw new CouponException.CouponStockExceeded();
+            }
+
+            LocalDateTime issuedAt = LocalDateTime.now();
+            List<CouponHistory> histories = acceptedIndexes.stream()
+                    .map(index -> CouponHistory.builder()
+                            .userId(requests.get(index).getUserId())
+                            .couponId(couponId)
+                            .issuedAt(issuedAt)
+                            .status(CouponHistoryStatus.ISSUED)
+                            .build())
+                    .toList();
+
+            List<CouponHistory> savedHistories = couponHistoryRepositoryPort.saveAll(histories);
+            savedHistories.forEach(history -> couponIssueFilterPort.add(couponId, history.getUserId()));
+
+            for (int i = 0; i < acceptedIndexes.size(); i++) {
+                int index = acceptedIndexes.get(i);
+                resultCodes[index] = ResultCode.SUCCESS;
+                historyIds[index] = savedHistories.get(i).getId();
+            }
+
+            // 커밋 이후 사용자별 쿠폰 지갑에 추가
+            savedHistories.forEach(history ->
+                    couponWalletPort.add(history.getUserId(), history.getId(), history.getIssuedAt()));
+        }
+
+        List<IssueResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(new IssueResult(requests.get(i), resultCodes[i], historyIds[i]));
+        }
+
+        log.info("쿠폰 일괄 발급 완료: couponId={}, 요청 수={}, 발급 수={}",
+                couponId, requests.size(), acceptedIndexes.size());
+
+        return results;
+    }
+
+    /**
+     * Redis 선착순 선점이 시작된 쿠폰인지 확인
+     * 샤딩 모드는 단일 카운터를 쓰지 않으므로 샤드 재고 분배 또는 품절 플래그로 판단합니다.
+     */
+    private boolean isRedisAdmissionStarted(Long couponId) {
+        if (stockShardingEnabled) {
+            return cachePort.hasCouponShardStock(
+                    keyGenerator.generateCouponStockShardKeys(couponId, stockShardCount),
+                    keyGenerator.generateCouponSoldOutKey(couponId));
+        }
+        return cachePort.getCouponCount(keyGenerator.generateCouponCounterKey(couponId)) > 0;
+    }
+
+    /**
+     * Bloom 필터가 양성인 사용자만 DB로 중복 발급 여부를 확인합니다.
+     */
+    private Set<Long> findIssuedUserIds(Long couponId, int maxIssuance, Set<Long> requestUserIds) {
+        couponIssueFilterPort.ensureReady(couponId, maxIssuance,
+                () -> couponHistoryRepositoryPort.findUserIdsByCouponId(couponId));
+
+        Set<Long> candidates = requestUserIds.stream()
+                .filter(userId -> couponIssueFilterPort.mightContain(couponId, userId))
+                .collect(Collectors.toSet());
+        if (candidates.isEmpty()) {
+            return new HashSet<>();
+        }
+
+        Set<Long> issuedUserIds = new HashSet<>(couponHistoryRepositoryPort.findIssuedUserIds(couponId, candidates));
+        candidates.stream()
+                .filter(userId -> !issuedUserIds.contains(userId))
+                .forEach(userId -> couponIssueFilterPort.recordFalsePositive(couponId));
+        return issuedUserIds;
+    }
+
+    private List<IssueResult> rejectAll(List<CouponRequestEvent> requests, ResultCode resultCode) {
+        return requests.stream()
+                .map(request -> new IssueResult(request, resultCode, null))
+                .toList();
+    }
+
+    private ResultCode toResultCode(CouponStatus status) {
+        switch (status) {
+            case EXPIRED:
+                return ResultCode.EXPIRED;
+            case SOLD_OUT:
+                return ResultCode.OUT_OF_STOCK;
+            case INACTIVE:
+                return ResultCode.NOT_STARTED;
+            default:
+                return ResultCode.SYSTEM_ERROR;
+        }
+    }
+}
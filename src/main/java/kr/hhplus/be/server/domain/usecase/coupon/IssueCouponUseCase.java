@@ -7,11 +7,13 @@ import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
-import kr.hhplus.be.server.domain.port.cache.CachePort;
-import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.filter.CouponIssueFilterPort;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
+import kr.hhplus.be.server.domain.service.CouponLifecycleScheduler;
 import kr.hhplus.be.server.domain.exception.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,8 +27,10 @@ public class IssueCouponUseCase {
     private final UserRepositoryPort userRepositoryPort;
     private final CouponRepositoryPort couponRepositoryPort;
     private final CouponHistoryRepositoryPort couponHistoryRepositoryPort;
-    private final CachePort cachePort;
-    private final KeyGenerator keyGenerator;
+    private final CouponLifecycleScheduler couponLifecycleScheduler;
+    private final CouponIssueFilterPort couponIssueFilterPort;
+    private final IncreaseCouponIssuedCountUseCase increaseCouponIssuedCountUseCase;
+    private final CouponWalletPort couponWalletPort;
     
     /**
      * 쿠폰 발급을 처리합니다.
@@ -60,9 +64,9 @@ public class IssueCouponUseCase {
                     return new CouponException.NotFound();
                 });
         
-        // 쿠폰 발급 가능성 검증 (상태 기반)
-        coupon.updateStatusIfNeeded(); // 상태 업데이트
-        if (!coupon.canIssue()) {
+        // 쿠폰 발급 가능성 검증 (타이밍 휠이 미리 계산한 기간 상태 기반, 기간이 바뀐 쿠폰은 다시 등록)
+        couponLifecycleScheduler.register(coupon);
+        if (!coupon.refreshIssuable(couponLifecycleScheduler.getPhase(coupon.getId()))) {
             log.warn("발급 불가능한 쿠폰: couponId={}, status={}", couponId, coupon.getStatus());
             
             // 상태에 따른 구체적인 예외 던지기
@@ -80,15 +84,27 @@ public class IssueCouponUseCase {
             }
         }
         
-        // 중복 발급 검증
-        if (couponHistoryRepositoryPort.existsByUserIdAndCouponId(userId, couponId)) {
-            log.warn("중복 발급 시도: userId={}, couponId={}", userId, couponId);
-            throw new CouponException.AlreadyIssued();
+        // 중복 발급 검증 (Bloom 필터가 음성이면 DB 조회 생략)
+        couponIssueFilterPort.ensureReady(couponId, coupon.getMaxIssuance(),
+                () -> couponHistoryRepositoryPort.findUserIdsByCouponId(couponId));
+        if (couponIssueFilterPort.mightContain(couponId, userId)) {
+            if (couponHistoryRepositoryPort.existsByUserIdAndCouponId(userId, couponId)) {
+                log.warn("중복 발급 시도: userId={}, couponId={}", userId, couponId);
+                throw new CouponException.AlreadyIssued();
+            }
+            couponIssueFilterPort.recordFalsePositive(couponId);
         }
         
-        // 쿠폰 발급 (내부적으로 상태 업데이트됨)
-        coupon.issue();
-        Coupon savedCoupon = couponRepositoryPort.save(coupon);
+        if (increaseCouponIssuedCountUseCase.isSlotCounterEnabled()) {
+            // 슬롯 카운터 모드: coupon 행은 수정하지 않고 슬롯 행만 증가 (행 락/@Version 충돌 회피)
+            if (!increaseCouponIssuedCountUseCase.execute(coupon, 1)) {
+                throw new CouponException.CouponStockExceeded();
+            }
+        } else {
+            // 쿠폰 발급 (내부적으로 상태 업데이트됨)
+            coupon.issue();
+            couponRepositoryPort.save(coupon);
+        }
         
         // 쿠폰 발급 이력 저장
         CouponHistory couponHistory = CouponHistory.builder()
@@ -98,17 +114,18 @@ public class IssueCouponUseCase {
                 .status(CouponHistoryStatus.ISSUED)
                 .build();
         
-        CouponHistory savedHistory = couponHistoryRepositoryPort.save(couponHistory);
-        
-        // 쿠폰 발급 후 목록 캐시 무효화
+        // Bloom 필터 위음성(구성 전 추가, 토픽 지연, Redis 쓰기 실패)으로 중복 검사를 건너뛴 경우 유니크 제약이 차단
+        CouponHistory savedHistory;
         try {
-            String pattern = keyGenerator.generateCouponListCachePattern(userId);
-            cachePort.evictByPattern(pattern);
-            log.debug("쿠폰 목록 캐시 무효화 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.warn("쿠폰 발급 캐시 처리 실패: userId={}, couponId={}", userId, couponId, e);
-            // 캐시 오류는 비즈니스 로직에 영향을 주지 않음
+            savedHistory = couponHistoryRepositoryPort.save(couponHistory);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("중복 발급 시도 (유니크 제약): userId={}, couponId={}", userId, couponId);
+            throw new CouponException.AlreadyIssued();
         }
+        couponIssueFilterPort.add(couponId, userId);
+        
+        // 커밋 이후 사용자 쿠폰 지갑에 추가
+        couponWalletPort.add(userId, savedHistory.getId(), savedHistory.getIssuedAt());
         
         log.info("쿠폰 발급 완료: userId={}, couponId={}, couponCode={}", 
                 userId, couponId, coupon.getCode());
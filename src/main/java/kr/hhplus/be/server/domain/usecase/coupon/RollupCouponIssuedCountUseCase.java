@@ -0,0 +1,64 @@
+package kr.hhplus.be.server.domain.usecase.coupon;
+
+import kr.hhplus.be.server.domain.port.storage.CouponIssueCounterRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * 발급 수량 슬롯 합산 UseCase
+ * 
+ * 슬롯 카운터 모드에서 coupon_issue_counter 합계를 coupon.issued_count/status에 반영합니다.
+ * 조회/상태 판단은 이 롤업 값을 사용하며, 지연은 롤업 주기 이내입니다.
+ * 
+ * 이 노드에서 커밋된 증가가 있었던 쿠폰만 합산하며, 첫 실행에서만 전체 쿠폰을 합산합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RollupCouponIssuedCountUseCase {
+    
+    private final TransactionTemplate transactionTemplate;
+    private final CouponIssueCounterRepositoryPort couponIssueCounterRepositoryPort;
+    private final IncreaseCouponIssuedCountUseCase increaseCouponIssuedCountUseCase;
+    
+    private volatile boolean initialRollupDone = false;
+    
+    /**
+     * @return 갱신된 쿠폰 수
+     */
+    public int execute() {
+        if (!initialRollupDone) {
+            Integer updated = transactionTemplate.execute(status ->
+                    couponIssueCounterRepositoryPort.rollupAllIssuedCounts(LocalDateTime.now()));
+            initialRollupDone = true;
+            return logRolledUp(updated);
+        }
+        
+        Set<Long> couponIds = increaseCouponIssuedCountUseCase.drainDirtyCouponIds();
+        if (couponIds.isEmpty()) {
+            return 0;
+        }
+        
+        try {
+            Integer updated = transactionTemplate.execute(status ->
+                    couponIssueCounterRepositoryPort.rollupIssuedCounts(couponIds, LocalDateTime.now()));
+            return logRolledUp(updated);
+        } catch (RuntimeException e) {
+            increaseCouponIssuedCountUseCase.markDirty(couponIds);
+            throw e;
+        }
+    }
+    
+    private int logRolledUp(Integer updated) {
+        int rolledUp = updated != null ? updated : 0;
+        if (rolledUp > 0) {
+            log.debug("발급 수량 롤업 완료: {}개 쿠폰 갱신", rolledUp);
+        }
+        return rolledUp;
+    }
+}
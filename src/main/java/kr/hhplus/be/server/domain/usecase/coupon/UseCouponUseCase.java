@@ -9,8 +9,7 @@ import kr.hhplus.be.server.domain.exception.CommonException;
 import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
-import kr.hhplus.be.server.domain.port.cache.CachePort;
-import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -30,8 +29,7 @@ public class UseCouponUseCase {
     private final UserRepositoryPort userRepositoryPort;
     private final CouponHistoryRepositoryPort couponHistoryRepositoryPort;
     private final LockingPort lockingPort;
-    private final CachePort cachePort;
-    private final KeyGenerator keyGenerator;
+    private final CouponWalletPort couponWalletPort;
     
     
     public void execute(Long userId, List<Long> couponHistoryIds, Order order) {
@@ -53,8 +51,8 @@ public class UseCouponUseCase {
                 .sorted()
                 .forEach(couponHistoryId -> useSingleCoupon(user, couponHistoryId, order));
         
-        // 쿠폰 사용 후 캐시 무효화
-        invalidateCouponCache(userId);
+        // 커밋 이후 사용한 쿠폰을 지갑에서 제거
+        couponWalletPort.remove(userId, couponHistoryIds);
         
         log.info("쿠폰 사용 완료: userId={}, couponHistoryIds={}, orderId={}", 
                 userId, couponHistoryIds, order.getId());
@@ -111,17 +109,4 @@ public class UseCouponUseCase {
             throw new IllegalArgumentException("Duplicate coupon history IDs found");
         }
     }
-    
-    private void invalidateCouponCache(Long userId) {
-        try {
-            // 사용자의 쿠폰 목록 캐시 무효화
-            String pattern = keyGenerator.generateCouponListCachePattern(userId);
-            cachePort.evictByPattern(pattern);
-            
-            log.debug("쿠폰 사용 후 캐시 무효화 완료: userId={}", userId);
-        } catch (Exception e) {
-            log.warn("쿠폰 사용 캐시 처리 실패: userId={}", userId, e);
-            // 캐시 오류는 비즈니스 로직에 영향을 주지 않음
-        }
-    }
 }
\ No newline at end of file
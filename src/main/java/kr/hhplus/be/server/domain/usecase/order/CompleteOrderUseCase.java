@@ -2,16 +2,18 @@ package kr.hhplus.be.server.domain.usecase.order;
 
 import kr.hhplus.be.server.domain.entity.Order;
 import kr.hhplus.be.server.domain.entity.OrderItem;
-import kr.hhplus.be.server.domain.entity.Product;
-import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.enums.CacheTTL;
+import kr.hhplus.be.server.domain.enums.OrderStatus;
+import kr.hhplus.be.server.domain.exception.OrderException;
 import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
-import kr.hhplus.be.server.domain.exception.ProductException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Component
@@ -19,23 +21,51 @@ import java.util.List;
 @Slf4j
 public class CompleteOrderUseCase {
     
-    private final ProductRepositoryPort productRepositoryPort;
     private final OrderItemRepositoryPort orderItemRepositoryPort;
+    private final ConfirmReservedStockUseCase confirmReservedStockUseCase;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final OrderRepositoryPort orderRepositoryPort;
     
-    public void execute(Order order) {
+    /**
+     * 결제된 주문을 PAID로 전이하고 예약 재고를 확정합니다.
+     * 
+     * @return 확정 처리에 사용한 주문 항목 (호출 측이 이벤트 발행에 재사용)
+     * @throws OrderException.Expired 예약이 만료되어 이미 취소된 주문인 경우
+     */
+    public List<OrderItem> execute(Order order) {
         log.debug("주문 완료 처리: orderId={}", order.getId());
         
+        // PENDING → PAID 조건부 전이 (예약 만료 스위퍼와 경합 시 한쪽만 성공)
+        markPaid(order);
+        
         // 예약된 재고를 확정합니다 (실제 재고 차감)
-        confirmReservedStock(order);
+        List<OrderItem> orderItems = confirmReservedStock(order);
         
-        // 주문 완료 후 캐시 무효화
+        log.info("주문 완료 처리 완료: orderId={}", order.getId());
+        return orderItems;
+    }
+    
+    /**
+     * 결제 완료 주문 캐시 갱신 (커밋 이후 호출)
+     * 
+     * 주문 상세 캐시는 PAID 상태 스냅샷으로 덮어써 결제 직후 조회가 DB로 가지 않게 하고,
+     * 주문 목록 캐시는 무효화합니다.
+     * 전달받은 주문은 결제 검증 시 JDBC 조회(findPaymentLookup)로 읽은 PENDING 시점 값이고 상태 전이도 JDBC UPDATE로 하므로,
+     * 이 값에 PAID 상태를 입힌 스냅샷을 만들어 저장합니다.
+     */
+    public void updatePaidOrderCache(Order order) {
         try {
-            // 주문 상세 캐시 무효화 (미래에 상태 변경 시 업데이트 대비)
-            String orderCacheKey = keyGenerator.generateOrderCacheKey(order.getId());
-            cachePort.evict(orderCacheKey);
-            log.debug("주문 캐시 무효화 완료: orderId={}", order.getId());
+            Order paidOrder = Order.builder()
+                    .id(order.getId())
+                    .userId(order.getUserId())
+                    .totalAmount(order.getTotalAmount())
+                    .status(OrderStatus.PAID)
+                    .createdAt(order.getCreatedAt())
+                    .updatedAt(LocalDateTime.now())
+                    .build();
+            cachePort.put(keyGenerator.generateOrderCacheKey(order.getId()), paidOrder, CacheTTL.ORDER_DETAIL.getSeconds());
+            log.debug("결제 완료 주문 캐시 갱신: orderId={}", order.getId());
             
             // 주문 목록 캐시 무효화
             String pattern = keyGenerator.generateOrderListCachePattern(order.getUserId());
@@ -45,14 +75,20 @@ public class CompleteOrderUseCase {
             log.warn("주문 완료 캐시 처리 실패: orderId={}, userId={}", order.getId(), order.getUserId(), e);
             // 캐시 오류는 비즈니스 로직에 영향을 주지 않음
         }
-        
-        log.info("주문 완료 처리 완료: orderId={}", order.getId());
+    }
+    
+    private void markPaid(Order order) {
+        int[] updatedCounts = orderRepositoryPort.updateStatusIfPending(List.of(order.getId()), OrderStatus.PAID);
+        if (updatedCounts.length != 1 || updatedCounts[0] != 1) {
+            log.warn("결제 대기 상태가 아닌 주문: orderId={}", order.getId());
+            throw new OrderException.Expired();
+        }
     }
     
     /**
      * 예약된 재고를 확정합니다 (실제 재고 차감)
      */
-    private void confirmReservedStock(Order order) {
+    private List<OrderItem> confirmReservedStock(Order order) {
         log.debug("재고 확정 처리 시작: orderId={}", order.getId());
         
         // OrderItem 조회
@@ -60,31 +96,13 @@ public class CompleteOrderUseCase {
         
         if (orderItems.isEmpty()) {
             log.warn("주문에 OrderItem이 없습니다: orderId={}", order.getId());
-            return;
+            return orderItems;
         }
         
-        // 각 OrderItem에 대해 재고 확정 처리
-        for (OrderItem orderItem : orderItems) {
-            Product product = productRepositoryPort.findById(orderItem.getProductId())
-                    .orElseThrow(() -> {
-                        log.error("상품을 찾을 수 없습니다: productId={}", orderItem.getProductId());
-                        return new ProductException.NotFound();
-                    });
-            
-            // 예약된 재고를 실제 재고에서 차감
-            try {
-                product.confirmReservation(orderItem.getQuantity());
-                productRepositoryPort.save(product);
-                
-                log.debug("재고 확정 완료: productId={}, quantity={}, remainingStock={}", 
-                        orderItem.getProductId(), orderItem.getQuantity(), product.getStock());
-            } catch (Exception e) {
-                log.error("재고 확정 실패: productId={}, quantity={}", 
-                        orderItem.getProductId(), orderItem.getQuantity(), e);
-                throw e;
-            }
-        }
+        // 상품별 조건부 UPDATE를 한 번의 배치로 실행 (엔티티 조회/저장 없음)
+        confirmReservedStockUseCase.execute(orderItems);
         
         log.debug("재고 확정 처리 완료: orderId={}, itemCount={}", order.getId(), orderItems.size());
+        return orderItems;
     }
 }
\ No newline at end of file
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.domain.usecase.order;
+
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.exception.ProductException;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 예약 재고 확정 UseCase
+ *
+ * 주문 항목을 상품별로 합산해 조건부 UPDATE 하나의 JDBC 배치로 확정합니다.
+ * 상품별 분산 락과 엔티티 조회/저장 대신 영향 행 수로 확정 여부를 판단하며,
+ * 하나라도 실패하면 예외를 던져 호출 측 트랜잭션 전체를 롤백합니다. (별도 보상 처리 없음)
+ * 재고 원장 관리 대상 상품은 product 행 대신 원장에서 확정하며, 롤백 시 원장 어댑터가 되돌립니다.
+ *
+ * 트랜잭션은 호출자가 관리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConfirmReservedStockUseCase {
+
+    private final ProductRepositoryPort productRepositoryPort;
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+
+    /**
+     * @param orderItems 확정할 주문 항목
+     * @throws ProductException.NotFound 상품이 없는 경우
+     * @throws ProductException.InvalidReservation 예약 재고 또는 실제 재고가 부족한 경우
+     */
+    public void execute(List<OrderItem> orderItems) {
+        if (orderItems.isEmpty()) {
+            return;
+        }
+
+        // 상품 ID 순으로 합산하여 동시 결제 간 행 락 획득 순서를 고정 (데드락 방지)
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (OrderItem orderItem : orderItems) {
+            quantities.merge(orderItem.getProductId(), orderItem.getQuantity(), Integer::sum);
+        }
+
+        List<ProductStockDelta> ledgerDeltas = new ArrayList<>();
+        quantities.entrySet().removeIf(entry -> {
+            if (!inventoryLedgerPort.isManaged(entry.getKey())) {
+                return false;
+            }
+            ledgerDeltas.add(ProductStockDelta.confirm(entry.getKey(), entry.getValue()));
+            return true;
+        });
+        confirmOnLedger(ledgerDeltas);
+        
+        if (quantities.isEmpty()) {
+            return;
+        }
+        
+        List<ProductQuantityDto> items = ProductQuantityDto.fromMap(quantities);
+        int[] updatedCounts = productRepositoryPort.confirmReservations(items);
+
+        for (int i = 0; i < items.size(); i++) {
+            if (updatedCounts[i] != 1) {
+                ProductQuantityDto failed = items.get(i);
+                log.warn("재고 확정 실패: productId={}, quantity={}", failed.getProductId(), failed.getQuantity());
+
+                if (!productRepositoryPort.existsById(failed.getProductId())) {
+                    throw new ProductException.NotFound();
+                }
+                throw new ProductException.InvalidReservation("예약 재고가 부족하여 확정할 수 없습니다");
+            }
+        }
+
+        log.debug("재고 확정 완료: productCount={}", items.size());
+    }
+    
+    private void confirmOnLedger(List<ProductStockDelta> deltas) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        ApplyResult result = applyInventoryLedgerUseCase.execute(deltas);
+        if (result == ApplyResult.NOT_LOADED) {
+            throw new ProductException.NotFound();
+        }
+        if (result != ApplyResult.APPLIED) {
+            log.warn("재고 원장 확정 실패: deltas={}", deltas);
+            throw new ProductException.InvalidReservation("예약 재고가 부족하여 확정할 수 없습니다");
+        }
+    }
+}
@@ -0,0 +1,263 @@
+package kr.hhplus.be.server.domain.usecase.order;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.entity.User;
+import kr.hhplus.be.server.domain.exception.OrderException;
+import kr.hhplus.be.server.domain.exception.ProductException;
+import kr.hhplus.be.server.domain.exception.UserException;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.reservation.ReservationExpiryPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 같은 상품 묶음에 대한 주문 생성 요청을 묶어서 처리하는 UseCase
+ *
+ * 요청 단위로 조회/예약/저장하던 CreateOrderUseCase와 달리,
+ * 사용자/상품 조회 1회 + 상품별 예약 UPDATE 1회(합산 수량) + 주문/항목 JDBC 배치 INSERT로 처리합니다.
+ * 가용 재고는 수신 순서대로 배정하며, 부족한 요청만 개별 실패로 반환합니다.
+ * 트랜잭션과 상품 락은 호출자가 관리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CreateOrderBatchUseCase {
+
+    private final UserRepositoryPort userRepositoryPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final OrderItemRepositoryPort orderItemRepositoryPort;
+    private final CachePort cachePort;
+    private final KeyGenerator keyGenerator;
+    private final SoldOutRegistryPort soldOutRegistryPort;
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+    private final ReservationExpiryPort reservationExpiryPort;
+    private final SideEffectDispatcher sideEffectDispatcher;
+
+    /**
+     * 주문 생성 요청
+     */
+    public record OrderRequest(Long userId, List<ProductQuantityDto> productQuantities) {
+    }
+
+    /**
+     * 요청별 주문 생성 결과 (실패 시 order는 null)
+     */
+    public record OrderResult(OrderRequest request, Order order, RuntimeException error) {
+        public boolean isSuccess() {
+            return error == null;
+        }
+    }
+
+    /**
+     * 주문 생성 요청 일괄 처리
+     *
+     * @param requests 주문 생성 요청 (수신 순서 = 재고 배정 순서)
+     * @return 요청 순서대로 정렬된 생성 결과
+     * @throws ProductException.OutOfStock 합산 예약 UPDATE가 실패한 경우 (묶음 전체 실패)
+     */
+    public List<OrderResult> execute(List<OrderRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> requestUserIds = requests.stream()
+                .map(OrderRequest::userId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<Long> existingUserIds = userRepositoryPort.findAllById(requestUserIds).stream()
+                .map(User::getId)
+                .collect(Collectors.toSet());
+
+        List<Long> productIds = requests.stream()
+                .filter(request -> request.productQuantities() != null)
+                .flatMap(request -> request.productQuantities().stream())
+                .map(ProductQuantityDto::getProductId)
+                .distinct()
+                .toList();
+        Map<Long, Product> productMap = productRepositoryPort.findByIds(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, product -> product));
+
+        // 원장 관리 대상이 아닌 상품의 남은 가용 재고 (요청마다 차감)
+        Map<Long, Integer> available = new HashMap<>();
+        productMap.values().stream()
+                .filter(product -> !inventoryLedgerPort.isManaged(product.getId()))
+                .forEach(product -> available.put(product.getId(), product.getStock() - product.getReservedStock()));
+
+        Map<Long, Integer> reserveTotals = new TreeMap<>();
+        RuntimeException[] errors = new RuntimeException[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Order> acceptedOrders = new ArrayList<>();
+        List<List<OrderItem>> acceptedItems = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            OrderRequest request = requests.get(i);
+            try {
+                Map<Long, Integer> quantities = validate(request, existingUserIds, productMap);
+                reserve(quantities, available, reserveTotals);
+
+                List<OrderItem> orderItems = quantities.entrySet().stream()
+                        .map(entry -> OrderItem.builder()
+                                .productId(entry.getKey())
+                                .quantity(entry.getValue())
+                                .price(productMap.get(entry.getKey()).getPrice())
+                                .build())
+                        .toList();
+                BigDecimal totalAmount = orderItems.stream()
+                        .map(item -> item.getPrice().multiply(new BigDecimal(item.getQuantity())))
+                        .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+                acceptedIndexes.add(i);
+                acceptedOrders.add(Order.builder()
+                        .userId(request.userId())
+                        .totalAmount(totalAmount)
+                        .build());
+                acceptedItems.add(orderItems);
+            } catch (RuntimeException e) {
+                errors[i] = e;
+            }
+        }
+
+        if (!acceptedOrders.isEmpty()) {
+            reserveOnProducts(reserveTotals);
+
+            orderRepositoryPort.insertAll(acceptedOrders);
+            List<OrderItem> allItems = new ArrayList<>();
+            for (int i = 0; i < acceptedOrders.size(); i++) {
+                Long orderId = acceptedOrders.get(i).getId();
+                acceptedItems.get(i).forEach(item -> allItems.add(item.withOrderId(orderId)));
+            }
+            orderItemRepositoryPort.insertAll(allItems);
+            reservationExpiryPort.register(acceptedOrders.stream().map(Order::getId).toList());
+
+            // 가용 재고 소진 시 품절 전파 (트랜잭션 커밋 이후 반영)
+            reserveTotals.keySet().stream()
+                    .filter(productId -> available.getOrDefault(productId, 1) <= 0)
+                    .forEach(soldOutRegistryPort::markProductSoldOut);
+
+            evictOrderListCaches(acceptedOrders);
+        }
+
+        Order[] orders = new Order[requests.size()];
+        for (int i = 0; i < acceptedIndexes.size(); i++) {
+            orders[acceptedIndexes.get(i)] = acceptedOrders.get(i);
+        }
+
+        List<OrderResult> results = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            results.add(new OrderResult(requests.get(i), orders[i], errors[i]));
+        }
+
+        log.info("주문 일괄 생성 완료: 요청 수={}, 생성 수={}, 상품 수={}",
+                requests.size(), acceptedOrders.size(), reserveTotals.size());
+
+        return results;
+    }
+
+    /**
+     * 요청을 검증하고 상품별 수량을 상품 ID 순으로 합산합니다.
+     */
+    private Map<Long, Integer> validate(OrderRequest request, Set<Long> existingUserIds, Map<Long, Product> productMap) {
+        if (request.userId() == null) {
+            throw new IllegalArgumentException("UserId cannot be null");
+        }
+        if (request.productQuantities() == null || request.productQuantities().isEmpty()) {
+            throw new OrderException.EmptyItems();
+        }
+        if (!existingUserIds.contains(request.userId())) {
+            throw new UserException.NotFound();
+        }
+
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (ProductQuantityDto productQuantity : request.productQuantities()) {
+            if (!productMap.containsKey(productQuantity.getProductId())) {
+                throw new ProductException.NotFound();
+            }
+            quantities.merge(productQuantity.getProductId(), productQuantity.getQuantity(), Integer::sum);
+        }
+        return quantities;
+    }
+
+    /**
+     * 요청 하나의 재고를 배정합니다.
+     * DB 재고 상품은 남은 가용 재고에서 차감해 합산하고, 원장 관리 대상 상품은 원장에서 바로 예약합니다.
+     */
+    private void reserve(Map<Long, Integer> quantities, Map<Long, Integer> available, Map<Long, Integer> reserveTotals) {
+        List<ProductStockDelta> ledgerDeltas = new ArrayList<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            if (inventoryLedgerPort.isManaged(entry.getKey())) {
+                ledgerDeltas.add(ProductStockDelta.reserve(entry.getKey(), entry.getValue()));
+            } else if (available.get(entry.getKey()) < entry.getValue()) {
+                throw new ProductException.OutOfStock();
+            }
+        }
+
+        if (!ledgerDeltas.isEmpty()) {
+            ApplyResult result = applyInventoryLedgerUseCase.execute(ledgerDeltas);
+            if (result == ApplyResult.NOT_LOADED) {
+                throw new ProductException.NotFound();
+            }
+            if (result != ApplyResult.APPLIED) {
+                throw new ProductException.OutOfStock();
+            }
+        }
+
+        quantities.forEach((productId, quantity) -> {
+            if (!inventoryLedgerPort.isManaged(productId)) {
+                available.merge(productId, -quantity, Integer::sum);
+                reserveTotals.merge(productId, quantity, Integer::sum);
+            }
+        });
+    }
+
+    /**
+     * 합산 수량을 상품별 조건부 UPDATE 한 번으로 예약합니다.
+     * 호출자가 상품 락을 잡고 있으므로 실패는 락 밖에서 재고가 변경된 경우뿐이며, 묶음 전체를 롤백합니다.
+     */
+    private void reserveOnProducts(Map<Long, Integer> reserveTotals) {
+        if (reserveTotals.isEmpty()) {
+            return;
+        }
+
+        List<ProductQuantityDto> items = ProductQuantityDto.fromMap(reserveTotals);
+        int[] updatedCounts = productRepositoryPort.reserveStocks(items);
+        for (int i = 0; i < items.size(); i++) {
+            if (updatedCounts[i] != 1) {
+                log.warn("합산 재고 예약 실패: productId={}, quantity={}",
+                        items.get(i).getProductId(), items.get(i).getQuantity());
+                throw new ProductException.OutOfStock();
+            }
+        }
+    }
+
+    private void evictOrderListCaches(List<Order> orders) {
+        // PENDING 주문 상세는 캐시에 쓰지 않음 (결제 완료 후의 PAID 스냅샷과 경합), 주문 목록 캐시만 무효화
+        // 커밋 직후 동기 실행하여 커밋 전 무효화 후 옛 목록이 다시 적재되지 않도록 함 (롤백 시 미반영)
+        List<Long> userIds = orders.stream()
+                .map(Order::getUserId)
+                .distinct()
+                .toList();
+        sideEffectDispatcher.evictAfterCommit("order.list.cache.evict", () ->
+                userIds.forEach(userId -> cachePort.evictByPattern(keyGenerator.generateOrderListCachePattern(userId))));
+    }
+}
@@ -9,14 +9,20 @@ import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.reservation.ReservationExpiryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
 import kr.hhplus.be.server.common.util.KeyGenerator;
-import kr.hhplus.be.server.domain.enums.CacheTTL;
 import kr.hhplus.be.server.domain.exception.*;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +38,11 @@ public class CreateOrderUseCase {
     private final OrderItemRepositoryPort orderItemRepositoryPort;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final SoldOutRegistryPort soldOutRegistryPort;
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+    private final ReservationExpiryPort reservationExpiryPort;
+    private final SideEffectDispatcher sideEffectDispatcher;
 
     /**
      * 주문을 생성하고 상품 재고를 예약
@@ -68,11 +79,19 @@ public class CreateOrderUseCase {
                             throw new ProductException.NotFound();
                         }
                         
-                        product.reserveStock(quantity);
-                        productRepositoryPort.save(product);
-                        
-                        log.debug("재고 예약 완료: productId={}, quantity={}, availableStock={}", 
-                                productId, quantity, product.getStock() - product.getReservedStock());
+                        // 원장 관리 대상 상품은 아래에서 재고 원장으로 예약 (product 행 갱신 없음)
+                        if (!inventoryLedgerPort.isManaged(productId)) {
+                            product.reserveStock(quantity);
+                            productRepositoryPort.save(product);
+                            
+                            log.debug("재고 예약 완료: productId={}, quantity={}, availableStock={}", 
+                                    productId, quantity, product.getStock() - product.getReservedStock());
+                            
+                            // 가용 재고 소진 시 품절 전파 (트랜잭션 커밋 이후 반영)
+                            if (!product.hasAvailableStock(1)) {
+                                soldOutRegistryPort.markProductSoldOut(productId);
+                            }
+                        }
                         
                         return OrderItem.builder()
                                 .productId(productId)
@@ -81,6 +100,8 @@ public class CreateOrderUseCase {
                                 .build();
                     }).toList();
 
+            reserveOnLedger(productQuantities);
+
             BigDecimal totalAmount = orderItems.stream()
                     .map(item -> item.getPrice().multiply(new BigDecimal(item.getQuantity())))
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
@@ -101,20 +122,16 @@ public class CreateOrderUseCase {
             log.debug("OrderItem 배치 저장 완료: orderId={}, itemCount={}", 
                     savedOrder.getId(), orderItemsWithOrderId.size());
             
-            // Write-Through: 생성된 주문을 캐시에 저장
-            try {
-                String cacheKey = keyGenerator.generateOrderCacheKey(savedOrder.getId());
-                cachePort.put(cacheKey, savedOrder, CacheTTL.ORDER_DETAIL.getSeconds());
-                log.debug("주문 캐시 저장 완료: orderId={}", savedOrder.getId());
-                
-                // 주문 목록 캐시 무효화
+            // 결제되지 않으면 예약 TTL 뒤 예약 재고 해제 (커밋 이후 등록)
+            reservationExpiryPort.register(List.of(savedOrder.getId()));
+            
+            // 생성 직후의 PENDING 주문은 캐시에 쓰지 않음: 늦게 도착한 쓰기가 결제 완료 후의 PAID 스냅샷을 덮을 수 있음
+            // 주문 상세는 첫 조회 시 DB에서 적재하고, 주문 목록 캐시만 무효화 (커밋 직후 동기 실행, 롤백 시 미반영)
+            sideEffectDispatcher.evictAfterCommit("order.list.cache.evict", () -> {
                 String pattern = keyGenerator.generateOrderListCachePattern(userId);
                 cachePort.evictByPattern(pattern);
                 log.debug("주문 목록 캐시 무효화 완료: userId={}", userId);
-            } catch (Exception e) {
-                log.warn("주문 캐시 처리 실패: orderId={}, userId={}", savedOrder.getId(), userId, e);
-                // 캐시 오류는 비즈니스 로직에 영향을 주지 않음
-            }
+            });
             
             log.info("주문 생성 완료: orderId={}, userId={}, totalAmount={}, itemCount={}", 
                     savedOrder.getId(), userId, totalAmount, orderItems.size());
@@ -126,6 +143,31 @@ public class CreateOrderUseCase {
         }
     }
 
+    /**
+     * 원장 관리 대상 상품의 재고를 한 번의 원자 연산으로 예약합니다.
+     * 트랜잭션이 롤백되면 원장 어댑터가 예약을 되돌립니다.
+     */
+    private void reserveOnLedger(List<ProductQuantityDto> productQuantities) {
+        List<ProductStockDelta> deltas = productQuantities.stream()
+                .filter(productQuantity -> inventoryLedgerPort.isManaged(productQuantity.getProductId()))
+                .map(productQuantity -> ProductStockDelta.reserve(productQuantity.getProductId(), productQuantity.getQuantity()))
+                .toList();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        
+        ApplyResult result = applyInventoryLedgerUseCase.execute(deltas);
+        if (result == ApplyResult.NOT_LOADED) {
+            throw new ProductException.NotFound();
+        }
+        if (result != ApplyResult.APPLIED) {
+            log.warn("재고 원장 예약 실패: deltas={}", deltas);
+            throw new ProductException.OutOfStock();
+        }
+        
+        log.debug("재고 원장 예약 완료: productCount={}", deltas.size());
+    }
+
     private void validateParameters(Long userId, List<ProductQuantityDto> productQuantities) {
         if (userId == null) {
             throw new IllegalArgumentException("UserId cannot be null");
@@ -6,6 +6,7 @@ import kr.hhplus.be.server.domain.port.storage.PaymentRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.enums.CacheTTL;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,6 +21,7 @@ public class CreatePaymentUseCase {
     private final PaymentRepositoryPort paymentRepositoryPort;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final SideEffectDispatcher sideEffectDispatcher;
     
     public Payment execute(Long orderId, Long userId, BigDecimal amount) {
         log.debug("결제 생성: orderId={}, userId={}, amount={}", orderId, userId, amount);
@@ -37,15 +39,12 @@ public class CreatePaymentUseCase {
 
         Payment savedPayment = paymentRepositoryPort.save(payment);
         
-        // Write-Through: 결제 정보를 캐시에 저장
-        try {
+        // Write-Through: 결제 정보를 캐시에 저장 (커밋 이후 비동기, 롤백 시 미반영)
+        sideEffectDispatcher.dispatchAfterCommit("payment.cache.put", () -> {
             String cacheKey = keyGenerator.generatePaymentCacheKey(savedPayment.getId());
             cachePort.put(cacheKey, savedPayment, CacheTTL.PAYMENT_DETAIL.getSeconds());
             log.debug("결제 정보 캐시 저장 완료: paymentId={}", savedPayment.getId());
-        } catch (Exception e) {
-            log.warn("결제 캐시 처리 실패: paymentId={}, orderId={}", savedPayment.getId(), orderId, e);
-            // 캐시 오류는 비즈니스 로직에 영향을 주지 않음
-        }
+        });
         
         log.info("결제 생성 완료: paymentId={}, orderId={}, userId={}, amount={}", 
                 savedPayment.getId(), orderId, userId, amount);
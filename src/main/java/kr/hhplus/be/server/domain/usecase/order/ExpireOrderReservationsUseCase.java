@@ -0,0 +1,246 @@
+package kr.hhplus.be.server.domain.usecase.order;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.enums.OrderStatus;
+import kr.hhplus.be.server.domain.exception.ProductException;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.reservation.ReservationExpiryPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+/**
+ * 주문 재고 예약 만료 UseCase
+ *
+ * 결제되지 않은 채 예약 TTL이 지난 PENDING 주문을 CANCELLED로 전이하고 예약 재고를 해제합니다.
+ * 만료 대상은 예약 만료 대기열(Redis ZSET)에서 꺼내며, 대기열 등록이 누락된 주문은 DB 재확인(sweepStale)으로 처리합니다.
+ *
+ * 묶음 단위로 주문 상태 조건부 UPDATE 배치 1회 + 주문 항목 IN 조회 1회 + 상품별 예약 해제 UPDATE 배치 1회로 처리합니다.
+ * 결제와는 PENDING 조건부 상태 전이로 경합하므로, 결제된 주문은 만료되지 않습니다.
+ * 재고 원장 예약 해제가 반영되지 않으면 상태 전이도 롤백하여, 해당 주문은 PENDING으로 남아 다시 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ExpireOrderReservationsUseCase {
+
+    private final OrderRepositoryPort orderRepositoryPort;
+    private final OrderItemRepositoryPort orderItemRepositoryPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final ReservationExpiryPort reservationExpiryPort;
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+    private final SoldOutRegistryPort soldOutRegistryPort;
+    private final CachePort cachePort;
+    private final KeyGenerator keyGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${order.reservation.ttl-seconds:600}")
+    private long ttlSeconds = 600;
+
+    @Value("${order.reservation.expiry.batch-size:200}")
+    private int batchSize = 200;
+
+    @Value("${order.reservation.expiry.retry-delay-ms:5000}")
+    private long retryDelayMs = 5000;
+
+    /**
+     * 만료 처리 결과
+     *
+     * @param expiredOrders 만료된 주문 수
+     * @param releasedQuantity 해제된 예약 수량 합계
+     */
+    public record ExpiryResult(int expiredOrders, int releasedQuantity) {
+        public static final ExpiryResult EMPTY = new ExpiryResult(0, 0);
+    }
+
+    /**
+     * 만료 대기열에서 만료 시각이 지난 주문을 꺼내 처리합니다.
+     * 처리에 실패하거나 원장 예약 해제가 반영되지 않은 주문은 retry-delay-ms 뒤에 다시 등록합니다.
+     */
+    public ExpiryResult execute() {
+        List<Long> orderIds = reservationExpiryPort.pollExpired(System.currentTimeMillis(), batchSize);
+        if (orderIds.isEmpty()) {
+            return ExpiryResult.EMPTY;
+        }
+
+        try {
+            return expire(orderIds, failedIds ->
+                    reservationExpiryPort.reschedule(failedIds, System.currentTimeMillis() + retryDelayMs));
+        } catch (Exception e) {
+            reservationExpiryPort.reschedule(orderIds, System.currentTimeMillis() + retryDelayMs);
+            throw e;
+        }
+    }
+
+    /**
+     * 대기열과 무관하게 TTL이 지난 PENDING 주문을 DB에서 찾아 처리합니다. (대기열 등록 누락 대비)
+     * 원장 예약 해제가 반영되지 않은 주문은 PENDING으로 남으므로 다음 재확인에서 다시 처리됩니다.
+     */
+    public ExpiryResult sweepStale() {
+        LocalDateTime before = LocalDateTime.now().minusSeconds(ttlSeconds);
+        List<Long> orderIds = orderRepositoryPort.findIdsByStatusAndCreatedAtBefore(
+                OrderStatus.PENDING, before, PageRequest.of(0, batchSize));
+        if (orderIds.isEmpty()) {
+            return ExpiryResult.EMPTY;
+        }
+
+        log.info("대기열 밖의 만료 주문 발견: count={}", orderIds.size());
+        return expire(orderIds, failedIds -> log.warn("다음 재확인에서 만료를 다시 시도: orderIds={}", failedIds));
+    }
+
+    /**
+     * 현재 결제 대기 중인 예약 재고 합계
+     */
+    public long reservedUnpaidStock() {
+        return productRepositoryPort.sumReservedStock();
+    }
+
+    /**
+     * 만료 대기 중인 주문 수
+     */
+    public long pendingExpiryCount() {
+        return reservationExpiryPort.pendingCount();
+    }
+
+    /**
+     * 묶음으로 만료를 처리합니다. 원장 예약 해제가 반영되지 않으면 한 주문이 묶음 전체를 막지 않도록
+     * 주문별로 다시 처리하고, 그래도 실패한 주문은 onReleaseFailed로 넘깁니다.
+     */
+    private ExpiryResult expire(List<Long> orderIds, Consumer<List<Long>> onReleaseFailed) {
+        // 주문 ID 순으로 처리하여 결제와 행 락 획득 순서를 맞춤
+        List<Long> sortedIds = orderIds.stream().sorted().distinct().toList();
+
+        try {
+            return expireBatch(sortedIds);
+        } catch (ProductException.InvalidReservation e) {
+            if (sortedIds.size() == 1) {
+                onReleaseFailed.accept(sortedIds);
+                return ExpiryResult.EMPTY;
+            }
+            log.warn("묶음 만료 중 원장 예약 해제 실패, 주문별로 다시 처리: orderIds={}", sortedIds);
+        }
+
+        int expiredOrders = 0;
+        int releasedQuantity = 0;
+        List<Long> failedIds = new ArrayList<>();
+        for (Long orderId : sortedIds) {
+            try {
+                ExpiryResult result = expireBatch(List.of(orderId));
+                expiredOrders += result.expiredOrders();
+                releasedQuantity += result.releasedQuantity();
+            } catch (ProductException.InvalidReservation e) {
+                failedIds.add(orderId);
+            }
+        }
+        if (!failedIds.isEmpty()) {
+            onReleaseFailed.accept(failedIds);
+        }
+        return new ExpiryResult(expiredOrders, releasedQuantity);
+    }
+
+    private ExpiryResult expireBatch(List<Long> sortedIds) {
+        Map<Long, Integer> released = new TreeMap<>();
+        List<Long> cancelledIds = transactionTemplate.execute(status -> {
+            int[] updatedCounts = orderRepositoryPort.updateStatusIfPending(sortedIds, OrderStatus.CANCELLED);
+            List<Long> cancelled = new ArrayList<>();
+            for (int i = 0; i < sortedIds.size(); i++) {
+                if (updatedCounts[i] == 1) {
+                    cancelled.add(sortedIds.get(i));
+                }
+            }
+            if (cancelled.isEmpty()) {
+                return cancelled;
+            }
+
+            for (OrderItem item : orderItemRepositoryPort.findByOrderIdIn(cancelled)) {
+                released.merge(item.getProductId(), item.getQuantity(), Integer::sum);
+            }
+            releaseReservations(released);
+            return cancelled;
+        });
+
+        if (cancelledIds == null || cancelledIds.isEmpty()) {
+            return ExpiryResult.EMPTY;
+        }
+
+        // 해제된 재고만큼 다시 판매 가능하므로 품절 표시 해제
+        released.keySet().forEach(soldOutRegistryPort::clearProductSoldOut);
+        evictOrderCaches(cancelledIds);
+
+        int releasedQuantity = released.values().stream().mapToInt(Integer::intValue).sum();
+        log.info("주문 예약 만료 처리 완료: 만료 주문 수={}, 해제 상품 수={}, 해제 수량={}",
+                cancelledIds.size(), released.size(), releasedQuantity);
+        return new ExpiryResult(cancelledIds.size(), releasedQuantity);
+    }
+
+    /**
+     * 원장 관리 대상 상품은 원장에서, 나머지는 조건부 UPDATE 배치로 예약을 해제합니다.
+     * 원장 해제가 반영되지 않으면 예외로 트랜잭션을 롤백해 주문을 PENDING으로 되돌립니다. (원장은 전체 미반영)
+     * DB 해제가 실패한 상품은 예약 재고가 이미 어긋난 상태이므로 주문 만료는 유지하고 오류로 기록합니다.
+     *
+     * @throws ProductException.InvalidReservation 원장 예약 해제가 반영되지 않은 경우
+     */
+    private void releaseReservations(Map<Long, Integer> released) {
+        List<ProductStockDelta> ledgerDeltas = new ArrayList<>();
+        Map<Long, Integer> quantities = new TreeMap<>();
+        released.forEach((productId, quantity) -> {
+            if (inventoryLedgerPort.isManaged(productId)) {
+                ledgerDeltas.add(ProductStockDelta.cancel(productId, quantity));
+            } else {
+                quantities.put(productId, quantity);
+            }
+        });
+
+        if (!ledgerDeltas.isEmpty()) {
+            ApplyResult result = applyInventoryLedgerUseCase.execute(ledgerDeltas);
+            if (result != ApplyResult.APPLIED) {
+                log.error("재고 원장 예약 해제 실패: result={}, deltas={}", result, ledgerDeltas);
+                throw new ProductException.InvalidReservation("재고 원장 예약 해제 실패: " + result);
+            }
+        }
+
+        List<ProductQuantityDto> items = ProductQuantityDto.fromMap(quantities);
+        int[] updatedCounts = productRepositoryPort.cancelReservations(items);
+        for (int i = 0; i < items.size(); i++) {
+            if (updatedCounts[i] != 1) {
+                log.error("예약 재고 해제 실패 (예약 재고 부족 또는 상품 없음): productId={}, quantity={}",
+                        items.get(i).getProductId(), items.get(i).getQuantity());
+            }
+        }
+    }
+
+    private void evictOrderCaches(List<Long> orderIds) {
+        try {
+            orderIds.forEach(orderId -> cachePort.evict(keyGenerator.generateOrderCacheKey(orderId)));
+            orderRepositoryPort.findAllById(orderIds).stream()
+                    .map(Order::getUserId)
+                    .distinct()
+                    .forEach(userId -> cachePort.evictByPattern(keyGenerator.generateOrderListCachePattern(userId)));
+        } catch (Exception e) {
+            // 캐시 오류는 비즈니스 로직에 영향을 주지 않음
+            log.warn("만료 주문 캐시 처리 실패: orderIds={}", orderIds, e);
+        }
+    }
+}
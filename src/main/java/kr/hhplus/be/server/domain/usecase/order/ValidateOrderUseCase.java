@@ -1,33 +1,43 @@
 package kr.hhplus.be.server.domain.usecase.order;
 
+import kr.hhplus.be.server.domain.dto.OrderPaymentLookup;
 import kr.hhplus.be.server.domain.entity.Order;
-import kr.hhplus.be.server.domain.entity.Payment;
 import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
-import kr.hhplus.be.server.domain.port.storage.PaymentRepositoryPort;
 import kr.hhplus.be.server.domain.exception.OrderException;
+import kr.hhplus.be.server.domain.exception.UserException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class ValidateOrderUseCase {
     
     private final OrderRepositoryPort orderRepositoryPort;
-    private final PaymentRepositoryPort paymentRepositoryPort;
     
+    /**
+     * 결제 가능한 주문인지 검증합니다.
+     * 
+     * 사용자 존재, 주문, 기존 결제를 한 번의 쿼리로 조회한 뒤 순서대로 검증합니다.
+     */
     public Order execute(Long orderId, Long userId) {
         log.debug("주문 유효성 검증: orderId={}, userId={}", orderId, userId);
         
+        OrderPaymentLookup lookup = orderRepositoryPort.findPaymentLookup(orderId, userId, null);
+        
+        // 사용자 존재 확인
+        if (!lookup.userExists()) {
+            log.warn("존재하지 않는 사용자: userId={}", userId);
+            throw new UserException.NotFound();
+        }
+        
         // 주문 조회
-        Order order = orderRepositoryPort.findById(orderId)
-                .orElseThrow(() -> {
-                    log.warn("존재하지 않는 주문: orderId={}", orderId);
-                    return new OrderException.NotFound();
-                });
+        Order order = lookup.order();
+        if (order == null) {
+            log.warn("존재하지 않는 주문: orderId={}", orderId);
+            throw new OrderException.NotFound();
+        }
 
         // 주문 소유권 검증
         if (!order.getUserId().equals(userId)) {
@@ -37,8 +47,7 @@ public class ValidateOrderUseCase {
         }
 
         // 주문 상태 검증 (이미 결제된 주문인지 확인)
-        List<Payment> existingPayments = paymentRepositoryPort.findByOrderId(orderId);
-        if (!existingPayments.isEmpty()) {
+        if (lookup.paid()) {
             log.warn("이미 결제된 주문: orderId={}", orderId);
             throw new OrderException.AlreadyPaid();
         }
@@ -46,4 +55,4 @@ public class ValidateOrderUseCase {
         log.debug("주문 유효성 검증 완료: orderId={}", orderId);
         return order;
     }
-}
\ No newline at end of file
+}
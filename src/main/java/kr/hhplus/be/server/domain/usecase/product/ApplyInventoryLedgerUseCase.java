@@ -0,0 +1,50 @@
+package kr.hhplus.be.server.domain.usecase.product;
+
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 재고 원장 변경 UseCase
+ * 
+ * 원장 관리 대상 상품의 변경량을 원장에 반영합니다.
+ * 원장이 아직 구성되지 않은 상품이 있으면 DB 재고로 구성한 뒤 한 번 더 시도합니다.
+ * (구성 전에는 반영 대기분이 없으므로 DB 값이 곧 현재 재고)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApplyInventoryLedgerUseCase {
+    
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    
+    /**
+     * @param deltas 원장 관리 대상 상품의 변경량
+     * @return 반영 결과 (재시도 후에도 NOT_LOADED면 존재하지 않는 상품 포함)
+     */
+    public ApplyResult execute(List<ProductStockDelta> deltas) {
+        ApplyResult result = inventoryLedgerPort.apply(deltas);
+        if (result != ApplyResult.NOT_LOADED) {
+            return result;
+        }
+        
+        List<Long> productIds = deltas.stream()
+                .map(ProductStockDelta::productId)
+                .distinct()
+                .toList();
+        for (Product product : productRepositoryPort.findByIds(productIds)) {
+            inventoryLedgerPort.load(product.getId(), product.getStock(), product.getReservedStock());
+        }
+        
+        log.debug("재고 원장 구성 후 재시도: productIds={}", productIds);
+        return inventoryLedgerPort.apply(deltas);
+    }
+}
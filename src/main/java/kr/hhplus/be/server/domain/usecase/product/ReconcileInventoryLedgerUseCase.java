@@ -0,0 +1,81 @@
+package kr.hhplus.be.server.domain.usecase.product;
+
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 재고 원장 DB 반영 UseCase
+ * 
+ * 원장의 반영 대기 변경량을 꺼내 product 테이블에 조건부 UPDATE 배치로 반영합니다.
+ * @Check 조건을 만족하지 못해 갱신되지 않은 상품과 트랜잭션 실패분은 반영 대기분으로 되돌려
+ * 다음 주기에 다시 시도합니다. (불변식 위반은 원장과 DB가 어긋난 것이므로 오류 로그로 남김)
+ * 
+ * 원장은 DB 커밋 후 반영된 변경량만 확인하여 비우므로, 커밋 전에 프로세스가 종료되어도 변경량이 유실되지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReconcileInventoryLedgerUseCase {
+    
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final ProductRepositoryPort productRepositoryPort;
+    private final TransactionTemplate transactionTemplate;
+    
+    @Value("${product.inventory-ledger.reconcile-batch-size:500}")
+    private int batchSize = 500;
+    
+    /**
+     * @return DB에 반영된 상품 수
+     */
+    public int execute() {
+        List<ProductStockDelta> deltas = new ArrayList<>(inventoryLedgerPort.drainPendingDeltas(batchSize));
+        if (deltas.isEmpty()) {
+            return 0;
+        }
+        
+        // 상품 ID 순으로 반영하여 결제 확정 UPDATE와 행 락 획득 순서를 맞춤
+        deltas.sort(Comparator.comparing(ProductStockDelta::productId));
+        
+        int[] updatedCounts;
+        try {
+            updatedCounts = transactionTemplate.execute(status -> productRepositoryPort.applyStockDeltas(deltas));
+        } catch (Exception e) {
+            inventoryLedgerPort.restorePendingDeltas(deltas);
+            throw e;
+        }
+        
+        List<ProductStockDelta> applied = new ArrayList<>();
+        List<ProductStockDelta> rejected = new ArrayList<>();
+        for (int i = 0; i < deltas.size(); i++) {
+            if (updatedCounts == null || updatedCounts[i] != 1) {
+                rejected.add(deltas.get(i));
+            } else {
+                applied.add(deltas.get(i));
+            }
+        }
+        
+        // 커밋된 변경량만 원장에서 비움
+        if (!applied.isEmpty()) {
+            inventoryLedgerPort.acknowledgePendingDeltas(applied);
+        }
+        
+        if (!rejected.isEmpty()) {
+            log.error("재고 원장 DB 반영 실패 (재고 불변식 위반 또는 상품 없음), 다음 주기에 재시도: {}", rejected);
+            inventoryLedgerPort.restorePendingDeltas(rejected);
+        }
+        
+        int reconciled = deltas.size() - rejected.size();
+        log.debug("재고 원장 DB 반영 완료: {}개 상품", reconciled);
+        return reconciled;
+    }
+}
@@ -1,8 +1,12 @@
 package kr.hhplus.be.server.domain.usecase.product;
 
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
 import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
 import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
 import kr.hhplus.be.server.domain.enums.CacheTTL;
 import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.exception.ProductException;
@@ -11,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -21,6 +26,9 @@ public class UpdateProductUseCase {
     private final ProductRepositoryPort productRepositoryPort;
     private final CachePort cachePort;
     private final KeyGenerator keyGenerator;
+    private final SoldOutRegistryPort soldOutRegistryPort;
+    private final InventoryLedgerPort inventoryLedgerPort;
+    private final ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
     
     /**
      * 상품 수정 (Write-Through 패턴)
@@ -29,6 +37,10 @@ public class UpdateProductUseCase {
      * 2. DB에 상품 수정
      * 3. 수정 성공 시 캐시 업데이트
      * 4. 관련 캐시 무효화
+     * 
+     * 재고 원장 관리 대상 상품의 재고 수정은 DB 재고와의 차이를 원장에 반영하고 DB 재고 컬럼은 그대로 둡니다.
+     * (DB 컬럼에 직접 쓰면 리컨사일러가 반영 대기분을 더할 때 원장과 어긋남)
+     * 아직 DB에 반영되지 않은 주문 변경량은 유지되므로 최종 재고는 수정 값에 그 변경량이 더해진 값입니다.
      */
     public Product execute(Long productId, String name, BigDecimal price, Integer stock) {
         log.debug("상품 수정 요청: productId={}, name={}, price={}, stock={}", productId, name, price, stock);
@@ -51,6 +63,7 @@ public class UpdateProductUseCase {
             String updatedName = existingProduct.getName();
             BigDecimal updatedPrice = existingProduct.getPrice();
             Integer updatedStock = existingProduct.getStock();
+            boolean ledgerManaged = stock != null && inventoryLedgerPort.isManaged(productId);
             
             if (name != null && !name.trim().isEmpty()) {
                 validateName(name);
@@ -62,7 +75,10 @@ public class UpdateProductUseCase {
                 updatedPrice = price;
             }
             
-            if (stock != null) {
+            if (ledgerManaged) {
+                // 예약 재고 검사는 원장이 최신 예약 재고로 수행
+                validateStock(stock, 0);
+            } else if (stock != null) {
                 validateStock(stock, existingProduct.getReservedStock());
                 updatedStock = stock;
             }
@@ -78,16 +94,35 @@ public class UpdateProductUseCase {
                     .reservedStock(existingProduct.getReservedStock())
                     .build();
             
-            // 3. DB에 저장
-            Product savedProduct = productRepositoryPort.save(updatedProduct);
+            // 3. 원장 관리 대상이면 재고 변경량을 원장에 먼저 반영 (예약 재고보다 적으면 거부)
+            ProductStockDelta ledgerDelta = ledgerManaged
+                    ? applyLedgerStock(productId, stock - existingProduct.getStock())
+                    : null;
+            
+            // 4. DB에 저장
+            Product savedProduct;
+            try {
+                savedProduct = productRepositoryPort.save(updatedProduct);
+            } catch (Exception e) {
+                revertLedgerStock(ledgerDelta);
+                throw e;
+            }
             log.debug("상품 DB 수정 성공: productId={}", savedProduct.getId());
             
-            // 4. 캐시 업데이트 (Write-Through)
+            // 5. 캐시 업데이트 (Write-Through)
             updateProductCache(savedProduct);
             
-            // 5. 관련 캐시 무효화
+            // 6. 관련 캐시 무효화
             invalidateRelatedCaches(productId);
             
+            // 7. 재입고로 가용 재고가 생기면 품절 해제 전파
+            boolean restocked = ledgerManaged
+                    ? stock > existingProduct.getReservedStock()
+                    : stock != null && savedProduct.hasAvailableStock(1);
+            if (restocked) {
+                soldOutRegistryPort.clearProductSoldOut(productId);
+            }
+            
             return savedProduct;
             
         } catch (ProductException e) {
@@ -102,6 +137,42 @@ public class UpdateProductUseCase {
         }
     }
     
+    /**
+     * 재고 변경량을 원장에 반영합니다.
+     * 
+     * @return 반영한 변경량 (DB 저장 실패 시 되돌리기용)
+     */
+    private ProductStockDelta applyLedgerStock(Long productId, int stockDelta) {
+        ProductStockDelta delta = new ProductStockDelta(productId, stockDelta, 0);
+        if (stockDelta == 0) {
+            return delta;
+        }
+        
+        ApplyResult result = applyInventoryLedgerUseCase.execute(List.of(delta));
+        if (result == ApplyResult.VIOLATION) {
+            throw new IllegalArgumentException("재고는 예약된 재고보다 적을 수 없습니다.");
+        }
+        if (result != ApplyResult.APPLIED) {
+            throw new ProductException.NotFound();
+        }
+        log.debug("상품 재고 원장 반영: productId={}, stockDelta={}", productId, stockDelta);
+        return delta;
+    }
+    
+    private void revertLedgerStock(ProductStockDelta delta) {
+        if (delta == null || delta.stockDelta() == 0) {
+            return;
+        }
+        try {
+            ApplyResult result = inventoryLedgerPort.apply(List.of(delta.inverse()));
+            if (result != ApplyResult.APPLIED) {
+                log.error("상품 재고 원장 되돌리기 실패: delta={}, result={}", delta, result);
+            }
+        } catch (Exception e) {
+            log.error("상품 재고 원장 되돌리기 중 오류: delta={}", delta, e);
+        }
+    }
+    
     private void validateName(String name) {
         if (name.trim().isEmpty()) {
             throw new IllegalArgumentException("상품명은 비어있을 수 없습니다.");
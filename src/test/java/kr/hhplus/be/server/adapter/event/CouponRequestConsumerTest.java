@@ -1,10 +1,14 @@
 package kr.hhplus.be.server.adapter.event;
 
+import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.event.CouponRequestEvent;
 import kr.hhplus.be.server.domain.event.CouponResultEvent;
+import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponBatchUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
 import kr.hhplus.be.server.domain.entity.CouponHistory;
 import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.service.CouponService;
 import kr.hhplus.be.server.domain.exception.CouponException;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,8 +19,11 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
@@ -34,6 +41,21 @@ class CouponRequestConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Mock
+    private IssueCouponBatchUseCase issueCouponBatchUseCase;
+
+    @Mock
+    private LockingPort lockingPort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private CouponService couponService;
+
     @InjectMocks
     private CouponRequestConsumer couponRequestConsumer;
 
@@ -263,4 +285,96 @@ class CouponRequestConsumerTest {
                    resultEvent.getProcessingTimeMs() >= 10L;
         }));
     }
+
+    @Test
+    @DisplayName("배치 요청을 쿠폰별로 묶어 쿠폰당 한 번의 락과 트랜잭션으로 처리한다")
+    void shouldProcessBatchGroupedByCoupon() {
+        // given
+        CouponRequestEvent request1 = CouponRequestEvent.create(1L, 100L);
+        CouponRequestEvent request2 = CouponRequestEvent.create(2L, 100L);
+        CouponRequestEvent request3 = CouponRequestEvent.create(3L, 200L);
+
+        when(keyGenerator.generateCouponKey(anyLong())).thenAnswer(invocation -> "coupon:coupon_" + invocation.getArgument(0));
+        when(lockingPort.acquireLock(anyString())).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(issueCouponBatchUseCase.execute(100L, List.of(request1, request2))).thenReturn(List.of(
+                new IssueCouponBatchUseCase.IssueResult(request1, CouponResultEvent.ResultCode.SUCCESS, 11L),
+                new IssueCouponBatchUseCase.IssueResult(request2, CouponResultEvent.ResultCode.OUT_OF_STOCK, null)));
+        when(issueCouponBatchUseCase.execute(200L, List.of(request3))).thenReturn(List.of(
+                new IssueCouponBatchUseCase.IssueResult(request3, CouponResultEvent.ResultCode.SUCCESS, 12L)));
+
+        // when
+        couponRequestConsumer.handleCouponRequestBatch(List.of(request1, request2, request3), acknowledgment);
+
+        // then
+        verify(issueCouponBatchUseCase).execute(100L, List.of(request1, request2));
+        verify(issueCouponBatchUseCase).execute(200L, List.of(request3));
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(lockingPort).releaseLock("coupon:coupon_100");
+        verify(lockingPort).releaseLock("coupon:coupon_200");
+        verify(eventPort, times(2)).publish(eq("coupon-results"), argThat(event -> ((CouponResultEvent) event).isSuccess()));
+        verify(eventPort).publish(eq("coupon-results"), argThat(event -> 
+                ((CouponResultEvent) event).getResultCode() == CouponResultEvent.ResultCode.OUT_OF_STOCK));
+        verify(issueCouponUseCase, never()).execute(any(), any());
+        verify(acknowledgment, times(1)).acknowledge();
+    }
+
+    @Test
+    @DisplayName("쿠폰 락 획득 실패 시 해당 쿠폰 요청 전체에 시스템 오류 결과를 발행한다")
+    void shouldPublishSystemErrorForGroupWhenLockFails() {
+        // given
+        CouponRequestEvent request1 = CouponRequestEvent.create(1L, 100L);
+        CouponRequestEvent request2 = CouponRequestEvent.create(2L, 100L);
+
+        when(keyGenerator.generateCouponKey(100L)).thenReturn("coupon:coupon_100");
+        when(lockingPort.acquireLock("coupon:coupon_100")).thenReturn(false);
+
+        // when
+        couponRequestConsumer.handleCouponRequestBatch(List.of(request1, request2), acknowledgment);
+
+        // then
+        verify(issueCouponBatchUseCase, never()).execute(anyLong(), anyList());
+        verify(eventPort, times(2)).publish(eq("coupon-results"), argThat(event -> 
+                ((CouponResultEvent) event).getResultCode() == CouponResultEvent.ResultCode.SYSTEM_ERROR));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("일괄 발급 트랜잭션이 실패하면 그룹 요청의 Redis 선점을 선점 번호로 보상한다")
+    void shouldReleaseAdmissionsWhenBatchFails() {
+        // given
+        CouponRequestEvent request1 = CouponRequestEvent.create(1L, 100L).withIssueNumber(3L);
+        CouponRequestEvent request2 = CouponRequestEvent.create(2L, 100L).withIssueNumber(5L);
+
+        when(keyGenerator.generateCouponKey(100L)).thenReturn("coupon:coupon_100");
+        when(lockingPort.acquireLock("coupon:coupon_100")).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        couponRequestConsumer.handleCouponRequestBatch(List.of(request1, request2), acknowledgment);
+
+        // then
+        verify(couponService).releaseCouponAdmission(100L, 1L, 3L);
+        verify(couponService).releaseCouponAdmission(100L, 2L, 5L);
+        verify(eventPort, times(2)).publish(eq("coupon-results"), argThat(event ->
+                ((CouponResultEvent) event).getResultCode() == CouponResultEvent.ResultCode.SYSTEM_ERROR));
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    @DisplayName("이미 발급된 사용자의 요청은 선점을 보상하지 않는다")
+    void shouldKeepAdmissionWhenAlreadyIssued() {
+        // given
+        when(issueCouponUseCase.execute(1L, 100L)).thenThrow(new CouponException.AlreadyIssued());
+
+        // when
+        couponRequestConsumer.handleCouponRequest(couponRequestEvent, 0, 0L, acknowledgment);
+
+        // then
+        verify(couponService, never()).releaseCouponAdmission(any(), any(), any());
+        verify(acknowledgment).acknowledge();
+    }
 }
\ No newline at end of file
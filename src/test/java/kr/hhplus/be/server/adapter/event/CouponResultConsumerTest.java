@@ -1,6 +1,8 @@
 package kr.hhplus.be.server.adapter.event;
 
+import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.event.CouponResultEvent;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
 import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,7 +15,10 @@ import org.springframework.kafka.support.Acknowledgment;
 
 import java.time.LocalDateTime;
 
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.doThrow;
 
@@ -24,6 +29,12 @@ class CouponResultConsumerTest {
     @Mock
     private Acknowledgment acknowledgment;
 
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
     @InjectMocks
     private CouponResultConsumer couponResultConsumer;
 
@@ -64,6 +75,22 @@ class CouponResultConsumerTest {
         verify(acknowledgment).acknowledge();
     }
 
+    @Test
+    @DisplayName("처리 결과를 requestId 기준으로 캐시에 저장한다")
+    void shouldStoreResultForPolling() {
+        // given
+        CouponResultEvent successEvent = successRecord.value();
+        String resultKey = "coupon:result:" + successEvent.getRequestId();
+        when(keyGenerator.generateCouponRequestResultKey(successEvent.getRequestId())).thenReturn(resultKey);
+
+        // when
+        couponResultConsumer.handleCouponResult(successEvent, 0, 0L, acknowledgment);
+
+        // then
+        verify(cachePort).put(eq(resultKey), eq(successEvent), anyInt());
+        verify(acknowledgment).acknowledge();
+    }
+
     @Test
     @DisplayName("실패 결과 이벤트를 정상적으로 처리한다")
     void shouldHandleFailureResultEvent() {
@@ -0,0 +1,206 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.enums.CouponStatus;
+import kr.hhplus.be.server.domain.port.storage.CouponIssueCounterRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 발급 수량 단일 행 vs 슬롯 카운터 비교 테스트
+ *
+ * 실제 MySQL 컨테이너에서 같은 부하로 coupon 행 조건부 UPDATE와
+ * 운영 경로와 같은 coupon_issue_counter 슬롯 할당량 조건부 UPDATE를 실행하여 수량 정합성을 검증하고 처리 시간을 비교 출력한다.
+ * 각 요청은 별도 트랜잭션으로 커밋되어야 행 락 경합이 발생하므로 REQUIRES_NEW로 실행한다.
+ */
+@DisplayName("쿠폰 발급 수량 슬롯 카운터 비교 테스트")
+class CouponIssueCounterBenchmarkTest extends IntegrationTestBase {
+
+    private static final int THREAD_COUNT = 32;
+    private static final int REQUEST_COUNT = 1000;
+    private static final int SLOT_COUNT = 16;
+    private static final int SLOT_QUOTA = (REQUEST_COUNT + SLOT_COUNT - 1) / SLOT_COUNT;
+
+    @Autowired
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Autowired
+    private CouponIssueCounterRepositoryPort couponIssueCounterRepositoryPort;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<Long> createdCouponIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUp() {
+        // 별도 트랜잭션으로 커밋된 데이터는 테스트 롤백 대상이 아니므로 직접 삭제
+        newTransaction().executeWithoutResult(status -> {
+            couponIssueCounterRepositoryPort.deleteAll();
+            couponRepositoryPort.deleteAllById(createdCouponIds);
+        });
+        createdCouponIds.clear();
+    }
+
+    @Test
+    @DisplayName("단일 행 UPDATE와 슬롯 할당량 조건부 UPDATE 모두 요청 수만큼 정확히 집계한다")
+    void compareSingleRowAndSlotCounters() throws InterruptedException {
+        // given
+        Long singleCouponId = createCoupon("BENCH_SINGLE_ROW", REQUEST_COUNT);
+        Long slotCouponId = createCoupon("BENCH_SLOT_COUNTER", REQUEST_COUNT);
+        // 슬롯 행 최초 생성 시의 INSERT 경합은 측정 대상이 아니므로 미리 생성
+        createSlots(slotCouponId);
+
+        // when
+        long singleStart = System.nanoTime();
+        int singleUpdated = runConcurrently(() -> couponRepositoryPort.increaseIssuedCount(singleCouponId, 1));
+        long singleElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - singleStart);
+
+        long slotStart = System.nanoTime();
+        int slotUpdated = runConcurrently(() -> incrementAnySlotWithinQuota(slotCouponId));
+        long slotElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - slotStart);
+
+        System.out.printf("단일 행: %d건, %dms / 슬롯 카운터(%d): %d건, %dms%n",
+                singleUpdated, singleElapsedMs, SLOT_COUNT, slotUpdated, slotElapsedMs);
+
+        // then
+        assertThat(singleUpdated).isEqualTo(REQUEST_COUNT);
+        assertThat(slotUpdated).isEqualTo(REQUEST_COUNT);
+        assertThat(newTransaction().execute(status ->
+                couponRepositoryPort.findById(singleCouponId).orElseThrow().getIssuedCount()))
+                .isEqualTo(REQUEST_COUNT);
+        assertThat(newTransaction().execute(status ->
+                couponIssueCounterRepositoryPort.sumIssuedCount(slotCouponId)))
+                .isEqualTo(REQUEST_COUNT);
+    }
+
+    @Test
+    @DisplayName("롤업 시 슬롯 합계를 쿠폰 발급 수량에 반영하고 한도에 도달하면 SOLD_OUT으로 전환한다")
+    void rollupReflectsSlotSumAndSoldOut() {
+        // given
+        Long couponId = createCoupon("BENCH_ROLLUP", 5);
+        createSlots(couponId);
+        newTransaction().executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            couponIssueCounterRepositoryPort.incrementSlotWithinQuota(couponId, 0, 2, 3, now);
+            couponIssueCounterRepositoryPort.incrementSlotWithinQuota(couponId, 3, 2, 3, now);
+            couponIssueCounterRepositoryPort.incrementSlotWithinQuota(couponId, 3, 1, 3, now);
+        });
+
+        // when
+        Integer updated = newTransaction().execute(status ->
+                couponIssueCounterRepositoryPort.rollupIssuedCounts(List.of(couponId), LocalDateTime.now()));
+        Integer updatedAgain = newTransaction().execute(status ->
+                couponIssueCounterRepositoryPort.rollupIssuedCounts(List.of(couponId), LocalDateTime.now()));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(updatedAgain).isZero();
+        Coupon coupon = newTransaction().execute(status -> couponRepositoryPort.findById(couponId).orElseThrow());
+        assertThat(coupon.getIssuedCount()).isEqualTo(5);
+        assertThat(coupon.getStatus()).isEqualTo(CouponStatus.SOLD_OUT);
+    }
+
+    @Test
+    @DisplayName("슬롯 할당량을 넘는 조건부 증가는 반영하지 않는다")
+    void incrementSlotWithinQuotaRejectsOverQuota() {
+        // given
+        Long couponId = createCoupon("BENCH_QUOTA", 5);
+        newTransaction().executeWithoutResult(status ->
+                couponIssueCounterRepositoryPort.insertSlotIfAbsent(couponId, 0, LocalDateTime.now()));
+
+        // when
+        Integer first = newTransaction().execute(status ->
+                couponIssueCounterRepositoryPort.incrementSlotWithinQuota(couponId, 0, 2, 3, LocalDateTime.now()));
+        Integer second = newTransaction().execute(status ->
+                couponIssueCounterRepositoryPort.incrementSlotWithinQuota(couponId, 0, 2, 3, LocalDateTime.now()));
+
+        // then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isZero();
+        assertThat(newTransaction().execute(status -> couponIssueCounterRepositoryPort.sumIssuedCount(couponId))).isEqualTo(2L);
+    }
+
+    private Long createCoupon(String code, int maxIssuance) {
+        Long couponId = newTransaction().execute(status -> couponRepositoryPort.save(
+                TestBuilder.CouponBuilder.defaultCoupon()
+                        .code(code)
+                        .withQuantity(maxIssuance, 0)
+                        .build()).getId());
+        createdCouponIds.add(couponId);
+        return couponId;
+    }
+
+    private void createSlots(Long couponId) {
+        newTransaction().executeWithoutResult(status -> {
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                couponIssueCounterRepositoryPort.insertSlotIfAbsent(couponId, slot, LocalDateTime.now());
+            }
+        });
+    }
+
+    /**
+     * IncreaseCouponIssuedCountUseCase와 같이 임의 슬롯부터 할당량이 남은 슬롯을 찾아 1 증가
+     */
+    private long incrementAnySlotWithinQuota(Long couponId) {
+        LocalDateTime now = LocalDateTime.now();
+        int start = ThreadLocalRandom.current().nextInt(SLOT_COUNT);
+        for (int i = 0; i < SLOT_COUNT; i++) {
+            int slot = (start + i) % SLOT_COUNT;
+            if (couponIssueCounterRepositoryPort.incrementSlotWithinQuota(couponId, slot, 1, SLOT_QUOTA, now) > 0) {
+                return 1;
+            }
+        }
+        return 0;
+    }
+
+    private TransactionTemplate newTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return transactionTemplate;
+    }
+
+    private int runConcurrently(LongSupplier update) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger updatedCount = new AtomicInteger();
+        TransactionTemplate transactionTemplate = newTransaction();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    Long updated = transactionTemplate.execute(status -> update.getAsLong());
+                    if (updated != null && updated > 0) {
+                        updatedCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(120, TimeUnit.SECONDS);
+        executor.shutdown();
+        return updatedCount.get();
+    }
+}
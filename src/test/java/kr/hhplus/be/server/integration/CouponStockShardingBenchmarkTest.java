@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.integration;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongUnaryOperator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 쿠폰 재고 단일 카운터 vs 샤드 카운터 비교 테스트
+ *
+ * 실제 Redis 컨테이너에서 같은 부하로 두 방식을 실행하여
+ * 발급 수량 정합성을 검증하고 처리 시간을 비교 출력한다.
+ */
+@DisplayName("쿠폰 재고 샤딩 비교 테스트")
+class CouponStockShardingBenchmarkTest extends IntegrationTestBase {
+
+    private static final int THREAD_COUNT = 64;
+    private static final int REQUEST_COUNT = 2000;
+    private static final int MAX_ISSUANCE = 500;
+    private static final int SHARD_COUNT = 8;
+
+    @Autowired
+    private CachePort cachePort;
+
+    @Autowired
+    private KeyGenerator keyGenerator;
+
+    @Test
+    @DisplayName("단일 카운터와 샤드 카운터 모두 발급 한도만큼만 발급한다")
+    void compareSingleKeyAndShardedCounters() throws InterruptedException {
+        // given
+        Long singleCouponId = 9001L;
+        Long shardedCouponId = 9002L;
+        String counterKey = keyGenerator.generateCouponCounterKey(singleCouponId);
+        List<String> shardKeys = keyGenerator.generateCouponStockShardKeys(shardedCouponId, SHARD_COUNT);
+        String soldOutKey = keyGenerator.generateCouponSoldOutKey(shardedCouponId);
+
+        // when
+        long singleStart = System.nanoTime();
+        int singleIssued = runConcurrently(userId -> cachePort.issueCouponAtomically(
+                counterKey, keyGenerator.generateCouponUserKey(singleCouponId, userId), MAX_ISSUANCE));
+        long singleElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - singleStart);
+
+        long shardedStart = System.nanoTime();
+        int shardedIssued = runConcurrently(userId -> cachePort.issueCouponFromShards(
+                shardKeys, soldOutKey, keyGenerator.generateCouponUserKey(shardedCouponId, userId),
+                MAX_ISSUANCE, Math.floorMod(Long.hashCode(userId), SHARD_COUNT)));
+        long shardedElapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - shardedStart);
+
+        System.out.printf("단일 카운터: 발급 %d건, %dms / 샤드 카운터(%d): 발급 %d건, %dms%n",
+                singleIssued, singleElapsedMs, SHARD_COUNT, shardedIssued, shardedElapsedMs);
+
+        // then
+        assertThat(singleIssued).isEqualTo(MAX_ISSUANCE);
+        assertThat(shardedIssued).isEqualTo(MAX_ISSUANCE);
+        assertThat(cachePort.getCouponCount(counterKey)).isEqualTo(MAX_ISSUANCE);
+        assertThat(shardKeys).allSatisfy(shardKey -> assertThat(cachePort.getCouponCount(shardKey)).isZero());
+    }
+
+    @Test
+    @DisplayName("배정된 샤드가 소진되면 다른 샤드에서 발급하고 전체 소진 후 품절 처리한다")
+    void fallsOverToSiblingShardsUntilSoldOut() {
+        // given - 샤드 4개에 1개씩 분배
+        Long couponId = 9003L;
+        List<String> shardKeys = keyGenerator.generateCouponStockShardKeys(couponId, 4);
+        String soldOutKey = keyGenerator.generateCouponSoldOutKey(couponId);
+
+        // when - 모두 0번 샤드로 배정된 사용자
+        long[] results = new long[5];
+        for (int i = 0; i < results.length; i++) {
+            results[i] = cachePort.issueCouponFromShards(
+                    shardKeys, soldOutKey, keyGenerator.generateCouponUserKey(couponId, (long) i + 1), 4, 0);
+        }
+
+        // then
+        assertThat(results).containsExactly(1, 2, 3, 4, -1);
+        assertThat(cachePort.hasCouponIssued(keyGenerator.generateCouponUserKey(couponId, 5L))).isFalse();
+
+        // 보상 후에는 품절 플래그가 해제되어 다시 발급 가능
+        cachePort.rollbackCouponShardIssue(shardKeys.get(1), soldOutKey, keyGenerator.generateCouponUserKey(couponId, 2L));
+        assertThat(cachePort.issueCouponFromShards(
+                shardKeys, soldOutKey, keyGenerator.generateCouponUserKey(couponId, 5L), 4, 0)).isEqualTo(2);
+    }
+
+    private int runConcurrently(LongUnaryOperator issue) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+        AtomicInteger issuedCount = new AtomicInteger();
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            long userId = i + 1;
+            executor.submit(() -> {
+                try {
+                    if (issue.applyAsLong(userId) > 0) {
+                        issuedCount.incrementAndGet();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await(60, TimeUnit.SECONDS);
+        executor.shutdown();
+        return issuedCount.get();
+    }
+}
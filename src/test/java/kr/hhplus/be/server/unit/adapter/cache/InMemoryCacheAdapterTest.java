@@ -0,0 +1,125 @@
+package kr.hhplus.be.server.unit.adapter.cache;
+
+import kr.hhplus.be.server.adapter.cache.InMemoryCacheAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("프로세스 내 캐시 어댑터")
+class InMemoryCacheAdapterTest {
+
+    private InMemoryCacheAdapter inMemoryCacheAdapter;
+
+    @BeforeEach
+    void setUp() {
+        inMemoryCacheAdapter = new InMemoryCacheAdapter();
+    }
+
+    @Test
+    @DisplayName("저장한 값을 조회하고, 패턴으로 무효화한다")
+    void putGetAndEvictByPattern() {
+        // Given
+        inMemoryCacheAdapter.put("order:list:user_1_10_0", List.of(1L, 2L), 60);
+        inMemoryCacheAdapter.put("order:list:user_1_10_10", List.of(3L), 60);
+        inMemoryCacheAdapter.put("order:list:user_2_10_0", List.of(4L), 60);
+
+        // When
+        inMemoryCacheAdapter.evictByPattern("order:list:user_1_*");
+
+        // Then
+        assertThat(inMemoryCacheAdapter.<Long>getList("order:list:user_1_10_0")).isNull();
+        assertThat(inMemoryCacheAdapter.<Long>getList("order:list:user_1_10_10")).isNull();
+        assertThat(inMemoryCacheAdapter.<Long>getList("order:list:user_2_10_0")).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘으면 기존 항목을 제거하여 한도를 지킨다")
+    void boundedByMaxEntries() {
+        // Given
+        ReflectionTestUtils.setField(inMemoryCacheAdapter, "maxEntries", 10);
+
+        // When
+        for (int i = 0; i < 50; i++) {
+            inMemoryCacheAdapter.put("product:info:product_" + i, "value-" + i, 60);
+        }
+
+        // Then
+        assertThat(inMemoryCacheAdapter.get("product:info:product_49", String.class)).isEqualTo("value-49");
+        long cached = java.util.stream.IntStream.range(0, 50)
+                .filter(i -> inMemoryCacheAdapter.get("product:info:product_" + i, String.class) != null)
+                .count();
+        assertThat(cached).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("상품 랭킹은 누적 점수 역순으로 조회된다")
+    void rankingOrderedByScore() {
+        // Given
+        inMemoryCacheAdapter.addProductScore("ranking:daily:20260101", "product:product_1", 3);
+        inMemoryCacheAdapter.addProductScore("ranking:daily:20260101", "product:product_2", 5);
+        inMemoryCacheAdapter.addProductScore("ranking:daily:20260101", "product:product_1", 4);
+
+        // When & Then
+        assertThat(inMemoryCacheAdapter.getTopProductsByOrder("ranking:daily:20260101", 2)).containsExactly(1L, 2L);
+        assertThat(inMemoryCacheAdapter.getProductRanking("ranking:daily:20260101", 1, 10)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("동시 선착순 발급은 한도만큼만 성공하고 사용자당 한 번만 성공한다")
+    void issuesCouponsUpToLimitConcurrently() throws InterruptedException {
+        // Given
+        int users = 50;
+        long maxCount = 10;
+        AtomicInteger succeeded = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(users * 2);
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+
+        // When - 사용자마다 두 번씩 요청
+        for (int i = 0; i < users * 2; i++) {
+            String userKey = "coupon:user:coupon_1_user_" + (i % users);
+            executor.execute(() -> {
+                if (inMemoryCacheAdapter.issueCouponAtomically("coupon:counter:coupon_1", userKey, maxCount) > 0) {
+                    succeeded.incrementAndGet();
+                }
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertThat(succeeded.get()).isEqualTo(10);
+        assertThat(inMemoryCacheAdapter.getCouponCount("coupon:counter:coupon_1")).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("샤드가 모두 소진되면 품절 처리되고, 보상하면 다시 발급할 수 있다")
+    void shardIssueAndRollback() {
+        // Given
+        List<String> shards = List.of("coupon:stock:coupon_1_0", "coupon:stock:coupon_1_1");
+
+        // When
+        long first = inMemoryCacheAdapter.issueCouponFromShards(shards, "coupon:soldout:coupon_1", "coupon:user:coupon_1_user_1", 2, 0);
+        long second = inMemoryCacheAdapter.issueCouponFromShards(shards, "coupon:soldout:coupon_1", "coupon:user:coupon_1_user_2", 2, 0);
+        long soldOut = inMemoryCacheAdapter.issueCouponFromShards(shards, "coupon:soldout:coupon_1", "coupon:user:coupon_1_user_3", 2, 0);
+        inMemoryCacheAdapter.rollbackCouponShardIssue(shards.get(0), "coupon:soldout:coupon_1", "coupon:user:coupon_1_user_1");
+        long afterRollback = inMemoryCacheAdapter.issueCouponFromShards(shards, "coupon:soldout:coupon_1", "coupon:user:coupon_1_user_3", 2, 0);
+
+        // Then
+        assertThat(first).isEqualTo(1);
+        assertThat(second).isEqualTo(2);
+        assertThat(soldOut).isEqualTo(-1);
+        assertThat(afterRollback).isEqualTo(1);
+        assertThat(inMemoryCacheAdapter.hasCouponIssued("coupon:user:coupon_1_user_1")).isFalse();
+    }
+}
@@ -0,0 +1,213 @@
+package kr.hhplus.be.server.unit.adapter.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.adapter.cache.RedisCouponIssueFilterAdapter;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RBatch;
+import org.redisson.api.RBitSet;
+import org.redisson.api.RBitSetAsync;
+import org.redisson.api.RBucket;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis 쿠폰 발급 Bloom 필터 어댑터")
+class RedisCouponIssueFilterAdapterTest {
+
+    private static final Long COUPON_ID = 1L;
+    private static final String FILTER_KEY = "coupon:bloom:coupon_1";
+    private static final String META_KEY = "coupon:bloom:coupon_1_meta";
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RTopic topic;
+
+    @Mock
+    private RBucket<Object> metaBucket;
+
+    @Mock
+    private RBitSet filterBitSet;
+
+    @Mock
+    private RBitSet initBitSet;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private RedisCouponIssueFilterAdapter couponIssueFilterAdapter;
+
+    private MessageListener<String> listener;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redissonClient.getTopic("coupon:bloom:broadcast", StringCodec.INSTANCE)).thenReturn(topic);
+        ArgumentCaptor<MessageListener<String>> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        when(topic.addListener(eq(String.class), listenerCaptor.capture())).thenReturn(1);
+        lenient().when(redissonClient.getBucket(META_KEY, StringCodec.INSTANCE)).thenReturn(metaBucket);
+        lenient().when(redissonClient.getBitSet(FILTER_KEY)).thenReturn(filterBitSet);
+
+        couponIssueFilterAdapter = new RedisCouponIssueFilterAdapter(redissonClient, new KeyGenerator(), meterRegistry);
+        couponIssueFilterAdapter.subscribe();
+        listener = listenerCaptor.getValue();
+    }
+
+    @Test
+    @DisplayName("필터가 없으면 DB 발급 이력으로 생성하고 Redis에 OR 병합한다")
+    void ensureReady_buildsFromIssuedUsers() {
+        // given
+        when(metaBucket.get()).thenReturn(null);
+        when(metaBucket.trySet(anyString())).thenReturn(true);
+        when(redissonClient.getBitSet(FILTER_KEY + "_init")).thenReturn(initBitSet);
+        when(initBitSet.getName()).thenReturn(FILTER_KEY + "_init");
+        when(filterBitSet.asBitSet()).thenReturn(new BitSet());
+
+        // when
+        couponIssueFilterAdapter.ensureReady(COUPON_ID, 1_000, () -> List.of(10L, 20L, 30L));
+
+        // then
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 10L)).isTrue();
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 20L)).isTrue();
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 30L)).isTrue();
+
+        long positives = LongStream.rangeClosed(1_000, 1_999)
+                .filter(userId -> couponIssueFilterAdapter.mightContain(COUPON_ID, userId))
+                .count();
+        assertThat(positives).isLessThan(50);
+
+        verify(initBitSet).set(any(BitSet.class));
+        verify(filterBitSet).or(FILTER_KEY + "_init");
+        verify(initBitSet).delete();
+        assertThat(meterRegistry.get("coupon.issue.filter.memory.bytes").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("생성 중 들어온 추가와 전파는 보관했다가 생성 완료 시 반영하고, 동시 생성 요청은 기다리지 않는다")
+    void ensureReady_keepsAddsMadeDuringBuild() {
+        // given
+        RBatch batch = mock(RBatch.class);
+        RBitSetAsync batchBitSet = mock(RBitSetAsync.class);
+        when(metaBucket.get()).thenReturn(null);
+        when(metaBucket.trySet(anyString())).thenReturn(true);
+        when(redissonClient.getBitSet(FILTER_KEY + "_init")).thenReturn(initBitSet);
+        when(initBitSet.getName()).thenReturn(FILTER_KEY + "_init");
+        when(filterBitSet.asBitSet()).thenReturn(new BitSet());
+        when(redissonClient.createBatch()).thenReturn(batch);
+        when(batch.getBitSet(FILTER_KEY)).thenReturn(batchBitSet);
+        AtomicInteger concurrentLoads = new AtomicInteger();
+
+        // when: DB 조회 이후 커밋된 발급(99)과 다른 노드의 전파(77)가 생성 도중 도착
+        couponIssueFilterAdapter.ensureReady(COUPON_ID, 1_000, () -> {
+            couponIssueFilterAdapter.ensureReady(COUPON_ID, 1_000, () -> {
+                concurrentLoads.incrementAndGet();
+                return List.of();
+            });
+            couponIssueFilterAdapter.add(COUPON_ID, 99L);
+            listener.onMessage("coupon:bloom:broadcast", "1:77");
+            return List.of(10L);
+        });
+
+        // then
+        assertThat(concurrentLoads).hasValue(0);
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 10L)).isTrue();
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 99L)).isTrue();
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 77L)).isTrue();
+        verify(topic).publish("1:99");
+        verify(batchBitSet, times(14)).setAsync(anyLong());
+        verify(batch).execute();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 만든 필터가 있으면 DB를 조회하지 않고 Redis에서 복원한다")
+    void ensureReady_loadsExistingFilter() {
+        // given
+        when(metaBucket.get()).thenReturn("9600:7");
+        when(filterBitSet.asBitSet()).thenReturn(new BitSet());
+
+        // when
+        couponIssueFilterAdapter.ensureReady(COUPON_ID, 1_000, () -> {
+            throw new AssertionError("DB 조회가 호출되면 안 됨");
+        });
+
+        // then
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 10L)).isFalse();
+        assertThat(meterRegistry.get("coupon.issue.filter.checks").tag("result", "negative").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("준비되지 않은 쿠폰은 양성으로 응답하여 정확 조회로 넘긴다")
+    void mightContain_notReady_returnsTrue() {
+        // given
+        when(metaBucket.get()).thenReturn(null);
+
+        // when & then
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 10L)).isTrue();
+        assertThat(meterRegistry.get("coupon.issue.filter.checks").tag("result", "not_ready").counter().count()).isEqualTo(1);
+
+        // 준비되지 않은 쿠폰의 양성은 오탐으로 집계하지 않음
+        couponIssueFilterAdapter.recordFalsePositive(COUPON_ID);
+        assertThat(meterRegistry.get("coupon.issue.filter.false_positives").counter().count()).isZero();
+    }
+
+    @Test
+    @DisplayName("추가 시 Redis 비트를 설정하고 전 노드에 전파하며, 수신한 추가는 로컬 사본에 반영한다")
+    void add_setsBitsAndBroadcasts() {
+        // given
+        RBatch batch = mock(RBatch.class);
+        RBitSetAsync batchBitSet = mock(RBitSetAsync.class);
+        when(metaBucket.get()).thenReturn("9600:7");
+        when(filterBitSet.asBitSet()).thenReturn(new BitSet());
+        when(redissonClient.createBatch()).thenReturn(batch);
+        when(batch.getBitSet(FILTER_KEY)).thenReturn(batchBitSet);
+
+        // when
+        couponIssueFilterAdapter.add(COUPON_ID, 10L);
+        listener.onMessage("coupon:bloom:broadcast", "1:77");
+
+        // then
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 10L)).isTrue();
+        assertThat(couponIssueFilterAdapter.mightContain(COUPON_ID, 77L)).isTrue();
+        verify(batchBitSet, times(7)).setAsync(anyLong());
+        verify(batch).execute();
+        verify(topic).publish("1:10");
+    }
+
+    @Test
+    @DisplayName("양성 판정 대비 오탐 비율을 지표로 노출한다")
+    void recordFalsePositive_reportsRate() {
+        // given
+        when(metaBucket.get()).thenReturn("9600:7");
+        when(filterBitSet.asBitSet()).thenReturn(new BitSet());
+        listener.onMessage("coupon:bloom:broadcast", "1:10");
+        couponIssueFilterAdapter.ensureReady(COUPON_ID, 1_000, List::of);
+        listener.onMessage("coupon:bloom:broadcast", "1:10");
+
+        // when
+        couponIssueFilterAdapter.mightContain(COUPON_ID, 10L);
+        couponIssueFilterAdapter.mightContain(COUPON_ID, 10L);
+        couponIssueFilterAdapter.recordFalsePositive(COUPON_ID);
+
+        // then
+        assertThat(meterRegistry.get("coupon.issue.filter.false_positive.rate").gauge().value()).isEqualTo(0.5);
+    }
+}
@@ -0,0 +1,99 @@
+package kr.hhplus.be.server.unit.adapter.cache;
+
+import kr.hhplus.be.server.adapter.cache.RedisSoldOutRegistryAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Redis 품절 레지스트리 어댑터")
+class RedisSoldOutRegistryAdapterTest {
+    
+    @Mock
+    private RedissonClient redissonClient;
+    
+    @Mock
+    private RTopic topic;
+    
+    private RedisSoldOutRegistryAdapter soldOutRegistryAdapter;
+    
+    private MessageListener<String> listener;
+    
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        when(redissonClient.getTopic("soldout:broadcast", StringCodec.INSTANCE)).thenReturn(topic);
+        ArgumentCaptor<MessageListener<String>> listenerCaptor = ArgumentCaptor.forClass(MessageListener.class);
+        when(topic.addListener(eq(String.class), listenerCaptor.capture())).thenReturn(1);
+        
+        soldOutRegistryAdapter = new RedisSoldOutRegistryAdapter(redissonClient);
+        soldOutRegistryAdapter.subscribe();
+        listener = listenerCaptor.getValue();
+    }
+    
+    @Test
+    @DisplayName("쿠폰 품절 표시 시 로컬에 즉시 반영하고 전 노드에 전파한다")
+    void markCouponSoldOut_appliesLocallyAndBroadcasts() {
+        // When
+        soldOutRegistryAdapter.markCouponSoldOut(1L);
+        
+        // Then
+        assertThat(soldOutRegistryAdapter.isCouponSoldOut(1L)).isTrue();
+        assertThat(soldOutRegistryAdapter.isProductSoldOut(1L)).isFalse();
+        verify(topic).publish("coupon:1:1");
+    }
+    
+    @Test
+    @DisplayName("이미 품절로 표시된 쿠폰은 다시 전파하지 않는다")
+    void markCouponSoldOut_alreadyMarked_skipsBroadcast() {
+        // Given
+        soldOutRegistryAdapter.markCouponSoldOut(1L);
+        
+        // When
+        soldOutRegistryAdapter.markCouponSoldOut(1L);
+        
+        // Then
+        verify(topic, times(1)).publish("coupon:1:1");
+    }
+    
+    @Test
+    @DisplayName("다른 노드의 품절/해제 메시지를 수신하면 로컬 상태에 반영한다")
+    void onMessage_appliesRemoteChanges() {
+        // When
+        listener.onMessage("soldout:broadcast", "product:7:1");
+        
+        // Then
+        assertThat(soldOutRegistryAdapter.isProductSoldOut(7L)).isTrue();
+        
+        // When
+        listener.onMessage("soldout:broadcast", "product:7:0");
+        
+        // Then
+        assertThat(soldOutRegistryAdapter.isProductSoldOut(7L)).isFalse();
+    }
+    
+    @Test
+    @DisplayName("전파에 실패해도 로컬 상태는 반영된다")
+    void broadcastFailure_keepsLocalState() {
+        // Given
+        when(topic.publish("product:3:1")).thenThrow(new RuntimeException("Redis 연결 실패"));
+        
+        // When
+        soldOutRegistryAdapter.markProductSoldOut(3L);
+        
+        // Then
+        assertThat(soldOutRegistryAdapter.isProductSoldOut(3L)).isTrue();
+    }
+}
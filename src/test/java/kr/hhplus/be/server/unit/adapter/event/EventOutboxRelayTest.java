@@ -0,0 +1,128 @@
+package kr.hhplus.be.server.unit.adapter.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.adapter.event.EventOutboxRelay;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.EventLog;
+import kr.hhplus.be.server.domain.enums.EventStatus;
+import kr.hhplus.be.server.domain.enums.EventType;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EventOutboxRelay 단위 테스트")
+class EventOutboxRelayTest {
+
+    private static final String LOCK_KEY = "event:outbox:relay";
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private EventLogRepositoryPort eventLogRepository;
+
+    @Mock
+    private LockingPort lockingPort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    private EventOutboxRelay eventOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        eventOutboxRelay = new EventOutboxRelay(kafkaTemplate, eventLogRepository, lockingPort, keyGenerator, new ObjectMapper());
+
+        when(keyGenerator.generateEventOutboxRelayKey()).thenReturn(LOCK_KEY);
+        when(lockingPort.isLocked(LOCK_KEY)).thenReturn(false);
+        when(lockingPort.acquireLock(LOCK_KEY)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("전송에 성공한 이벤트를 한 번에 PUBLISHED로 전이한다")
+    void marksSentEventsPublishedInOneBatch() {
+        // given
+        when(eventLogRepository.findRelayable(any(), any())).thenReturn(List.of(
+                eventLog(1L, "order-completed", "order:1"),
+                eventLog(2L, "order-completed", "order:2")));
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        int published = eventOutboxRelay.relay();
+
+        // then
+        assertThat(published).isEqualTo(2);
+        verify(kafkaTemplate).send(eq("order-completed"), eq("order:1"), any(JsonNode.class));
+        verify(kafkaTemplate).send(eq("order-completed"), eq("order:2"), any(JsonNode.class));
+        verify(eventLogRepository).markPublished(List.of(1L, 2L));
+        verify(eventLogRepository, never()).markRetry(anyMap(), any(), anyInt());
+        verify(lockingPort).releaseLock(LOCK_KEY);
+    }
+
+    @Test
+    @DisplayName("전송에 실패한 이벤트는 재시도 대상으로 기록한다")
+    @SuppressWarnings("unchecked")
+    void recordsFailedEventsForRetry() {
+        // given
+        when(eventLogRepository.findRelayable(any(), any())).thenReturn(List.of(
+                eventLog(1L, "order-completed", "order:1"),
+                eventLog(2L, "order-completed", "order:2")));
+        when(kafkaTemplate.send(anyString(), eq("order:1"), any())).thenReturn(CompletableFuture.completedFuture(null));
+        when(kafkaTemplate.send(anyString(), eq("order:2"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when
+        int published = eventOutboxRelay.relay();
+
+        // then
+        assertThat(published).isEqualTo(1);
+        verify(eventLogRepository).markPublished(List.of(1L));
+
+        ArgumentCaptor<Map<Long, String>> errorsCaptor = ArgumentCaptor.forClass(Map.class);
+        verify(eventLogRepository).markRetry(errorsCaptor.capture(), any(), eq(5));
+        assertThat(errorsCaptor.getValue()).containsOnlyKeys(2L);
+        assertThat(errorsCaptor.getValue().get(2L)).contains("broker down");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 릴레이 중이면 아웃박스를 조회하지 않는다")
+    void skipsWhenAnotherNodeIsRelaying() {
+        // given
+        when(lockingPort.isLocked(LOCK_KEY)).thenReturn(true);
+
+        // when
+        int published = eventOutboxRelay.relay();
+
+        // then
+        assertThat(published).isZero();
+        verifyNoInteractions(eventLogRepository, kafkaTemplate);
+        verify(lockingPort, never()).releaseLock(anyString());
+    }
+
+    private EventLog eventLog(Long id, String topic, String eventKey) {
+        return EventLog.builder()
+                .id(id)
+                .eventType(EventType.ORDER_COMPLETED)
+                .payload("{\"orderId\":" + id + "}")
+                .status(EventStatus.PENDING)
+                .topic(topic)
+                .eventKey(eventKey)
+                .build();
+    }
+}
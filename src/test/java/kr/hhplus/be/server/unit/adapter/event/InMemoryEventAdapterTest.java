@@ -0,0 +1,118 @@
+package kr.hhplus.be.server.unit.adapter.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.adapter.event.InMemoryEventAdapter;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.EventLog;
+import kr.hhplus.be.server.domain.enums.EventStatus;
+import kr.hhplus.be.server.domain.event.CouponRequestEvent;
+import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("InMemoryEventAdapter 단위 테스트")
+class InMemoryEventAdapterTest {
+
+    private static final AtomicInteger calls = new AtomicInteger();
+    private static volatile int failuresBeforeSuccess;
+
+    @Mock
+    private EventLogRepositoryPort eventLogRepository;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    private InMemoryEventAdapter inMemoryEventAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        calls.set(0);
+        when(keyGenerator.generateEventCorrelationId()).thenReturn("correlation-1");
+
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerBeanDefinition("couponRequestListener", new RootBeanDefinition(CouponRequestListener.class));
+        inMemoryEventAdapter = new InMemoryEventAdapter(beanFactory, new ObjectMapper().findAndRegisterModules(),
+                beanFactory.getBeanProvider(KafkaListenerEndpointRegistry.class), eventLogRepository, keyGenerator);
+        ReflectionTestUtils.setField(inMemoryEventAdapter, "stripeCount", 1);
+        ReflectionTestUtils.setField(inMemoryEventAdapter, "retryBackoffMs", 1L);
+        inMemoryEventAdapter.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        inMemoryEventAdapter.stop();
+    }
+
+    @Test
+    @DisplayName("컨슈머가 실패하면 최대 호출 횟수 안에서 다시 호출한다")
+    void retriesFailedConsumer() {
+        // given
+        failuresBeforeSuccess = 2;
+
+        // when
+        inMemoryEventAdapter.publish("coupon-requests", CouponRequestEvent.create(1L, 10L));
+
+        // then
+        verify(eventLogRepository, after(200).never()).save(any());
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재시도를 모두 소진하면 FAILED 아웃박스 레코드로 데드레터를 남긴다")
+    void deadLettersAfterRetriesExhausted() {
+        // given
+        failuresBeforeSuccess = Integer.MAX_VALUE;
+
+        // when
+        inMemoryEventAdapter.publish("coupon-requests", CouponRequestEvent.create(1L, 10L));
+
+        // then
+        ArgumentCaptor<EventLog> captor = ArgumentCaptor.forClass(EventLog.class);
+        verify(eventLogRepository, timeout(1000)).save(captor.capture());
+        EventLog deadLetter = captor.getValue();
+        assertThat(deadLetter.getStatus()).isEqualTo(EventStatus.FAILED);
+        assertThat(deadLetter.getTopic()).isEqualTo("coupon-requests");
+        assertThat(deadLetter.getEventKey()).isEqualTo("user:1");
+        assertThat(deadLetter.getRetryCount()).isEqualTo(3);
+        assertThat(calls.get()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("재고 액터 원장과 함께 구성하면 기동을 거부한다")
+    void rejectsActorInventoryLedger() {
+        // given
+        ReflectionTestUtils.setField(inMemoryEventAdapter, "inventoryLedgerEngine", "actor");
+
+        // when & then
+        assertThatThrownBy(() -> ReflectionTestUtils.invokeMethod(inMemoryEventAdapter, "validateConfiguration"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    static class CouponRequestListener {
+
+        @KafkaListener(topics = "coupon-requests")
+        public void handle(CouponRequestEvent event) {
+            if (calls.incrementAndGet() <= failuresBeforeSuccess) {
+                throw new IllegalStateException("consumer down");
+            }
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package kr.hhplus.be.server.unit.adapter.event;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.adapter.event.KafkaEventAdapter;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.event.CouponRequestEvent;
+import kr.hhplus.be.server.domain.event.CouponResultEvent;
+import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("KafkaEventAdapter 단위 테스트")
+class KafkaEventAdapterTest {
+
+    @Mock
+    private EventLogRepositoryPort eventLogRepository;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private KafkaEventAdapter kafkaEventAdapter;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        kafkaEventAdapter = new KafkaEventAdapter(eventLogRepository, keyGenerator,
+                new ObjectMapper().findAndRegisterModules(), kafkaTemplate);
+        when(keyGenerator.generateEventCorrelationId()).thenReturn("correlation-1");
+    }
+
+    @Test
+    @DisplayName("직접 전송 토픽은 아웃박스에 저장하지 않고 바로 Kafka로 전송한다")
+    void sendsDirectTopicWithoutOutbox() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+        // when
+        kafkaEventAdapter.publish("coupon-requests", CouponRequestEvent.create(1L, 10L));
+
+        // then
+        verify(kafkaTemplate).send(eq("coupon-requests"), eq("user:1"), any(JsonNode.class));
+        verifyNoInteractions(eventLogRepository);
+    }
+
+    @Test
+    @DisplayName("직접 전송이 실패하면 호출자가 접수를 보상할 수 있도록 예외를 던진다")
+    void throwsWhenDirectSendFails() {
+        // given
+        when(kafkaTemplate.send(anyString(), anyString(), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+
+        // when & then
+        assertThatThrownBy(() -> kafkaEventAdapter.publish("coupon-requests", CouponRequestEvent.create(1L, 10L)))
+                .isInstanceOf(RuntimeException.class);
+        verifyNoInteractions(eventLogRepository);
+    }
+
+    @Test
+    @DisplayName("그 밖의 토픽은 아웃박스에 저장하고 Kafka로 직접 전송하지 않는다")
+    void storesOtherTopicsInOutbox() {
+        // when
+        kafkaEventAdapter.publish("coupon-results", CouponResultEvent.pending("request-1", 1L, 10L));
+
+        // then
+        verify(eventLogRepository).insertAll(anyList());
+        verifyNoInteractions(kafkaTemplate);
+    }
+}
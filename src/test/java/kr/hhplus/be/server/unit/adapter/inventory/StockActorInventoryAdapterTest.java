@@ -0,0 +1,287 @@
+package kr.hhplus.be.server.unit.adapter.inventory;
+
+import kr.hhplus.be.server.adapter.inventory.StockActorInventoryAdapter;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.event.StockCommandEvent;
+import kr.hhplus.be.server.domain.event.StockReplyEvent;
+import kr.hhplus.be.server.domain.exception.CommonException;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.utils.Utils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.redisson.api.RMap;
+import org.redisson.api.RQueue;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.Codec;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockActorInventoryAdapter 단위 테스트")
+class StockActorInventoryAdapterTest {
+
+    private static final int PARTITIONS = 6;
+    private static final Long OWNED_PRODUCT_ID = 1L;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private RedissonClient redissonClient;
+
+    @Mock
+    private RMap<String, String> commandHistory;
+
+    @Mock
+    private RQueue<String> failedCompensations;
+
+    @Mock
+    private Consumer<String, Object> consumer;
+
+    private StockActorInventoryAdapter adapter;
+    private Long remoteProductId;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        doReturn(commandHistory).when(redissonClient).getMap(anyString(), any(Codec.class));
+        doReturn(failedCompensations).when(redissonClient).getQueue(anyString(), any(Codec.class));
+        when(kafkaTemplate.send(anyString(), anyInt(), anyString(), any())).thenReturn(new CompletableFuture<>());
+        when(productRepositoryPort.findById(anyLong()))
+                .thenAnswer(invocation -> Optional.of(product(invocation.getArgument(0), 10, 0)));
+        when(productRepositoryPort.applyStockDeltas(anyList()))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).stream().mapToInt(delta -> 1).toArray());
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(invocation -> ((TransactionCallback<?>) invocation.getArgument(0)).doInTransaction(null));
+
+        adapter = newAdapter();
+        remoteProductId = productInOtherPartition(OWNED_PRODUCT_ID);
+    }
+
+    @Test
+    @DisplayName("소유하지 않은 상품은 명령 토픽으로 보내고 응답으로 결과를 받는다")
+    void sendsCommandAndCompletesOnReply() {
+        // when
+        CompletableFuture<ApplyResult> result = CompletableFuture.supplyAsync(
+                () -> adapter.apply(List.of(ProductStockDelta.reserve(remoteProductId, 2))));
+        StockCommandEvent command = sentCommands(1).get(0);
+        adapter.handleReply(reply(command, adapter.getNodeId(), ApplyResult.APPLIED));
+
+        // then
+        assertThat(result.join()).isEqualTo(ApplyResult.APPLIED);
+        assertThat(command.getType()).isEqualTo(StockCommandEvent.Type.APPLY);
+        assertThat(command.getReplyTo()).isEqualTo(adapter.getNodeId());
+    }
+
+    @Test
+    @DisplayName("소유 액터가 없는 파티션의 명령에는 NOT_LOADED로 응답한다")
+    void repliesNotLoadedWithoutOwner() {
+        // when
+        adapter.handleCommand(applyCommand("c1", ProductStockDelta.reserve(OWNED_PRODUCT_ID, 1)), partitionOf(OWNED_PRODUCT_ID));
+
+        // then
+        assertThat(sentReplies(1).get(0).getResult()).isEqualTo(ApplyResult.NOT_LOADED);
+    }
+
+    @Test
+    @DisplayName("소유권 회수 시 반영 대기분을 DB에 쓰고, 명령 기록을 넘겨받은 새 소유 노드는 재전달된 명령을 다시 반영하지 않는다")
+    void flushesAndHandsOverCommandHistoryOnRevoke() {
+        // given
+        TopicPartition topicPartition = commandPartition(OWNED_PRODUCT_ID);
+        StockCommandEvent command = applyCommand("c1", ProductStockDelta.reserve(OWNED_PRODUCT_ID, 3));
+        adapter.onPartitionsAssigned(consumer, List.of(topicPartition));
+        adapter.handleCommand(command, topicPartition.partition());
+
+        // when
+        adapter.onPartitionsRevokedBeforeCommit(consumer, List.of(topicPartition));
+
+        // then
+        verify(productRepositoryPort).applyStockDeltas(List.of(new ProductStockDelta(OWNED_PRODUCT_ID, 0, 3)));
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<String, String>> history = ArgumentCaptor.forClass(Map.class);
+        verify(commandHistory).putAll(history.capture());
+        assertThat(history.getValue()).containsOnlyKeys("c1");
+
+        // 새 소유 노드가 같은 명령을 다시 받아도 반영하지 않고 같은 결과로 응답
+        when(commandHistory.readAllMap()).thenReturn(history.getValue());
+        StockActorInventoryAdapter nextOwner = newAdapter();
+        nextOwner.onPartitionsAssigned(consumer, List.of(topicPartition));
+        nextOwner.handleCommand(command, topicPartition.partition());
+        nextOwner.onPartitionsRevokedBeforeCommit(consumer, List.of(topicPartition));
+
+        assertThat(sentReplies(2)).extracting(StockReplyEvent::getResult)
+                .containsExactly(ApplyResult.APPLIED, ApplyResult.APPLIED);
+        verify(productRepositoryPort, times(1)).applyStockDeltas(anyList());
+    }
+
+    @Test
+    @DisplayName("일부 상품만 반영되면 반영된 변경량을 되돌린다")
+    void revertsAppliedDeltasOnPartialFailure() {
+        // given
+        TopicPartition topicPartition = commandPartition(OWNED_PRODUCT_ID);
+        adapter.onPartitionsAssigned(consumer, List.of(topicPartition));
+
+        // when
+        CompletableFuture<ApplyResult> result = CompletableFuture.supplyAsync(() -> adapter.apply(List.of(
+                ProductStockDelta.reserve(OWNED_PRODUCT_ID, 3),
+                ProductStockDelta.reserve(remoteProductId, 1))));
+        StockCommandEvent command = sentCommands(1).get(0);
+        adapter.handleReply(reply(command, adapter.getNodeId(), ApplyResult.VIOLATION));
+
+        // then - 로컬 반영분이 되돌려져 DB에 쓸 변경량이 없음
+        assertThat(result.join()).isEqualTo(ApplyResult.VIOLATION);
+        adapter.onPartitionsRevokedBeforeCommit(consumer, List.of(topicPartition));
+        verify(productRepositoryPort, never()).applyStockDeltas(anyList());
+    }
+
+    @Test
+    @DisplayName("응답을 받지 못한 명령은 보상 명령으로 무효화하고 충돌로 실패한다")
+    void compensatesUnansweredCommand() {
+        // given
+        ReflectionTestUtils.setField(adapter, "commandTimeoutMs", 50L);
+
+        // when & then
+        assertThatThrownBy(() -> adapter.apply(List.of(ProductStockDelta.reserve(remoteProductId, 1))))
+                .isInstanceOf(CommonException.ConcurrencyConflict.class);
+
+        List<StockCommandEvent> commands = sentCommands(2);
+        assertThat(commands).extracting(StockCommandEvent::getType)
+                .containsExactly(StockCommandEvent.Type.APPLY, StockCommandEvent.Type.COMPENSATE);
+        assertThat(commands.get(1).getCommandId()).isEqualTo(commands.get(0).getCommandId());
+    }
+
+    @Test
+    @DisplayName("되돌리기 응답이 없으면 보상 명령으로 무효화하고 재시도 대기열에 기록한다")
+    void recordsFailedRevertForRetry() {
+        // given
+        ReflectionTestUtils.setField(adapter, "commandTimeoutMs", 300L);
+        Long otherRemoteProductId = productInOtherPartition(remoteProductId);
+
+        // when - 첫 상품은 반영, 두 번째 상품은 불변식 위반, 첫 상품의 되돌리기는 응답 없음
+        CompletableFuture<ApplyResult> result = CompletableFuture.supplyAsync(() -> adapter.apply(List.of(
+                ProductStockDelta.reserve(remoteProductId, 1),
+                ProductStockDelta.reserve(otherRemoteProductId, 1))));
+        List<StockCommandEvent> commands = sentCommands(2);
+        commands.forEach(command -> adapter.handleReply(reply(command, adapter.getNodeId(),
+                command.getProductId().equals(remoteProductId) ? ApplyResult.APPLIED : ApplyResult.VIOLATION)));
+
+        // then
+        assertThat(result.join()).isEqualTo(ApplyResult.VIOLATION);
+        List<StockCommandEvent> all = sentCommands(4);
+        assertThat(all.get(2).getType()).isEqualTo(StockCommandEvent.Type.APPLY);
+        assertThat(all.get(2).getReservedDelta()).isEqualTo(-1);
+        assertThat(all.get(3).getType()).isEqualTo(StockCommandEvent.Type.COMPENSATE);
+        assertThat(all.get(3).getCommandId()).isEqualTo(all.get(2).getCommandId());
+        verify(failedCompensations).addAll(List.of(remoteProductId + ":0:-1"));
+    }
+
+    @Test
+    @DisplayName("리컨사일 주기마다 기록된 보상 실패분을 다시 되돌린다")
+    void retriesFailedCompensationsOnDrain() {
+        // given
+        TopicPartition topicPartition = commandPartition(OWNED_PRODUCT_ID);
+        adapter.onPartitionsAssigned(consumer, List.of(topicPartition));
+        adapter.handleCommand(applyCommand("c1", ProductStockDelta.reserve(OWNED_PRODUCT_ID, 2)), topicPartition.partition());
+        when(failedCompensations.poll(anyInt())).thenReturn(List.of(OWNED_PRODUCT_ID + ":0:-2"));
+
+        // when
+        List<ProductStockDelta> drained = adapter.drainPendingDeltas(100);
+
+        // then - 되돌리기가 반영되어 꺼낼 변경량이 없고 다시 기록하지 않음
+        assertThat(drained).isEmpty();
+        verify(failedCompensations, never()).addAll(anyCollection());
+    }
+
+    private StockActorInventoryAdapter newAdapter() {
+        return new StockActorInventoryAdapter(kafkaTemplate, productRepositoryPort, transactionTemplate,
+                redissonClient, new KeyGenerator());
+    }
+
+    private List<StockCommandEvent> sentCommands(int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, timeout(1000).times(count))
+                .send(eq(StockActorInventoryAdapter.COMMAND_TOPIC), anyInt(), anyString(), captor.capture());
+        return captor.getAllValues().stream().map(StockCommandEvent.class::cast).toList();
+    }
+
+    private List<StockReplyEvent> sentReplies(int count) {
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(kafkaTemplate, times(count)).send(eq(StockActorInventoryAdapter.REPLY_TOPIC), eq("caller"), captor.capture());
+        return captor.getAllValues().stream().map(StockReplyEvent.class::cast).toList();
+    }
+
+    private StockCommandEvent applyCommand(String commandId, ProductStockDelta delta) {
+        return StockCommandEvent.builder()
+                .commandId(commandId)
+                .type(StockCommandEvent.Type.APPLY)
+                .productId(delta.productId())
+                .stockDelta(delta.stockDelta())
+                .reservedDelta(delta.reservedDelta())
+                .replyTo("caller")
+                .build();
+    }
+
+    private StockReplyEvent reply(StockCommandEvent command, String replyTo, ApplyResult result) {
+        return StockReplyEvent.builder()
+                .commandId(command.getCommandId())
+                .replyTo(replyTo)
+                .productId(command.getProductId())
+                .result(result)
+                .build();
+    }
+
+    private TopicPartition commandPartition(Long productId) {
+        return new TopicPartition(StockActorInventoryAdapter.COMMAND_TOPIC, partitionOf(productId));
+    }
+
+    private int partitionOf(Long productId) {
+        byte[] key = String.valueOf(productId).getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(key)) % PARTITIONS;
+    }
+
+    private Long productInOtherPartition(Long productId) {
+        long candidate = productId + 1;
+        while (partitionOf(candidate) == partitionOf(productId)) {
+            candidate++;
+        }
+        return candidate;
+    }
+
+    private Product product(Long id, int stock, int reservedStock) {
+        return Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .price(new BigDecimal("1000"))
+                .stock(stock)
+                .reservedStock(reservedStock)
+                .build();
+    }
+}
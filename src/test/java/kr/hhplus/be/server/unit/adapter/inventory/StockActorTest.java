@@ -0,0 +1,201 @@
+package kr.hhplus.be.server.unit.adapter.inventory;
+
+import kr.hhplus.be.server.adapter.inventory.StockActor;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisplayName("StockActor 단위 테스트")
+class StockActorTest {
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    private StockActor stockActor;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(productRepositoryPort.findById(1L)).thenReturn(Optional.of(product(1L, 10, 2)));
+        when(productRepositoryPort.findById(999L)).thenReturn(Optional.empty());
+        stockActor = new StockActor(0, productRepositoryPort);
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockActor.shutdown();
+    }
+
+    @Test
+    @DisplayName("첫 명령 시 DB에서 상품을 한 번만 읽어 구성한다")
+    void loadsProductOnceOnFirstCommand() {
+        // when
+        stockActor.apply("c1", ProductStockDelta.reserve(1L, 3)).join();
+        stockActor.apply("c2", ProductStockDelta.reserve(1L, 3)).join();
+
+        // then
+        verify(productRepositoryPort, times(1)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("가용 재고를 넘는 예약은 거절하고 상태를 바꾸지 않는다")
+    void rejectsReservationOverAvailableStock() {
+        // when
+        ApplyResult first = stockActor.apply("c1", ProductStockDelta.reserve(1L, 8)).join();
+        ApplyResult second = stockActor.apply("c2", ProductStockDelta.reserve(1L, 1)).join();
+
+        // then
+        assertThat(first).isEqualTo(ApplyResult.APPLIED);
+        assertThat(second).isEqualTo(ApplyResult.VIOLATION);
+        assertThat(stockActor.drain(10).join()).containsExactly(new ProductStockDelta(1L, 0, 8));
+    }
+
+    @Test
+    @DisplayName("예약보다 많은 수량은 확정할 수 없다")
+    void rejectsConfirmOverReserved() {
+        // when
+        ApplyResult result = stockActor.apply("c1", ProductStockDelta.confirm(1L, 3)).join();
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.VIOLATION);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 NOT_LOADED를 반환한다")
+    void returnsNotLoadedForMissingProduct() {
+        // when
+        ApplyResult result = stockActor.apply("c1", ProductStockDelta.reserve(999L, 1)).join();
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.NOT_LOADED);
+    }
+
+    @Test
+    @DisplayName("동시에 들어온 예약도 액터 스레드에서 순서대로 처리되어 초과 예약되지 않는다")
+    void serializesConcurrentReservations() {
+        // given
+        List<CompletableFuture<ApplyResult>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 20; i++) {
+            futures.add(stockActor.apply("c" + i, ProductStockDelta.reserve(1L, 1)));
+        }
+
+        // then
+        long applied = futures.stream().map(CompletableFuture::join).filter(result -> result == ApplyResult.APPLIED).count();
+        assertThat(applied).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("보상 명령은 반영된 명령만 되돌린다")
+    void compensatesOnlyAppliedCommand() {
+        // given
+        stockActor.apply("applied", ProductStockDelta.reserve(1L, 3)).join();
+        stockActor.apply("rejected", ProductStockDelta.reserve(1L, 100)).join();
+
+        // when
+        stockActor.compensate("applied").join();
+        stockActor.compensate("rejected").join();
+
+        // then
+        assertThat(stockActor.drain(10).join()).isEmpty();
+        assertThat(stockActor.apply("full", ProductStockDelta.reserve(1L, 8)).join()).isEqualTo(ApplyResult.APPLIED);
+    }
+
+    @Test
+    @DisplayName("재전달된 명령은 다시 반영하지 않고 처음 결과를 반환한다")
+    void returnsRecordedResultForRedeliveredCommand() {
+        // given
+        stockActor.apply("c1", ProductStockDelta.reserve(1L, 3)).join();
+        stockActor.apply("c2", ProductStockDelta.reserve(1L, 100)).join();
+
+        // when
+        ApplyResult applied = stockActor.apply("c1", ProductStockDelta.reserve(1L, 3)).join();
+        ApplyResult rejected = stockActor.apply("c2", ProductStockDelta.reserve(1L, 100)).join();
+
+        // then
+        assertThat(applied).isEqualTo(ApplyResult.APPLIED);
+        assertThat(rejected).isEqualTo(ApplyResult.VIOLATION);
+        assertThat(stockActor.drain(10).join()).containsExactly(new ProductStockDelta(1L, 0, 3));
+    }
+
+    @Test
+    @DisplayName("보상 명령이 먼저 도착하면 이후 도착한 명령을 반영하지 않는다")
+    void blocksCommandCompensatedBeforeArrival() {
+        // when
+        stockActor.compensate("late").join();
+        ApplyResult result = stockActor.apply("late", ProductStockDelta.reserve(1L, 3)).join();
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.VIOLATION);
+        assertThat(stockActor.drain(10).join()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이어받은 명령 기록으로 이전 소유 액터가 반영한 명령을 중복 반영하지 않고 보상할 수 있다")
+    void continuesWithHandedOverCommandHistory() {
+        // given
+        stockActor.apply("c1", ProductStockDelta.reserve(1L, 3)).join();
+        Map<String, StockActor.CommandRecord> history = stockActor.commandHistory().join();
+        StockActor nextOwner = new StockActor(0, productRepositoryPort);
+
+        try {
+            // when
+            nextOwner.restoreCommandHistory(history);
+            ApplyResult redelivered = nextOwner.apply("c1", ProductStockDelta.reserve(1L, 3)).join();
+            nextOwner.apply("c2", ProductStockDelta.reserve(1L, 1)).join();
+            nextOwner.compensate("c1").join();
+
+            // then
+            assertThat(redelivered).isEqualTo(ApplyResult.APPLIED);
+            assertThat(nextOwner.drain(10).join()).containsExactly(new ProductStockDelta(1L, 0, -2));
+        } finally {
+            nextOwner.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("꺼낸 반영 대기분은 초기화되고, 복원하면 다시 꺼낼 수 있다")
+    void drainsAndRestoresPendingDeltas() {
+        // given
+        stockActor.apply("c1", ProductStockDelta.reserve(1L, 3)).join();
+        stockActor.apply("c2", ProductStockDelta.confirm(1L, 2)).join();
+
+        // when
+        List<ProductStockDelta> drained = stockActor.drain(10).join();
+
+        // then
+        assertThat(drained).containsExactly(new ProductStockDelta(1L, -2, 1));
+        assertThat(stockActor.drain(10).join()).isEmpty();
+
+        stockActor.restore(drained).join();
+        assertThat(stockActor.drain(10).join()).containsExactly(new ProductStockDelta(1L, -2, 1));
+    }
+
+    private Product product(Long id, int stock, int reservedStock) {
+        return Product.builder()
+                .id(id)
+                .name("상품" + id)
+                .price(new BigDecimal("1000"))
+                .stock(stock)
+                .reservedStock(reservedStock)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package kr.hhplus.be.server.unit.adapter.locking;
+
+import kr.hhplus.be.server.adapter.locking.InMemoryLockingAdapter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("프로세스 내 락 어댑터")
+class InMemoryLockingAdapterTest {
+
+    private InMemoryLockingAdapter inMemoryLockingAdapter;
+
+    @BeforeEach
+    void setUp() {
+        inMemoryLockingAdapter = new InMemoryLockingAdapter();
+        ReflectionTestUtils.setField(inMemoryLockingAdapter, "stripeCount", 4);
+    }
+
+    @Test
+    @DisplayName("같은 스레드는 재진입하고, 모두 해제해야 락이 풀린다")
+    void reentrantForSameThread() {
+        // When
+        boolean first = inMemoryLockingAdapter.acquireLock("balance:user_1");
+        boolean second = inMemoryLockingAdapter.acquireLock("balance:user_1");
+        inMemoryLockingAdapter.releaseLock("balance:user_1");
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(inMemoryLockingAdapter.isLocked("balance:user_1")).isTrue();
+
+        inMemoryLockingAdapter.releaseLock("balance:user_1");
+        assertThat(inMemoryLockingAdapter.isLocked("balance:user_1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 보유한 락은 해제되면 대기자가 획득한다")
+    void waiterAcquiresAfterRelease() {
+        // Given
+        inMemoryLockingAdapter.acquireLock("product:product_1");
+
+        // When - 다른 스레드가 대기하는 동안 해제
+        CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(() -> {
+            boolean acquired = inMemoryLockingAdapter.acquireLock("product:product_1");
+            inMemoryLockingAdapter.releaseLock("product:product_1");
+            return acquired;
+        });
+        inMemoryLockingAdapter.releaseLock("product:product_1");
+
+        // Then
+        assertThat(waiter.join()).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 스레드가 보유한 락은 해제할 수 없다")
+    void cannotReleaseLockHeldByAnotherThread() {
+        // Given
+        inMemoryLockingAdapter.acquireLock("coupon:coupon_1");
+
+        // When
+        CompletableFuture.runAsync(() -> inMemoryLockingAdapter.releaseLock("coupon:coupon_1")).join();
+
+        // Then
+        assertThat(inMemoryLockingAdapter.isLocked("coupon:coupon_1")).isTrue();
+    }
+
+    @Test
+    @DisplayName("다중 락은 하나라도 점유 중이면 아무것도 획득하지 않는다")
+    void acquireAllIsAllOrNothing() {
+        // Given - 다른 스레드가 두 번째 키를 보유
+        CompletableFuture.runAsync(() -> inMemoryLockingAdapter.acquireLock("product:product_2")).join();
+
+        // When
+        boolean acquired = inMemoryLockingAdapter.acquireAll(List.of("product:product_1", "product:product_2"));
+
+        // Then - 대기 시간 초과 후 실패하고 첫 번째 키도 잡지 않음
+        assertThat(acquired).isFalse();
+        assertThat(inMemoryLockingAdapter.isLocked("product:product_1")).isFalse();
+    }
+
+    @Test
+    @DisplayName("다중 락 해제 후 다른 스레드가 같은 키를 획득할 수 있다")
+    void releaseAllFreesKeys() {
+        // Given
+        List<String> keys = List.of("product:product_1", "product:product_2");
+        assertThat(inMemoryLockingAdapter.acquireAll(keys)).isTrue();
+
+        // When
+        inMemoryLockingAdapter.releaseAll(keys);
+
+        // Then
+        boolean acquired = CompletableFuture.supplyAsync(() -> inMemoryLockingAdapter.acquireAll(keys)).join();
+        assertThat(acquired).isTrue();
+    }
+}
@@ -1,6 +1,9 @@
 package kr.hhplus.be.server.unit.adapter.locking;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import kr.hhplus.be.server.adapter.locking.RedisLockingAdapter;
+import kr.hhplus.be.server.adapter.locking.RedisLockingAdapter.LockMode;
+import kr.hhplus.be.server.common.util.KeyGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -8,11 +11,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
+import org.redisson.api.RScript;
 import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
@@ -22,17 +33,25 @@ import static org.mockito.Mockito.*;
 @DisplayName("Redis 분산 락 어댑터")
 class RedisLockingAdapterTest {
     
+    private static final long LEASE_NANOS = TimeUnit.SECONDS.toNanos(10);
+    
     @Mock
     private RedissonClient redissonClient;
     
     @Mock
     private RLock rLock;
     
+    @Mock
+    private RScript rScript;
+    
+    private SimpleMeterRegistry meterRegistry;
+    
     private RedisLockingAdapter redisLockingAdapter;
     
     @BeforeEach
     void setUp() {
-        redisLockingAdapter = new RedisLockingAdapter(redissonClient);
+        meterRegistry = new SimpleMeterRegistry();
+        redisLockingAdapter = new RedisLockingAdapter(redissonClient, new KeyGenerator(), meterRegistry);
     }
     
     @Test
@@ -40,16 +59,16 @@ class RedisLockingAdapterTest {
     void acquireLock_success() throws InterruptedException {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
-        when(rLock.tryLock(5L, 10L, TimeUnit.SECONDS)).thenReturn(true);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), eq(LEASE_NANOS), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
         
         // When
         boolean result = redisLockingAdapter.acquireLock(key);
         
         // Then
         assertThat(result).isTrue();
-        verify(redissonClient).getFairLock("lock:" + key);
-        verify(rLock).tryLock(5L, 10L, TimeUnit.SECONDS);
+        verify(redissonClient).getLock("lock:" + key);
+        verify(rLock).tryLock(anyLong(), eq(LEASE_NANOS), eq(TimeUnit.NANOSECONDS));
     }
     
     @Test
@@ -57,15 +76,15 @@ class RedisLockingAdapterTest {
     void acquireLock_timeout() throws InterruptedException {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
-        when(rLock.tryLock(5L, 10L, TimeUnit.SECONDS)).thenReturn(false);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), eq(LEASE_NANOS), eq(TimeUnit.NANOSECONDS))).thenReturn(false);
         
         // When
         boolean result = redisLockingAdapter.acquireLock(key);
         
         // Then
         assertThat(result).isFalse();
-        verify(rLock).tryLock(5L, 10L, TimeUnit.SECONDS);
+        verify(rLock).tryLock(anyLong(), eq(LEASE_NANOS), eq(TimeUnit.NANOSECONDS));
     }
     
     @Test
@@ -73,7 +92,7 @@ class RedisLockingAdapterTest {
     void acquireLock_interrupted() throws InterruptedException {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class)))
             .thenThrow(new InterruptedException("Interrupted"));
         
@@ -93,7 +112,7 @@ class RedisLockingAdapterTest {
     void releaseLock_success() {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         when(rLock.isHeldByCurrentThread()).thenReturn(true);
         
         // When
@@ -109,7 +128,7 @@ class RedisLockingAdapterTest {
     void releaseLock_notHeldByCurrentThread() {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         when(rLock.isHeldByCurrentThread()).thenReturn(false);
         
         // When
@@ -125,7 +144,7 @@ class RedisLockingAdapterTest {
     void isLocked_true() {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         when(rLock.isLocked()).thenReturn(true);
         
         // When
@@ -141,7 +160,7 @@ class RedisLockingAdapterTest {
     void isLocked_false() {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         when(rLock.isLocked()).thenReturn(false);
         
         // When
@@ -161,8 +180,8 @@ class RedisLockingAdapterTest {
         long leaseTime = 5L;
         TimeUnit timeUnit = TimeUnit.SECONDS;
         
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
-        when(rLock.tryLock(waitTime, leaseTime, timeUnit)).thenReturn(true);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), eq(timeUnit.toNanos(leaseTime)), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
         
         // When
         boolean result = redisLockingAdapter.acquireLockWithCustomSettings(
@@ -170,7 +189,7 @@ class RedisLockingAdapterTest {
         
         // Then
         assertThat(result).isTrue();
-        verify(rLock).tryLock(waitTime, leaseTime, timeUnit);
+        verify(rLock).tryLock(anyLong(), eq(timeUnit.toNanos(leaseTime)), eq(TimeUnit.NANOSECONDS));
     }
     
     @Test
@@ -178,7 +197,7 @@ class RedisLockingAdapterTest {
     void isHeldByCurrentThread() {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         when(rLock.isHeldByCurrentThread()).thenReturn(true);
         
         // When
@@ -194,7 +213,7 @@ class RedisLockingAdapterTest {
     void forceUnlock() {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         
         // When
         redisLockingAdapter.forceUnlock(key);
@@ -208,7 +227,7 @@ class RedisLockingAdapterTest {
     void releaseLock_withException() {
         // Given
         String key = "test-key";
-        when(redissonClient.getFairLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
         when(rLock.isHeldByCurrentThread()).thenReturn(true);
         doThrow(new RuntimeException("Unlock failed")).when(rLock).unlock();
         
@@ -219,4 +238,165 @@ class RedisLockingAdapterTest {
         verify(rLock).isHeldByCurrentThread();
         verify(rLock).unlock();
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("fair/spin 도메인으로 설정된 키는 해당 종류의 Redis 락을 사용한다")
+    void lockModeByDomain() throws InterruptedException {
+        // Given
+        ReflectionTestUtils.setField(redisLockingAdapter, "fairDomains", Set.of("coupon"));
+        ReflectionTestUtils.setField(redisLockingAdapter, "spinDomains", Set.of("product"));
+        when(redissonClient.getFairLock("lock:coupon:coupon_1")).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), eq(LEASE_NANOS), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+        
+        // When
+        boolean result = redisLockingAdapter.acquireLock("coupon:coupon_1");
+        
+        // Then
+        assertThat(result).isTrue();
+        assertThat(redisLockingAdapter.lockModeOf("coupon:coupon_1")).isEqualTo(LockMode.FAIR);
+        assertThat(redisLockingAdapter.lockModeOf("product:product_1")).isEqualTo(LockMode.SPIN);
+        assertThat(redisLockingAdapter.lockModeOf("balance:user_1")).isEqualTo(LockMode.NON_FAIR);
+        verify(redissonClient, never()).getLock(anyString());
+    }
+    
+    @Test
+    @DisplayName("같은 JVM의 경합자는 로컬 락에서 대기하고 Redis에 요청하지 않는다")
+    void localContenderWaitsInMemory() throws InterruptedException {
+        // Given - 첫 스레드가 락을 보유한 상태
+        String key = "balance:user_1";
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        assertThat(redisLockingAdapter.acquireLock(key)).isTrue();
+        
+        // When - 다른 스레드가 짧은 대기 시간으로 같은 키를 요청
+        boolean contender = CompletableFuture.supplyAsync(() ->
+            redisLockingAdapter.acquireLockWithCustomSettings(key, 50L, 10L, TimeUnit.MILLISECONDS)).join();
+        
+        // Then - 로컬에서 시간 초과되어 Redis 락 시도는 첫 스레드의 1회뿐
+        assertThat(contender).isFalse();
+        verify(rLock, times(1)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+        assertThat(meterRegistry.get("lock.acquire.failed").tag("domain", "balance").tag("reason", "timeout")
+            .timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("다른 키를 보유 중이어도 로컬 락에서 대기하지 않고 Redis 락을 시도한다")
+    void otherKeyIsNotSerializedLocally() throws InterruptedException {
+        // Given - 한 키를 보유한 상태
+        String heldKey = "balance:user_1";
+        String otherKey = "balance:user_2";
+        when(redissonClient.getLock("lock:" + heldKey)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + otherKey)).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        assertThat(redisLockingAdapter.acquireLock(heldKey)).isTrue();
+        
+        // When - 보유하지 않은 키를 해제하고, 다른 스레드가 다른 키를 요청
+        redisLockingAdapter.releaseLock(otherKey);
+        boolean other = CompletableFuture.supplyAsync(() ->
+            redisLockingAdapter.acquireLockWithCustomSettings(otherKey, 50L, 10L, TimeUnit.MILLISECONDS)).join();
+        boolean held = CompletableFuture.supplyAsync(() ->
+            redisLockingAdapter.acquireLockWithCustomSettings(heldKey, 50L, 10L, TimeUnit.MILLISECONDS)).join();
+        
+        // Then - 다른 키는 Redis 락까지 시도하고, 보유 중인 키는 여전히 로컬에서 시간 초과됨
+        assertThat(other).isTrue();
+        assertThat(held).isFalse();
+        verify(rLock, times(2)).tryLock(anyLong(), anyLong(), any(TimeUnit.class));
+    }
+    
+    @Test
+    @DisplayName("획득 실패와 해제 후에는 키별 로컬 락이 남지 않는다")
+    void removesLocalGateWhenUnreferenced() throws InterruptedException {
+        // Given
+        String key = "balance:user_1";
+        String failingKey = "balance:user_2";
+        RLock failingLock = mock(RLock.class);
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
+        when(redissonClient.getLock("lock:" + failingKey)).thenReturn(failingLock);
+        when(rLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(true);
+        when(rLock.isHeldByCurrentThread()).thenReturn(true);
+        when(failingLock.tryLock(anyLong(), anyLong(), any(TimeUnit.class))).thenReturn(false);
+        
+        // When - 재진입 2회 후 해제, 다른 키는 Redis 락 획득 실패
+        redisLockingAdapter.acquireLock(key);
+        redisLockingAdapter.acquireLock(key);
+        redisLockingAdapter.releaseLock(key);
+        assertThat(localGates()).containsOnlyKeys(key);
+        redisLockingAdapter.releaseLock(key);
+        redisLockingAdapter.acquireLock(failingKey);
+        
+        // Then
+        assertThat(localGates()).isEmpty();
+    }
+    
+    private Map<?, ?> localGates() {
+        return (Map<?, ?>) ReflectionTestUtils.getField(redisLockingAdapter, "localGates");
+    }
+    
+    @Test
+    @DisplayName("락을 해제하면 도메인별 대기/보유 시간을 기록한다")
+    void recordsWaitAndHoldTime() throws InterruptedException {
+        // Given
+        String key = "order:payment_1";
+        when(redissonClient.getLock("lock:" + key)).thenReturn(rLock);
+        when(rLock.tryLock(anyLong(), eq(LEASE_NANOS), eq(TimeUnit.NANOSECONDS))).thenReturn(true);
+        when(rLock.isHeldByCurrentThread()).thenReturn(true);
+        
+        // When
+        redisLockingAdapter.acquireLock(key);
+        redisLockingAdapter.releaseLock(key);
+        
+        // Then
+        assertThat(meterRegistry.get("lock.wait").tag("domain", "order").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("lock.hold").tag("domain", "order").timer().count()).isEqualTo(1);
+    }
+    
+    @Test
+    @DisplayName("다중 락은 보유 중 만료를 연장하고, 소유권을 잃으면 연장을 멈추고 기록한다")
+    void renewsMultiLockLeaseUntilLost() {
+        // Given - 획득은 성공하지만 연장 시점에는 두 키 중 하나만 소유
+        ReflectionTestUtils.setField(redisLockingAdapter, "multiLockLeaseMs", 30L);
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(rScript);
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any()))
+            .thenReturn(1L);
+        
+        try {
+            // When
+            assertThat(redisLockingAdapter.acquireAll(List.of("product:product_1", "product:product_2"))).isTrue();
+            
+            // Then - 연장 스크립트가 실행되고, 소유권 상실이 1회 기록된 뒤 더 이상 연장하지 않음
+            verify(rScript, timeout(1000).times(2))
+                .eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any());
+            verify(rScript, after(100).times(2))
+                .eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any());
+            assertThat(meterRegistry.get("lock.lease.lost").tag("domain", "product").counter().count()).isEqualTo(1);
+        } finally {
+            redisLockingAdapter.shutdown();
+        }
+    }
+    
+    @Test
+    @DisplayName("다중 락을 해제하면 만료 연장을 멈춘다")
+    void releaseAllStopsLeaseRenewal() {
+        // Given
+        ReflectionTestUtils.setField(redisLockingAdapter, "multiLockLeaseMs", 30L);
+        List<String> keys = List.of("product:product_1", "product:product_2");
+        when(redissonClient.getScript(StringCodec.INSTANCE)).thenReturn(rScript);
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any()))
+            .thenReturn(1L);
+        when(rScript.eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any()))
+            .thenReturn(2L);
+        
+        try {
+            // When
+            assertThat(redisLockingAdapter.acquireAll(keys)).isTrue();
+            redisLockingAdapter.releaseAll(keys);
+            
+            // Then - 획득 1회 외에 연장 스크립트가 실행되지 않음
+            verify(rScript, after(100).times(1))
+                .eval(eq(RScript.Mode.READ_WRITE), anyString(), eq(RScript.ReturnType.INTEGER), anyList(), any(), any());
+            assertThat(meterRegistry.find("lock.lease.lost").counter()).isNull();
+        } finally {
+            redisLockingAdapter.shutdown();
+        }
+    }
+}
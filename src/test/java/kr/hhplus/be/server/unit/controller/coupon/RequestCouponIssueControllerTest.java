@@ -0,0 +1,110 @@
+package kr.hhplus.be.server.unit.controller.coupon;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import kr.hhplus.be.server.api.dto.request.CouponRequest;
+import kr.hhplus.be.server.domain.event.CouponResultEvent;
+import kr.hhplus.be.server.domain.service.CouponService;
+import kr.hhplus.be.server.api.controller.CouponController;
+import kr.hhplus.be.server.domain.exception.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * CouponController 비동기 발급 요청/결과 조회 테스트
+ * 
+ * Why: 비동기 쿠폰 발급 API가 202 Accepted와 requestId를 반환하고 결과 조회가 가능한지 검증
+ * How: MockMvc를 사용해 요청 접수, 결과 조회, 예외 매핑을 검증
+ */
+@WebMvcTest(CouponController.class)
+@ActiveProfiles("unit")
+@DisplayName("비동기 쿠폰 발급 컨트롤러 API")
+class RequestCouponIssueControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private CouponService couponService;
+
+    @Test
+    @DisplayName("쿠폰 발급 요청이 접수되면 202와 requestId를 반환한다")
+    void requestCouponIssue_Accepted() throws Exception {
+        // given
+        Long customerId = 1L;
+        Long couponId = 1L;
+        String requestId = "COUPON_REQ_1_1_1234567890";
+        CouponRequest request = new CouponRequest(customerId, couponId);
+
+        when(couponService.requestCouponIssue(couponId, customerId))
+                .thenReturn(CouponResultEvent.pending(requestId, customerId, couponId));
+
+        // when & then
+        mockMvc.perform(post("/api/coupon/issue/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.code").value("S001"))
+                .andExpect(jsonPath("$.data.requestId").value(requestId))
+                .andExpect(jsonPath("$.data.resultCode").value("PENDING"));
+    }
+
+    @Test
+    @DisplayName("선착순 한도 초과 시 요청이 접수되지 않는다")
+    void requestCouponIssue_OutOfStock() throws Exception {
+        // given
+        Long customerId = 1L;
+        Long couponId = 1L;
+        CouponRequest request = new CouponRequest(customerId, couponId);
+
+        when(couponService.requestCouponIssue(couponId, customerId))
+                .thenThrow(new CouponException.OutOfStock());
+
+        // when & then
+        mockMvc.perform(post("/api/coupon/issue/async")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(jsonPath("$.code").value("C006"));
+    }
+
+    @Test
+    @DisplayName("처리 완료된 요청의 결과를 조회한다")
+    void getCouponIssueResult_Success() throws Exception {
+        // given
+        String requestId = "COUPON_REQ_1_1_1234567890";
+        when(couponService.getCouponIssueResult(requestId))
+                .thenReturn(CouponResultEvent.success(requestId, 1L, 1L, 10L, 50L));
+
+        // when & then
+        mockMvc.perform(get("/api/coupon/issue/result/{requestId}", requestId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.resultCode").value("SUCCESS"))
+                .andExpect(jsonPath("$.data.couponHistoryId").value(10));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 요청 ID 조회 시 404를 반환한다")
+    void getCouponIssueResult_NotFound() throws Exception {
+        // given
+        String requestId = "COUPON_REQ_UNKNOWN";
+        when(couponService.getCouponIssueResult(requestId))
+                .thenThrow(new CouponException.RequestNotFound());
+
+        // when & then
+        mockMvc.perform(get("/api/coupon/issue/result/{requestId}", requestId))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.code").value("C007"));
+    }
+}
@@ -0,0 +1,141 @@
+package kr.hhplus.be.server.unit.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+/**
+ * SideEffectDispatcher 단위 테스트
+ *
+ * Why: 부수 효과가 커밋 이후에만 실행되고, 대기 한도를 넘거나 캐시 무효화이면 호출 스레드에서 실행되는지 검증
+ * How: 실행을 붙잡아 두는 실행기와 수동 트랜잭션 동기화로 커밋/롤백을 재현
+ */
+@DisplayName("커밋 이후 부수 효과 실행기")
+class SideEffectDispatcherTest {
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private SideEffectDispatcher sideEffectDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        sideEffectDispatcher = new SideEffectDispatcher(queued::add, meterRegistry, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 등록하면 커밋 이후에 실행기로 제출된다")
+    void submitsAfterCommit() {
+        // Given
+        AtomicInteger executed = new AtomicInteger();
+        beginTransaction();
+
+        // When
+        sideEffectDispatcher.dispatchAfterCommit("test.cache", executed::incrementAndGet);
+
+        // Then - 커밋 전에는 제출되지 않음
+        assertThat(queued).isEmpty();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        queued.forEach(Runnable::run);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(dispatched("async")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 부수 효과를 버린다")
+    void discardsOnRollback() {
+        // Given
+        AtomicInteger executed = new AtomicInteger();
+        beginTransaction();
+
+        // When
+        sideEffectDispatcher.dispatchAfterCommit("test.cache", executed::incrementAndGet);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertThat(queued).isEmpty();
+        assertThat(executed.get()).isZero();
+        assertThat(dispatched("discarded")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 한도에 도달하면 호출 스레드에서 실행하고, 실패해도 예외를 전파하지 않는다")
+    void runsInlineWhenSaturated() {
+        // Given - 첫 작업이 실행기에서 대기 중 (한도 1)
+        AtomicInteger executed = new AtomicInteger();
+        sideEffectDispatcher.dispatchAfterCommit("test.cache", executed::incrementAndGet);
+
+        // When
+        sideEffectDispatcher.dispatchAfterCommit("test.cache", executed::incrementAndGet);
+        assertThatCode(() -> sideEffectDispatcher.dispatchAfterCommit("test.cache", () -> {
+            throw new IllegalStateException("cache down");
+        })).doesNotThrowAnyException();
+
+        // Then
+        assertThat(queued).hasSize(1);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(dispatched("inline")).isEqualTo(2.0);
+        assertThat(meterRegistry.get("side_effect.execution").tag("result", "failure").timer().count()).isEqualTo(1);
+
+        // 대기 중인 작업이 끝나면 다시 비동기로 제출됨
+        queued.remove(0).run();
+        sideEffectDispatcher.dispatchAfterCommit("test.cache", executed::incrementAndGet);
+        assertThat(queued).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("캐시 무효화는 실행기로 넘기지 않고 커밋 직후 호출 스레드에서 실행한다")
+    void evictsSynchronouslyAfterCommit() {
+        // Given
+        AtomicInteger executed = new AtomicInteger();
+        beginTransaction();
+
+        // When
+        sideEffectDispatcher.evictAfterCommit("test.evict", executed::incrementAndGet);
+
+        // Then - 커밋 전에는 실행되지 않고, 커밋 직후 실행기 없이 실행됨
+        assertThat(executed.get()).isZero();
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(executed.get()).isEqualTo(1);
+        assertThat(queued).isEmpty();
+        assertThat(dispatched("sync")).isEqualTo(1.0);
+    }
+
+    private void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (status == TransactionSynchronization.STATUS_COMMITTED) {
+            synchronizations.forEach(TransactionSynchronization::afterCommit);
+        }
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    private double dispatched(String mode) {
+        return meterRegistry.get("side_effect.dispatched").tag("mode", mode).counter().count();
+    }
+}
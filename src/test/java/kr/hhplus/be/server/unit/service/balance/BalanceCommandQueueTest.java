@@ -0,0 +1,170 @@
+package kr.hhplus.be.server.unit.service.balance;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.Balance;
+import kr.hhplus.be.server.domain.exception.BalanceException;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.service.BalanceCommandQueue;
+import kr.hhplus.be.server.domain.usecase.balance.ChargeBalanceUseCase;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * BalanceCommandQueue 단위 테스트
+ *
+ * Why: 같은 사용자의 충전 명령이 순서대로 반영되고, 처리 중에 쌓인 명령이 트랜잭션 1회로 병합되는지 검증
+ * How: 실제 스트라이프 스레드를 사용하고 첫 처리를 붙잡아 둔 동안 명령을 쌓은 뒤 검증
+ */
+@DisplayName("잔액 명령 큐")
+class BalanceCommandQueueTest {
+
+    @Mock private ChargeBalanceUseCase chargeBalanceUseCase;
+    @Mock private LockingPort lockingPort;
+    @Mock private KeyGenerator keyGenerator;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private BalanceCommandQueue balanceCommandQueue;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        balanceCommandQueue = new BalanceCommandQueue(chargeBalanceUseCase, lockingPort, keyGenerator, transactionTemplate);
+        ReflectionTestUtils.setField(balanceCommandQueue, "enabled", true);
+        ReflectionTestUtils.setField(balanceCommandQueue, "stripeCount", 1);
+        balanceCommandQueue.start();
+
+        when(keyGenerator.generateBalanceKey(anyLong())).thenAnswer(invocation -> "balance:user_" + invocation.getArgument(0));
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        balanceCommandQueue.stop();
+    }
+
+    @Test
+    @DisplayName("처리 중에 쌓인 같은 사용자의 충전은 다음 차례에 한 번에 반영된다")
+    void coalescesChargesQueuedDuringFlush() throws Exception {
+        // given
+        Balance balance = TestBuilder.BalanceBuilder.defaultBalance().userId(1L).amount(new BigDecimal("6000")).build();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(chargeBalanceUseCase.executeAll(eq(1L), anyList())).thenAnswer(invocation -> {
+            List<BigDecimal> amounts = invocation.getArgument(1);
+            if (amounts.size() == 1) {
+                firstStarted.countDown();
+                releaseFirst.await(5, TimeUnit.SECONDS);
+            }
+            return balance;
+        });
+
+        // when
+        CompletableFuture<Balance> first = balanceCommandQueue.submit(1L, new BigDecimal("1000"));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Balance> second = balanceCommandQueue.submit(1L, new BigDecimal("2000"));
+        CompletableFuture<Balance> third = balanceCommandQueue.submit(1L, new BigDecimal("3000"));
+        releaseFirst.countDown();
+
+        // then
+        assertThat(first.join()).isEqualTo(balance);
+        assertThat(second.join()).isEqualTo(balance);
+        assertThat(third.join()).isEqualTo(balance);
+        verify(chargeBalanceUseCase).executeAll(1L, List.of(new BigDecimal("1000")));
+        verify(chargeBalanceUseCase).executeAll(1L, List.of(new BigDecimal("2000"), new BigDecimal("3000")));
+        verifyNoInteractions(lockingPort);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘긴 충전은 동시성 충돌로 실패하고, 처리 전에 포기했으면 반영되지 않는다")
+    void abandonsChargeAfterAwaitTimeout() throws Exception {
+        // given - 첫 충전을 붙잡아 두어 다음 충전이 대기하도록 함
+        ReflectionTestUtils.setField(balanceCommandQueue, "awaitTimeoutMs", 100L);
+        Balance balance = TestBuilder.BalanceBuilder.defaultBalance().userId(1L).build();
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        when(chargeBalanceUseCase.executeAll(eq(1L), anyList())).thenAnswer(invocation -> {
+            firstStarted.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            return balance;
+        });
+        CompletableFuture<Balance> first = balanceCommandQueue.submit(1L, new BigDecimal("1000"));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> balanceCommandQueue.charge(1L, new BigDecimal("2000")))
+                .isInstanceOf(BalanceException.ConcurrencyConflict.class);
+
+        releaseFirst.countDown();
+        assertThat(first.join()).isEqualTo(balance);
+        verify(chargeBalanceUseCase, after(300).times(1)).executeAll(anyLong(), anyList());
+        verify(chargeBalanceUseCase, never()).executeAll(1L, List.of(new BigDecimal("2000")));
+    }
+
+    @Test
+    @DisplayName("종료 시 처리되지 못한 충전은 동시성 충돌로 실패한다")
+    void stopFailsPendingCharges() throws Exception {
+        // given - 종료 대기 시간 안에 끝나지 않는 첫 충전 뒤에 다음 충전이 쌓임
+        ReflectionTestUtils.setField(balanceCommandQueue, "awaitTimeoutMs", 50L);
+        CountDownLatch firstStarted = new CountDownLatch(1);
+        when(chargeBalanceUseCase.executeAll(eq(1L), anyList())).thenAnswer(invocation -> {
+            firstStarted.countDown();
+            new CountDownLatch(1).await(5, TimeUnit.SECONDS);
+            return TestBuilder.BalanceBuilder.defaultBalance().userId(1L).build();
+        });
+        balanceCommandQueue.submit(1L, new BigDecimal("1000"));
+        assertThat(firstStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Balance> queued = balanceCommandQueue.submit(1L, new BigDecimal("2000"));
+
+        // when
+        balanceCommandQueue.stop();
+
+        // then
+        assertThatThrownBy(queued::join).hasCauseInstanceOf(BalanceException.ConcurrencyConflict.class);
+        verify(chargeBalanceUseCase, never()).executeAll(1L, List.of(new BigDecimal("2000")));
+    }
+
+    @Test
+    @DisplayName("금액이 잘못된 충전은 다른 명령과 병합되지 않고 바로 거부된다")
+    void rejectsInvalidAmountBeforeQueueing() {
+        // when & then
+        assertThatThrownBy(() -> balanceCommandQueue.charge(1L, new BigDecimal("500")))
+                .isInstanceOf(BalanceException.InvalidAmount.class);
+        verify(chargeBalanceUseCase, never()).executeAll(anyLong(), anyList());
+    }
+
+    @Test
+    @DisplayName("redis 리스 모드에서 사용자 잔액 락을 얻지 못하면 동시성 충돌 예외를 받는다")
+    void failsWhenRedisLeaseNotAcquired() {
+        // given
+        ReflectionTestUtils.setField(balanceCommandQueue, "lease", "redis");
+        when(lockingPort.acquireLock("balance:user_1")).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> balanceCommandQueue.charge(1L, new BigDecimal("1000")))
+                .isInstanceOf(BalanceException.ConcurrencyConflict.class);
+        verify(chargeBalanceUseCase, never()).executeAll(anyLong(), anyList());
+        verify(lockingPort, never()).releaseLock(anyString());
+    }
+}
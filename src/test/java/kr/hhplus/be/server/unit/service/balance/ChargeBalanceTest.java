@@ -1,11 +1,10 @@
 package kr.hhplus.be.server.unit.service.balance;
 
-import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.entity.*;
+import kr.hhplus.be.server.domain.service.BalanceCommandQueue;
 import kr.hhplus.be.server.domain.service.BalanceService;
 import kr.hhplus.be.server.domain.usecase.balance.ChargeBalanceUseCase;
 import kr.hhplus.be.server.domain.usecase.balance.GetBalanceUseCase;
-import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.domain.exception.*;
@@ -45,10 +44,10 @@ class ChargeBalanceTest {
     private ChargeBalanceUseCase chargeBalanceUseCase;
     
     @Mock
-    private GetBalanceUseCase getBalanceUseCase;
+    private BalanceCommandQueue balanceCommandQueue;
     
     @Mock
-    private LockingPort lockingPort;
+    private GetBalanceUseCase getBalanceUseCase;
     
     @Mock
     private UserRepositoryPort userRepositoryPort;
@@ -56,15 +55,13 @@ class ChargeBalanceTest {
     @Mock
     private CachePort cachePort;
     
-    @Mock
-    private KeyGenerator keyGenerator;
-    
     private BalanceService balanceService;
     
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        balanceService = new BalanceService(transactionTemplate, chargeBalanceUseCase, getBalanceUseCase, lockingPort, userRepositoryPort, keyGenerator);
+        balanceService = new BalanceService(transactionTemplate, chargeBalanceUseCase, getBalanceUseCase, userRepositoryPort,
+                balanceCommandQueue);
     }
 
     @Test
@@ -79,8 +76,6 @@ class ChargeBalanceTest {
                 .build();
                 
         when(userRepositoryPort.existsById(userId)).thenReturn(true);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn("balance:user_" + userId);
-        when(lockingPort.acquireLock("balance:user_" + userId)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             return chargeBalanceUseCase.execute(userId, chargeAmount);
         });
@@ -95,55 +90,26 @@ class ChargeBalanceTest {
         assertThat(result.getAmount()).isEqualTo(new BigDecimal("150000"));
         
         verify(userRepositoryPort).existsById(userId);
-        verify(keyGenerator).generateBalanceKey(userId);
-        verify(lockingPort).acquireLock("balance:user_" + userId);
         verify(transactionTemplate).execute(any());
-        verify(lockingPort).releaseLock("balance:user_" + userId);
-    }
-        
-    @Test
-    @DisplayName("락 획득 실패 시 동시성 충돌 예외가 발생한다")
-    void chargeBalance_LockAcquisitionFailed() {
-        // given
-        Long userId = 1L;
-        BigDecimal chargeAmount = new BigDecimal("50000");
-        when(userRepositoryPort.existsById(userId)).thenReturn(true);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn("balance:user_" + userId);
-        when(lockingPort.acquireLock("balance:user_" + userId)).thenReturn(false);
-        
-        // when & then
-        assertThatThrownBy(() -> balanceService.chargeBalance(userId, chargeAmount))
-            .isInstanceOf(CommonException.ConcurrencyConflict.class);
-            
-        verify(userRepositoryPort).existsById(userId);
-        verify(keyGenerator).generateBalanceKey(userId);
-        verify(lockingPort).acquireLock("balance:user_" + userId);
-        verify(transactionTemplate, never()).execute(any());
-        verify(lockingPort, never()).releaseLock(any());
     }
         
     @Test
-    @DisplayName("UseCase 실행 중 예외 발생 시 락이 해제된다")
-    void chargeBalance_UseCaseException_ReleaseLock() {
+    @DisplayName("최초 잔액 동시 생성 충돌 시 동시성 충돌 예외가 그대로 전달된다")
+    void chargeBalance_FirstChargeConflict() {
         // given
         Long userId = 1L;
         BigDecimal chargeAmount = new BigDecimal("50000");
         when(userRepositoryPort.existsById(userId)).thenReturn(true);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn("balance:user_" + userId);
-        when(lockingPort.acquireLock("balance:user_" + userId)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
-            throw new BalanceException.InvalidAmount();
+            throw new BalanceException.ConcurrencyConflict();
         });
         
         // when & then
         assertThatThrownBy(() -> balanceService.chargeBalance(userId, chargeAmount))
-            .isInstanceOf(BalanceException.InvalidAmount.class);
+            .isInstanceOf(BalanceException.ConcurrencyConflict.class);
             
         verify(userRepositoryPort).existsById(userId);
-        verify(keyGenerator).generateBalanceKey(userId);
-        verify(lockingPort).acquireLock("balance:user_" + userId);
         verify(transactionTemplate).execute(any());
-        verify(lockingPort).releaseLock("balance:user_" + userId);
     }
         
     @Test
@@ -153,8 +119,6 @@ class ChargeBalanceTest {
         Long userId = 1L;
         BigDecimal invalidAmount = new BigDecimal("-10000");
         when(userRepositoryPort.existsById(userId)).thenReturn(true);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn("balance:user_" + userId);
-        when(lockingPort.acquireLock("balance:user_" + userId)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             throw new BalanceException.InvalidAmount();
         });
@@ -163,7 +127,31 @@ class ChargeBalanceTest {
         assertThatThrownBy(() -> balanceService.chargeBalance(userId, invalidAmount))
             .isInstanceOf(BalanceException.InvalidAmount.class);
             
-        verify(lockingPort).releaseLock("balance:user_" + userId);
+        verify(transactionTemplate).execute(any());
+    }
+      
+    @Test
+    @DisplayName("잔액 명령 큐가 활성화되어 있으면 큐를 통해 충전한다")
+    void chargeBalance_ThroughCommandQueue() {
+        // given
+        Long userId = 1L;
+        BigDecimal chargeAmount = new BigDecimal("50000");
+        Balance expectedBalance = TestBuilder.BalanceBuilder.defaultBalance()
+            .userId(userId)
+            .amount(chargeAmount)
+            .build();
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(balanceCommandQueue.isEnabled()).thenReturn(true);
+        when(balanceCommandQueue.charge(userId, chargeAmount)).thenReturn(expectedBalance);
+        
+        // when
+        Balance result = balanceService.chargeBalance(userId, chargeAmount);
+        
+        // then
+        assertThat(result).isEqualTo(expectedBalance);
+        verify(transactionTemplate, never()).execute(any());
+        verify(chargeBalanceUseCase, never()).execute(any(), any());
     }
       
     @Test
@@ -180,14 +168,13 @@ class ChargeBalanceTest {
             .isInstanceOf(UserException.NotFound.class);
             
         verify(userRepositoryPort).existsById(userId);
-        verify(lockingPort, never()).acquireLock(any());
+        verify(transactionTemplate, never()).execute(any());
         verify(chargeBalanceUseCase, never()).execute(any(), any());
-        verify(lockingPort, never()).releaseLock(any());
     }
     
     @Test
-    @DisplayName("동시 충전 요청 시 락으로 인한 순차 처리가 보장된다")
-    void chargeBalance_ConcurrentRequests_SequentialProcessing() throws InterruptedException {
+    @DisplayName("같은 사용자의 동시 충전 요청은 락 없이 모두 처리된다")
+    void chargeBalance_ConcurrentRequests_AllProcessedWithoutLock() throws InterruptedException {
         // given
         Long userId = 1L;
         BigDecimal chargeAmount = new BigDecimal("10000");
@@ -197,12 +184,6 @@ class ChargeBalanceTest {
                 .build();
         
         when(userRepositoryPort.existsById(userId)).thenReturn(true);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn("balance:user_" + userId);
-        // 첫 번째 스레드만 락 획득 성공, 나머지는 실패하도록 설정
-        when(lockingPort.acquireLock("balance:user_" + userId))
-            .thenReturn(true)  // 첫 번째 호출만 성공
-            .thenReturn(false, false, false, false);  // 나머지는 실패
-            
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             return chargeBalanceUseCase.execute(userId, chargeAmount);
         });
@@ -212,24 +193,16 @@ class ChargeBalanceTest {
         ConcurrencyTestHelper.ConcurrencyTestResult result = ConcurrencyTestHelper.executeInParallel(
             threadCount,
             () -> {
-                try {
-                    balanceService.chargeBalance(userId, chargeAmount);
-                    return "SUCCESS";
-                } catch (CommonException.ConcurrencyConflict e) {
-                    throw new RuntimeException("LOCK_FAILED");
-                } catch (Exception e) {
-                    throw new RuntimeException("OTHER_ERROR");
-                }
+                balanceService.chargeBalance(userId, chargeAmount);
+                return "SUCCESS";
             }
         );
         
-        assertThat(result.getSuccessCount()).isEqualTo(1); // 하나만 성공
-        assertThat(result.getFailureCount()).isEqualTo(4); // 나머지는 락 실패
+        // 누적은 잔액 행에 대한 단일 UPDATE로 직렬화되므로 애플리케이션 락으로 거절하지 않음
+        assertThat(result.getSuccessCount()).isEqualTo(threadCount);
+        assertThat(result.getFailureCount()).isZero();
         
-        verify(keyGenerator, times(5)).generateBalanceKey(userId);
-        verify(lockingPort, times(5)).acquireLock("balance:user_" + userId);
-        verify(transactionTemplate, times(1)).execute(any());
-        verify(lockingPort, times(1)).releaseLock("balance:user_" + userId);
+        verify(transactionTemplate, times(threadCount)).execute(any());
     }
         
     @Test
@@ -250,10 +223,6 @@ class ChargeBalanceTest {
         
         when(userRepositoryPort.existsById(userId1)).thenReturn(true);
         when(userRepositoryPort.existsById(userId2)).thenReturn(true);
-        when(keyGenerator.generateBalanceKey(userId1)).thenReturn("balance:user_" + userId1);
-        when(keyGenerator.generateBalanceKey(userId2)).thenReturn("balance:user_" + userId2);
-        when(lockingPort.acquireLock("balance:user_" + userId1)).thenReturn(true);
-        when(lockingPort.acquireLock("balance:user_" + userId2)).thenReturn(true);
         when(chargeBalanceUseCase.execute(userId1, chargeAmount)).thenReturn(testBalance1);
         when(chargeBalanceUseCase.execute(userId2, chargeAmount)).thenReturn(testBalance2);
         
@@ -286,12 +255,6 @@ class ChargeBalanceTest {
         
         assertThat(result.getSuccessCount()).isEqualTo(2); // 둘 다 성공해야 함
         
-        verify(keyGenerator).generateBalanceKey(userId1);
-        verify(keyGenerator).generateBalanceKey(userId2);
-        verify(lockingPort).acquireLock("balance:user_" + userId1);
-        verify(lockingPort).acquireLock("balance:user_" + userId2);
         verify(transactionTemplate, times(2)).execute(any());
-        verify(lockingPort).releaseLock("balance:user_" + userId1);
-        verify(lockingPort).releaseLock("balance:user_" + userId2);
     }
 }
\ No newline at end of file
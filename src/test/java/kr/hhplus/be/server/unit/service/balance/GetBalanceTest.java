@@ -1,11 +1,10 @@
 package kr.hhplus.be.server.unit.service.balance;
 
-import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.entity.*;
+import kr.hhplus.be.server.domain.service.BalanceCommandQueue;
 import kr.hhplus.be.server.domain.service.BalanceService;
 import kr.hhplus.be.server.domain.usecase.balance.GetBalanceUseCase;
 import kr.hhplus.be.server.domain.usecase.balance.ChargeBalanceUseCase;
-import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.domain.exception.*;
@@ -39,10 +38,10 @@ class GetBalanceTest {
     private ChargeBalanceUseCase chargeBalanceUseCase;
     
     @Mock
-    private GetBalanceUseCase getBalanceUseCase;
+    private BalanceCommandQueue balanceCommandQueue;
     
     @Mock
-    private LockingPort lockingPort;
+    private GetBalanceUseCase getBalanceUseCase;
     
     @Mock
     private UserRepositoryPort userRepositoryPort;
@@ -50,15 +49,13 @@ class GetBalanceTest {
     @Mock
     private CachePort cachePort;
     
-    @Mock
-    private KeyGenerator keyGenerator;
-    
     private BalanceService balanceService;
     
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        balanceService = new BalanceService(transactionTemplate, chargeBalanceUseCase, getBalanceUseCase, lockingPort, userRepositoryPort, keyGenerator);
+        balanceService = new BalanceService(transactionTemplate, chargeBalanceUseCase, getBalanceUseCase, userRepositoryPort,
+                balanceCommandQueue);
     }
 
     @Test
@@ -0,0 +1,197 @@
+package kr.hhplus.be.server.unit.service.coupon;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.enums.CouponStatus;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
+import kr.hhplus.be.server.domain.service.CouponLifecycleScheduler;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponLifecycleScheduler 단위 테스트
+ *
+ * Why: 쿠폰 시작/종료 시각에 맞춰 메모리 기간 상태와 DB 상태가 전환되는지 검증
+ * How: 실제 타이밍 휠을 사용하고 advanceTo로 시간을 직접 진행시켜 검증
+ */
+@DisplayName("쿠폰 시작/종료 전환 스케줄러")
+class CouponLifecycleSchedulerTest {
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private CouponLifecycleScheduler couponLifecycleScheduler;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        couponLifecycleScheduler = new CouponLifecycleScheduler(couponRepositoryPort, cachePort, keyGenerator, transactionTemplate);
+        couponLifecycleScheduler.initialize(System.currentTimeMillis());
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(keyGenerator.generateCouponCacheKey(anyLong()))
+                .thenAnswer(invocation -> "coupon:info:coupon_" + invocation.getArgument(0));
+        when(couponRepositoryPort.transitionStatus(anyLong(), anyCollection(), any(), any(LocalDateTime.class))).thenReturn(1);
+    }
+
+    @Test
+    @DisplayName("시작 시각이 되면 ACTIVE로 전환하고 DB와 캐시에 반영한다")
+    void activatesAtStartDate() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = TestBuilder.CouponBuilder.notYetStartedCoupon()
+                .id(1L)
+                .startDate(now.plusSeconds(2))
+                .endDate(now.plusDays(1))
+                .build();
+
+        // when
+        couponLifecycleScheduler.register(coupon);
+
+        // then
+        assertThat(couponLifecycleScheduler.getPhase(1L)).isEqualTo(CouponStatus.INACTIVE);
+
+        couponLifecycleScheduler.advanceTo(System.currentTimeMillis() + 3_000);
+
+        assertThat(couponLifecycleScheduler.getPhase(1L)).isEqualTo(CouponStatus.ACTIVE);
+        verify(couponRepositoryPort).transitionStatus(eq(1L), eq(List.of(CouponStatus.INACTIVE)), eq(CouponStatus.ACTIVE), any(LocalDateTime.class));
+        verify(cachePort).evict("coupon:info:coupon_1");
+    }
+
+    @Test
+    @DisplayName("종료 시각이 지나면 EXPIRED로 전환한다")
+    void expiresAfterEndDate() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(2L)
+                .startDate(now.minusDays(1))
+                .endDate(now.plusSeconds(2))
+                .build();
+        couponLifecycleScheduler.register(coupon);
+        assertThat(couponLifecycleScheduler.getPhase(2L)).isEqualTo(CouponStatus.ACTIVE);
+
+        // when
+        couponLifecycleScheduler.advanceTo(System.currentTimeMillis() + 3_000);
+
+        // then
+        assertThat(couponLifecycleScheduler.getPhase(2L)).isEqualTo(CouponStatus.EXPIRED);
+        verify(couponRepositoryPort).transitionStatus(eq(2L),
+                eq(List.of(CouponStatus.INACTIVE, CouponStatus.ACTIVE, CouponStatus.SOLD_OUT)),
+                eq(CouponStatus.EXPIRED), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("이미 종료된 쿠폰은 등록 즉시 만료 상태가 되고, DB/캐시 반영은 등록 호출이 아닌 다음 틱에 실행한다")
+    void expiresImmediatelyWhenAlreadyEnded() {
+        // given
+        Coupon coupon = TestBuilder.CouponBuilder.expiredCoupon().id(3L).build();
+
+        // when - 발급 트랜잭션 안에서 호출되어도 DB/캐시를 건드리지 않음
+        couponLifecycleScheduler.register(coupon);
+
+        // then
+        assertThat(couponLifecycleScheduler.getPhase(3L)).isEqualTo(CouponStatus.EXPIRED);
+        assertThat(couponLifecycleScheduler.pendingTransitions()).isZero();
+        verifyNoInteractions(transactionTemplate, couponRepositoryPort, cachePort);
+
+        couponLifecycleScheduler.advanceTo(System.currentTimeMillis());
+
+        verify(couponRepositoryPort).transitionStatus(eq(3L), anyCollection(), eq(CouponStatus.EXPIRED), any(LocalDateTime.class));
+        verify(cachePort).evict("coupon:info:coupon_3");
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 만료 쿠폰의 등록 정보는 제거된다")
+    void evictsExpiredRegistrationsAfterRetention() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = TestBuilder.CouponBuilder.expiredCoupon()
+                .id(7L)
+                .endDate(now.minusSeconds(1))
+                .build();
+        couponLifecycleScheduler.register(coupon);
+        couponLifecycleScheduler.advanceTo(System.currentTimeMillis());
+        assertThat(couponLifecycleScheduler.getPhase(7L)).isEqualTo(CouponStatus.EXPIRED);
+
+        // when
+        couponLifecycleScheduler.advanceTo(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(2));
+
+        // then
+        assertThat(couponLifecycleScheduler.getPhase(7L)).isNull();
+    }
+
+    @Test
+    @DisplayName("같은 기간으로 다시 등록하면 중복 등록하지 않고, 기간이 바뀌면 다시 등록한다")
+    void reRegistersOnlyWhenPeriodChanges() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(4L)
+                .startDate(now.minusDays(1))
+                .endDate(now.plusSeconds(2))
+                .build();
+        couponLifecycleScheduler.register(coupon);
+        couponLifecycleScheduler.register(coupon);
+        assertThat(couponLifecycleScheduler.pendingTransitions()).isEqualTo(1);
+
+        // when - 종료일 연장
+        coupon.updateEndAt(now.plusDays(7));
+        couponLifecycleScheduler.register(coupon);
+        couponLifecycleScheduler.advanceTo(System.currentTimeMillis() + 3_000);
+
+        // then - 기존 종료 전환은 취소됨
+        assertThat(couponLifecycleScheduler.getPhase(4L)).isEqualTo(CouponStatus.ACTIVE);
+        verify(couponRepositoryPort, never()).transitionStatus(anyLong(), anyCollection(), any(), any());
+    }
+
+    @Test
+    @DisplayName("재시작 시 종료되지 않은 쿠폰을 endDate 범위 조회로 다시 등록한다")
+    void rebuildsFromEndDateRangeQuery() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Coupon active = TestBuilder.CouponBuilder.defaultCoupon().id(5L).build();
+        Coupon upcoming = TestBuilder.CouponBuilder.notYetStartedCoupon()
+                .id(6L)
+                .startDate(now.plusHours(1))
+                .endDate(now.plusDays(1))
+                .build();
+        when(couponRepositoryPort.findByEndDateGreaterThanEqualAndStatusIn(any(LocalDateTime.class), anyCollection()))
+                .thenReturn(List.of(active, upcoming));
+
+        // when
+        couponLifecycleScheduler.rebuild();
+
+        // then
+        assertThat(couponLifecycleScheduler.getPhase(5L)).isEqualTo(CouponStatus.ACTIVE);
+        assertThat(couponLifecycleScheduler.getPhase(6L)).isEqualTo(CouponStatus.INACTIVE);
+        assertThat(couponLifecycleScheduler.pendingTransitions()).isEqualTo(3);
+    }
+}
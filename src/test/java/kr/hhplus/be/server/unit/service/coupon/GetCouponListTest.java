@@ -6,9 +6,12 @@ import kr.hhplus.be.server.domain.service.CouponService;
 import kr.hhplus.be.server.domain.usecase.coupon.GetCouponListUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.GetCouponByIdUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponWalletUseCase;
 import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
 import kr.hhplus.be.server.domain.exception.*;
 import kr.hhplus.be.server.domain.enums.CouponStatus;
 import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
@@ -59,6 +62,15 @@ class GetCouponListTest {
     @Mock
     private KeyGenerator keyGenerator;
     
+    @Mock
+    private EventPort eventPort;
+    
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private GetCouponWalletUseCase getCouponWalletUseCase;
+    
     private CouponService couponService;
     
     private List<CouponHistory> testCouponHistories;
@@ -66,7 +78,7 @@ class GetCouponListTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        couponService = new CouponService(transactionTemplate, getCouponListUseCase, issueCouponUseCase, getCouponByIdUseCase, lockingPort, userRepositoryPort, cachePort, keyGenerator);
+        couponService = new CouponService(transactionTemplate, getCouponListUseCase, issueCouponUseCase, getCouponByIdUseCase, lockingPort, userRepositoryPort, cachePort, keyGenerator, eventPort, soldOutRegistryPort, getCouponWalletUseCase);
         
         Coupon coupon1 = Coupon.builder()
             .id(1L)
@@ -116,9 +128,6 @@ class GetCouponListTest {
             int offset = 0;
             
             when(userRepositoryPort.existsById(userId)).thenReturn(true);
-            String cacheKey = "coupon:list:user_1:limit_10:offset_0";
-            when(keyGenerator.generateCouponListCacheKey(userId, limit, offset)).thenReturn(cacheKey);
-            when(cachePort.getList(eq(cacheKey))).thenReturn(null); // Cache miss
             when(getCouponListUseCase.execute(userId, limit, offset)).thenReturn(testCouponHistories);
             
             // when
@@ -143,9 +152,6 @@ class GetCouponListTest {
             int offset = 0;
             
             when(userRepositoryPort.existsById(userId)).thenReturn(true);
-            String cacheKey = "coupon:list:user_1:limit_10:offset_0";
-            when(keyGenerator.generateCouponListCacheKey(userId, limit, offset)).thenReturn(cacheKey);
-            when(cachePort.getList(eq(cacheKey))).thenReturn(null); // Cache miss
             when(getCouponListUseCase.execute(userId, limit, offset)).thenReturn(List.of());
             
             // when
@@ -186,9 +192,6 @@ class GetCouponListTest {
             int offset = 10;
             
             when(userRepositoryPort.existsById(userId)).thenReturn(true);
-            String cacheKey = "coupon:list:user_1:limit_5:offset_10";
-            when(keyGenerator.generateCouponListCacheKey(userId, limit, offset)).thenReturn(cacheKey);
-            when(cachePort.getList(eq(cacheKey))).thenReturn(null); // Cache miss
             when(getCouponListUseCase.execute(userId, limit, offset)).thenReturn(List.of(testCouponHistories.get(0)));
             
             // when
@@ -0,0 +1,192 @@
+package kr.hhplus.be.server.unit.service.coupon;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.service.CouponService;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponListUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponByIdUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponWalletUseCase;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.exception.*;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponService 재고 샤딩 모드 테스트
+ *
+ * Why: 샤딩 모드에서 단일 카운터 대신 userId 해시로 배정된 샤드 카운터를 사용하는지 검증
+ * How: 샤드 배정, 품절/중복 판별, 비동기 요청 보상 시나리오로 구성
+ */
+@DisplayName("쿠폰 재고 샤딩 모드")
+class IssueCouponShardedTest {
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private GetCouponListUseCase getCouponListUseCase;
+
+    @Mock
+    private IssueCouponUseCase issueCouponUseCase;
+
+    @Mock
+    private GetCouponByIdUseCase getCouponByIdUseCase;
+
+    @Mock
+    private LockingPort lockingPort;
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private EventPort eventPort;
+
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private GetCouponWalletUseCase getCouponWalletUseCase;
+
+    private CouponService couponService;
+
+    private final Long userId = 13L;
+    private final Long couponId = 1L;
+    private final int shardCount = 4;
+    private final String couponUserKey = "coupon:user:coupon_1_user_13";
+    private final String soldOutKey = "coupon:soldout:coupon_1";
+    private final List<String> shardKeys = List.of(
+            "coupon:stock:coupon_1_shard_0",
+            "coupon:stock:coupon_1_shard_1",
+            "coupon:stock:coupon_1_shard_2",
+            "coupon:stock:coupon_1_shard_3");
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        couponService = new CouponService(transactionTemplate, getCouponListUseCase, issueCouponUseCase, getCouponByIdUseCase, lockingPort, userRepositoryPort, cachePort, keyGenerator, eventPort, soldOutRegistryPort, getCouponWalletUseCase);
+        ReflectionTestUtils.setField(couponService, "stockShardingEnabled", true);
+        ReflectionTestUtils.setField(couponService, "stockShardCount", shardCount);
+
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 0)
+                .build();
+
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(keyGenerator.generateCouponStockShardKeys(couponId, shardCount)).thenReturn(shardKeys);
+        when(keyGenerator.generateCouponSoldOutKey(couponId)).thenReturn(soldOutKey);
+        when(keyGenerator.generateCouponKey(couponId)).thenReturn("coupon:coupon_1");
+        when(keyGenerator.generateCouponRequestResultKey(anyString())).thenAnswer(invocation -> "coupon:result:" + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("userId 해시로 배정된 샤드부터 차감하고 단일 카운터는 사용하지 않는다")
+    void issueCoupon_UsesAssignedShard() {
+        // given
+        CouponHistory history = TestBuilder.CouponHistoryBuilder.defaultCouponHistory()
+                .userId(userId)
+                .couponId(couponId)
+                .build();
+        when(cachePort.issueCouponFromShards(shardKeys, soldOutKey, couponUserKey, 100, 1)).thenReturn(2L);
+        when(lockingPort.acquireLock("coupon:coupon_1")).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(issueCouponUseCase.execute(userId, couponId)).thenReturn(history);
+
+        // when
+        CouponHistory result = couponService.issueCoupon(couponId, userId);
+
+        // then
+        assertThat(result).isEqualTo(history);
+        verify(cachePort).issueCouponFromShards(shardKeys, soldOutKey, couponUserKey, 100, Math.floorMod(Long.hashCode(userId), shardCount));
+        verify(cachePort, never()).issueCouponAtomically(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("이미 발급된 수량이 있으면 남은 수량으로 샤드를 나눈다")
+    void issueCoupon_SplitsShardsFromRemainingStock() {
+        // given
+        var partiallyIssued = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 40)
+                .build();
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(partiallyIssued);
+        when(cachePort.issueCouponFromShards(eq(shardKeys), eq(soldOutKey), eq(couponUserKey), anyLong(), anyInt())).thenReturn(CachePort.COUPON_SOLD_OUT);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CouponException.OutOfStock.class);
+
+        verify(cachePort).issueCouponFromShards(eq(shardKeys), eq(soldOutKey), eq(couponUserKey), eq(60L), anyInt());
+    }
+
+    @Test
+    @DisplayName("모든 샤드가 소진되면 재고 부족 예외가 발생한다")
+    void issueCoupon_AllShardsExhausted() {
+        // given
+        when(cachePort.issueCouponFromShards(eq(shardKeys), eq(soldOutKey), eq(couponUserKey), eq(100L), anyInt())).thenReturn(CachePort.COUPON_SOLD_OUT);
+        when(cachePort.hasCouponIssued(couponUserKey)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CouponException.OutOfStock.class);
+
+        verify(lockingPort, never()).acquireLock(any());
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자는 중복 발급 예외가 발생한다")
+    void issueCoupon_AlreadyIssued() {
+        // given
+        when(cachePort.issueCouponFromShards(eq(shardKeys), eq(soldOutKey), eq(couponUserKey), eq(100L), anyInt())).thenReturn(CachePort.COUPON_SOLD_OUT);
+        when(cachePort.hasCouponIssued(couponUserKey)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CouponException.AlreadyIssued.class);
+    }
+
+    @Test
+    @DisplayName("비동기 요청 발행 실패 시 차감한 샤드에 슬롯을 되돌린다")
+    void requestCouponIssue_PublishFailed_RollbackShard() {
+        // given
+        when(cachePort.issueCouponFromShards(eq(shardKeys), eq(soldOutKey), eq(couponUserKey), eq(100L), anyInt())).thenReturn(3L);
+        doThrow(new RuntimeException("이벤트 발행 실패")).when(eventPort).publish(any(), any());
+
+        // when & then
+        assertThatThrownBy(() -> couponService.requestCouponIssue(couponId, userId))
+            .isInstanceOf(RuntimeException.class);
+
+        verify(cachePort).rollbackCouponShardIssue("coupon:stock:coupon_1_shard_2", soldOutKey, couponUserKey);
+        verify(cachePort, never()).rollbackCouponIssue(any(), any());
+    }
+}
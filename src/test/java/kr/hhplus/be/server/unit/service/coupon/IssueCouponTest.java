@@ -6,9 +6,12 @@ import kr.hhplus.be.server.domain.service.CouponService;
 import kr.hhplus.be.server.domain.usecase.coupon.GetCouponListUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.GetCouponByIdUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponWalletUseCase;
 import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
 import kr.hhplus.be.server.domain.exception.*;
 import kr.hhplus.be.server.util.TestBuilder;
 import kr.hhplus.be.server.util.ConcurrencyTestHelper;
@@ -59,12 +62,21 @@ class IssueCouponTest {
     @Mock
     private KeyGenerator keyGenerator;
     
+    @Mock
+    private EventPort eventPort;
+    
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private GetCouponWalletUseCase getCouponWalletUseCase;
+    
     private CouponService couponService;
     
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        couponService = new CouponService(transactionTemplate, getCouponListUseCase, issueCouponUseCase, getCouponByIdUseCase, lockingPort, userRepositoryPort, cachePort, keyGenerator);
+        couponService = new CouponService(transactionTemplate, getCouponListUseCase, issueCouponUseCase, getCouponByIdUseCase, lockingPort, userRepositoryPort, cachePort, keyGenerator, eventPort, soldOutRegistryPort, getCouponWalletUseCase);
     }
 
     @Test
@@ -100,7 +112,6 @@ class IssueCouponTest {
             return callback.doInTransaction(null);
         });
         when(issueCouponUseCase.execute(userId, couponId)).thenReturn(expectedHistory);
-        when(keyGenerator.generateCouponListCachePattern(userId)).thenReturn("coupon:list:user_1_*");
         
         // when
         CouponHistory result = couponService.issueCoupon(couponId, userId);
@@ -117,6 +128,38 @@ class IssueCouponTest {
         verify(lockingPort).releaseLock(lockKey);
     }
         
+    @Test
+    @DisplayName("DB 저장에 실패하면 선점한 Redis 슬롯을 보상하고 예외를 전파한다")
+    void issueCoupon_ReleasesAdmissionWhenSaveFails() {
+        // given
+        Long userId = 1L;
+        Long couponId = 1L;
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 0)
+                .build();
+        
+        String lockKey = "coupon:lock:coupon_1";
+        String couponCounterKey = "coupon:counter:1";
+        String couponUserKey = "coupon:user:1:1";
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn(couponCounterKey);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(1L);
+        when(keyGenerator.generateCouponKey(couponId)).thenReturn(lockKey);
+        when(lockingPort.acquireLock(lockKey)).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("db down"));
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+                .isInstanceOf(IllegalStateException.class);
+        verify(cachePort).rollbackCouponIssue(couponCounterKey, couponUserKey);
+        verify(soldOutRegistryPort).clearCouponSoldOut(couponId);
+        verify(lockingPort).releaseLock(lockKey);
+    }
+        
     @Test
     @DisplayName("락 획득 실패 시 동시성 충돌 예외가 발생한다")
     void issueCoupon_LockAcquisitionFailed() {
@@ -254,13 +297,12 @@ class IssueCouponTest {
             return callback.doInTransaction(null);
         });
         when(issueCouponUseCase.execute(anyLong(), eq(couponId))).thenReturn(expectedHistory);
-        when(keyGenerator.generateCouponListCachePattern(anyLong())).thenReturn("coupon:list:user_*");
         
         // Redis 원자적 연산: 첫 번째는 성공, 두 번째는 실패 (한도 초과)
         when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey1, 100))
             .thenReturn(1L); // 첫 번째 발급 성공
         when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey2, 100))
-            .thenReturn(-1L); // 두 번째 발급 실패 (한도 초과)
+            .thenReturn(CachePort.COUPON_SOLD_OUT); // 두 번째 발급 실패 (한도 초과)
         when(cachePort.hasCouponIssued(couponUserKey2)).thenReturn(false); // 중복 발급 아님
         
         // when & then
@@ -351,8 +393,6 @@ class IssueCouponTest {
         });
         when(issueCouponUseCase.execute(userId1, couponId1)).thenReturn(expectedHistory1);
         when(issueCouponUseCase.execute(userId2, couponId2)).thenReturn(expectedHistory2);
-        when(keyGenerator.generateCouponListCachePattern(userId1)).thenReturn("coupon:list:user_1_*");
-        when(keyGenerator.generateCouponListCachePattern(userId2)).thenReturn("coupon:list:user_2_*");
         
         // when & then
         ConcurrencyTestHelper.ConcurrencyTestResult result = ConcurrencyTestHelper.executeMultipleTasks(
@@ -386,4 +426,169 @@ class IssueCouponTest {
         verify(lockingPort).releaseLock(lockKey1);
         verify(lockingPort).releaseLock(lockKey2);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("품절이 전파된 쿠폰은 DB/Redis 조회 없이 즉시 거절된다")
+    void issueCoupon_SoldOutRegistered_RejectedWithoutIo() {
+        // given
+        Long userId = 1L;
+        Long couponId = 1L;
+        when(soldOutRegistryPort.isCouponSoldOut(couponId)).thenReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CouponException.OutOfStock.class);
+        
+        verify(userRepositoryPort, never()).existsById(any());
+        verify(getCouponByIdUseCase, never()).execute(any());
+        verify(cachePort, never()).issueCouponAtomically(any(), any(), anyLong());
+        verify(cachePort, never()).hasCouponIssued(any());
+    }
+    
+    @Test
+    @DisplayName("마지막 수량을 발급하면 쿠폰 품절을 전파한다")
+    void issueCoupon_LastSlot_MarksSoldOut() {
+        // given
+        Long userId = 1L;
+        Long couponId = 1L;
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 99)
+                .build();
+        
+        String lockKey = "coupon:lock:coupon_1";
+        String couponCounterKey = "coupon:counter:1";
+        String couponUserKey = "coupon:user:1:1";
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn(couponCounterKey);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(100L);
+        when(keyGenerator.generateCouponKey(couponId)).thenReturn(lockKey);
+        when(lockingPort.acquireLock(lockKey)).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(issueCouponUseCase.execute(userId, couponId)).thenReturn(
+                TestBuilder.CouponHistoryBuilder.defaultCouponHistory().userId(userId).couponId(couponId).build());
+        
+        // when
+        couponService.issueCoupon(couponId, userId);
+        
+        // then
+        verify(soldOutRegistryPort).markCouponSoldOut(couponId);
+    }
+    
+    @Test
+    @DisplayName("Redis 한도 초과로 실패하면 쿠폰 품절을 전파한다")
+    void issueCoupon_OutOfStock_MarksSoldOut() {
+        // given
+        Long userId = 1L;
+        Long couponId = 1L;
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 100)
+                .build();
+        
+        String couponCounterKey = "coupon:counter:1";
+        String couponUserKey = "coupon:user:1:1";
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn(couponCounterKey);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(CachePort.COUPON_SOLD_OUT);
+        when(cachePort.hasCouponIssued(couponUserKey)).thenReturn(false);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CouponException.OutOfStock.class);
+        
+        verify(soldOutRegistryPort).markCouponSoldOut(couponId);
+    }
+    
+    @Test
+    @DisplayName("락 획득 실패나 Redis 오류로 선점하지 못하면 품절을 전파하지 않고 동시성 충돌로 응답한다")
+    void issueCoupon_AdmissionUnavailable_DoesNotMarkSoldOut() {
+        // given
+        Long userId = 1L;
+        Long couponId = 1L;
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 100)
+                .build();
+        
+        String couponCounterKey = "coupon:counter:1";
+        String couponUserKey = "coupon:user:1:1";
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn(couponCounterKey);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(CachePort.COUPON_UNAVAILABLE);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CommonException.ConcurrencyConflict.class);
+        
+        verify(soldOutRegistryPort, never()).markCouponSoldOut(any());
+        verify(issueCouponUseCase, never()).execute(any(), any());
+    }
+    
+    @Test
+    @DisplayName("이미 발급받은 사용자는 품절을 전파하지 않고 중복 발급으로 응답한다")
+    void issueCoupon_AlreadyIssued_DoesNotMarkSoldOut() {
+        // given
+        Long userId = 1L;
+        Long couponId = 1L;
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 100)
+                .build();
+        
+        String couponCounterKey = "coupon:counter:1";
+        String couponUserKey = "coupon:user:1:1";
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn(couponCounterKey);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(CachePort.COUPON_ALREADY_ISSUED);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CouponException.AlreadyIssued.class);
+        
+        verify(soldOutRegistryPort, never()).markCouponSoldOut(any());
+    }
+    
+    @Test
+    @DisplayName("한도 소진 응답이어도 선점 중인 사용자면 품절을 전파하지 않고 중복 발급으로 응답한다")
+    void issueCoupon_SoldOutButAdmitted_ChecksIssuedExactly() {
+        // given
+        Long userId = 1L;
+        Long couponId = 1L;
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 100)
+                .build();
+        
+        String couponCounterKey = "coupon:counter:1";
+        String couponUserKey = "coupon:user:1:1";
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn(couponCounterKey);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(CachePort.COUPON_SOLD_OUT);
+        when(cachePort.hasCouponIssued(couponUserKey)).thenReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.issueCoupon(couponId, userId))
+            .isInstanceOf(CouponException.AlreadyIssued.class);
+        
+        verify(soldOutRegistryPort, never()).markCouponSoldOut(any());
+    }
+}
@@ -0,0 +1,201 @@
+package kr.hhplus.be.server.unit.service.coupon;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.enums.EventTopic;
+import kr.hhplus.be.server.domain.event.CouponRequestEvent;
+import kr.hhplus.be.server.domain.event.CouponResultEvent;
+import kr.hhplus.be.server.domain.service.CouponService;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponListUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponByIdUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponWalletUseCase;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.exception.*;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CouponService.requestCouponIssue / getCouponIssueResult 메서드 테스트
+ * 
+ * Why: 비동기 쿠폰 발급 요청이 Redis 선착순 검증만 수행하고 DB 저장은 Consumer에 위임하는지 검증
+ * How: 요청 접수, 선착순 실패, 발행 실패 보상, 결과 조회 시나리오로 구성
+ */
+@DisplayName("비동기 쿠폰 발급 요청 서비스")
+class RequestCouponIssueTest {
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    
+    @Mock
+    private GetCouponListUseCase getCouponListUseCase;
+    
+    @Mock
+    private IssueCouponUseCase issueCouponUseCase;
+    
+    @Mock
+    private GetCouponByIdUseCase getCouponByIdUseCase;
+    
+    @Mock
+    private LockingPort lockingPort;
+    
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+    
+    @Mock
+    private CachePort cachePort;
+    
+    @Mock
+    private KeyGenerator keyGenerator;
+    
+    @Mock
+    private EventPort eventPort;
+    
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private GetCouponWalletUseCase getCouponWalletUseCase;
+    
+    private CouponService couponService;
+    
+    private final Long userId = 1L;
+    private final Long couponId = 1L;
+    private final String couponCounterKey = "coupon:counter:coupon_1";
+    private final String couponUserKey = "coupon:user:coupon_1_user_1";
+    
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        couponService = new CouponService(transactionTemplate, getCouponListUseCase, issueCouponUseCase, getCouponByIdUseCase, lockingPort, userRepositoryPort, cachePort, keyGenerator, eventPort, soldOutRegistryPort, getCouponWalletUseCase);
+        
+        var coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .withQuantity(100, 0)
+                .build();
+        
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        when(getCouponByIdUseCase.execute(couponId)).thenReturn(coupon);
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn(couponCounterKey);
+        when(keyGenerator.generateCouponUserKey(couponId, userId)).thenReturn(couponUserKey);
+        when(keyGenerator.generateCouponRequestResultKey(anyString())).thenAnswer(invocation -> "coupon:result:" + invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("선착순 검증 통과 시 요청 이벤트를 발행하고 PENDING 결과를 반환한다")
+    void requestCouponIssue_Accepted() {
+        // given
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(1L);
+        
+        // when
+        CouponResultEvent result = couponService.requestCouponIssue(couponId, userId);
+        
+        // then
+        assertThat(result.isPending()).isTrue();
+        assertThat(result.getRequestId()).isNotBlank();
+        assertThat(result.getUserId()).isEqualTo(userId);
+        assertThat(result.getCouponId()).isEqualTo(couponId);
+        
+        verify(cachePort).put(eq("coupon:result:" + result.getRequestId()), eq(result), anyInt());
+        verify(eventPort).publish(eq(EventTopic.COUPON_REQUESTS.getTopic()), any(CouponRequestEvent.class));
+        verify(issueCouponUseCase, never()).execute(any(), any());
+        verify(lockingPort, never()).acquireLock(any());
+    }
+
+    @Test
+    @DisplayName("이미 발급받은 사용자는 요청이 접수되지 않는다")
+    void requestCouponIssue_AlreadyIssued() {
+        // given
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(CachePort.COUPON_ALREADY_ISSUED);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.requestCouponIssue(couponId, userId))
+            .isInstanceOf(CouponException.AlreadyIssued.class);
+        
+        verify(eventPort, never()).publish(any(), any());
+        verify(soldOutRegistryPort, never()).markCouponSoldOut(any());
+    }
+
+    @Test
+    @DisplayName("발급 한도 초과 시 요청이 접수되지 않는다")
+    void requestCouponIssue_OutOfStock() {
+        // given
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(CachePort.COUPON_SOLD_OUT);
+        when(cachePort.hasCouponIssued(couponUserKey)).thenReturn(false);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.requestCouponIssue(couponId, userId))
+            .isInstanceOf(CouponException.OutOfStock.class);
+        
+        verify(eventPort, never()).publish(any(), any());
+    }
+
+    @Test
+    @DisplayName("이벤트 발행 실패 시 선점한 Redis 슬롯을 되돌린다")
+    void requestCouponIssue_PublishFailed_Rollback() {
+        // given
+        when(cachePort.issueCouponAtomically(couponCounterKey, couponUserKey, 100)).thenReturn(1L);
+        doThrow(new RuntimeException("이벤트 발행 실패")).when(eventPort).publish(any(), any());
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.requestCouponIssue(couponId, userId))
+            .isInstanceOf(RuntimeException.class);
+        
+        verify(cachePort).rollbackCouponIssue(couponCounterKey, couponUserKey);
+        verify(cachePort).evict(startsWith("coupon:result:"));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 요청할 수 없다")
+    void requestCouponIssue_UserNotFound() {
+        // given
+        when(userRepositoryPort.existsById(userId)).thenReturn(false);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.requestCouponIssue(couponId, userId))
+            .isInstanceOf(UserException.NotFound.class);
+        
+        verify(cachePort, never()).issueCouponAtomically(any(), any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("저장된 요청 결과를 조회한다")
+    void getCouponIssueResult_Found() {
+        // given
+        String requestId = "COUPON_REQ_1_1_1234567890";
+        CouponResultEvent stored = CouponResultEvent.success(requestId, userId, couponId, 10L, 50L);
+        when(cachePort.get("coupon:result:" + requestId, CouponResultEvent.class)).thenReturn(stored);
+        
+        // when
+        CouponResultEvent result = couponService.getCouponIssueResult(requestId);
+        
+        // then
+        assertThat(result.isSuccessful()).isTrue();
+        assertThat(result.getCouponHistoryId()).isEqualTo(10L);
+    }
+
+    @Test
+    @DisplayName("결과가 없는 요청 ID는 예외가 발생한다")
+    void getCouponIssueResult_NotFound() {
+        // given
+        String requestId = "COUPON_REQ_UNKNOWN";
+        when(cachePort.get("coupon:result:" + requestId, CouponResultEvent.class)).thenReturn(null);
+        
+        // when & then
+        assertThatThrownBy(() -> couponService.getCouponIssueResult(requestId))
+            .isInstanceOf(CouponException.RequestNotFound.class);
+    }
+}
@@ -2,7 +2,9 @@ package kr.hhplus.be.server.unit.service.order;
 
 import kr.hhplus.be.server.domain.entity.Order;
 import kr.hhplus.be.server.domain.service.OrderService;
+import kr.hhplus.be.server.domain.service.OrderCreateCoalescer;
 import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.common.util.LockOrderManager;
 import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
 import kr.hhplus.be.server.domain.usecase.order.*;
 import kr.hhplus.be.server.domain.usecase.balance.DeductBalanceUseCase;
@@ -13,7 +15,10 @@ import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
 import kr.hhplus.be.server.domain.exception.CommonException;
+import kr.hhplus.be.server.domain.exception.ProductException;
 import kr.hhplus.be.server.util.TestBuilder;
 import org.springframework.transaction.support.TransactionTemplate;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,6 +56,9 @@ class CreateOrderTest {
     @Mock private CachePort cachePort;
     @Mock private KeyGenerator keyGenerator;
     @Mock private EventPort eventPort;
+    @Mock private SoldOutRegistryPort soldOutRegistryPort;
+    @Mock private InventoryLedgerPort inventoryLedgerPort;
+    @Mock private OrderCreateCoalescer orderCreateCoalescer;
     
     private OrderService orderService;
     
@@ -60,8 +68,9 @@ class CreateOrderTest {
         orderService = new OrderService(
             transactionTemplate, createOrderUseCase, getOrderUseCase, getOrderListUseCase, 
             validateOrderUseCase, completeOrderUseCase, createPaymentUseCase, deductBalanceUseCase, 
-            applyCouponUseCase, lockingPort, userRepositoryPort, orderRepositoryPort, 
-            orderItemRepositoryPort, keyGenerator, eventPort
+            applyCouponUseCase, lockingPort, userRepositoryPort, keyGenerator,
+            eventPort, soldOutRegistryPort, new LockOrderManager(),
+            inventoryLedgerPort, orderCreateCoalescer
         );
     }
 
@@ -71,16 +80,16 @@ class CreateOrderTest {
         // given
         Long userId = 1L;
         List<ProductQuantityDto> productQuantities = List.of(
-            new ProductQuantityDto(1L, 2),
-            new ProductQuantityDto(2L, 1)
+            new ProductQuantityDto(2L, 1),
+            new ProductQuantityDto(1L, 2)
         );
         Order expectedOrder = TestBuilder.OrderBuilder.defaultOrder()
                 .userId(userId)
                 .build();
         
-        String expectedLockKey = "order:create_multi:user_1:products_1_2";
-        when(keyGenerator.generateOrderCreateMultiProductKey(userId, 1L, 2L)).thenReturn(expectedLockKey);
-        when(lockingPort.acquireLock(expectedLockKey)).thenReturn(true);
+        List<String> expectedLockKeys = List.of("product:product_1", "product:product_2");
+        when(keyGenerator.generateProductKey(anyLong())).thenAnswer(invocation -> "product:product_" + invocation.getArgument(0));
+        when(lockingPort.acquireAll(expectedLockKeys)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             return createOrderUseCase.execute(userId, productQuantities);
         });
@@ -93,10 +102,100 @@ class CreateOrderTest {
         assertThat(result).isNotNull();
         assertThat(result.getUserId()).isEqualTo(userId);
         
-        verify(keyGenerator).generateOrderCreateMultiProductKey(userId, 1L, 2L);
-        verify(lockingPort).acquireLock(expectedLockKey);
+        // 상품 ID 오름차순의 상품별 락을 한 번에 획득/해제
+        verify(lockingPort).acquireAll(expectedLockKeys);
         verify(transactionTemplate).execute(any());
-        verify(lockingPort).releaseLock(expectedLockKey);
+        verify(lockingPort).releaseAll(expectedLockKeys);
+        verify(lockingPort, never()).acquireLock(any());
+    }
+    
+    @Test
+    @DisplayName("재고 원장 관리 대상 상품은 락을 잡지 않는다")
+    void createOrder_LedgerManagedProduct_NotLocked() {
+        // given
+        Long userId = 1L;
+        List<ProductQuantityDto> productQuantities = List.of(
+            new ProductQuantityDto(1L, 1),
+            new ProductQuantityDto(2L, 1)
+        );
+        Order expectedOrder = TestBuilder.OrderBuilder.defaultOrder()
+                .userId(userId)
+                .build();
+        
+        when(inventoryLedgerPort.isManaged(2L)).thenReturn(true);
+        when(keyGenerator.generateProductKey(anyLong())).thenAnswer(invocation -> "product:product_" + invocation.getArgument(0));
+        when(lockingPort.acquireAll(List.of("product:product_1"))).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenReturn(expectedOrder);
+        
+        // when
+        orderService.createOrder(userId, productQuantities);
+        
+        // then
+        verify(lockingPort).acquireAll(List.of("product:product_1"));
+        verify(lockingPort).releaseAll(List.of("product:product_1"));
+    }
+    
+    @Test
+    @DisplayName("모든 상품이 재고 원장 관리 대상이면 락 없이 주문을 생성한다")
+    void createOrder_AllLedgerManaged_NoLock() {
+        // given
+        Long userId = 1L;
+        List<ProductQuantityDto> productQuantities = List.of(new ProductQuantityDto(2L, 1));
+        Order expectedOrder = TestBuilder.OrderBuilder.defaultOrder()
+                .userId(userId)
+                .build();
+        
+        when(inventoryLedgerPort.isManaged(2L)).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenReturn(expectedOrder);
+        
+        // when
+        Order result = orderService.createOrder(userId, productQuantities);
+        
+        // then
+        assertThat(result).isEqualTo(expectedOrder);
+        verify(lockingPort, never()).acquireAll(any());
+        verify(lockingPort, never()).releaseAll(any());
+    }
+    
+    @Test
+    @DisplayName("묶음 처리 모드에서는 락 없이 묶음 처리기에 위임한다")
+    void createOrder_CoalescingEnabled_Delegates() {
+        // given
+        Long userId = 1L;
+        List<ProductQuantityDto> productQuantities = List.of(new ProductQuantityDto(1L, 1));
+        Order expectedOrder = TestBuilder.OrderBuilder.defaultOrder()
+                .userId(userId)
+                .build();
+        
+        when(orderCreateCoalescer.isEnabled()).thenReturn(true);
+        when(orderCreateCoalescer.create(userId, productQuantities)).thenReturn(expectedOrder);
+        
+        // when
+        Order result = orderService.createOrder(userId, productQuantities);
+        
+        // then
+        assertThat(result).isEqualTo(expectedOrder);
+        verify(lockingPort, never()).acquireAll(any());
+        verify(transactionTemplate, never()).execute(any());
+    }
+    
+    @Test
+    @DisplayName("품절이 전파된 상품이 포함되면 락 획득 없이 즉시 거절된다")
+    void createOrder_SoldOutProduct_RejectedWithoutLock() {
+        // given
+        Long userId = 1L;
+        List<ProductQuantityDto> productQuantities = List.of(
+            new ProductQuantityDto(1L, 2),
+            new ProductQuantityDto(2L, 1)
+        );
+        when(soldOutRegistryPort.isProductSoldOut(2L)).thenReturn(true);
+        
+        // when & then
+        assertThatThrownBy(() -> orderService.createOrder(userId, productQuantities))
+            .isInstanceOf(ProductException.OutOfStock.class);
+        
+        verify(lockingPort, never()).acquireAll(any());
+        verify(createOrderUseCase, never()).execute(any(), any());
     }
     
     @Test
@@ -108,18 +207,17 @@ class CreateOrderTest {
             new ProductQuantityDto(1L, 2)
         );
         
-        String expectedLockKey = "order:create_multi:user_1:products_1";
-        when(keyGenerator.generateOrderCreateMultiProductKey(userId, 1L)).thenReturn(expectedLockKey);
-        when(lockingPort.acquireLock(expectedLockKey)).thenReturn(false);
+        List<String> expectedLockKeys = List.of("product:product_1");
+        when(keyGenerator.generateProductKey(1L)).thenReturn("product:product_1");
+        when(lockingPort.acquireAll(expectedLockKeys)).thenReturn(false);
         
         // when & then
         assertThatThrownBy(() -> orderService.createOrder(userId, productQuantities))
             .isInstanceOf(CommonException.ConcurrencyConflict.class);
             
-        verify(keyGenerator).generateOrderCreateMultiProductKey(userId, 1L);
-        verify(lockingPort).acquireLock(expectedLockKey);
+        verify(lockingPort).acquireAll(expectedLockKeys);
         verify(transactionTemplate, never()).execute(any());
-        verify(lockingPort, never()).releaseLock(any());
+        verify(lockingPort, never()).releaseAll(any());
     }
     
     @Test
@@ -131,9 +229,9 @@ class CreateOrderTest {
             new ProductQuantityDto(1L, 2)
         );
         
-        String expectedLockKey = "order:create_multi:user_1:products_1";
-        when(keyGenerator.generateOrderCreateMultiProductKey(userId, 1L)).thenReturn(expectedLockKey);
-        when(lockingPort.acquireLock(expectedLockKey)).thenReturn(true);
+        List<String> expectedLockKeys = List.of("product:product_1");
+        when(keyGenerator.generateProductKey(1L)).thenReturn("product:product_1");
+        when(lockingPort.acquireAll(expectedLockKeys)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             throw new RuntimeException("Order creation failed");
         });
@@ -143,9 +241,8 @@ class CreateOrderTest {
             .isInstanceOf(RuntimeException.class)
             .hasMessage("Order creation failed");
             
-        verify(keyGenerator).generateOrderCreateMultiProductKey(userId, 1L);
-        verify(lockingPort).acquireLock(expectedLockKey);
+        verify(lockingPort).acquireAll(expectedLockKeys);
         verify(transactionTemplate).execute(any());
-        verify(lockingPort).releaseLock(expectedLockKey);
+        verify(lockingPort).releaseAll(expectedLockKeys);
     }
 }
\ No newline at end of file
@@ -1,8 +1,10 @@
 package kr.hhplus.be.server.unit.service.order;
 
 import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.common.util.LockOrderManager;
 import kr.hhplus.be.server.domain.entity.Order;
 import kr.hhplus.be.server.domain.service.OrderService;
+import kr.hhplus.be.server.domain.service.OrderCreateCoalescer;
 import kr.hhplus.be.server.domain.usecase.order.*;
 import kr.hhplus.be.server.domain.usecase.balance.DeductBalanceUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.ApplyCouponUseCase;
@@ -12,6 +14,8 @@ import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
 import kr.hhplus.be.server.util.TestBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -77,6 +81,9 @@ class GetOrderWithDetailsTest {
     @Mock
     private EventPort eventPort;
     
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+    
     private OrderService orderService;
     
     @BeforeEach
@@ -85,8 +92,9 @@ class GetOrderWithDetailsTest {
         orderService = new OrderService(
             transactionTemplate, createOrderUseCase, getOrderUseCase, getOrderListUseCase, 
             validateOrderUseCase, completeOrderUseCase, createPaymentUseCase, deductBalanceUseCase, 
-            applyCouponUseCase, lockingPort, userRepositoryPort, orderRepositoryPort, 
-            orderItemRepositoryPort, keyGenerator, eventPort
+            applyCouponUseCase, lockingPort, userRepositoryPort, keyGenerator,
+            eventPort, soldOutRegistryPort, new LockOrderManager(),
+            mock(InventoryLedgerPort.class), mock(OrderCreateCoalescer.class)
         );
     }
 
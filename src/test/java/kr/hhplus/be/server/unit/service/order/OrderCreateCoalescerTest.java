@@ -0,0 +1,157 @@
+package kr.hhplus.be.server.unit.service.order;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.common.util.LockOrderManager;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.exception.CommonException;
+import kr.hhplus.be.server.domain.exception.ProductException;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.locking.LockingPort;
+import kr.hhplus.be.server.domain.service.OrderCreateCoalescer;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase.OrderRequest;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase.OrderResult;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * OrderCreateCoalescer 단위 테스트
+ *
+ * Why: 같은 상품 묶음의 동시 주문 요청이 락/트랜잭션 1회로 묶이고 요청별 결과가 전달되는지 검증
+ * How: 실제 스케줄러 스레드를 사용하고 묶음 대기 시간을 길게 두어 요청을 확실히 모은 뒤 검증
+ */
+@DisplayName("주문 생성 묶음 처리기")
+class OrderCreateCoalescerTest {
+
+    @Mock private CreateOrderBatchUseCase createOrderBatchUseCase;
+    @Mock private LockingPort lockingPort;
+    @Mock private KeyGenerator keyGenerator;
+    @Mock private InventoryLedgerPort inventoryLedgerPort;
+    @Mock private TransactionTemplate transactionTemplate;
+
+    private OrderCreateCoalescer orderCreateCoalescer;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        orderCreateCoalescer = new OrderCreateCoalescer(createOrderBatchUseCase, lockingPort, keyGenerator,
+                new LockOrderManager(), inventoryLedgerPort, transactionTemplate);
+        ReflectionTestUtils.setField(orderCreateCoalescer, "enabled", true);
+        ReflectionTestUtils.setField(orderCreateCoalescer, "windowMs", 200L);
+        ReflectionTestUtils.setField(orderCreateCoalescer, "maxBatchSize", 2);
+        orderCreateCoalescer.start();
+
+        when(keyGenerator.generateProductKey(anyLong())).thenAnswer(invocation -> "product:product_" + invocation.getArgument(0));
+        when(lockingPort.acquireAll(anyCollection())).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderCreateCoalescer.stop();
+    }
+
+    @Test
+    @DisplayName("같은 상품 묶음의 요청은 한 번의 락/트랜잭션으로 처리되고 요청별 결과를 받는다")
+    void coalescesSameProductSet() {
+        // given
+        Order order = TestBuilder.OrderBuilder.defaultOrder().id(10L).userId(1L).build();
+        when(createOrderBatchUseCase.execute(anyList())).thenAnswer(invocation -> {
+            List<OrderRequest> requests = invocation.getArgument(0);
+            return List.of(
+                    new OrderResult(requests.get(0), order, null),
+                    new OrderResult(requests.get(1), null, new ProductException.OutOfStock()));
+        });
+
+        // when
+        CompletableFuture<Order> first = orderCreateCoalescer.submit(1L, List.of(new ProductQuantityDto(1L, 1)));
+        CompletableFuture<Order> second = orderCreateCoalescer.submit(2L, List.of(new ProductQuantityDto(1L, 1)));
+
+        // then
+        assertThat(first.join()).isEqualTo(order);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(ProductException.OutOfStock.class);
+        verify(createOrderBatchUseCase, times(1)).execute(argThat(requests -> requests.size() == 2));
+        verify(lockingPort, times(1)).acquireAll(List.of("product:product_1"));
+        verify(lockingPort, times(1)).releaseAll(List.of("product:product_1"));
+    }
+
+    @Test
+    @DisplayName("묶음 락 획득에 실패하면 모든 요청이 동시성 충돌 예외를 받는다")
+    void failsAllWhenLockNotAcquired() {
+        // given
+        when(lockingPort.acquireAll(anyCollection())).thenReturn(false);
+
+        // when
+        CompletableFuture<Order> first = orderCreateCoalescer.submit(1L, List.of(new ProductQuantityDto(1L, 1)));
+        CompletableFuture<Order> second = orderCreateCoalescer.submit(2L, List.of(new ProductQuantityDto(1L, 1)));
+
+        // then
+        assertThatThrownBy(first::join).hasCauseInstanceOf(CommonException.ConcurrencyConflict.class);
+        assertThatThrownBy(second::join).hasCauseInstanceOf(CommonException.ConcurrencyConflict.class);
+        verify(createOrderBatchUseCase, never()).execute(anyList());
+    }
+
+    @Test
+    @DisplayName("create는 대기 시간을 넘기면 동시성 충돌로 실패하고, 포기한 요청은 묶음에서 제외된다")
+    void createTimesOutAndDropsAbandonedRequest() {
+        // given - 묶음 대기 시간(200ms)보다 짧은 호출 대기 시간
+        ReflectionTestUtils.setField(orderCreateCoalescer, "awaitTimeoutMs", 50L);
+
+        // when & then
+        assertThatThrownBy(() -> orderCreateCoalescer.create(1L, List.of(new ProductQuantityDto(1L, 1))))
+                .isInstanceOf(CommonException.ConcurrencyConflict.class);
+        verify(createOrderBatchUseCase, after(400).never()).execute(anyList());
+        verify(lockingPort, never()).acquireAll(anyCollection());
+    }
+
+    @Test
+    @DisplayName("종료 시 처리되지 못한 요청은 동시성 충돌로 실패한다")
+    void stopFailsPendingRequests() {
+        // given - 종료 대기 시간 안에 묶음이 닫히지 않도록 긴 묶음 대기 시간
+        ReflectionTestUtils.setField(orderCreateCoalescer, "windowMs", 10_000L);
+        ReflectionTestUtils.setField(orderCreateCoalescer, "awaitTimeoutMs", 50L);
+        CompletableFuture<Order> pending = orderCreateCoalescer.submit(1L, List.of(new ProductQuantityDto(1L, 1)));
+
+        // when
+        orderCreateCoalescer.stop();
+
+        // then
+        assertThatThrownBy(pending::join).hasCauseInstanceOf(CommonException.ConcurrencyConflict.class);
+        verify(createOrderBatchUseCase, never()).execute(anyList());
+    }
+
+    @Test
+    @DisplayName("create는 요청별 실패 예외를 그대로 던진다")
+    void createUnwrapsRequestError() {
+        // given
+        ReflectionTestUtils.setField(orderCreateCoalescer, "maxBatchSize", 1);
+        when(createOrderBatchUseCase.execute(anyList())).thenAnswer(invocation -> {
+            List<OrderRequest> requests = invocation.getArgument(0);
+            return List.of(new OrderResult(requests.get(0), null, new ProductException.OutOfStock()));
+        });
+
+        // when & then
+        assertThatThrownBy(() -> orderCreateCoalescer.create(1L, List.of(new ProductQuantityDto(1L, 1))))
+                .isInstanceOf(ProductException.OutOfStock.class);
+    }
+}
@@ -1,9 +1,13 @@
 package kr.hhplus.be.server.unit.service.order;
 
 import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.common.util.LockOrderManager;
+import kr.hhplus.be.server.domain.entity.Coupon;
 import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.entity.OrderItem;
 import kr.hhplus.be.server.domain.entity.Payment;
 import kr.hhplus.be.server.domain.service.OrderService;
+import kr.hhplus.be.server.domain.service.OrderCreateCoalescer;
 import kr.hhplus.be.server.domain.usecase.order.*;
 import kr.hhplus.be.server.domain.usecase.balance.DeductBalanceUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.ApplyCouponUseCase;
@@ -13,17 +17,24 @@ import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.domain.port.event.EventPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.enums.EventTopic;
+import kr.hhplus.be.server.domain.event.OrderCompletedEvent;
 import kr.hhplus.be.server.domain.exception.CommonException;
+import kr.hhplus.be.server.domain.exception.OrderException;
 import kr.hhplus.be.server.domain.exception.UserException;
 import kr.hhplus.be.server.util.TestBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -84,6 +95,9 @@ class PayOrderTest {
     @Mock
     private EventPort eventPort;
     
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+    
     private OrderService orderService;
     
     @BeforeEach
@@ -92,8 +106,9 @@ class PayOrderTest {
         orderService = new OrderService(
             transactionTemplate, createOrderUseCase, getOrderUseCase, getOrderListUseCase, 
             validateOrderUseCase, completeOrderUseCase, createPaymentUseCase, deductBalanceUseCase, 
-            applyCouponUseCase, lockingPort, userRepositoryPort, orderRepositoryPort, 
-            orderItemRepositoryPort, keyGenerator, eventPort
+            applyCouponUseCase, lockingPort, userRepositoryPort, keyGenerator,
+            eventPort, soldOutRegistryPort, new LockOrderManager(),
+            mock(InventoryLedgerPort.class), mock(OrderCreateCoalescer.class)
         );
     }
 
@@ -119,18 +134,16 @@ class PayOrderTest {
                 .build();
         
         String paymentLockKey = "order:payment:order_1";
-        String balanceLockKey = "balance:user_1";
         when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn(paymentLockKey);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn(balanceLockKey);
         when(lockingPort.acquireLock(paymentLockKey)).thenReturn(true);
-        when(lockingPort.acquireLock(balanceLockKey)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
             return callback.doInTransaction(null);
         });
-        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+        Coupon cachedCoupon = Coupon.builder().id(couponId).discountRate(new BigDecimal("0.1")).build();
+        when(applyCouponUseCase.findCachedCoupon(couponId)).thenReturn(cachedCoupon);
         when(validateOrderUseCase.execute(orderId, userId)).thenReturn(order);
-        when(applyCouponUseCase.execute(orderAmount, couponId)).thenReturn(finalAmount);
+        when(applyCouponUseCase.execute(orderAmount, couponId, cachedCoupon)).thenReturn(finalAmount);
         when(createPaymentUseCase.execute(orderId, userId, finalAmount)).thenReturn(expectedPayment);
         
         // when
@@ -143,18 +156,16 @@ class PayOrderTest {
         assertThat(result.getAmount()).isEqualTo(finalAmount);
         
         verify(keyGenerator).generateOrderPaymentKey(orderId);
-        verify(keyGenerator).generateBalanceKey(userId);
         verify(lockingPort).acquireLock(paymentLockKey);
-        verify(lockingPort).acquireLock(balanceLockKey);
         verify(transactionTemplate).execute(any());
-        verify(userRepositoryPort).existsById(userId);
         verify(validateOrderUseCase).execute(orderId, userId);
-        verify(applyCouponUseCase).execute(orderAmount, couponId);
+        verify(applyCouponUseCase).findCachedCoupon(couponId);
+        verify(applyCouponUseCase).execute(orderAmount, couponId, cachedCoupon);
         verify(deductBalanceUseCase).execute(userId, finalAmount);
         verify(completeOrderUseCase).execute(order);
         verify(createPaymentUseCase).execute(orderId, userId, finalAmount);
-        verify(lockingPort).releaseLock(balanceLockKey);
         verify(lockingPort).releaseLock(paymentLockKey);
+        verify(lockingPort, times(1)).acquireLock(anyString());
     }
     
     @Test
@@ -178,18 +189,14 @@ class PayOrderTest {
                 .build();
         
         String paymentLockKey = "order:payment:order_1";
-        String balanceLockKey = "balance:user_1";
         when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn(paymentLockKey);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn(balanceLockKey);
         when(lockingPort.acquireLock(paymentLockKey)).thenReturn(true);
-        when(lockingPort.acquireLock(balanceLockKey)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
             return callback.doInTransaction(null);
         });
-        when(userRepositoryPort.existsById(userId)).thenReturn(true);
         when(validateOrderUseCase.execute(orderId, userId)).thenReturn(order);
-        when(applyCouponUseCase.execute(orderAmount, couponId)).thenReturn(orderAmount);
+        when(applyCouponUseCase.execute(orderAmount, couponId, null)).thenReturn(orderAmount);
         when(createPaymentUseCase.execute(orderId, userId, orderAmount)).thenReturn(expectedPayment);
         
         // when
@@ -199,58 +206,80 @@ class PayOrderTest {
         assertThat(result).isNotNull();
         assertThat(result.getAmount()).isEqualTo(orderAmount);
         
-        verify(applyCouponUseCase).execute(orderAmount, couponId);
+        verify(applyCouponUseCase).execute(orderAmount, couponId, null);
+        verify(applyCouponUseCase, never()).findCachedCoupon(any());
     }
     
     @Test
-    @DisplayName("결제 락 획득 실패 시 동시성 충돌 예외가 발생한다")
-    void payOrder_PaymentLockAcquisitionFailed() {
+    @DisplayName("결제 과정에서 읽은 주문 항목으로 완료 이벤트를 발행하고 주문을 다시 조회하지 않는다")
+    void payOrder_PublishesEventFromLoadedOrderItems() {
         // given
         Long orderId = 1L;
         Long userId = 1L;
-        Long couponId = null;
+        BigDecimal orderAmount = new BigDecimal("50000");
         
-        String paymentLockKey = "order:payment:order_1";
-        String balanceLockKey = "balance:user_1";
-        when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn(paymentLockKey);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn(balanceLockKey);
-        when(lockingPort.acquireLock(paymentLockKey)).thenReturn(false);
+        Order order = TestBuilder.OrderBuilder.defaultOrder()
+                .id(orderId)
+                .userId(userId)
+                .totalAmount(orderAmount)
+                .build();
+        Payment expectedPayment = TestBuilder.PaymentBuilder.defaultPayment()
+                .orderId(orderId)
+                .userId(userId)
+                .amount(orderAmount)
+                .build();
+        List<OrderItem> orderItems = List.of(
+                OrderItem.builder().orderId(orderId).productId(10L).quantity(2).price(new BigDecimal("10000")).build(),
+                OrderItem.builder().orderId(orderId).productId(20L).quantity(1).price(new BigDecimal("30000")).build());
         
-        // when & then
-        assertThatThrownBy(() -> orderService.payOrder(orderId, userId, couponId))
-            .isInstanceOf(CommonException.ConcurrencyConflict.class);
-            
-        verify(keyGenerator).generateOrderPaymentKey(orderId);
-        verify(lockingPort).acquireLock(paymentLockKey);
-        verify(lockingPort, never()).acquireLock(balanceLockKey);
-        verify(userRepositoryPort, never()).existsById(any());
+        when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn("order:payment:order_1");
+        when(lockingPort.acquireLock(anyString())).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(validateOrderUseCase.execute(orderId, userId)).thenReturn(order);
+        when(applyCouponUseCase.execute(orderAmount, null, null)).thenReturn(orderAmount);
+        when(completeOrderUseCase.execute(order)).thenReturn(orderItems);
+        when(createPaymentUseCase.execute(orderId, userId, orderAmount)).thenReturn(expectedPayment);
+        
+        // when
+        Payment result = orderService.payOrder(orderId, userId, null);
+        
+        // then
+        assertThat(result).isEqualTo(expectedPayment);
+        
+        ArgumentCaptor<Object> eventCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(eventPort).publish(eq(EventTopic.ORDER_COMPLETED.getTopic()), eventCaptor.capture());
+        OrderCompletedEvent event = (OrderCompletedEvent) eventCaptor.getValue();
+        assertThat(event.getOrderId()).isEqualTo(orderId);
+        assertThat(event.getProductOrders())
+                .extracting(OrderCompletedEvent.ProductOrderInfo::getProductId)
+                .containsExactly(10L, 20L);
+        
+        verify(completeOrderUseCase).updatePaidOrderCache(order);
+        verifyNoInteractions(orderRepositoryPort, orderItemRepositoryPort);
     }
     
     @Test
-    @DisplayName("잔액 락 획득 실패 시 결제 락을 해제하고 동시성 충돌 예외가 발생한다")
-    void payOrder_BalanceLockAcquisitionFailed() {
+    @DisplayName("결제 락 획득 실패 시 동시성 충돌 예외가 발생한다")
+    void payOrder_PaymentLockAcquisitionFailed() {
         // given
         Long orderId = 1L;
         Long userId = 1L;
         Long couponId = null;
         
         String paymentLockKey = "order:payment:order_1";
-        String balanceLockKey = "balance:user_1";
         when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn(paymentLockKey);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn(balanceLockKey);
-        when(lockingPort.acquireLock(paymentLockKey)).thenReturn(true);
-        when(lockingPort.acquireLock(balanceLockKey)).thenReturn(false);
+        when(lockingPort.acquireLock(paymentLockKey)).thenReturn(false);
         
         // when & then
         assertThatThrownBy(() -> orderService.payOrder(orderId, userId, couponId))
             .isInstanceOf(CommonException.ConcurrencyConflict.class);
             
         verify(keyGenerator).generateOrderPaymentKey(orderId);
-        verify(keyGenerator).generateBalanceKey(userId);
         verify(lockingPort).acquireLock(paymentLockKey);
-        verify(lockingPort).acquireLock(balanceLockKey);
-        verify(lockingPort).releaseLock(paymentLockKey);
-        verify(userRepositoryPort, never()).existsById(any());
+        verify(validateOrderUseCase, never()).execute(any(), any());
     }
     
     @Test
@@ -262,24 +291,21 @@ class PayOrderTest {
         Long couponId = null;
         
         String paymentLockKey = "order:payment:order_1";
-        String balanceLockKey = "balance:user_999";
         when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn(paymentLockKey);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn(balanceLockKey);
         when(lockingPort.acquireLock(paymentLockKey)).thenReturn(true);
-        when(lockingPort.acquireLock(balanceLockKey)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
             return callback.doInTransaction(null);
         });
-        when(userRepositoryPort.existsById(userId)).thenReturn(false);
+        when(validateOrderUseCase.execute(orderId, userId)).thenThrow(new UserException.NotFound());
         
         // when & then
         assertThatThrownBy(() -> orderService.payOrder(orderId, userId, couponId))
             .isInstanceOf(UserException.NotFound.class);
             
         verify(transactionTemplate).execute(any());
-        verify(userRepositoryPort).existsById(userId);
-        verify(lockingPort).releaseLock(balanceLockKey);
+        verify(validateOrderUseCase).execute(orderId, userId);
+        verify(deductBalanceUseCase, never()).execute(any(), any());
         verify(lockingPort).releaseLock(paymentLockKey);
     }
     
@@ -299,20 +325,16 @@ class PayOrderTest {
                 .build();
         
         String paymentLockKey = "order:payment:order_1";
-        String balanceLockKey = "balance:user_1";
         when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn(paymentLockKey);
-        when(keyGenerator.generateBalanceKey(userId)).thenReturn(balanceLockKey);
         when(lockingPort.acquireLock(paymentLockKey)).thenReturn(true);
-        when(lockingPort.acquireLock(balanceLockKey)).thenReturn(true);
         when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
             org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
             return callback.doInTransaction(null);
         });
-        when(userRepositoryPort.existsById(userId)).thenReturn(true);
         when(validateOrderUseCase.execute(orderId, userId)).thenReturn(order);
-        when(applyCouponUseCase.execute(orderAmount, couponId)).thenReturn(orderAmount);
-        when(deductBalanceUseCase.execute(userId, orderAmount))
-            .thenThrow(new RuntimeException("Insufficient balance"));
+        when(applyCouponUseCase.execute(orderAmount, couponId, null)).thenReturn(orderAmount);
+        doThrow(new RuntimeException("Insufficient balance"))
+            .when(deductBalanceUseCase).execute(userId, orderAmount);
         
         // when & then
         assertThatThrownBy(() -> orderService.payOrder(orderId, userId, couponId))
@@ -320,7 +342,46 @@ class PayOrderTest {
             .hasMessage("Insufficient balance");
             
         verify(transactionTemplate).execute(any());
-        verify(lockingPort).releaseLock(balanceLockKey);
         verify(lockingPort).releaseLock(paymentLockKey);
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("주문 검증이 실패하면 진행 중인 쿠폰 캐시 조회를 취소하고 락을 해제한다")
+    void payOrder_ValidationFailure_CancelsCouponLookup() throws InterruptedException {
+        // given
+        Long orderId = 1L;
+        Long userId = 1L;
+        Long couponId = 1L;
+        java.util.concurrent.CountDownLatch lookupStarted = new java.util.concurrent.CountDownLatch(1);
+        java.util.concurrent.CountDownLatch lookupInterrupted = new java.util.concurrent.CountDownLatch(1);
+        
+        String paymentLockKey = "order:payment:order_1";
+        when(keyGenerator.generateOrderPaymentKey(orderId)).thenReturn(paymentLockKey);
+        when(lockingPort.acquireLock(paymentLockKey)).thenReturn(true);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            org.springframework.transaction.support.TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(applyCouponUseCase.findCachedCoupon(couponId)).thenAnswer(invocation -> {
+            lookupStarted.countDown();
+            try {
+                Thread.sleep(10_000); // 느린 캐시 응답
+            } catch (InterruptedException e) {
+                lookupInterrupted.countDown();
+            }
+            return null;
+        });
+        when(validateOrderUseCase.execute(orderId, userId)).thenAnswer(invocation -> {
+            lookupStarted.await();
+            throw new OrderException.NotFound();
+        });
+        
+        // when & then
+        assertThatThrownBy(() -> orderService.payOrder(orderId, userId, couponId))
+            .isInstanceOf(OrderException.NotFound.class);
+        
+        assertThat(lookupInterrupted.await(1, java.util.concurrent.TimeUnit.SECONDS)).isTrue();
+        verify(applyCouponUseCase, never()).execute(any(), any(), any());
+        verify(lockingPort).releaseLock(paymentLockKey);
+    }
+}
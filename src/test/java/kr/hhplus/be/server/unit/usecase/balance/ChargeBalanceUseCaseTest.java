@@ -1,7 +1,11 @@
 package kr.hhplus.be.server.unit.usecase.balance;
 
 import kr.hhplus.be.server.domain.entity.Balance;
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+import kr.hhplus.be.server.domain.enums.BalanceLedgerType;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort;
 import kr.hhplus.be.server.domain.usecase.balance.ChargeBalanceUseCase;
+import kr.hhplus.be.server.domain.port.storage.BalanceLedgerRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.BalanceRepositoryPort;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
@@ -9,19 +13,25 @@ import kr.hhplus.be.server.domain.exception.BalanceException;
 import kr.hhplus.be.server.domain.exception.UserException;
 import kr.hhplus.be.server.util.TestBuilder;
 import kr.hhplus.be.server.util.TestAssertions;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.when;
 import static org.mockito.Mockito.verify;
 import static kr.hhplus.be.server.util.TestAssertions.BalanceAssertions;
@@ -38,6 +48,12 @@ class ChargeBalanceUseCaseTest {
     @Mock
     private BalanceRepositoryPort balanceRepositoryPort;
     
+    @Mock
+    private BalanceLedgerRepositoryPort balanceLedgerRepositoryPort;
+    
+    @Mock
+    private BalanceHoldPort balanceHoldPort;
+    
     @Mock
     private CachePort cachePort;
     
@@ -49,7 +65,8 @@ class ChargeBalanceUseCaseTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        chargeBalanceUseCase = new ChargeBalanceUseCase(balanceRepositoryPort, cachePort, keyGenerator);
+        chargeBalanceUseCase = new ChargeBalanceUseCase(balanceRepositoryPort, balanceLedgerRepositoryPort,
+                balanceHoldPort, cachePort, keyGenerator, new SideEffectDispatcher(Runnable::run, new SimpleMeterRegistry(), 10));
     }
 
     @Test
@@ -62,21 +79,15 @@ class ChargeBalanceUseCaseTest {
         BigDecimal chargeAmount = BigDecimal.valueOf(30000);    // 3만원 충전
         BigDecimal expectedTotal = BigDecimal.valueOf(80000);   // 총 8만원 예상
         
-        Balance currentBalance = TestBuilder.BalanceBuilder
+        Balance snapshot = TestBuilder.BalanceBuilder
             .defaultBalance()
             .userId(customerId)
             .amount(existingBalance)
             .build();
-            
-        Balance updatedBalance = TestBuilder.BalanceBuilder
-            .defaultBalance()
-            .userId(customerId)
-            .amount(expectedTotal)
-            .build();
 
-        // Mock 설정: 기존 잔액 조회 및 업데이트된 잔액 저장
-        when(balanceRepositoryPort.findByUserId(customerId)).thenReturn(Optional.of(currentBalance));
-        when(balanceRepositoryPort.save(any(Balance.class))).thenReturn(updatedBalance);
+        // Mock 설정: 기존 스냅샷 조회 후 원장 추가, 스냅샷 + 미반영 원장 합계 조회
+        when(balanceRepositoryPort.findByUserId(customerId)).thenReturn(Optional.of(snapshot));
+        when(balanceRepositoryPort.findCurrentAmount(customerId)).thenReturn(Optional.of(expectedTotal));
 
         // When - 고객이 3만원 충전
         Balance result = chargeBalanceUseCase.execute(customerId, chargeAmount);
@@ -87,7 +98,15 @@ class ChargeBalanceUseCaseTest {
             .as("충전 후 총 잔액이 정확해야 함")
             .isEqualByComparingTo(expectedTotal);
             
-        verify(balanceRepositoryPort).save(any(Balance.class));
+        // 잔액 행은 갱신하지 않고 원장에 충전 행만 추가
+        List<BalanceLedger> entries = captureInsertedLedger();
+        assertThat(entries).hasSize(1);
+        assertThat(entries.get(0).getAmount()).isEqualByComparingTo(chargeAmount);
+        assertThat(entries.get(0).getEntryType()).isEqualTo(BalanceLedgerType.CHARGE);
+        
+        verify(balanceHoldPort).credit(customerId, chargeAmount);
+        verify(balanceRepositoryPort, never()).save(any(Balance.class));
+        verify(balanceRepositoryPort, never()).saveAndFlush(any(Balance.class));
     }
 
     @Test
@@ -98,15 +117,16 @@ class ChargeBalanceUseCaseTest {
         Long newCustomerId = 1L;
         BigDecimal firstChargeAmount = BigDecimal.valueOf(100000); // 첫 충전 10만원
         
-        Balance newBalance = TestBuilder.BalanceBuilder
+        Balance newSnapshot = TestBuilder.BalanceBuilder
             .defaultBalance()
             .userId(newCustomerId)
-            .amount(firstChargeAmount)
+            .amount(BigDecimal.ZERO)
             .build();
 
-        // Mock 설정: 기존 잔액 없음, 새 잔액 생성
+        // Mock 설정: 스냅샷 없음, 0원 스냅샷 생성 후 원장 추가
         when(balanceRepositoryPort.findByUserId(newCustomerId)).thenReturn(Optional.empty());
-        when(balanceRepositoryPort.save(any(Balance.class))).thenReturn(newBalance);
+        when(balanceRepositoryPort.saveAndFlush(any(Balance.class))).thenReturn(newSnapshot);
+        when(balanceRepositoryPort.findCurrentAmount(newCustomerId)).thenReturn(Optional.of(firstChargeAmount));
 
         // When - 신규 고객이 첫 충전
         Balance result = chargeBalanceUseCase.execute(newCustomerId, firstChargeAmount);
@@ -154,6 +174,27 @@ class ChargeBalanceUseCaseTest {
     }
 
 
+    @Test
+    @DisplayName("신규 고객의 동시 첫 충전으로 잔액 생성이 충돌하면 동시성 충돌 예외가 발생한다")
+    void throwsConcurrencyConflictWhenFirstChargeCollides() {
+        // Given - 같은 고객의 첫 충전 두 건이 동시에 잔액 행을 생성하는 상황
+        // Why: user_id 유니크 제약으로 한 건만 생성되고, 나머지는 재요청하도록 명확히 실패해야 함
+        Long newCustomerId = 1L;
+        BigDecimal chargeAmount = BigDecimal.valueOf(10000);
+
+        when(balanceRepositoryPort.findByUserId(newCustomerId)).thenReturn(Optional.empty());
+        when(balanceRepositoryPort.saveAndFlush(any(Balance.class)))
+            .thenThrow(new DataIntegrityViolationException("Duplicate entry"));
+
+        // When & Then
+        assertThatThrownBy(() -> chargeBalanceUseCase.execute(newCustomerId, chargeAmount))
+            .as("잔액 생성 충돌은 동시성 충돌로 변환되어야 함")
+            .isInstanceOf(BalanceException.ConcurrencyConflict.class);
+            
+        verify(balanceLedgerRepositoryPort, never()).insertAll(anyList());
+        verify(balanceHoldPort, never()).credit(any(), any());
+    }
+
     @Test
     @DisplayName("충전 한도 내에서 대용량 충전을 안전하게 처리한다")
     void safelyHandlesLargeChargeWithinLimit() {
@@ -164,21 +205,15 @@ class ChargeBalanceUseCaseTest {
         BigDecimal existingBalance = BigDecimal.valueOf(2000000); // 기존 200만원
         BigDecimal expectedTotal = BigDecimal.valueOf(3000000); // 총 300만원
         
-        Balance currentBalance = TestBuilder.BalanceBuilder
+        Balance snapshot = TestBuilder.BalanceBuilder
             .defaultBalance()
             .userId(enterpriseCustomerId)
             .amount(existingBalance)
             .build();
-            
-        Balance updatedBalance = TestBuilder.BalanceBuilder
-            .defaultBalance()
-            .userId(enterpriseCustomerId)
-            .amount(expectedTotal)
-            .build();
 
         // Mock 설정
-        when(balanceRepositoryPort.findByUserId(enterpriseCustomerId)).thenReturn(Optional.of(currentBalance));
-        when(balanceRepositoryPort.save(any(Balance.class))).thenReturn(updatedBalance);
+        when(balanceRepositoryPort.findByUserId(enterpriseCustomerId)).thenReturn(Optional.of(snapshot));
+        when(balanceRepositoryPort.findCurrentAmount(enterpriseCustomerId)).thenReturn(Optional.of(expectedTotal));
 
         // When - 최대 한도 내에서 대용량 충전
         Balance result = chargeBalanceUseCase.execute(enterpriseCustomerId, largeAmount);
@@ -190,4 +225,50 @@ class ChargeBalanceUseCaseTest {
             
         BalanceAssertions.assertCharged(result, existingBalance, largeAmount);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("같은 고객의 충전 여러 건을 원장 INSERT 한 번과 홀드 반영 한 번으로 처리한다")
+    void appliesMultipleChargesInOneLedgerBatch() {
+        // Given - 잔액 명령 큐가 같은 고객의 충전 세 건을 병합한 상황
+        // Why: 충전 건수만큼 왕복하지 않고 한 번의 배치로 반영해야 처리량이 유지됨
+        Long customerId = 1L;
+        Balance snapshot = TestBuilder.BalanceBuilder
+            .defaultBalance()
+            .userId(customerId)
+            .amount(BigDecimal.valueOf(10000))
+            .build();
+
+        when(balanceRepositoryPort.findByUserId(customerId)).thenReturn(Optional.of(snapshot));
+        when(balanceRepositoryPort.findCurrentAmount(customerId)).thenReturn(Optional.of(BigDecimal.valueOf(16000)));
+
+        // When
+        Balance result = chargeBalanceUseCase.executeAll(customerId,
+            List.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(2000), BigDecimal.valueOf(3000)));
+
+        // Then
+        assertThat(result.getAmount()).isEqualByComparingTo(BigDecimal.valueOf(16000));
+        assertThat(captureInsertedLedger())
+            .extracting(BalanceLedger::getAmount)
+            .containsExactly(BigDecimal.valueOf(1000), BigDecimal.valueOf(2000), BigDecimal.valueOf(3000));
+        verify(balanceHoldPort).credit(customerId, BigDecimal.valueOf(6000));
+    }
+
+    @Test
+    @DisplayName("병합된 충전 중 한 건이라도 금액이 잘못되면 아무것도 반영하지 않는다")
+    void rejectsWholeBatchWhenAnyAmountIsInvalid() {
+        // When & Then
+        assertThatThrownBy(() -> chargeBalanceUseCase.executeAll(1L,
+            List.of(BigDecimal.valueOf(1000), BigDecimal.valueOf(500))))
+            .isInstanceOf(BalanceException.InvalidAmount.class);
+
+        verify(balanceLedgerRepositoryPort, never()).insertAll(anyList());
+        verify(balanceHoldPort, never()).credit(any(), any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<BalanceLedger> captureInsertedLedger() {
+        ArgumentCaptor<List<BalanceLedger>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(balanceLedgerRepositoryPort).insertAll(captor.capture());
+        return captor.getValue();
+    }
+}
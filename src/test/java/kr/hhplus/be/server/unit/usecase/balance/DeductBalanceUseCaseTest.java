@@ -1,16 +1,25 @@
 package kr.hhplus.be.server.unit.usecase.balance;
 
 import kr.hhplus.be.server.domain.entity.*;
+import kr.hhplus.be.server.domain.enums.BalanceLedgerType;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort.HoldResult;
 import kr.hhplus.be.server.domain.port.storage.*;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.usecase.balance.DeductBalanceUseCase;
 import kr.hhplus.be.server.domain.exception.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 
 import java.math.BigDecimal;
 import java.util.Optional;
@@ -28,49 +37,121 @@ class DeductBalanceUseCaseTest {
     @Mock
     private BalanceRepositoryPort balanceRepositoryPort;
     
+    @Mock
+    private BalanceLedgerRepositoryPort balanceLedgerRepositoryPort;
+    
+    @Mock
+    private BalanceHoldPort balanceHoldPort;
+    
     @Mock
     private CachePort cachePort;
     
     @Mock
     private KeyGenerator keyGenerator;
     
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    
     private DeductBalanceUseCase deductBalanceUseCase;
     
     private User testUser;
-    private Balance testBalance;
     
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        deductBalanceUseCase = new DeductBalanceUseCase(balanceRepositoryPort, cachePort, keyGenerator);
+        deductBalanceUseCase = new DeductBalanceUseCase(balanceRepositoryPort, balanceLedgerRepositoryPort,
+                balanceHoldPort, cachePort, keyGenerator, new SideEffectDispatcher(Runnable::run, new SimpleMeterRegistry(), 10), transactionManager);
         
         testUser = User.builder()
             .id(1L)
             .name("Test User")
             .build();
-            
-        testBalance = Balance.builder()
-            .id(1L)
-            .userId(testUser.getId())
-            .amount(new BigDecimal("1000000"))
-            .build();
     }
 
     @Test
-    @DisplayName("성공 - 잔액 차감")
+    @DisplayName("성공 - 차감 가능 금액을 홀드하고 원장에 차감 행을 추가한 뒤 캐시 무효화")
     void execute_SufficientBalance_Success() {
         // given
         BigDecimal deductAmount = new BigDecimal("50000");
-        BigDecimal expectedRemainingAmount = new BigDecimal("950000");
         
-        when(balanceRepositoryPort.findByUserId(testUser.getId())).thenReturn(Optional.of(testBalance));
-        when(balanceRepositoryPort.save(any(Balance.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(balanceHoldPort.hold(testUser.getId(), deductAmount)).thenReturn(HoldResult.HELD);
+        when(keyGenerator.generateBalanceCacheKey(testUser.getId())).thenReturn("balance:1");
         
         // when
-        Balance result = deductBalanceUseCase.execute(testUser.getId(), deductAmount);
+        deductBalanceUseCase.execute(testUser.getId(), deductAmount);
         
         // then
-        assertThat(testBalance.getAmount()).isEqualTo(expectedRemainingAmount);
+        ArgumentCaptor<BalanceLedger> ledgerCaptor = ArgumentCaptor.forClass(BalanceLedger.class);
+        verify(balanceLedgerRepositoryPort).save(ledgerCaptor.capture());
+        assertThat(ledgerCaptor.getValue().getUserId()).isEqualTo(testUser.getId());
+        assertThat(ledgerCaptor.getValue().getAmount()).isEqualByComparingTo("-50000");
+        assertThat(ledgerCaptor.getValue().getEntryType()).isEqualTo(BalanceLedgerType.DEDUCT);
+        
+        verify(balanceRepositoryPort, never()).findCurrentAmount(any());
+        verify(balanceRepositoryPort, never()).save(any());
+        verify(cachePort).evict("balance:1");
+    }
+    
+    @Test
+    @DisplayName("성공 - 할인 적용으로 자릿수가 긴 금액은 DB 컬럼과 같은 반올림으로 맞춘 금액을 홀드와 원장에 반영")
+    void execute_FractionalDiscountedAmount_NormalizedOnce() {
+        // given - 1000.10원에 12.5% 할인 = 875.0875원
+        BigDecimal discountedAmount = new BigDecimal("1000.10").multiply(BigDecimal.ONE.subtract(new BigDecimal("0.125")));
+        BigDecimal normalizedAmount = new BigDecimal("875.09");
+        
+        when(balanceHoldPort.hold(testUser.getId(), normalizedAmount)).thenReturn(HoldResult.HELD);
+        
+        // when
+        deductBalanceUseCase.execute(testUser.getId(), discountedAmount);
+        
+        // then
+        verify(balanceHoldPort).hold(testUser.getId(), normalizedAmount);
+        ArgumentCaptor<BalanceLedger> ledgerCaptor = ArgumentCaptor.forClass(BalanceLedger.class);
+        verify(balanceLedgerRepositoryPort).save(ledgerCaptor.capture());
+        assertThat(ledgerCaptor.getValue().getAmount()).isEqualTo(new BigDecimal("-875.09"));
+    }
+    
+    @Test
+    @DisplayName("성공 - 홀드가 구성되지 않았으면 구성 표시 후 새 트랜잭션에서 조회한 현재 잔액으로 구성한 뒤 다시 홀드")
+    void execute_HoldNotLoaded_LoadsCurrentAmountAndRetries() {
+        // given
+        BigDecimal deductAmount = new BigDecimal("50000");
+        
+        when(balanceHoldPort.hold(testUser.getId(), deductAmount))
+            .thenReturn(HoldResult.NOT_LOADED)
+            .thenReturn(HoldResult.HELD);
+        when(balanceHoldPort.beginLoad(testUser.getId())).thenReturn(Optional.of("token"));
+        when(balanceRepositoryPort.findCurrentAmount(testUser.getId())).thenReturn(Optional.of(new BigDecimal("1000000")));
+        
+        // when
+        deductBalanceUseCase.execute(testUser.getId(), deductAmount);
+        
+        // then
+        InOrder inOrder = inOrder(balanceHoldPort, transactionManager, balanceRepositoryPort);
+        inOrder.verify(balanceHoldPort).beginLoad(testUser.getId());
+        inOrder.verify(transactionManager).getTransaction(argThat(definition ->
+            definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        inOrder.verify(balanceRepositoryPort).findCurrentAmount(testUser.getId());
+        inOrder.verify(balanceHoldPort).finishLoad(testUser.getId(), "token", new BigDecimal("1000000"));
+        verify(balanceHoldPort, times(2)).hold(testUser.getId(), deductAmount);
+        verify(balanceLedgerRepositoryPort).save(any(BalanceLedger.class));
+    }
+    
+    @Test
+    @DisplayName("실패 - 다른 요청이 구성 중이어서 홀드가 구성되지 않으면 동시성 충돌")
+    void execute_HoldLoadingElsewhere_ThrowsConcurrencyConflict() {
+        // given
+        BigDecimal deductAmount = new BigDecimal("50000");
+        
+        when(balanceHoldPort.hold(testUser.getId(), deductAmount)).thenReturn(HoldResult.NOT_LOADED);
+        when(balanceHoldPort.beginLoad(testUser.getId())).thenReturn(Optional.empty());
+        
+        // when & then
+        assertThatThrownBy(() -> deductBalanceUseCase.execute(testUser.getId(), deductAmount))
+            .isInstanceOf(BalanceException.ConcurrencyConflict.class);
+        
+        verify(balanceRepositoryPort, never()).findCurrentAmount(any());
+        verify(balanceLedgerRepositoryPort, never()).save(any());
     }
     
     @Test
@@ -79,13 +160,17 @@ class DeductBalanceUseCaseTest {
         // given
         BigDecimal deductAmount = new BigDecimal("50000");
         
-        when(balanceRepositoryPort.findByUserId(testUser.getId())).thenReturn(Optional.empty());
+        when(balanceHoldPort.hold(testUser.getId(), deductAmount)).thenReturn(HoldResult.NOT_LOADED);
+        when(balanceHoldPort.beginLoad(testUser.getId())).thenReturn(Optional.of("token"));
+        when(balanceRepositoryPort.findCurrentAmount(testUser.getId())).thenReturn(Optional.empty());
         
         // when & then
         assertThatThrownBy(() -> deductBalanceUseCase.execute(testUser.getId(), deductAmount))
             .isInstanceOf(BalanceException.NotFound.class);
             
-        verify(balanceRepositoryPort, never()).save(any());
+        verify(balanceHoldPort, never()).finishLoad(any(), any(), any());
+        verify(balanceLedgerRepositoryPort, never()).save(any());
+        verify(cachePort, never()).evict(any());
     }
     
     @Test
@@ -94,15 +179,14 @@ class DeductBalanceUseCaseTest {
         // given
         BigDecimal deductAmount = new BigDecimal("2000000"); // 잔액보다 큰 금액
         
-        when(balanceRepositoryPort.findByUserId(testUser.getId())).thenReturn(Optional.of(testBalance));
+        when(balanceHoldPort.hold(testUser.getId(), deductAmount)).thenReturn(HoldResult.INSUFFICIENT);
         
         // when & then
         assertThatThrownBy(() -> deductBalanceUseCase.execute(testUser.getId(), deductAmount))
             .isInstanceOf(BalanceException.InsufficientBalance.class);
             
-        verify(balanceRepositoryPort, never()).save(any());
-        // 잔액이 변경되지 않았는지 확인
-        assertThat(testBalance.getAmount()).isEqualTo(new BigDecimal("1000000"));
+        verify(balanceLedgerRepositoryPort, never()).save(any());
+        verify(cachePort, never()).evict(any());
     }
     
-}
\ No newline at end of file
+}
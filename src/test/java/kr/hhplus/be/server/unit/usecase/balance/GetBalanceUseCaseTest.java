@@ -90,6 +90,28 @@ class GetBalanceUseCaseTest {
             verify(balanceRepositoryPort).findByUserId(userId);
         }
 
+        @Test
+        @DisplayName("성공케이스: 스냅샷에 미반영 원장 합계를 더한 현재 잔액을 조회하고 캐시에 저장")
+        void getBalance_Success_SnapshotPlusUnsnapshottedLedger() {
+            // given
+            Long userId = 1L;
+            Balance snapshot = Balance.builder().id(10L).userId(userId).amount(new BigDecimal("100000")).build();
+
+            when(userRepositoryPort.existsById(userId)).thenReturn(true);
+            when(keyGenerator.generateBalanceCacheKey(userId)).thenReturn("balance:info:user_1");
+            when(balanceRepositoryPort.findByUserId(userId)).thenReturn(Optional.of(snapshot));
+            when(balanceRepositoryPort.findCurrentAmount(userId)).thenReturn(Optional.of(new BigDecimal("70000")));
+
+            // when
+            Optional<Balance> result = getBalanceUseCase.execute(userId);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get().getId()).isEqualTo(10L);
+            assertThat(result.get().getAmount()).isEqualByComparingTo("70000");
+            verify(cachePort).put(eq("balance:info:user_1"), eq(result.get()), anyInt());
+        }
+
         @Test
         @DisplayName("성공케이스: Cache에서 정상 잔액 조회")
         void getBalance_Success_FromCache() {
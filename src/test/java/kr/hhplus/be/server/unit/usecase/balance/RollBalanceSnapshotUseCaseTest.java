@@ -0,0 +1,198 @@
+package kr.hhplus.be.server.unit.usecase.balance;
+
+import kr.hhplus.be.server.domain.entity.Balance;
+import kr.hhplus.be.server.domain.entity.BalanceLedger;
+import kr.hhplus.be.server.domain.port.balance.BalanceHoldPort;
+import kr.hhplus.be.server.domain.port.storage.BalanceLedgerRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.BalanceRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.balance.RollBalanceSnapshotUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("RollBalanceSnapshotUseCase 단위 테스트")
+class RollBalanceSnapshotUseCaseTest {
+
+    @Mock
+    private BalanceLedgerRepositoryPort balanceLedgerRepositoryPort;
+
+    @Mock
+    private BalanceRepositoryPort balanceRepositoryPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private BalanceHoldPort balanceHoldPort;
+
+    private RollBalanceSnapshotUseCase rollBalanceSnapshotUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        rollBalanceSnapshotUseCase = new RollBalanceSnapshotUseCase(
+                balanceLedgerRepositoryPort, balanceRepositoryPort, transactionTemplate, balanceHoldPort);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("미반영 원장을 사용자별로 합산하여 스냅샷에 한 번에 더한다")
+    @SuppressWarnings("unchecked")
+    void rollsForwardLedgerSumsPerUser() {
+        // given
+        when(balanceLedgerRepositoryPort.findUnsnapshotted(any())).thenReturn(List.of(
+                ledger(1L, BalanceLedger.charge(2L, new BigDecimal("10000"))),
+                ledger(2L, BalanceLedger.charge(1L, new BigDecimal("5000"))),
+                ledger(3L, BalanceLedger.deduct(2L, new BigDecimal("3000")))));
+        when(balanceLedgerRepositoryPort.markSnapshotted(List.of(1L, 2L, 3L))).thenReturn(new int[]{1, 1, 1});
+
+        // when
+        int rolled = rollBalanceSnapshotUseCase.execute();
+
+        // then
+        assertThat(rolled).isEqualTo(3);
+
+        ArgumentCaptor<Map<Long, BigDecimal>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(balanceRepositoryPort).rollForward(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(1L, 2L);
+        assertThat(captor.getValue().keySet()).containsExactly(1L, 2L);
+        assertThat(captor.getValue().get(1L)).isEqualByComparingTo("5000");
+        assertThat(captor.getValue().get(2L)).isEqualByComparingTo("7000");
+    }
+
+    @Test
+    @DisplayName("다른 노드가 이미 반영 표시한 원장은 합산하지 않는다")
+    @SuppressWarnings("unchecked")
+    void skipsLedgerAlreadyMarkedByAnotherNode() {
+        // given
+        when(balanceLedgerRepositoryPort.findUnsnapshotted(any())).thenReturn(List.of(
+                ledger(1L, BalanceLedger.charge(1L, new BigDecimal("10000"))),
+                ledger(2L, BalanceLedger.charge(1L, new BigDecimal("5000")))));
+        when(balanceLedgerRepositoryPort.markSnapshotted(List.of(1L, 2L))).thenReturn(new int[]{0, 1});
+
+        // when
+        int rolled = rollBalanceSnapshotUseCase.execute();
+
+        // then
+        assertThat(rolled).isEqualTo(1);
+
+        ArgumentCaptor<Map<Long, BigDecimal>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(balanceRepositoryPort).rollForward(captor.capture());
+        assertThat(captor.getValue().get(1L)).isEqualByComparingTo("5000");
+    }
+
+    @Test
+    @DisplayName("반영 전 현재 잔액이 음수인 사용자는 초과 차감으로 보고 홀드를 무효화하며 이번 묶음에서 제외한다")
+    @SuppressWarnings("unchecked")
+    void invalidatesHoldAndExcludesNegativeBalance() {
+        // given
+        when(balanceLedgerRepositoryPort.findUnsnapshotted(any())).thenReturn(List.of(
+                ledger(1L, BalanceLedger.deduct(1L, new BigDecimal("3000"))),
+                ledger(2L, BalanceLedger.charge(2L, new BigDecimal("5000")))));
+        when(balanceLedgerRepositoryPort.markSnapshotted(List.of(2L))).thenReturn(new int[]{1});
+        when(balanceRepositoryPort.findNegativeUserIds(anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        int rolled = rollBalanceSnapshotUseCase.execute();
+
+        // then
+        assertThat(rolled).isEqualTo(1);
+        verify(balanceRepositoryPort).findNegativeUserIds(argThat(userIds -> userIds.containsAll(List.of(1L, 2L))));
+        verify(balanceHoldPort).invalidate(1L);
+        verify(balanceHoldPort, never()).invalidate(2L);
+
+        ArgumentCaptor<Map<Long, BigDecimal>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(balanceRepositoryPort).rollForward(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(2L);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 음수가 되는 사용자는 격리하여 다음 묶음 조회에서 빼고, 잔액이 회복되면 미반영 원장 전체를 반영한다")
+    @SuppressWarnings("unchecked")
+    void quarantinesUserWhoseSnapshotWouldGoNegative() {
+        // given - 스냅샷 1000원에 3000원 차감이 먼저 오고 충전 원장은 아직 묶음 밖
+        when(balanceLedgerRepositoryPort.findUnsnapshotted(any())).thenReturn(List.of(
+                ledger(1L, BalanceLedger.deduct(1L, new BigDecimal("3000"))),
+                ledger(2L, BalanceLedger.charge(2L, new BigDecimal("5000")))));
+        when(balanceRepositoryPort.findByUserIdIn(anyCollection()))
+                .thenReturn(List.of(balance(1L, "1000")));
+        when(balanceLedgerRepositoryPort.markSnapshotted(List.of(2L))).thenReturn(new int[]{1});
+
+        // when - 첫 실행: 1번 사용자는 CHECK 제약 위반 대신 격리
+        rollBalanceSnapshotUseCase.execute();
+
+        // then
+        ArgumentCaptor<Map<Long, BigDecimal>> captor = ArgumentCaptor.forClass(Map.class);
+        verify(balanceRepositoryPort).rollForward(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(2L);
+        verify(balanceHoldPort, never()).invalidate(anyLong());
+
+        // when - 두 번째 실행: 아직 회복되지 않아 격리 유지, 묶음 조회에서 제외
+        when(balanceLedgerRepositoryPort.findUnsnapshottedByUserIdIn(List.of(1L))).thenReturn(List.of(
+                ledger(1L, BalanceLedger.deduct(1L, new BigDecimal("3000")))));
+        when(balanceLedgerRepositoryPort.findUnsnapshottedExcluding(anyCollection(), any())).thenReturn(List.of());
+        rollBalanceSnapshotUseCase.execute();
+
+        // then
+        verify(balanceLedgerRepositoryPort).findUnsnapshottedExcluding(eq(List.of(1L)), any());
+        verify(balanceLedgerRepositoryPort, never()).markSnapshotted(List.of(1L));
+
+        // when - 세 번째 실행: 충전 원장이 도착해 현재 잔액이 회복됨
+        when(balanceLedgerRepositoryPort.findUnsnapshottedByUserIdIn(List.of(1L))).thenReturn(List.of(
+                ledger(1L, BalanceLedger.deduct(1L, new BigDecimal("3000"))),
+                ledger(5L, BalanceLedger.charge(1L, new BigDecimal("4000")))));
+        when(balanceLedgerRepositoryPort.markSnapshotted(List.of(1L, 5L))).thenReturn(new int[]{1, 1});
+        when(balanceLedgerRepositoryPort.findUnsnapshotted(any())).thenReturn(List.of());
+        int rolled = rollBalanceSnapshotUseCase.execute();
+
+        // then - 격리 사용자의 미반영 원장 전체를 한 번에 반영하고 격리 해제
+        assertThat(rolled).isEqualTo(2);
+        verify(balanceRepositoryPort, times(2)).rollForward(captor.capture());
+        assertThat(captor.getValue()).containsOnlyKeys(1L);
+        assertThat(captor.getValue().get(1L)).isEqualByComparingTo("1000");
+    }
+
+    @Test
+    @DisplayName("미반영 원장이 없으면 스냅샷을 갱신하지 않는다")
+    void doesNothingWhenNoUnsnapshottedLedger() {
+        // given
+        when(balanceLedgerRepositoryPort.findUnsnapshotted(any())).thenReturn(List.of());
+
+        // when
+        int rolled = rollBalanceSnapshotUseCase.execute();
+
+        // then
+        assertThat(rolled).isZero();
+        verify(balanceLedgerRepositoryPort, never()).markSnapshotted(anyList());
+        verifyNoInteractions(balanceRepositoryPort);
+    }
+
+    private Balance balance(Long userId, String amount) {
+        return Balance.builder()
+                .userId(userId)
+                .amount(new BigDecimal(amount))
+                .build();
+    }
+
+    private BalanceLedger ledger(Long id, BalanceLedger entry) {
+        entry.setId(id);
+        return entry;
+    }
+}
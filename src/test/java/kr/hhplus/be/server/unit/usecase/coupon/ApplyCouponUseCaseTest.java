@@ -85,4 +85,20 @@ class ApplyCouponUseCaseTest {
             
         
     }
-}
\ No newline at end of file
+    
+    @Test
+    @DisplayName("성공 - 미리 읽은 캐시 쿠폰이 있으면 데이터베이스를 조회하지 않는다")
+    void execute_WithCachedCoupon_SkipsRepository() {
+        // given
+        Long couponId = 1L;
+        BigDecimal originalAmount = new BigDecimal("100000");
+        
+        // when
+        BigDecimal result = applyCouponUseCase.execute(originalAmount, couponId, testCoupon);
+        
+        // then
+        assertThat(result.compareTo(new BigDecimal("90000"))).isEqualTo(0);
+        verify(couponRepositoryPort, never()).findById(any());
+        verify(cachePort, never()).get(any(), any());
+    }
+}
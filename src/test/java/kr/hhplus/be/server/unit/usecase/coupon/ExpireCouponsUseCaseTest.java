@@ -1,237 +1,257 @@
 package kr.hhplus.be.server.unit.usecase.coupon;
 
+import kr.hhplus.be.server.domain.dto.ExpiringCouponHistoryDto;
 import kr.hhplus.be.server.domain.entity.Coupon;
 import kr.hhplus.be.server.domain.entity.CouponHistory;
-import kr.hhplus.be.server.domain.entity.User;
 import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
-import kr.hhplus.be.server.domain.enums.CouponStatus;
 import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
-import kr.hhplus.be.server.domain.port.cache.CachePort;
-import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
 import kr.hhplus.be.server.domain.usecase.coupon.ExpireCouponsUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 @DisplayName("ExpireCouponsUseCase 단위 테스트")
 class ExpireCouponsUseCaseTest {
 
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
     @Mock
     private CouponRepositoryPort couponRepositoryPort;
-    
+
     @Mock
     private CouponHistoryRepositoryPort couponHistoryRepositoryPort;
-    
-    @Mock
-    private CachePort cachePort;
-    
+
     @Mock
-    private KeyGenerator keyGenerator;
+    private CouponWalletPort couponWalletPort;
 
     private ExpireCouponsUseCase expireCouponsUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        expireCouponsUseCase = new ExpireCouponsUseCase(couponRepositoryPort, couponHistoryRepositoryPort, cachePort, keyGenerator);
+        expireCouponsUseCase = new ExpireCouponsUseCase(transactionTemplate, couponRepositoryPort, couponHistoryRepositoryPort, couponWalletPort);
+        ReflectionTestUtils.setField(expireCouponsUseCase, "chunkSize", 2);
+        ReflectionTestUtils.setField(expireCouponsUseCase, "chunkPauseMs", 0L);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(couponHistoryRepositoryPort.updateStatusByIds(anyCollection(), any(), any(), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> ((java.util.Collection<?>) invocation.getArgument(0)).size());
+        when(couponRepositoryPort.findIdsByEndDateBefore(any(LocalDateTime.class))).thenReturn(List.of(7L));
     }
 
     @Test
-    @DisplayName("만료된 쿠폰들의 상태 업데이트 성공")
+    @DisplayName("만료된 쿠폰과 히스토리를 청크 단위 UPDATE로 처리한다")
     void expireCoupons_Success() {
         // given
-        List<Coupon> expiredCoupons = List.of(
-                createExpiredCoupon(1L, "EXPIRED1", CouponStatus.ACTIVE),
-                createExpiredCoupon(2L, "EXPIRED2", CouponStatus.SOLD_OUT)
-        );
-        
-        List<CouponHistory> expiredHistories = List.of(
-                createExpiredCouponHistory(1L, "EXPIRED1"),
-                createExpiredCouponHistory(2L, "EXPIRED2")
-        );
-        
-        when(couponRepositoryPort.findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED))))
-                .thenReturn(expiredCoupons);
-        when(couponHistoryRepositoryPort.findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED)))
-                .thenReturn(expiredHistories);
-        when(couponRepositoryPort.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
-        when(couponHistoryRepositoryPort.save(any(CouponHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2)))
+                .thenReturn(2, 1);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(history(1L, 10L), history(2L, 20L)))
+                .thenReturn(List.of(history(3L, 10L)));
 
         // when
         expireCouponsUseCase.execute();
 
         // then
-        verify(couponRepositoryPort).findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED)));
-        verify(couponHistoryRepositoryPort).findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED));
-        verify(couponRepositoryPort, times(2)).save(any(Coupon.class));
-        verify(couponHistoryRepositoryPort, times(2)).save(any(CouponHistory.class));
+        verify(couponRepositoryPort, times(2)).expireCouponsInChunk(any(LocalDateTime.class), eq(2));
+        verify(couponHistoryRepositoryPort).updateStatusByIds(eq(List.of(1L, 2L)), eq(CouponHistoryStatus.ISSUED), eq(CouponHistoryStatus.EXPIRED), any(LocalDateTime.class));
+        verify(couponHistoryRepositoryPort).updateStatusByIds(eq(List.of(3L)), eq(CouponHistoryStatus.ISSUED), eq(CouponHistoryStatus.EXPIRED), any(LocalDateTime.class));
+        verify(couponRepositoryPort, never()).save(any(Coupon.class));
+        verify(couponHistoryRepositoryPort, never()).save(any(CouponHistory.class));
+    }
+
+    @Test
+    @DisplayName("청크마다 별도 트랜잭션으로 실행한다")
+    void expireCoupons_TransactionPerChunk() {
+        // given
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2)))
+                .thenReturn(2, 2, 0);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(history(1L, 10L), history(2L, 20L)))
+                .thenReturn(List.of());
+
+        // when
+        expireCouponsUseCase.execute();
+
+        // then - 쿠폰 3개 청크 + 히스토리 2개 청크
+        verify(transactionTemplate, times(5)).execute(any());
     }
 
     @Test
     @DisplayName("만료될 쿠폰이 없는 경우")
     void expireCoupons_NoCouponsToExpire() {
         // given
-        when(couponRepositoryPort.findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED))))
-                .thenReturn(List.of());
-        when(couponHistoryRepositoryPort.findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED)))
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
                 .thenReturn(List.of());
 
         // when
         expireCouponsUseCase.execute();
 
         // then
-        verify(couponRepositoryPort).findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED)));
-        verify(couponHistoryRepositoryPort).findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED));
-        verify(couponRepositoryPort, never()).save(any(Coupon.class));
-        verify(couponHistoryRepositoryPort, never()).save(any(CouponHistory.class));
+        verify(couponRepositoryPort, times(1)).expireCouponsInChunk(any(LocalDateTime.class), eq(2));
+        verify(couponHistoryRepositoryPort, never()).updateStatusByIds(anyCollection(), any(), any(), any());
+        verify(couponWalletPort, never()).remove(anyLong(), anyCollection());
     }
 
     @Test
-    @DisplayName("쿠폰만 만료되고 히스토리는 없는 경우")
+    @DisplayName("쿠폰만 만료되고 히스토리는 없으면 지갑을 갱신하지 않는다")
     void expireCoupons_OnlyCouponsExpire() {
         // given
-        List<Coupon> expiredCoupons = List.of(
-                createExpiredCoupon(1L, "EXPIRED1", CouponStatus.ACTIVE)
-        );
-        
-        when(couponRepositoryPort.findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED))))
-                .thenReturn(expiredCoupons);
-        when(couponHistoryRepositoryPort.findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED)))
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(1);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
                 .thenReturn(List.of());
-        when(couponRepositoryPort.save(any(Coupon.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
         expireCouponsUseCase.execute();
 
         // then
-        verify(couponRepositoryPort, times(1)).save(any(Coupon.class));
-        verify(couponHistoryRepositoryPort, never()).save(any(CouponHistory.class));
+        verify(couponHistoryRepositoryPort, never()).updateStatusByIds(anyCollection(), any(), any(), any());
+        verify(couponWalletPort, never()).remove(anyLong(), anyCollection());
     }
 
     @Test
-    @DisplayName("히스토리만 만료되고 쿠폰은 없는 경우")
-    void expireCoupons_OnlyHistoriesExpire() {
+    @DisplayName("만료된 히스토리를 사용자별로 묶어 쿠폰 지갑에서 제거한다")
+    void expireCoupons_RemovesFromAffectedWallets() {
         // given
-        List<CouponHistory> expiredHistories = List.of(
-                createExpiredCouponHistory(1L, "EXPIRED1")
-        );
-        
-        when(couponRepositoryPort.findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED))))
-                .thenReturn(List.of());
-        when(couponHistoryRepositoryPort.findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED)))
-                .thenReturn(expiredHistories);
-        when(couponHistoryRepositoryPort.save(any(CouponHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(history(1L, 10L), history(2L, 10L)))
+                .thenReturn(List.of(history(3L, 30L)));
 
         // when
         expireCouponsUseCase.execute();
 
         // then
-        verify(couponRepositoryPort, never()).save(any(Coupon.class));
-        verify(couponHistoryRepositoryPort, times(1)).save(any(CouponHistory.class));
+        verify(couponWalletPort).remove(10L, List.of(1L, 2L));
+        verify(couponWalletPort).remove(30L, List.of(3L));
+        verify(couponWalletPort, times(2)).remove(anyLong(), anyCollection());
     }
 
     @Test
-    @DisplayName("쿠폰 상태 업데이트 중 예외 발생해도 다른 쿠폰은 계속 처리")
-    void expireCoupons_PartialFailure() {
+    @DisplayName("조회 이후 사용되어 만료되지 않은 히스토리는 지갑에서 제거하지 않는다")
+    void expireCoupons_RemovesOnlyChangedRows() {
         // given
-        Coupon successCoupon = createExpiredCoupon(1L, "SUCCESS", CouponStatus.ACTIVE);
-        Coupon failCoupon = createExpiredCoupon(2L, "FAIL", CouponStatus.ACTIVE);
-        
-        List<Coupon> expiredCoupons = List.of(successCoupon, failCoupon);
-        
-        when(couponRepositoryPort.findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED))))
-                .thenReturn(expiredCoupons);
-        when(couponHistoryRepositoryPort.findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED)))
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(history(1L, 10L), history(2L, 20L)))
                 .thenReturn(List.of());
-        
-        when(couponRepositoryPort.save(successCoupon)).thenReturn(successCoupon);
-        when(couponRepositoryPort.save(failCoupon)).thenThrow(new RuntimeException("Save failed"));
+        when(couponHistoryRepositoryPort.updateStatusByIds(anyCollection(), any(), any(), any(LocalDateTime.class))).thenReturn(1);
+        when(couponHistoryRepositoryPort.findIdsByIdInAndStatus(List.of(1L, 2L), CouponHistoryStatus.EXPIRED))
+                .thenReturn(List.of(2L));
 
         // when
         expireCouponsUseCase.execute();
 
         // then
-        verify(couponRepositoryPort, times(2)).save(any(Coupon.class));
+        verify(couponWalletPort).remove(20L, List.of(2L));
+        verify(couponWalletPort, never()).remove(eq(10L), anyCollection());
     }
 
     @Test
-    @DisplayName("쿠폰 히스토리 상태 업데이트 중 예외 발생해도 다른 히스토리는 계속 처리")
-    void expireCoupons_HistoryPartialFailure() {
+    @DisplayName("청크가 커밋될 때마다 해당 청크의 지갑을 갱신한다")
+    void expireCoupons_UpdatesWalletsPerChunk() {
         // given
-        CouponHistory successHistory = createExpiredCouponHistory(1L, "SUCCESS");
-        CouponHistory failHistory = createExpiredCouponHistory(2L, "FAIL");
-        
-        List<CouponHistory> expiredHistories = List.of(successHistory, failHistory);
-        
-        when(couponRepositoryPort.findExpiredCouponsNotInStatus(any(LocalDateTime.class), 
-                eq(List.of(CouponStatus.EXPIRED, CouponStatus.DISABLED))))
-                .thenReturn(List.of());
-        when(couponHistoryRepositoryPort.findExpiredHistoriesInStatus(any(LocalDateTime.class), eq(CouponHistoryStatus.ISSUED)))
-                .thenReturn(expiredHistories);
-        
-        when(couponHistoryRepositoryPort.save(successHistory)).thenReturn(successHistory);
-        when(couponHistoryRepositoryPort.save(failHistory)).thenThrow(new RuntimeException("Save failed"));
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(history(1L, 10L), history(2L, 20L)))
+                .thenReturn(List.of(history(3L, 10L)));
+
+        // when
+        expireCouponsUseCase.execute();
+
+        // then - 첫 청크의 지갑 갱신이 다음 청크 조회보다 먼저 실행됨
+        InOrder inOrder = inOrder(couponHistoryRepositoryPort, couponWalletPort);
+        inOrder.verify(couponHistoryRepositoryPort).updateStatusByIds(eq(List.of(1L, 2L)), any(), any(), any(LocalDateTime.class));
+        inOrder.verify(couponWalletPort).remove(10L, List.of(1L));
+        inOrder.verify(couponHistoryRepositoryPort).findExpiringHistories(anyCollection(), any(), anyLong(), any(Pageable.class));
+        inOrder.verify(couponWalletPort).remove(10L, List.of(3L));
+        verify(couponHistoryRepositoryPort, never()).findIdsByIdInAndStatus(anyCollection(), any());
+    }
+
+    @Test
+    @DisplayName("종료일이 지난 쿠폰 ID로 히스토리를 조회하고 마지막 ID를 커서로 다음 청크를 읽는다")
+    void expireCoupons_PagesHistoriesByCouponIdsWithCursor() {
+        // given
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+        when(couponRepositoryPort.findIdsByEndDateBefore(any(LocalDateTime.class))).thenReturn(List.of(7L, 8L));
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(history(11L, 10L), history(15L, 20L)))
+                .thenReturn(List.of(history(19L, 30L)));
+
+        // when
+        expireCouponsUseCase.execute();
+
+        // then
+        verify(couponHistoryRepositoryPort).findExpiringHistories(eq(List.of(7L, 8L)), eq(CouponHistoryStatus.ISSUED), eq(0L), any(Pageable.class));
+        verify(couponHistoryRepositoryPort).findExpiringHistories(eq(List.of(7L, 8L)), eq(CouponHistoryStatus.ISSUED), eq(15L), any(Pageable.class));
+        verify(couponHistoryRepositoryPort, times(2)).findExpiringHistories(anyCollection(), any(), anyLong(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("종료일이 지난 쿠폰이 없으면 히스토리를 조회하지 않는다")
+    void expireCoupons_NoExpiredCouponIds() {
+        // given
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+        when(couponRepositoryPort.findIdsByEndDateBefore(any(LocalDateTime.class))).thenReturn(List.of());
 
         // when
         expireCouponsUseCase.execute();
 
         // then
-        verify(couponHistoryRepositoryPort, times(2)).save(any(CouponHistory.class));
+        verify(couponHistoryRepositoryPort, never()).findExpiringHistories(any(), any(), any(), any());
     }
 
-    private Coupon createExpiredCoupon(Long id, String code, CouponStatus status) {
-        return Coupon.builder()
-                .id(id)
-                .code(code)
-                .discountRate(new BigDecimal("0.10"))
-                .maxIssuance(100)
-                .issuedCount(50)
-                .startDate(LocalDateTime.now().minusDays(10))
-                .endDate(LocalDateTime.now().minusDays(1)) // 이미 만료됨
-                .status(status)
-                .build();
+    @Test
+    @DisplayName("지갑 갱신 실패는 배치 결과에 영향을 주지 않는다")
+    void expireCoupons_WalletFailureIgnored() {
+        // given
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2))).thenReturn(0);
+        when(couponHistoryRepositoryPort.findExpiringHistories(anyCollection(), eq(CouponHistoryStatus.ISSUED), anyLong(), any(Pageable.class)))
+                .thenReturn(List.of(history(1L, 10L)));
+        doThrow(new RuntimeException("Redis 오류")).when(couponWalletPort).remove(anyLong(), anyCollection());
+
+        // when
+        expireCouponsUseCase.execute();
+
+        // then
+        verify(couponHistoryRepositoryPort).updateStatusByIds(eq(List.of(1L)), any(), any(), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("청크 UPDATE 실패 시 예외를 전파한다")
+    void expireCoupons_ChunkFailure() {
+        // given
+        when(couponRepositoryPort.expireCouponsInChunk(any(LocalDateTime.class), eq(2)))
+                .thenThrow(new RuntimeException("Update failed"));
+
+        // when & then
+        assertThatThrownBy(() -> expireCouponsUseCase.execute())
+                .isInstanceOf(RuntimeException.class);
+        verify(couponHistoryRepositoryPort, never()).findExpiringHistories(any(), any(), any(), any());
     }
 
-    private CouponHistory createExpiredCouponHistory(Long id, String couponCode) {
-        User user = User.builder()
-                .id(1L)
-                .name("테스트 사용자")
-                .build();
-        
-        Coupon expiredCoupon = Coupon.builder()
-                .id(id)
-                .code(couponCode)
-                .discountRate(new BigDecimal("0.10"))
-                .maxIssuance(100)
-                .issuedCount(50)
-                .startDate(LocalDateTime.now().minusDays(10))
-                .endDate(LocalDateTime.now().minusDays(1)) // 이미 만료됨
-                .status(CouponStatus.EXPIRED)
-                .build();
-
-        return CouponHistory.builder()
-                .id(id)
-                .userId(user.getId())
-                .couponId(expiredCoupon.getId())
-                .issuedAt(LocalDateTime.now().minusDays(5))
-                .status(CouponHistoryStatus.ISSUED)
-                .build();
+    private ExpiringCouponHistoryDto history(Long historyId, Long userId) {
+        return new ExpiringCouponHistoryDto(historyId, userId);
     }
-}
\ No newline at end of file
+}
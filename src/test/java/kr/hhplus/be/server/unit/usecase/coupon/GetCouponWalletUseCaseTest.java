@@ -0,0 +1,173 @@
+package kr.hhplus.be.server.unit.usecase.coupon;
+
+import kr.hhplus.be.server.domain.dto.CouponWalletCursor;
+import kr.hhplus.be.server.domain.dto.CouponWalletEntryDto;
+import kr.hhplus.be.server.domain.dto.CouponWalletPage;
+import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.enums.CouponHistoryStatus;
+import kr.hhplus.be.server.domain.exception.UserException;
+import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
+import kr.hhplus.be.server.domain.usecase.coupon.GetCouponWalletUseCase;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("GetCouponWalletUseCase 단위 테스트")
+class GetCouponWalletUseCaseTest {
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    @Mock
+    private CouponHistoryRepositoryPort couponHistoryRepositoryPort;
+
+    @Mock
+    private CouponWalletPort couponWalletPort;
+
+    private GetCouponWalletUseCase getCouponWalletUseCase;
+
+    private final Long userId = 1L;
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        getCouponWalletUseCase = new GetCouponWalletUseCase(userRepositoryPort, couponHistoryRepositoryPort, couponWalletPort);
+        when(userRepositoryPort.existsById(userId)).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("지갑에서 조회한 ID 순서대로 쿠폰을 반환하고 다음 커서를 만든다")
+    void returnsPageInWalletOrder() {
+        // given
+        CouponHistory newer = history(12L, CouponHistoryStatus.ISSUED, baseTime.plusMinutes(1));
+        CouponHistory older = history(11L, CouponHistoryStatus.ISSUED, baseTime);
+        when(couponWalletPort.findPage(userId, null, 2)).thenReturn(Optional.of(List.of(12L, 11L)));
+        when(couponHistoryRepositoryPort.findAllById(List.of(12L, 11L))).thenReturn(List.of(older, newer));
+
+        // when
+        CouponWalletPage page = getCouponWalletUseCase.execute(userId, null, 2);
+
+        // then
+        assertThat(page.histories()).containsExactly(newer, older);
+        assertThat(page.nextCursor()).isEqualTo(CouponWalletCursor.of(older).encode());
+        verify(couponWalletPort, never()).remove(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("마지막 페이지는 다음 커서가 없다")
+    void lastPageHasNoCursor() {
+        // given
+        CouponHistory only = history(11L, CouponHistoryStatus.ISSUED, baseTime);
+        when(couponWalletPort.findPage(userId, null, 10)).thenReturn(Optional.of(List.of(11L)));
+        when(couponHistoryRepositoryPort.findAllById(List.of(11L))).thenReturn(List.of(only));
+
+        // when
+        CouponWalletPage page = getCouponWalletUseCase.execute(userId, null, 10);
+
+        // then
+        assertThat(page.histories()).containsExactly(only);
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("DB에서 사용/만료된 항목은 제외하고 지갑에서도 제거한다")
+    void removesStaleEntries() {
+        // given
+        CouponHistory usable = history(12L, CouponHistoryStatus.ISSUED, baseTime.plusMinutes(1));
+        CouponHistory used = history(11L, CouponHistoryStatus.USED, baseTime);
+        when(couponWalletPort.findPage(userId, null, 2)).thenReturn(Optional.of(List.of(12L, 11L)));
+        when(couponHistoryRepositoryPort.findAllById(List.of(12L, 11L))).thenReturn(List.of(usable, used));
+
+        // when
+        CouponWalletPage page = getCouponWalletUseCase.execute(userId, null, 2);
+
+        // then - 커서는 걸러진 항목 기준으로도 이어져야 함
+        assertThat(page.histories()).containsExactly(usable);
+        assertThat(page.nextCursor()).isEqualTo(CouponWalletCursor.of(used).encode());
+        verify(couponWalletPort).remove(userId, List.of(11L));
+    }
+
+    @Test
+    @DisplayName("지갑이 구성되지 않았으면 DB에서 구성한 뒤 다시 조회한다")
+    void loadsWalletOnMiss() {
+        // given
+        CouponHistory history = history(11L, CouponHistoryStatus.ISSUED, baseTime);
+        List<CouponWalletEntryDto> entries = List.of(new CouponWalletEntryDto(11L, baseTime));
+        when(couponWalletPort.findPage(userId, null, 10))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(List.of(11L)));
+        when(couponHistoryRepositoryPort.findWalletEntries(userId, CouponHistoryStatus.ISSUED)).thenReturn(entries);
+        when(couponHistoryRepositoryPort.findAllById(List.of(11L))).thenReturn(List.of(history));
+
+        // when
+        CouponWalletPage page = getCouponWalletUseCase.execute(userId, null, 10);
+
+        // then
+        assertThat(page.histories()).containsExactly(history);
+        verify(couponWalletPort).load(userId, entries);
+    }
+
+    @Test
+    @DisplayName("지갑을 사용할 수 없으면 DB keyset 쿼리로 커서 다음 페이지를 조회한다")
+    void fallsBackToKeysetQuery() {
+        // given
+        CouponHistory cursorHistory = history(20L, CouponHistoryStatus.ISSUED, baseTime.plusMinutes(5));
+        String cursor = CouponWalletCursor.of(cursorHistory).encode();
+        CouponHistory next = history(11L, CouponHistoryStatus.ISSUED, baseTime);
+        when(couponWalletPort.findPage(eq(userId), any(CouponWalletCursor.class), eq(1))).thenReturn(Optional.empty());
+        when(couponHistoryRepositoryPort.findWalletEntries(userId, CouponHistoryStatus.ISSUED)).thenReturn(List.of());
+        when(couponHistoryRepositoryPort.findWalletPageAfter(eq(userId), eq(CouponHistoryStatus.ISSUED),
+                eq(cursorHistory.getIssuedAt()), eq(20L), any(Pageable.class))).thenReturn(List.of(next));
+
+        // when
+        CouponWalletPage page = getCouponWalletUseCase.execute(userId, cursor, 1);
+
+        // then
+        assertThat(page.histories()).containsExactly(next);
+        assertThat(page.nextCursor()).isEqualTo(CouponWalletCursor.of(next).encode());
+        verify(couponHistoryRepositoryPort, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외가 발생한다")
+    void rejectsMalformedCursor() {
+        assertThatThrownBy(() -> getCouponWalletUseCase.execute(userId, "abc", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(couponWalletPort);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자는 예외가 발생한다")
+    void rejectsUnknownUser() {
+        when(userRepositoryPort.existsById(999L)).thenReturn(false);
+
+        assertThatThrownBy(() -> getCouponWalletUseCase.execute(999L, null, 10))
+                .isInstanceOf(UserException.NotFound.class);
+        verifyNoInteractions(couponWalletPort);
+    }
+
+    private CouponHistory history(Long id, CouponHistoryStatus status, LocalDateTime issuedAt) {
+        return TestBuilder.CouponHistoryBuilder.defaultCouponHistory()
+                .id(id)
+                .userId(userId)
+                .status(status)
+                .issuedAt(issuedAt)
+                .build();
+    }
+}
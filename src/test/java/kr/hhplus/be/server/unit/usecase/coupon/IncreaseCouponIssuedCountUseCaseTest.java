@@ -0,0 +1,129 @@
+package kr.hhplus.be.server.unit.usecase.coupon;
+
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.entity.CouponIssueCounter;
+import kr.hhplus.be.server.domain.port.storage.CouponIssueCounterRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.coupon.IncreaseCouponIssuedCountUseCase;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("IncreaseCouponIssuedCountUseCase 단위 테스트")
+class IncreaseCouponIssuedCountUseCaseTest {
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private CouponIssueCounterRepositoryPort couponIssueCounterRepositoryPort;
+
+    private IncreaseCouponIssuedCountUseCase increaseCouponIssuedCountUseCase;
+
+    private final Coupon coupon = TestBuilder.CouponBuilder.defaultCoupon()
+            .id(1L)
+            .withQuantity(100, 50)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        increaseCouponIssuedCountUseCase = new IncreaseCouponIssuedCountUseCase(couponRepositoryPort, couponIssueCounterRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("기본 모드에서는 쿠폰 행을 조건부 UPDATE로 증가시킨다")
+    void defaultMode_updatesCouponRow() {
+        // given
+        when(couponRepositoryPort.increaseIssuedCount(1L, 3)).thenReturn(1);
+
+        // when
+        boolean result = increaseCouponIssuedCountUseCase.execute(coupon, 3);
+
+        // then
+        assertThat(result).isTrue();
+        verifyNoInteractions(couponIssueCounterRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("슬롯 카운터 모드에서는 쿠폰 행 대신 슬롯 하나를 할당량 조건부 UPDATE로 증가시키고 롤업 대상으로 기록한다")
+    void slotMode_incrementsSlotWithinQuota() {
+        // given - 한도 100, 슬롯 4개 → 슬롯별 할당량 25
+        enableSlotCounter(4);
+        when(couponIssueCounterRepositoryPort.incrementSlotWithinQuota(eq(1L), anyInt(), eq(2), eq(25), any(LocalDateTime.class)))
+                .thenReturn(1);
+
+        // when
+        boolean result = increaseCouponIssuedCountUseCase.execute(coupon, 2);
+
+        // then
+        assertThat(result).isTrue();
+        verify(couponIssueCounterRepositoryPort, times(4)).insertSlotIfAbsent(eq(1L), anyInt(), any(LocalDateTime.class));
+        verify(couponIssueCounterRepositoryPort, times(1))
+                .incrementSlotWithinQuota(eq(1L), anyInt(), eq(2), eq(25), any(LocalDateTime.class));
+        verify(couponRepositoryPort, never()).increaseIssuedCount(anyLong(), anyInt());
+        assertThat(increaseCouponIssuedCountUseCase.drainDirtyCouponIds()).containsExactly(1L);
+        assertThat(increaseCouponIssuedCountUseCase.drainDirtyCouponIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("슬롯 카운터 모드에서 모든 슬롯의 할당량이 차면 증가시키지 않는다")
+    void slotMode_rejectsWhenAllSlotsFull() {
+        // given
+        enableSlotCounter(4);
+        when(couponIssueCounterRepositoryPort.incrementSlotWithinQuota(anyLong(), anyInt(), anyInt(), anyInt(), any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        // when
+        boolean result = increaseCouponIssuedCountUseCase.execute(coupon, 1);
+
+        // then
+        assertThat(result).isFalse();
+        verify(couponIssueCounterRepositoryPort, times(4))
+                .incrementSlotWithinQuota(eq(1L), anyInt(), eq(1), eq(25), any(LocalDateTime.class));
+        assertThat(increaseCouponIssuedCountUseCase.drainDirtyCouponIds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("묶음 수량이 한 슬롯의 여유보다 크면 슬롯별 남은 할당량만큼 나누어 반영한다")
+    void slotMode_spreadsBatchAcrossSlots() {
+        // given - 슬롯별 할당량 25, 슬롯 0~3에 각각 20개 발급됨 → 남은 할당량 20
+        enableSlotCounter(4);
+        when(couponIssueCounterRepositoryPort.incrementSlotWithinQuota(eq(1L), anyInt(), eq(8), eq(25), any(LocalDateTime.class)))
+                .thenReturn(0);
+        when(couponIssueCounterRepositoryPort.incrementSlotWithinQuota(eq(1L), anyInt(), eq(5), eq(25), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(couponIssueCounterRepositoryPort.incrementSlotWithinQuota(eq(1L), anyInt(), eq(3), eq(25), any(LocalDateTime.class)))
+                .thenReturn(1);
+        when(couponIssueCounterRepositoryPort.findByCouponId(1L)).thenReturn(List.of(
+                counter(0, 20), counter(1, 20), counter(2, 20), counter(3, 20)));
+
+        // when
+        boolean result = increaseCouponIssuedCountUseCase.execute(coupon, 8);
+
+        // then
+        assertThat(result).isTrue();
+        verify(couponIssueCounterRepositoryPort).incrementSlotWithinQuota(eq(1L), eq(0), eq(5), eq(25), any(LocalDateTime.class));
+        verify(couponIssueCounterRepositoryPort).incrementSlotWithinQuota(eq(1L), eq(1), eq(3), eq(25), any(LocalDateTime.class));
+    }
+
+    private void enableSlotCounter(int slotCount) {
+        ReflectionTestUtils.setField(increaseCouponIssuedCountUseCase, "slotCounterEnabled", true);
+        ReflectionTestUtils.setField(increaseCouponIssuedCountUseCase, "slotCount", slotCount);
+    }
+
+    private CouponIssueCounter counter(int slot, int issuedCount) {
+        return CouponIssueCounter.builder().couponId(1L).slot(slot).issuedCount(issuedCount).build();
+    }
+}
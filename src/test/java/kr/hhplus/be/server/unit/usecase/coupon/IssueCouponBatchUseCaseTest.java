@@ -0,0 +1,334 @@
+package kr.hhplus.be.server.unit.usecase.coupon;
+
+import kr.hhplus.be.server.domain.entity.Coupon;
+import kr.hhplus.be.server.domain.entity.CouponHistory;
+import kr.hhplus.be.server.domain.entity.User;
+import kr.hhplus.be.server.domain.enums.CouponStatus;
+import kr.hhplus.be.server.domain.event.CouponRequestEvent;
+import kr.hhplus.be.server.domain.event.CouponResultEvent.ResultCode;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.CouponIssueCounterRepositoryPort;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.filter.CouponIssueFilterPort;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.service.CouponLifecycleScheduler;
+import kr.hhplus.be.server.domain.usecase.coupon.IncreaseCouponIssuedCountUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponBatchUseCase;
+import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponBatchUseCase.IssueResult;
+import kr.hhplus.be.server.domain.exception.*;
+import kr.hhplus.be.server.util.TestBuilder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * IssueCouponBatchUseCase 단위 테스트
+ *
+ * Why: 쿠폰별 일괄 발급이 요청 단위 발급과 같은 규칙(중복, 한도, 상태)을 지키면서 쿼리를 묶어 처리하는지 검증
+ * How: 배치 요청 시나리오별로 결과 코드와 저장소 호출 횟수를 검증
+ */
+@DisplayName("쿠폰 일괄 발급 유스케이스")
+class IssueCouponBatchUseCaseTest {
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    @Mock
+    private CouponRepositoryPort couponRepositoryPort;
+
+    @Mock
+    private CouponHistoryRepositoryPort couponHistoryRepositoryPort;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private CouponLifecycleScheduler couponLifecycleScheduler;
+
+    @Mock
+    private CouponIssueFilterPort couponIssueFilterPort;
+
+    @Mock
+    private CouponIssueCounterRepositoryPort couponIssueCounterRepositoryPort;
+
+    @Mock
+    private CouponWalletPort couponWalletPort;
+
+    private IssueCouponBatchUseCase issueCouponBatchUseCase;
+
+    private final Long couponId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        issueCouponBatchUseCase = new IssueCouponBatchUseCase(
+                userRepositoryPort, couponRepositoryPort, couponHistoryRepositoryPort, cachePort, keyGenerator, couponLifecycleScheduler, couponIssueFilterPort,
+                new IncreaseCouponIssuedCountUseCase(couponRepositoryPort, couponIssueCounterRepositoryPort),
+                couponWalletPort
+        );
+        when(couponIssueFilterPort.mightContain(anyLong(), anyLong())).thenReturn(true);
+
+        when(keyGenerator.generateCouponCounterKey(couponId)).thenReturn("coupon:counter:coupon_1");
+        when(keyGenerator.generateCouponUserKey(eq(couponId), anyLong()))
+                .thenAnswer(invocation -> "coupon:user:coupon_1_user_" + invocation.getArgument(1));
+        when(couponRepositoryPort.increaseIssuedCount(eq(couponId), anyInt())).thenReturn(1);
+
+        AtomicLong idSequence = new AtomicLong(100);
+        when(couponHistoryRepositoryPort.saveAll(anyList())).thenAnswer(invocation -> {
+            List<CouponHistory> histories = invocation.getArgument(0);
+            histories.forEach(history -> history.setId(idSequence.incrementAndGet()));
+            return histories;
+        });
+    }
+
+    @Test
+    @DisplayName("쿠폰별로 발급 수량 UPDATE 1회와 이력 일괄 저장으로 처리한다")
+    void issuesBatchWithSingleUpdate() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L, 2L, 3L);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of());
+
+        List<CouponRequestEvent> requests = List.of(request(1L), request(2L), request(3L));
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, requests);
+
+        // then
+        assertThat(results).hasSize(3);
+        assertThat(results).allMatch(IssueResult::isSuccess);
+        assertThat(results).extracting(IssueResult::couponHistoryId).doesNotContainNull();
+
+        verify(couponRepositoryPort, times(1)).increaseIssuedCount(couponId, 3);
+        verify(couponHistoryRepositoryPort, times(1)).saveAll(anyList());
+        verify(couponHistoryRepositoryPort, never()).save(any(CouponHistory.class));
+        verify(couponRepositoryPort, never()).save(any(Coupon.class));
+    }
+
+    @Test
+    @DisplayName("남은 수량을 초과한 요청은 수신 순서대로 재고 부족 처리된다")
+    void rejectsRequestsBeyondRemainingQuantity() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(10, 8).build());
+        givenUsers(1L, 2L, 3L);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of());
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L), request(3L)));
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .containsExactly(ResultCode.SUCCESS, ResultCode.SUCCESS, ResultCode.OUT_OF_STOCK);
+        verify(couponRepositoryPort).increaseIssuedCount(couponId, 2);
+    }
+
+    @Test
+    @DisplayName("이미 발급받았거나 배치 내에서 중복된 사용자는 중복 발급 처리된다")
+    void rejectsDuplicateUsers() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L, 2L);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of(1L));
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L), request(2L)));
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .containsExactly(ResultCode.ALREADY_ISSUED, ResultCode.SUCCESS, ResultCode.ALREADY_ISSUED);
+        verify(couponRepositoryPort).increaseIssuedCount(couponId, 1);
+    }
+
+    @Test
+    @DisplayName("Redis 선착순 카운터가 있는 쿠폰은 Redis 검증을 통과한 요청만 발급한다")
+    void acceptsOnlyRedisAdmittedRequests() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L, 2L);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of());
+        when(cachePort.getCouponCount("coupon:counter:coupon_1")).thenReturn(1L);
+        when(cachePort.hasCouponIssued("coupon:user:coupon_1_user_1")).thenReturn(true);
+        when(cachePort.hasCouponIssued("coupon:user:coupon_1_user_2")).thenReturn(false);
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L)));
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .containsExactly(ResultCode.SUCCESS, ResultCode.OUT_OF_STOCK);
+    }
+
+    @Test
+    @DisplayName("재고 샤딩 모드에서는 샤드 재고가 분배된 쿠폰이면 Redis 검증을 통과한 요청만 발급한다")
+    void acceptsOnlyRedisAdmittedRequestsInShardMode() {
+        // given
+        ReflectionTestUtils.setField(issueCouponBatchUseCase, "stockShardingEnabled", true);
+        ReflectionTestUtils.setField(issueCouponBatchUseCase, "stockShardCount", 2);
+        List<String> shardKeys = List.of("coupon:stock:coupon_1_shard_0", "coupon:stock:coupon_1_shard_1");
+        when(keyGenerator.generateCouponStockShardKeys(couponId, 2)).thenReturn(shardKeys);
+        when(keyGenerator.generateCouponSoldOutKey(couponId)).thenReturn("coupon:soldout:coupon_1");
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L, 2L);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of());
+        when(cachePort.hasCouponShardStock(shardKeys, "coupon:soldout:coupon_1")).thenReturn(true);
+        when(cachePort.hasCouponIssued("coupon:user:coupon_1_user_1")).thenReturn(true);
+        when(cachePort.hasCouponIssued("coupon:user:coupon_1_user_2")).thenReturn(false);
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L)));
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .containsExactly(ResultCode.SUCCESS, ResultCode.OUT_OF_STOCK);
+        verify(cachePort, never()).getCouponCount(anyString());
+    }
+
+    @Test
+    @DisplayName("만료된 쿠폰은 모든 요청이 만료 처리되고 DB를 갱신하지 않는다")
+    void rejectsAllWhenCouponExpired() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.expiredCoupon().id(couponId).build());
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L)));
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .containsOnly(ResultCode.EXPIRED);
+        verify(couponRepositoryPort, never()).increaseIssuedCount(anyLong(), anyInt());
+        verify(couponHistoryRepositoryPort, never()).saveAll(anyList());
+    }
+
+    @Test
+    @DisplayName("타이밍 휠이 아직 시작 전으로 계산한 쿠폰은 모든 요청이 시작 전 처리된다")
+    void rejectsAllWhenLifecyclePhaseInactive() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        when(couponLifecycleScheduler.getPhase(couponId)).thenReturn(CouponStatus.INACTIVE);
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L)));
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .doesNotContain(ResultCode.SUCCESS);
+        verify(couponRepositoryPort, never()).increaseIssuedCount(anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("발급 필터가 양성인 사용자만 DB 중복 검증 대상으로 조회한다")
+    void queriesOnlyFilterPositiveUsers() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L, 2L, 3L);
+        when(couponIssueFilterPort.mightContain(couponId, 1L)).thenReturn(false);
+        when(couponIssueFilterPort.mightContain(couponId, 3L)).thenReturn(false);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of());
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L), request(3L)));
+
+        // then
+        assertThat(results).allMatch(IssueResult::isSuccess);
+        verify(couponHistoryRepositoryPort).findIssuedUserIds(couponId, java.util.Set.of(2L));
+        verify(couponIssueFilterPort).recordFalsePositive(couponId);
+        verify(couponIssueFilterPort, times(3)).add(eq(couponId), anyLong());
+    }
+
+    @Test
+    @DisplayName("발급 필터가 모두 음성이면 중복 검증 쿼리를 실행하지 않는다")
+    void skipsDuplicateQueryWhenAllFilterNegative() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L, 2L);
+        when(couponIssueFilterPort.mightContain(eq(couponId), anyLong())).thenReturn(false);
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L)));
+
+        // then
+        assertThat(results).allMatch(IssueResult::isSuccess);
+        verify(couponHistoryRepositoryPort, never()).findIssuedUserIds(anyLong(), anyCollection());
+    }
+
+    @Test
+    @DisplayName("DB 중복 검사 모드는 발급 필터와 무관하게 모든 요청 사용자를 DB로 검사한다")
+    void exactDuplicateCheckQueriesAllUsers() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L, 2L);
+        when(couponIssueFilterPort.mightContain(eq(couponId), anyLong())).thenReturn(false);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of(2L));
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L), request(2L)), true);
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .containsExactly(ResultCode.SUCCESS, ResultCode.ALREADY_ISSUED);
+        verify(couponHistoryRepositoryPort).findIssuedUserIds(couponId, java.util.Set.of(1L, 2L));
+        verify(couponIssueFilterPort, never()).mightContain(anyLong(), anyLong());
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 쿠폰은 모든 요청이 쿠폰 없음 처리된다")
+    void rejectsAllWhenCouponNotFound() {
+        // given
+        when(couponRepositoryPort.findById(couponId)).thenReturn(Optional.empty());
+
+        // when
+        List<IssueResult> results = issueCouponBatchUseCase.execute(couponId, List.of(request(1L)));
+
+        // then
+        assertThat(results).extracting(IssueResult::resultCode)
+                .containsOnly(ResultCode.COUPON_NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE가 실패하면 예외로 트랜잭션을 롤백시킨다")
+    void throwsWhenConditionalUpdateFails() {
+        // given
+        givenCoupon(TestBuilder.CouponBuilder.defaultCoupon().id(couponId).withQuantity(100, 0).build());
+        givenUsers(1L);
+        when(couponHistoryRepositoryPort.findIssuedUserIds(eq(couponId), anyCollection())).thenReturn(List.of());
+        when(couponRepositoryPort.increaseIssuedCount(couponId, 1)).thenReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> issueCouponBatchUseCase.execute(couponId, List.of(request(1L))))
+                .isInstanceOf(CouponException.CouponStockExceeded.class);
+        verify(couponHistoryRepositoryPort, never()).saveAll(anyList());
+    }
+
+    private void givenCoupon(Coupon coupon) {
+        when(couponRepositoryPort.findById(couponId)).thenReturn(Optional.of(coupon));
+    }
+
+    private void givenUsers(Long... userIds) {
+        List<User> users = java.util.Arrays.stream(userIds)
+                .map(id -> TestBuilder.UserBuilder.defaultUser().id(id).build())
+                .toList();
+        when(userRepositoryPort.findAllById(anyIterable())).thenReturn(users);
+    }
+
+    private CouponRequestEvent request(Long userId) {
+        return CouponRequestEvent.create(userId, couponId);
+    }
+}
@@ -7,8 +7,11 @@ import kr.hhplus.be.server.domain.enums.CouponStatus;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.CouponRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
-import kr.hhplus.be.server.domain.port.cache.CachePort;
-import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.storage.CouponIssueCounterRepositoryPort;
+import kr.hhplus.be.server.domain.port.filter.CouponIssueFilterPort;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
+import kr.hhplus.be.server.domain.service.CouponLifecycleScheduler;
+import kr.hhplus.be.server.domain.usecase.coupon.IncreaseCouponIssuedCountUseCase;
 import kr.hhplus.be.server.domain.usecase.coupon.IssueCouponUseCase;
 import kr.hhplus.be.server.domain.exception.*;
 import kr.hhplus.be.server.api.ErrorCode;
@@ -21,6 +24,7 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -30,6 +34,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
 /**
@@ -51,10 +56,16 @@ class IssueCouponUseCaseTest {
     private CouponHistoryRepositoryPort couponHistoryRepositoryPort;
     
     @Mock
-    private CachePort cachePort;
+    private CouponLifecycleScheduler couponLifecycleScheduler;
     
     @Mock
-    private KeyGenerator keyGenerator;
+    private CouponIssueFilterPort couponIssueFilterPort;
+
+    @Mock
+    private CouponIssueCounterRepositoryPort couponIssueCounterRepositoryPort;
+
+    @Mock
+    private CouponWalletPort couponWalletPort;
 
     private IssueCouponUseCase issueCouponUseCase;
 
@@ -62,8 +73,11 @@ class IssueCouponUseCaseTest {
     void setUp() {
         MockitoAnnotations.openMocks(this);
         issueCouponUseCase = new IssueCouponUseCase(
-                userRepositoryPort, couponRepositoryPort, couponHistoryRepositoryPort, cachePort, keyGenerator
+                userRepositoryPort, couponRepositoryPort, couponHistoryRepositoryPort, couponLifecycleScheduler, couponIssueFilterPort,
+                new IncreaseCouponIssuedCountUseCase(couponRepositoryPort, couponIssueCounterRepositoryPort),
+                couponWalletPort
         );
+        when(couponIssueFilterPort.mightContain(anyLong(), anyLong())).thenReturn(true);
     }
 
     // === 성공적인 쿠폰 발급 시나리오 ===
@@ -223,6 +237,128 @@ class IssueCouponUseCaseTest {
                 .hasMessage(ErrorCode.COUPON_NOT_YET_STARTED.getMessage());
     }
 
+    @Test
+    @DisplayName("타이밍 휠이 만료로 전환한 쿠폰은 종료일과 관계없이 만료 예외가 발생한다")
+    void throwsExceptionWhenLifecyclePhaseExpired() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        
+        User user = TestBuilder.UserBuilder.defaultUser().id(userId).build();
+        Coupon coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .build();
+        
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+        when(couponRepositoryPort.findById(couponId)).thenReturn(Optional.of(coupon));
+        when(couponLifecycleScheduler.getPhase(couponId)).thenReturn(CouponStatus.EXPIRED);
+        
+        // When & Then
+        assertThatThrownBy(() -> issueCouponUseCase.execute(userId, couponId))
+                .isInstanceOf(CouponException.Expired.class);
+        verify(couponRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("기간 상태가 없는 쿠폰은 타이밍 휠에 등록하고 현재 시각 기준으로 판단한다")
+    void registersCouponWhenLifecyclePhaseUnknown() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        
+        User user = TestBuilder.UserBuilder.defaultUser().id(userId).build();
+        Coupon futureStartCoupon = TestBuilder.CouponBuilder.notYetStartedCoupon()
+                .id(couponId)
+                .build();
+        
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+        when(couponRepositoryPort.findById(couponId)).thenReturn(Optional.of(futureStartCoupon));
+        when(couponLifecycleScheduler.getPhase(couponId)).thenReturn(null);
+        
+        // When & Then
+        assertThatThrownBy(() -> issueCouponUseCase.execute(userId, couponId))
+                .isInstanceOf(CouponException.CouponNotYetStarted.class);
+        verify(couponLifecycleScheduler).register(futureStartCoupon);
+    }
+
+    @Test
+    @DisplayName("발급 필터가 음성이면 중복 발급 DB 조회 없이 발급하고 필터에 추가한다")
+    void skipsDuplicateQueryWhenFilterNegative() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        
+        User user = TestBuilder.UserBuilder.defaultUser().id(userId).build();
+        Coupon coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .build();
+        
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+        when(couponRepositoryPort.findById(couponId)).thenReturn(Optional.of(coupon));
+        when(couponRepositoryPort.save(any(Coupon.class))).thenReturn(coupon);
+        when(couponHistoryRepositoryPort.save(any(CouponHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(couponIssueFilterPort.mightContain(couponId, userId)).thenReturn(false);
+        
+        // When
+        issueCouponUseCase.execute(userId, couponId);
+        
+        // Then
+        verify(couponHistoryRepositoryPort, never()).existsByUserIdAndCouponId(anyLong(), anyLong());
+        verify(couponIssueFilterPort).add(couponId, userId);
+    }
+
+    @Test
+    @DisplayName("발급 필터가 위음성이어도 유니크 제약 위반은 중복 발급으로 처리한다")
+    void rejectsDuplicateOnUniqueConstraintViolation() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        
+        User user = TestBuilder.UserBuilder.defaultUser().id(userId).build();
+        Coupon coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .build();
+        
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+        when(couponRepositoryPort.findById(couponId)).thenReturn(Optional.of(coupon));
+        when(couponRepositoryPort.save(any(Coupon.class))).thenReturn(coupon);
+        when(couponIssueFilterPort.mightContain(couponId, userId)).thenReturn(false);
+        when(couponHistoryRepositoryPort.save(any(CouponHistory.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_coupon_history_user_coupon"));
+        
+        // When & Then
+        assertThatThrownBy(() -> issueCouponUseCase.execute(userId, couponId))
+                .isInstanceOf(CouponException.AlreadyIssued.class);
+        verify(couponIssueFilterPort, never()).add(anyLong(), anyLong());
+        verify(couponWalletPort, never()).add(anyLong(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("발급 필터가 양성이지만 실제 발급 이력이 없으면 오탐으로 집계한다")
+    void recordsFalsePositiveWhenNotIssued() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        
+        User user = TestBuilder.UserBuilder.defaultUser().id(userId).build();
+        Coupon coupon = TestBuilder.CouponBuilder.defaultCoupon()
+                .id(couponId)
+                .build();
+        
+        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(user));
+        when(couponRepositoryPort.findById(couponId)).thenReturn(Optional.of(coupon));
+        when(couponRepositoryPort.save(any(Coupon.class))).thenReturn(coupon);
+        when(couponHistoryRepositoryPort.save(any(CouponHistory.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(couponHistoryRepositoryPort.existsByUserIdAndCouponId(userId, couponId)).thenReturn(false);
+        
+        // When
+        issueCouponUseCase.execute(userId, couponId);
+        
+        // Then
+        verify(couponHistoryRepositoryPort).existsByUserIdAndCouponId(userId, couponId);
+        verify(couponIssueFilterPort).recordFalsePositive(couponId);
+    }
+
     // === 헬퍼 메서드 ===
     
     static Stream<Arguments> provideCouponData() {
@@ -11,8 +11,7 @@ import kr.hhplus.be.server.domain.exception.CommonException;
 import kr.hhplus.be.server.domain.port.locking.LockingPort;
 import kr.hhplus.be.server.domain.port.storage.CouponHistoryRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
-import kr.hhplus.be.server.domain.port.cache.CachePort;
-import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.wallet.CouponWalletPort;
 import kr.hhplus.be.server.domain.usecase.coupon.UseCouponUseCase;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -54,17 +53,14 @@ class UseCouponUseCaseTest {
     private LockingPort lockingPort;
     
     @Mock
-    private CachePort cachePort;
-    
-    @Mock
-    private KeyGenerator keyGenerator;
+    private CouponWalletPort couponWalletPort;
 
     private UseCouponUseCase useCouponUseCase;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        useCouponUseCase = new UseCouponUseCase(userRepositoryPort, couponHistoryRepositoryPort, lockingPort, cachePort, keyGenerator);
+        useCouponUseCase = new UseCouponUseCase(userRepositoryPort, couponHistoryRepositoryPort, lockingPort, couponWalletPort);
     }
 
     @Test
@@ -114,6 +110,7 @@ class UseCouponUseCaseTest {
         
         List<CouponHistory> usedCoupons = couponHistoryCaptor.getAllValues();
         assertThat(usedCoupons).allMatch(coupon -> coupon.getStatus() == CouponHistoryStatus.USED);
+        verify(couponWalletPort).remove(customerId, couponHistoryIds);
     }
 
     @Test
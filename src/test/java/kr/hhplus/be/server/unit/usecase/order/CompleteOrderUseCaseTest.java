@@ -4,13 +4,19 @@ import kr.hhplus.be.server.domain.entity.*;
 import kr.hhplus.be.server.domain.enums.OrderStatus;
 import kr.hhplus.be.server.domain.port.storage.*;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
 import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.usecase.order.CompleteOrderUseCase;
+import kr.hhplus.be.server.domain.usecase.order.ConfirmReservedStockUseCase;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.exception.OrderException;
 import kr.hhplus.be.server.domain.exception.ProductException;
 import kr.hhplus.be.server.util.TestBuilder;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -37,15 +43,27 @@ class CompleteOrderUseCaseTest {
     @Mock private OrderItemRepositoryPort orderItemRepositoryPort;
     @Mock private CachePort cachePort;
     @Mock private KeyGenerator keyGenerator;
+    @Mock private InventoryLedgerPort inventoryLedgerPort;
+    @Mock private ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
     
     private CompleteOrderUseCase completeOrderUseCase;
     
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        completeOrderUseCase = new CompleteOrderUseCase(productRepositoryPort, orderItemRepositoryPort, cachePort, keyGenerator);
+        completeOrderUseCase = new CompleteOrderUseCase(orderItemRepositoryPort,
+            new ConfirmReservedStockUseCase(productRepositoryPort, inventoryLedgerPort, applyInventoryLedgerUseCase), cachePort, keyGenerator,
+            orderRepositoryPort);
         
-        when(productRepositoryPort.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(orderRepositoryPort.updateStatusIfPending(anyList(), eq(OrderStatus.PAID))).thenReturn(new int[]{1});
+        
+        when(productRepositoryPort.confirmReservations(anyList()))
+            .thenAnswer(invocation -> {
+                List<ProductQuantityDto> items = invocation.getArgument(0);
+                int[] counts = new int[items.size()];
+                java.util.Arrays.fill(counts, 1);
+                return counts;
+            });
     }
 
     @Test
@@ -63,15 +81,15 @@ class CompleteOrderUseCaseTest {
         OrderItem orderItem = createOrderItem(pendingOrder.getId(), product.getId(), 2);
         
         when(orderItemRepositoryPort.findByOrderId(pendingOrder.getId())).thenReturn(List.of(orderItem));
-        when(productRepositoryPort.findById(product.getId())).thenReturn(Optional.of(product));
         
         // When
         completeOrderUseCase.execute(pendingOrder);
         
-        // Then
+        // Then - 엔티티 조회/저장 없이 조건부 UPDATE 배치로 확정
         verify(orderItemRepositoryPort).findByOrderId(pendingOrder.getId());
-        verify(productRepositoryPort).findById(product.getId());
-        verify(productRepositoryPort).save(any(Product.class));
+        verify(productRepositoryPort).confirmReservations(anyList());
+        verify(productRepositoryPort, never()).findById(any());
+        verify(productRepositoryPort, never()).save(any());
     }
 
     @Test
@@ -88,8 +106,7 @@ class CompleteOrderUseCaseTest {
         
         // Then
         verify(orderItemRepositoryPort).findByOrderId(emptyOrder.getId());
-        verify(productRepositoryPort, never()).findById(any());
-        verify(productRepositoryPort, never()).save(any());
+        verify(productRepositoryPort, never()).confirmReservations(anyList());
     }
 
     @Test
@@ -99,7 +116,7 @@ class CompleteOrderUseCaseTest {
         assertThatThrownBy(() -> completeOrderUseCase.execute(null))
             .isInstanceOf(NullPointerException.class);
             
-        verify(productRepositoryPort, never()).save(any());
+        verify(productRepositoryPort, never()).confirmReservations(anyList());
     }
 
     @Test
@@ -114,15 +131,15 @@ class CompleteOrderUseCaseTest {
         
         when(orderItemRepositoryPort.findByOrderId(orderWithMissingProduct.getId()))
             .thenReturn(List.of(invalidOrderItem));
-        when(productRepositoryPort.findById(999L)).thenReturn(Optional.empty());
+        when(productRepositoryPort.confirmReservations(anyList())).thenReturn(new int[]{0});
+        when(productRepositoryPort.existsById(999L)).thenReturn(false);
         
         // When & Then
         assertThatThrownBy(() -> completeOrderUseCase.execute(orderWithMissingProduct))
             .isInstanceOf(ProductException.NotFound.class);
                 
         verify(orderItemRepositoryPort).findByOrderId(orderWithMissingProduct.getId());
-        verify(productRepositoryPort).findById(999L);
-        verify(productRepositoryPort, never()).save(any());
+        verify(productRepositoryPort).existsById(999L);
     }
 
     @Test
@@ -132,53 +149,81 @@ class CompleteOrderUseCaseTest {
         Order multiProductOrder = TestBuilder.OrderBuilder.defaultOrder()
             .id(4L).userId(1L).build();
             
-        Product product1 = TestBuilder.ProductBuilder.partiallyReservedProduct()
-            .id(1L).stock(10).reservedStock(1).build();
-        Product product2 = TestBuilder.ProductBuilder.partiallyReservedProduct()
-            .id(2L).stock(5).reservedStock(2).build();
-            
-        OrderItem orderItem1 = createOrderItem(multiProductOrder.getId(), 1L, 1);
-        OrderItem orderItem2 = createOrderItem(multiProductOrder.getId(), 2L, 2);
+        OrderItem orderItem1 = createOrderItem(multiProductOrder.getId(), 2L, 2);
+        OrderItem orderItem2 = createOrderItem(multiProductOrder.getId(), 1L, 1);
         
         when(orderItemRepositoryPort.findByOrderId(multiProductOrder.getId()))
             .thenReturn(List.of(orderItem1, orderItem2));
-        when(productRepositoryPort.findById(1L)).thenReturn(Optional.of(product1));
-        when(productRepositoryPort.findById(2L)).thenReturn(Optional.of(product2));
         
         // When
         completeOrderUseCase.execute(multiProductOrder);
         
-        // Then
-        verify(orderItemRepositoryPort).findByOrderId(multiProductOrder.getId());
-        verify(productRepositoryPort).findById(1L);
-        verify(productRepositoryPort).findById(2L);
-        verify(productRepositoryPort, times(2)).save(any(Product.class));
+        // Then - 한 번의 배치로 상품 ID 순서대로 확정
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductQuantityDto>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(productRepositoryPort, times(1)).confirmReservations(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductQuantityDto::getProductId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).extracting(ProductQuantityDto::getQuantity).containsExactly(1, 2);
     }
 
     @Test
-    @DisplayName("주문 완료 처리에서 재고 확정 로직이 올바르게 동작한다")
-    void correctlyProcessesStockConfirmation() {
+    @DisplayName("예약 재고가 부족하면 주문 완료 처리가 실패한다")
+    void failsWhenReservedStockIsInsufficient() {
         // Given
         Order orderForStockConfirmation = TestBuilder.OrderBuilder.defaultOrder()
             .id(5L).userId(1L).build();
             
-        Product productWithReservedStock = TestBuilder.ProductBuilder.partiallyReservedProduct()
-            .id(1L).stock(8).reservedStock(3).build(); // 예약재고 3개
-            
         OrderItem orderItem = createOrderItem(
             orderForStockConfirmation.getId(), 1L, 3);
         
         when(orderItemRepositoryPort.findByOrderId(orderForStockConfirmation.getId()))
             .thenReturn(List.of(orderItem));
-        when(productRepositoryPort.findById(1L))
-            .thenReturn(Optional.of(productWithReservedStock));
+        when(productRepositoryPort.confirmReservations(anyList())).thenReturn(new int[]{0});
+        when(productRepositoryPort.existsById(1L)).thenReturn(true);
+        
+        // When & Then - 예약 재고 부족으로 UPDATE가 적용되지 않으면 확정 실패
+        assertThatThrownBy(() -> completeOrderUseCase.execute(orderForStockConfirmation))
+            .isInstanceOf(ProductException.InvalidReservation.class);
+    }
+
+    @Test
+    @DisplayName("예약이 만료되어 결제 대기 상태가 아닌 주문은 완료 처리할 수 없다")
+    void failsWhenOrderReservationExpired() {
+        // Given
+        Order expiredOrder = TestBuilder.OrderBuilder.defaultOrder()
+            .id(6L).userId(1L).build();
+        
+        when(orderRepositoryPort.updateStatusIfPending(List.of(6L), OrderStatus.PAID)).thenReturn(new int[]{0});
+        
+        // When & Then - 재고 확정 전에 차단
+        assertThatThrownBy(() -> completeOrderUseCase.execute(expiredOrder))
+            .isInstanceOf(OrderException.Expired.class);
+        
+        verify(orderItemRepositoryPort, never()).findByOrderId(any());
+        verify(productRepositoryPort, never()).confirmReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("결제 완료 후 주문 상세 캐시를 PAID 스냅샷으로 갱신하고 주문 목록 캐시를 무효화한다")
+    void updatesPaidOrderCacheWithSnapshot() {
+        // Given
+        Order order = TestBuilder.OrderBuilder.defaultOrder()
+            .id(7L).userId(1L).status(OrderStatus.PENDING)
+            .totalAmount(new BigDecimal("30000")).build();
+        when(keyGenerator.generateOrderCacheKey(7L)).thenReturn("order:info:order_7");
+        when(keyGenerator.generateOrderListCachePattern(1L)).thenReturn("order:list:user_1*");
         
         // When
-        completeOrderUseCase.execute(orderForStockConfirmation);
+        completeOrderUseCase.updatePaidOrderCache(order);
         
-        // Then - 재고 확정 로직이 호출되었는지 검증
-        verify(productRepositoryPort).save(any(Product.class));
-        assertThat(productWithReservedStock).isNotNull();
+        // Then
+        ArgumentCaptor<Object> cachedCaptor = ArgumentCaptor.forClass(Object.class);
+        verify(cachePort).put(eq("order:info:order_7"), cachedCaptor.capture(), anyInt());
+        Order cached = (Order) cachedCaptor.getValue();
+        assertThat(cached.getStatus()).isEqualTo(OrderStatus.PAID);
+        assertThat(cached.getTotalAmount()).isEqualByComparingTo("30000");
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(cachePort).evictByPattern("order:list:user_1*");
     }
 
     // === 헬퍼 메서드 ===
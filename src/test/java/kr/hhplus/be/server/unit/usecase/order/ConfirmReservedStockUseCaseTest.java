@@ -0,0 +1,157 @@
+package kr.hhplus.be.server.unit.usecase.order;
+
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.exception.ProductException;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.order.ConfirmReservedStockUseCase;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ConfirmReservedStockUseCase 단위 테스트")
+class ConfirmReservedStockUseCaseTest {
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedgerPort;
+
+    @Mock
+    private ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+
+    private ConfirmReservedStockUseCase confirmReservedStockUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        confirmReservedStockUseCase = new ConfirmReservedStockUseCase(productRepositoryPort, inventoryLedgerPort,
+                applyInventoryLedgerUseCase);
+    }
+
+    @Test
+    @DisplayName("같은 상품의 주문 항목은 합산하여 상품 ID 순으로 한 번에 확정한다")
+    void mergesItemsPerProductInIdOrder() {
+        // given
+        when(productRepositoryPort.confirmReservations(anyList())).thenReturn(new int[]{1, 1});
+
+        // when
+        confirmReservedStockUseCase.execute(List.of(item(3L, 2), item(1L, 1), item(3L, 4)));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductQuantityDto>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(productRepositoryPort).confirmReservations(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductQuantityDto::getProductId).containsExactly(1L, 3L);
+        assertThat(captor.getValue()).extracting(ProductQuantityDto::getQuantity).containsExactly(1, 6);
+        verify(productRepositoryPort, never()).findById(any());
+        verify(productRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("조건을 만족하지 못해 갱신되지 않은 상품이 있으면 예외가 발생한다")
+    void throwsWhenAnyRowNotUpdated() {
+        // given
+        when(productRepositoryPort.confirmReservations(anyList())).thenReturn(new int[]{1, 0});
+        when(productRepositoryPort.existsById(2L)).thenReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> confirmReservedStockUseCase.execute(List.of(item(1L, 1), item(2L, 5))))
+                .isInstanceOf(ProductException.InvalidReservation.class);
+        verify(productRepositoryPort, never()).existsById(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 상품이면 NotFound 예외가 발생한다")
+    void throwsNotFoundForMissingProduct() {
+        // given
+        when(productRepositoryPort.confirmReservations(anyList())).thenReturn(new int[]{0});
+        when(productRepositoryPort.existsById(999L)).thenReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> confirmReservedStockUseCase.execute(List.of(item(999L, 1))))
+                .isInstanceOf(ProductException.NotFound.class);
+    }
+
+    @Test
+    @DisplayName("재고 원장 관리 대상 상품은 원장에서 확정하고 나머지만 UPDATE한다")
+    void confirmsManagedProductsOnLedger() {
+        // given
+        when(inventoryLedgerPort.isManaged(2L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(List.of(ProductStockDelta.confirm(2L, 3))))
+                .thenReturn(ApplyResult.APPLIED);
+        when(productRepositoryPort.confirmReservations(anyList())).thenReturn(new int[]{1});
+
+        // when
+        confirmReservedStockUseCase.execute(List.of(item(1L, 1), item(2L, 3)));
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductQuantityDto>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(productRepositoryPort).confirmReservations(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductQuantityDto::getProductId).containsExactly(1L);
+        verify(applyInventoryLedgerUseCase).execute(List.of(ProductStockDelta.confirm(2L, 3)));
+    }
+
+    @Test
+    @DisplayName("모든 상품이 원장 관리 대상이면 UPDATE를 실행하지 않는다")
+    void skipsUpdateWhenAllManaged() {
+        // given
+        when(inventoryLedgerPort.isManaged(2L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.APPLIED);
+
+        // when
+        confirmReservedStockUseCase.execute(List.of(item(2L, 3)));
+
+        // then
+        verify(productRepositoryPort, never()).confirmReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("원장의 예약 재고가 부족하면 InvalidReservation 예외가 발생한다")
+    void throwsWhenLedgerViolation() {
+        // given
+        when(inventoryLedgerPort.isManaged(2L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.VIOLATION);
+
+        // when & then
+        assertThatThrownBy(() -> confirmReservedStockUseCase.execute(List.of(item(2L, 3))))
+                .isInstanceOf(ProductException.InvalidReservation.class);
+        verify(productRepositoryPort, never()).confirmReservations(anyList());
+    }
+
+    @Test
+    @DisplayName("주문 항목이 없으면 UPDATE를 실행하지 않는다")
+    void skipsEmptyItems() {
+        // when
+        confirmReservedStockUseCase.execute(List.of());
+
+        // then
+        verifyNoInteractions(productRepositoryPort, applyInventoryLedgerUseCase);
+    }
+
+    private OrderItem item(Long productId, int quantity) {
+        return OrderItem.builder()
+                .orderId(1L)
+                .productId(productId)
+                .quantity(quantity)
+                .price(new BigDecimal("1000"))
+                .build();
+    }
+}
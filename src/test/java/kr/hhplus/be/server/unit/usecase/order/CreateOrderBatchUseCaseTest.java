@@ -0,0 +1,238 @@
+package kr.hhplus.be.server.unit.usecase.order;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.entity.Order;
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.entity.User;
+import kr.hhplus.be.server.domain.exception.ProductException;
+import kr.hhplus.be.server.domain.exception.UserException;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.reservation.ReservationExpiryPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase.OrderRequest;
+import kr.hhplus.be.server.domain.usecase.order.CreateOrderBatchUseCase.OrderResult;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("CreateOrderBatchUseCase 단위 테스트")
+class CreateOrderBatchUseCaseTest {
+
+    @Mock
+    private UserRepositoryPort userRepositoryPort;
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Mock
+    private OrderRepositoryPort orderRepositoryPort;
+
+    @Mock
+    private OrderItemRepositoryPort orderItemRepositoryPort;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedgerPort;
+
+    @Mock
+    private ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+
+    @Mock
+    private ReservationExpiryPort reservationExpiryPort;
+
+    private CreateOrderBatchUseCase createOrderBatchUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        createOrderBatchUseCase = new CreateOrderBatchUseCase(userRepositoryPort, productRepositoryPort,
+                orderRepositoryPort, orderItemRepositoryPort, cachePort, keyGenerator, soldOutRegistryPort,
+                inventoryLedgerPort, applyInventoryLedgerUseCase, reservationExpiryPort,
+                new SideEffectDispatcher(Runnable::run, new SimpleMeterRegistry(), 10));
+
+        AtomicLong orderIds = new AtomicLong(100L);
+        when(orderRepositoryPort.insertAll(anyList())).thenAnswer(invocation -> {
+            List<Order> orders = invocation.getArgument(0);
+            orders.forEach(order -> order.setId(orderIds.incrementAndGet()));
+            return orders;
+        });
+        when(productRepositoryPort.reserveStocks(anyList())).thenAnswer(invocation -> {
+            List<ProductQuantityDto> items = invocation.getArgument(0);
+            int[] counts = new int[items.size()];
+            java.util.Arrays.fill(counts, 1);
+            return counts;
+        });
+    }
+
+    @Test
+    @DisplayName("합산 수량을 상품별 UPDATE 한 번으로 예약하고 주문/항목을 일괄 저장한다")
+    void reservesAggregateQuantityOnce() {
+        // given
+        givenUsers(1L, 2L);
+        when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(product(1L, 10, 0)));
+
+        // when
+        List<OrderResult> results = createOrderBatchUseCase.execute(List.of(request(1L, 1L, 2), request(2L, 1L, 3)));
+
+        // then
+        assertThat(results).allMatch(OrderResult::isSuccess);
+        assertThat(results).extracting(result -> result.order().getId()).containsExactly(101L, 102L);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductQuantityDto>> reserveCaptor = ArgumentCaptor.forClass((Class) List.class);
+        verify(productRepositoryPort, times(1)).reserveStocks(reserveCaptor.capture());
+        assertThat(reserveCaptor.getValue()).extracting(ProductQuantityDto::getQuantity).containsExactly(5);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OrderItem>> itemCaptor = ArgumentCaptor.forClass((Class) List.class);
+        verify(orderItemRepositoryPort, times(1)).insertAll(itemCaptor.capture());
+        assertThat(itemCaptor.getValue()).extracting(OrderItem::getOrderId).containsExactly(101L, 102L);
+        verify(reservationExpiryPort).register(List.of(101L, 102L));
+        verify(productRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("가용 재고는 수신 순서대로 배정하고 부족한 요청만 실패한다")
+    void rejectsOnlyRequestsBeyondAvailableStock() {
+        // given
+        givenUsers(1L, 2L, 3L);
+        when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(product(1L, 10, 5)));
+
+        // when
+        List<OrderResult> results = createOrderBatchUseCase.execute(List.of(
+                request(1L, 1L, 3), request(2L, 1L, 3), request(3L, 1L, 2)));
+
+        // then
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).error()).isInstanceOf(ProductException.OutOfStock.class);
+        assertThat(results.get(2).isSuccess()).isTrue();
+        verify(soldOutRegistryPort).markProductSoldOut(1L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사용자의 요청은 개별 실패로 반환한다")
+    void rejectsUnknownUser() {
+        // given
+        givenUsers(1L);
+        when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(product(1L, 10, 0)));
+
+        // when
+        List<OrderResult> results = createOrderBatchUseCase.execute(List.of(request(1L, 1L, 1), request(999L, 1L, 1)));
+
+        // then
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).error()).isInstanceOf(UserException.NotFound.class);
+        verify(orderRepositoryPort).insertAll(argThat(orders -> orders.size() == 1));
+    }
+
+    @Test
+    @DisplayName("합산 예약 UPDATE가 실패하면 묶음 전체가 실패한다")
+    void failsWholeBatchWhenReserveUpdateFails() {
+        // given
+        givenUsers(1L);
+        when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(product(1L, 10, 0)));
+        when(productRepositoryPort.reserveStocks(anyList())).thenReturn(new int[]{0});
+
+        // when & then
+        assertThatThrownBy(() -> createOrderBatchUseCase.execute(List.of(request(1L, 1L, 1))))
+                .isInstanceOf(ProductException.OutOfStock.class);
+        verify(orderRepositoryPort, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("모든 요청이 실패하면 DB에 쓰지 않는다")
+    void skipsWritesWhenNothingAccepted() {
+        // given
+        givenUsers(1L);
+        when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(product(1L, 1, 1)));
+
+        // when
+        List<OrderResult> results = createOrderBatchUseCase.execute(List.of(request(1L, 1L, 1)));
+
+        // then
+        assertThat(results.get(0).error()).isInstanceOf(ProductException.OutOfStock.class);
+        verify(productRepositoryPort, never()).reserveStocks(anyList());
+        verify(orderRepositoryPort, never()).insertAll(anyList());
+        verify(orderItemRepositoryPort, never()).insertAll(anyList());
+    }
+
+    @Test
+    @DisplayName("주문 목록 캐시는 묶음 트랜잭션이 커밋된 뒤에만 무효화한다")
+    void evictsOrderListCachesAfterCommit() {
+        // given
+        givenUsers(1L, 2L);
+        when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(product(1L, 10, 0)));
+        when(keyGenerator.generateOrderListCachePattern(anyLong()))
+                .thenAnswer(invocation -> "order:list:user_" + invocation.getArgument(0) + "*");
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        try {
+            // when
+            createOrderBatchUseCase.execute(List.of(request(1L, 1L, 2), request(2L, 1L, 3), request(1L, 1L, 1)));
+
+            // then
+            verify(cachePort, never()).evictByPattern(anyString());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(cachePort).evictByPattern("order:list:user_1*");
+            verify(cachePort).evictByPattern("order:list:user_2*");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+
+    private void givenUsers(Long... userIds) {
+        List<User> users = java.util.Arrays.stream(userIds)
+                .map(id -> User.builder().id(id).name("user" + id).build())
+                .toList();
+        when(userRepositoryPort.findAllById(anySet())).thenReturn(users);
+    }
+
+    private OrderRequest request(Long userId, Long productId, int quantity) {
+        return new OrderRequest(userId, List.of(new ProductQuantityDto(productId, quantity)));
+    }
+
+    private Product product(Long id, int stock, int reservedStock) {
+        return Product.builder()
+                .id(id)
+                .name("Hot Product")
+                .price(new BigDecimal("1000"))
+                .stock(stock)
+                .reservedStock(reservedStock)
+                .build();
+    }
+}
@@ -3,6 +3,11 @@ package kr.hhplus.be.server.unit.usecase.order;
 import kr.hhplus.be.server.domain.entity.*;
 import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.reservation.ReservationExpiryPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
 import kr.hhplus.be.server.domain.usecase.order.CreateOrderUseCase;
 import kr.hhplus.be.server.domain.port.storage.UserRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
@@ -10,7 +15,10 @@ import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
 import kr.hhplus.be.server.domain.port.storage.EventLogRepositoryPort;
 import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
 import kr.hhplus.be.server.domain.exception.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,6 +58,18 @@ class CreateOrderUseCaseTest {
     @Mock
     private KeyGenerator keyGenerator;
 
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedgerPort;
+
+    @Mock
+    private ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+
+    @Mock
+    private ReservationExpiryPort reservationExpiryPort;
+
     private CreateOrderUseCase createOrderUseCase;
 
     private User testUser;
@@ -65,7 +85,12 @@ class CreateOrderUseCaseTest {
             orderRepositoryPort,
             orderItemRepositoryPort,
             cachePort,
-            keyGenerator
+            keyGenerator,
+            soldOutRegistryPort,
+            inventoryLedgerPort,
+            applyInventoryLedgerUseCase,
+            reservationExpiryPort,
+            new SideEffectDispatcher(Runnable::run, new SimpleMeterRegistry(), 10)
         );
         
         testUser = User.builder()
@@ -119,6 +144,26 @@ class CreateOrderUseCaseTest {
             verify(orderItemRepositoryPort).saveAll(any());
         }
         
+        @Test
+        @DisplayName("가용 재고를 모두 예약하면 상품 품절을 전파한다")
+        void createOrder_LastAvailableStock_MarksSoldOut() {
+            // given
+            Long userId = 1L;
+            List<ProductQuantityDto> productQuantities = List.of(
+                new ProductQuantityDto(1L, 100)
+            );
+            
+            when(userRepositoryPort.existsById(userId)).thenReturn(true);
+            when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(testProduct));
+            when(orderRepositoryPort.save(any(Order.class))).thenReturn(testOrder);
+            
+            // when
+            createOrderUseCase.execute(userId, productQuantities);
+            
+            // then
+            verify(soldOutRegistryPort).markProductSoldOut(1L);
+        }
+        
         @Test
         @DisplayName("여러 상품으로 주문 생성이 성공한다")
         void createOrder_WithMultipleProducts_Success() {
@@ -155,6 +200,57 @@ class CreateOrderUseCaseTest {
         }
     }
     
+    @Nested
+    @DisplayName("재고 원장 관리 대상 상품")
+    class LedgerManagedCases {
+        
+        @Test
+        @DisplayName("원장에서 예약하고 product 행은 갱신하지 않는다")
+        void createOrder_ReservesOnLedger() {
+            // given
+            Long userId = 1L;
+            List<ProductQuantityDto> productQuantities = List.of(
+                new ProductQuantityDto(1L, 2)
+            );
+            
+            when(userRepositoryPort.existsById(userId)).thenReturn(true);
+            when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(testProduct));
+            when(inventoryLedgerPort.isManaged(1L)).thenReturn(true);
+            when(applyInventoryLedgerUseCase.execute(List.of(ProductStockDelta.reserve(1L, 2))))
+                .thenReturn(ApplyResult.APPLIED);
+            when(orderRepositoryPort.save(any(Order.class))).thenReturn(testOrder);
+            
+            // when
+            createOrderUseCase.execute(userId, productQuantities);
+            
+            // then
+            verify(applyInventoryLedgerUseCase).execute(List.of(ProductStockDelta.reserve(1L, 2)));
+            verify(productRepositoryPort, never()).save(any());
+            assertThat(testProduct.getReservedStock()).isZero();
+            verify(orderItemRepositoryPort).saveAll(any());
+        }
+        
+        @Test
+        @DisplayName("원장 가용 재고가 부족하면 OutOfStock 예외가 발생한다")
+        void createOrder_LedgerInsufficient_ThrowsOutOfStock() {
+            // given
+            Long userId = 1L;
+            List<ProductQuantityDto> productQuantities = List.of(
+                new ProductQuantityDto(1L, 2)
+            );
+            
+            when(userRepositoryPort.existsById(userId)).thenReturn(true);
+            when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(testProduct));
+            when(inventoryLedgerPort.isManaged(1L)).thenReturn(true);
+            when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.VIOLATION);
+            
+            // when & then
+            assertThatThrownBy(() -> createOrderUseCase.execute(userId, productQuantities))
+                .isInstanceOf(ProductException.OutOfStock.class);
+            verify(orderRepositoryPort, never()).save(any());
+        }
+    }
+    
     @Nested
     @DisplayName("실패 케이스")
     class FailureCases {
@@ -7,6 +7,8 @@ import kr.hhplus.be.server.domain.port.cache.CachePort;
 import kr.hhplus.be.server.common.util.KeyGenerator;
 import kr.hhplus.be.server.domain.usecase.order.CreatePaymentUseCase;
 import kr.hhplus.be.server.domain.enums.PaymentStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.hhplus.be.server.domain.service.SideEffectDispatcher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -40,7 +42,7 @@ class CreatePaymentUseCaseTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        createPaymentUseCase = new CreatePaymentUseCase(paymentRepositoryPort, cachePort, keyGenerator);
+        createPaymentUseCase = new CreatePaymentUseCase(paymentRepositoryPort, cachePort, keyGenerator, new SideEffectDispatcher(Runnable::run, new SimpleMeterRegistry(), 10));
         
         testUser = User.builder()
             .id(1L)
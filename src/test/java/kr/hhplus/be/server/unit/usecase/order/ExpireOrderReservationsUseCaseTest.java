@@ -0,0 +1,251 @@
+package kr.hhplus.be.server.unit.usecase.order;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductQuantityDto;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.OrderItem;
+import kr.hhplus.be.server.domain.enums.OrderStatus;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.reservation.ReservationExpiryPort;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderItemRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.OrderRepositoryPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.order.ExpireOrderReservationsUseCase;
+import kr.hhplus.be.server.domain.usecase.order.ExpireOrderReservationsUseCase.ExpiryResult;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ExpireOrderReservationsUseCase 단위 테스트")
+class ExpireOrderReservationsUseCaseTest {
+
+    @Mock
+    private OrderRepositoryPort orderRepositoryPort;
+
+    @Mock
+    private OrderItemRepositoryPort orderItemRepositoryPort;
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Mock
+    private ReservationExpiryPort reservationExpiryPort;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedgerPort;
+
+    @Mock
+    private ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private KeyGenerator keyGenerator;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ExpireOrderReservationsUseCase expireOrderReservationsUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        expireOrderReservationsUseCase = new ExpireOrderReservationsUseCase(orderRepositoryPort, orderItemRepositoryPort,
+                productRepositoryPort, reservationExpiryPort, inventoryLedgerPort, applyInventoryLedgerUseCase,
+                soldOutRegistryPort, cachePort, keyGenerator, transactionTemplate);
+        ReflectionTestUtils.setField(expireOrderReservationsUseCase, "batchSize", 100);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+        when(productRepositoryPort.cancelReservations(anyList())).thenAnswer(invocation -> {
+            List<ProductQuantityDto> items = invocation.getArgument(0);
+            int[] counts = new int[items.size()];
+            java.util.Arrays.fill(counts, 1);
+            return counts;
+        });
+    }
+
+    @Test
+    @DisplayName("만료된 주문을 ID 순으로 취소하고 상품별 합산 수량으로 예약을 한 번에 해제한다")
+    void cancelsExpiredOrdersAndReleasesAggregatedReservations() {
+        // given
+        when(reservationExpiryPort.pollExpired(anyLong(), eq(100))).thenReturn(List.of(12L, 11L));
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L, 12L), OrderStatus.CANCELLED)).thenReturn(new int[]{1, 1});
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(11L, 12L)))
+                .thenReturn(List.of(item(11L, 2L, 1), item(11L, 1L, 2), item(12L, 1L, 3)));
+
+        // when
+        ExpiryResult result = expireOrderReservationsUseCase.execute();
+
+        // then
+        assertThat(result).isEqualTo(new ExpiryResult(2, 6));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductQuantityDto>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(productRepositoryPort, times(1)).cancelReservations(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductQuantityDto::getProductId).containsExactly(1L, 2L);
+        assertThat(captor.getValue()).extracting(ProductQuantityDto::getQuantity).containsExactly(5, 1);
+        verify(soldOutRegistryPort).clearProductSoldOut(1L);
+        verify(soldOutRegistryPort).clearProductSoldOut(2L);
+    }
+
+    @Test
+    @DisplayName("이미 결제된 주문은 만료하지 않고 예약도 해제하지 않는다")
+    void skipsAlreadyPaidOrders() {
+        // given
+        when(reservationExpiryPort.pollExpired(anyLong(), eq(100))).thenReturn(List.of(11L, 12L));
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L, 12L), OrderStatus.CANCELLED)).thenReturn(new int[]{0, 1});
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(12L))).thenReturn(List.of(item(12L, 1L, 3)));
+
+        // when
+        ExpiryResult result = expireOrderReservationsUseCase.execute();
+
+        // then
+        assertThat(result).isEqualTo(new ExpiryResult(1, 3));
+        verify(orderItemRepositoryPort).findByOrderIdIn(List.of(12L));
+    }
+
+    @Test
+    @DisplayName("만료 대상이 모두 결제되었으면 예약 해제를 실행하지 않는다")
+    void doesNothingWhenAllOrdersPaid() {
+        // given
+        when(reservationExpiryPort.pollExpired(anyLong(), eq(100))).thenReturn(List.of(11L));
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L), OrderStatus.CANCELLED)).thenReturn(new int[]{0});
+
+        // when
+        ExpiryResult result = expireOrderReservationsUseCase.execute();
+
+        // then
+        assertThat(result).isEqualTo(ExpiryResult.EMPTY);
+        verify(orderItemRepositoryPort, never()).findByOrderIdIn(anyCollection());
+        verify(productRepositoryPort, never()).cancelReservations(anyList());
+        verifyNoInteractions(soldOutRegistryPort);
+    }
+
+    @Test
+    @DisplayName("재고 원장 관리 대상 상품은 원장에서 예약을 해제한다")
+    void releasesManagedProductsOnLedger() {
+        // given
+        when(reservationExpiryPort.pollExpired(anyLong(), eq(100))).thenReturn(List.of(11L));
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L), OrderStatus.CANCELLED)).thenReturn(new int[]{1});
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(11L))).thenReturn(List.of(item(11L, 7L, 4)));
+        when(inventoryLedgerPort.isManaged(7L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(List.of(ProductStockDelta.cancel(7L, 4)))).thenReturn(ApplyResult.APPLIED);
+
+        // when
+        expireOrderReservationsUseCase.execute();
+
+        // then
+        verify(applyInventoryLedgerUseCase).execute(List.of(ProductStockDelta.cancel(7L, 4)));
+        verify(productRepositoryPort).cancelReservations(List.of());
+    }
+
+    @Test
+    @DisplayName("재고 원장 예약 해제가 반영되지 않으면 주문 만료를 롤백하고 만료 대기열에 다시 등록한다")
+    void reschedulesWhenLedgerReleaseFails() {
+        // given
+        when(reservationExpiryPort.pollExpired(anyLong(), eq(100))).thenReturn(List.of(11L));
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L), OrderStatus.CANCELLED)).thenReturn(new int[]{1});
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(11L))).thenReturn(List.of(item(11L, 7L, 4)));
+        when(inventoryLedgerPort.isManaged(7L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.VIOLATION);
+
+        // when
+        ExpiryResult result = expireOrderReservationsUseCase.execute();
+
+        // then
+        assertThat(result).isEqualTo(ExpiryResult.EMPTY);
+        verify(reservationExpiryPort).reschedule(eq(List.of(11L)), anyLong());
+        verify(productRepositoryPort, never()).cancelReservations(anyList());
+        verifyNoInteractions(soldOutRegistryPort, cachePort);
+    }
+
+    @Test
+    @DisplayName("묶음 중 원장 예약 해제가 실패하면 주문별로 다시 처리하고 실패한 주문만 다시 등록한다")
+    void retriesPerOrderWhenBatchLedgerReleaseFails() {
+        // given - 11번 주문의 원장 관리 상품만 해제 실패
+        when(reservationExpiryPort.pollExpired(anyLong(), eq(100))).thenReturn(List.of(11L, 12L));
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L, 12L), OrderStatus.CANCELLED)).thenReturn(new int[]{1, 1});
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L), OrderStatus.CANCELLED)).thenReturn(new int[]{1});
+        when(orderRepositoryPort.updateStatusIfPending(List.of(12L), OrderStatus.CANCELLED)).thenReturn(new int[]{1});
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(11L, 12L)))
+                .thenReturn(List.of(item(11L, 7L, 4), item(12L, 1L, 2)));
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(11L))).thenReturn(List.of(item(11L, 7L, 4)));
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(12L))).thenReturn(List.of(item(12L, 1L, 2)));
+        when(inventoryLedgerPort.isManaged(7L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.VIOLATION);
+
+        // when
+        ExpiryResult result = expireOrderReservationsUseCase.execute();
+
+        // then
+        assertThat(result).isEqualTo(new ExpiryResult(1, 2));
+        verify(reservationExpiryPort).reschedule(eq(List.of(11L)), anyLong());
+        verify(productRepositoryPort).cancelReservations(argThat(items -> items.size() == 1
+                && items.get(0).getProductId().equals(1L) && items.get(0).getQuantity() == 2));
+        verify(soldOutRegistryPort).clearProductSoldOut(1L);
+        verify(soldOutRegistryPort, never()).clearProductSoldOut(7L);
+    }
+
+    @Test
+    @DisplayName("처리에 실패하면 꺼낸 주문을 만료 대기열에 다시 등록한다")
+    void reschedulesOnFailure() {
+        // given
+        when(reservationExpiryPort.pollExpired(anyLong(), eq(100))).thenReturn(List.of(11L));
+        when(orderRepositoryPort.updateStatusIfPending(anyList(), any())).thenThrow(new RuntimeException("DB 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> expireOrderReservationsUseCase.execute()).isInstanceOf(RuntimeException.class);
+        verify(reservationExpiryPort).reschedule(eq(List.of(11L)), anyLong());
+    }
+
+    @Test
+    @DisplayName("대기열 밖의 만료 주문은 DB에서 찾아 처리한다")
+    void sweepsStalePendingOrdersFromDb() {
+        // given
+        when(orderRepositoryPort.findIdsByStatusAndCreatedAtBefore(eq(OrderStatus.PENDING), any(), any()))
+                .thenReturn(List.of(11L));
+        when(orderRepositoryPort.updateStatusIfPending(List.of(11L), OrderStatus.CANCELLED)).thenReturn(new int[]{1});
+        when(orderItemRepositoryPort.findByOrderIdIn(List.of(11L))).thenReturn(List.of(item(11L, 1L, 2)));
+
+        // when
+        ExpiryResult result = expireOrderReservationsUseCase.sweepStale();
+
+        // then
+        assertThat(result).isEqualTo(new ExpiryResult(1, 2));
+        verifyNoInteractions(reservationExpiryPort);
+    }
+
+    private OrderItem item(Long orderId, Long productId, int quantity) {
+        return OrderItem.builder()
+                .orderId(orderId)
+                .productId(productId)
+                .quantity(quantity)
+                .price(new BigDecimal("1000"))
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package kr.hhplus.be.server.unit.usecase.order;
 
+import kr.hhplus.be.server.domain.dto.OrderPaymentLookup;
 import kr.hhplus.be.server.domain.entity.*;
 import kr.hhplus.be.server.domain.enums.OrderStatus;
 import kr.hhplus.be.server.domain.port.storage.*;
@@ -13,8 +14,6 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
 import java.math.BigDecimal;
-import java.util.List;
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -32,18 +31,12 @@ class ValidateOrderUseCaseTest {
     @Mock
     private OrderRepositoryPort orderRepositoryPort;
     
-    @Mock
-    private UserRepositoryPort userRepositoryPort;
-    
-    @Mock
-    private PaymentRepositoryPort paymentRepositoryPort;
-    
     private ValidateOrderUseCase validateOrderUseCase;
     
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        validateOrderUseCase = new ValidateOrderUseCase(orderRepositoryPort, paymentRepositoryPort);
+        validateOrderUseCase = new ValidateOrderUseCase(orderRepositoryPort);
     }
 
     @Test
@@ -53,10 +46,6 @@ class ValidateOrderUseCaseTest {
         Long orderId = 1L;
         Long userId = 1L;
         
-        User customer = TestBuilder.UserBuilder.defaultUser()
-                .id(userId)
-                .name("테스트고객")
-                .build();
         Order pendingOrder = TestBuilder.OrderBuilder.defaultOrder()
                 .id(orderId)
                 .userId(userId)
@@ -64,17 +53,34 @@ class ValidateOrderUseCaseTest {
                 .totalAmount(new BigDecimal("50000"))
                 .build();
         
-        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(customer));
-        when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(pendingOrder));
+        when(orderRepositoryPort.findPaymentLookup(orderId, userId, null))
+                .thenReturn(new OrderPaymentLookup(pendingOrder, true, false, null));
         
         // when
         Order result = validateOrderUseCase.execute(orderId, userId);
         
-        // then
+        // then - 사용자/주문/결제를 한 번의 조회로 확인
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(orderId);
         assertThat(result.getUserId()).isEqualTo(userId);
         assertThat(result.getStatus()).isEqualTo(OrderStatus.PENDING);
+        verify(orderRepositoryPort, times(1)).findPaymentLookup(orderId, userId, null);
+        verifyNoMoreInteractions(orderRepositoryPort);
+    }
+    
+    @Test
+    @DisplayName("존재하지 않는 사용자의 결제 검증 시 예외가 발생한다")
+    void execute_UserNotFound_ThrowsException() {
+        // given
+        Long orderId = 1L;
+        Long userId = 999L;
+        
+        when(orderRepositoryPort.findPaymentLookup(orderId, userId, null))
+                .thenReturn(new OrderPaymentLookup(null, false, false, null));
+        
+        // when & then
+        assertThatThrownBy(() -> validateOrderUseCase.execute(orderId, userId))
+            .isInstanceOf(UserException.NotFound.class);
     }
     
     @Test
@@ -84,12 +90,8 @@ class ValidateOrderUseCaseTest {
         Long nonExistentOrderId = 999L;
         Long userId = 1L;
         
-        User customer = TestBuilder.UserBuilder.defaultUser()
-                .id(userId)
-                .build();
-        
-        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(customer));
-        when(orderRepositoryPort.findById(nonExistentOrderId)).thenReturn(Optional.empty());
+        when(orderRepositoryPort.findPaymentLookup(nonExistentOrderId, userId, null))
+                .thenReturn(new OrderPaymentLookup(null, true, false, null));
         
         // when & then
         assertThatThrownBy(() -> validateOrderUseCase.execute(nonExistentOrderId, userId))
@@ -104,10 +106,6 @@ class ValidateOrderUseCaseTest {
         Long requestingUserId = 1L;
         Long orderOwnerUserId = 2L;
         
-        User requestingUser = TestBuilder.UserBuilder.defaultUser()
-                .id(requestingUserId)
-                .name("요청사용자")
-                .build();
         Order otherUserOrder = TestBuilder.OrderBuilder.defaultOrder()
                 .id(orderId)
                 .userId(orderOwnerUserId)
@@ -115,8 +113,8 @@ class ValidateOrderUseCaseTest {
                 .totalAmount(new BigDecimal("50000"))
                 .build();
         
-        when(userRepositoryPort.findById(requestingUserId)).thenReturn(Optional.of(requestingUser));
-        when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(otherUserOrder));
+        when(orderRepositoryPort.findPaymentLookup(orderId, requestingUserId, null))
+                .thenReturn(new OrderPaymentLookup(otherUserOrder, true, false, null));
         
         // when & then
         assertThatThrownBy(() -> validateOrderUseCase.execute(orderId, requestingUserId))
@@ -130,26 +128,18 @@ class ValidateOrderUseCaseTest {
         Long orderId = 1L;
         Long userId = 1L;
         
-        User customer = TestBuilder.UserBuilder.defaultUser()
-                .id(userId)
-                .build();
         Order completedOrder = TestBuilder.OrderBuilder.defaultOrder()
                 .id(orderId)
                 .userId(userId)
                 .status(OrderStatus.COMPLETED)
                 .totalAmount(new BigDecimal("50000"))
                 .build();
-        Payment existingPayment = TestBuilder.PaymentBuilder.defaultPayment()
-                .orderId(orderId)
-                .userId(userId)
-                .build();
         
-        when(userRepositoryPort.findById(userId)).thenReturn(Optional.of(customer));
-        when(orderRepositoryPort.findById(orderId)).thenReturn(Optional.of(completedOrder));
-        when(paymentRepositoryPort.findByOrderId(orderId)).thenReturn(List.of(existingPayment));
+        when(orderRepositoryPort.findPaymentLookup(orderId, userId, null))
+                .thenReturn(new OrderPaymentLookup(completedOrder, true, true, null));
         
         // when & then
         assertThatThrownBy(() -> validateOrderUseCase.execute(orderId, userId))
             .isInstanceOf(OrderException.AlreadyPaid.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,94 @@
+package kr.hhplus.be.server.unit.usecase.product;
+
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ApplyInventoryLedgerUseCase 단위 테스트")
+class ApplyInventoryLedgerUseCaseTest {
+
+    @Mock
+    private InventoryLedgerPort inventoryLedgerPort;
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    private ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+
+    private final List<ProductStockDelta> deltas = List.of(ProductStockDelta.reserve(1L, 2));
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        applyInventoryLedgerUseCase = new ApplyInventoryLedgerUseCase(inventoryLedgerPort, productRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("원장이 구성되어 있으면 DB를 조회하지 않는다")
+    void appliesWithoutDbRead() {
+        // given
+        when(inventoryLedgerPort.apply(deltas)).thenReturn(ApplyResult.APPLIED);
+
+        // when
+        ApplyResult result = applyInventoryLedgerUseCase.execute(deltas);
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.APPLIED);
+        verifyNoInteractions(productRepositoryPort);
+    }
+
+    @Test
+    @DisplayName("원장이 없으면 DB 재고로 구성한 뒤 다시 반영한다")
+    void loadsLedgerOnMiss() {
+        // given
+        Product product = Product.builder()
+                .id(1L)
+                .name("Hot Product")
+                .price(new BigDecimal("10000"))
+                .stock(100)
+                .reservedStock(10)
+                .build();
+        when(inventoryLedgerPort.apply(deltas))
+                .thenReturn(ApplyResult.NOT_LOADED)
+                .thenReturn(ApplyResult.APPLIED);
+        when(productRepositoryPort.findByIds(List.of(1L))).thenReturn(List.of(product));
+
+        // when
+        ApplyResult result = applyInventoryLedgerUseCase.execute(deltas);
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.APPLIED);
+        verify(inventoryLedgerPort).load(1L, 100, 10);
+        verify(inventoryLedgerPort, times(2)).apply(deltas);
+    }
+
+    @Test
+    @DisplayName("불변식 위반은 재시도 없이 그대로 반환한다")
+    void returnsViolationWithoutRetry() {
+        // given
+        when(inventoryLedgerPort.apply(deltas)).thenReturn(ApplyResult.VIOLATION);
+
+        // when
+        ApplyResult result = applyInventoryLedgerUseCase.execute(deltas);
+
+        // then
+        assertThat(result).isEqualTo(ApplyResult.VIOLATION);
+        verify(inventoryLedgerPort, times(1)).apply(deltas);
+        verify(inventoryLedgerPort, never()).load(anyLong(), anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,140 @@
+package kr.hhplus.be.server.unit.usecase.product;
+
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.product.ReconcileInventoryLedgerUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("ReconcileInventoryLedgerUseCase 단위 테스트")
+class ReconcileInventoryLedgerUseCaseTest {
+
+    @Mock
+    private InventoryLedgerPort inventoryLedgerPort;
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ReconcileInventoryLedgerUseCase reconcileInventoryLedgerUseCase;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        reconcileInventoryLedgerUseCase = new ReconcileInventoryLedgerUseCase(
+                inventoryLedgerPort, productRepositoryPort, transactionTemplate);
+        ReflectionTestUtils.setField(reconcileInventoryLedgerUseCase, "batchSize", 100);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    @DisplayName("반영 대기 변경량을 상품 ID 순으로 DB에 일괄 반영한다")
+    void appliesDeltasInProductIdOrder() {
+        // given
+        when(inventoryLedgerPort.drainPendingDeltas(100)).thenReturn(List.of(
+                new ProductStockDelta(3L, -2, 1),
+                new ProductStockDelta(1L, 0, 5)));
+        when(productRepositoryPort.applyStockDeltas(anyList())).thenReturn(new int[]{1, 1});
+
+        // when
+        int reconciled = reconcileInventoryLedgerUseCase.execute();
+
+        // then
+        assertThat(reconciled).isEqualTo(2);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ProductStockDelta>> captor = ArgumentCaptor.forClass((Class) List.class);
+        verify(productRepositoryPort).applyStockDeltas(captor.capture());
+        assertThat(captor.getValue()).extracting(ProductStockDelta::productId).containsExactly(1L, 3L);
+        verify(inventoryLedgerPort).acknowledgePendingDeltas(captor.getValue());
+        verify(inventoryLedgerPort, never()).restorePendingDeltas(anyList());
+    }
+
+    @Test
+    @DisplayName("재고 불변식을 만족하지 못한 상품은 반영 대기분으로 되돌린다")
+    void restoresRejectedDeltas() {
+        // given
+        ProductStockDelta accepted = new ProductStockDelta(1L, 0, 5);
+        ProductStockDelta rejected = new ProductStockDelta(2L, -50, -50);
+        when(inventoryLedgerPort.drainPendingDeltas(100)).thenReturn(List.of(accepted, rejected));
+        when(productRepositoryPort.applyStockDeltas(anyList())).thenReturn(new int[]{1, 0});
+
+        // when
+        int reconciled = reconcileInventoryLedgerUseCase.execute();
+
+        // then
+        assertThat(reconciled).isEqualTo(1);
+        verify(inventoryLedgerPort).acknowledgePendingDeltas(List.of(accepted));
+        verify(inventoryLedgerPort).restorePendingDeltas(List.of(rejected));
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 꺼낸 변경량을 모두 되돌린다")
+    void restoresAllOnFailure() {
+        // given
+        List<ProductStockDelta> deltas = List.of(new ProductStockDelta(1L, 0, 5));
+        when(inventoryLedgerPort.drainPendingDeltas(100)).thenReturn(deltas);
+        when(productRepositoryPort.applyStockDeltas(anyList())).thenThrow(new RuntimeException("DB down"));
+
+        // when & then
+        assertThatThrownBy(() -> reconcileInventoryLedgerUseCase.execute())
+                .isInstanceOf(RuntimeException.class);
+        verify(inventoryLedgerPort).restorePendingDeltas(deltas);
+        verify(inventoryLedgerPort, never()).acknowledgePendingDeltas(anyList());
+    }
+
+    @Test
+    @DisplayName("DB 커밋 전에는 꺼낸 변경량을 원장에서 확인하지 않는다")
+    void acknowledgesOnlyAfterCommit() {
+        // given
+        List<ProductStockDelta> deltas = List.of(new ProductStockDelta(1L, 0, 5));
+        when(inventoryLedgerPort.drainPendingDeltas(100)).thenReturn(deltas);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            Object result = callback.doInTransaction(null);
+            verify(inventoryLedgerPort, never()).acknowledgePendingDeltas(anyList());
+            return result;
+        });
+        when(productRepositoryPort.applyStockDeltas(anyList())).thenReturn(new int[]{1});
+
+        // when
+        reconcileInventoryLedgerUseCase.execute();
+
+        // then
+        verify(inventoryLedgerPort).acknowledgePendingDeltas(deltas);
+    }
+
+    @Test
+    @DisplayName("반영 대기 변경량이 없으면 DB에 접근하지 않는다")
+    void skipsWhenNothingPending() {
+        // given
+        when(inventoryLedgerPort.drainPendingDeltas(100)).thenReturn(List.of());
+
+        // when
+        int reconciled = reconcileInventoryLedgerUseCase.execute();
+
+        // then
+        assertThat(reconciled).isZero();
+        verifyNoInteractions(productRepositoryPort, transactionTemplate);
+    }
+}
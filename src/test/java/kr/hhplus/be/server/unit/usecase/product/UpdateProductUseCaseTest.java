@@ -0,0 +1,127 @@
+package kr.hhplus.be.server.unit.usecase.product;
+
+import kr.hhplus.be.server.common.util.KeyGenerator;
+import kr.hhplus.be.server.domain.dto.ProductStockDelta;
+import kr.hhplus.be.server.domain.entity.Product;
+import kr.hhplus.be.server.domain.port.cache.CachePort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort;
+import kr.hhplus.be.server.domain.port.inventory.InventoryLedgerPort.ApplyResult;
+import kr.hhplus.be.server.domain.port.soldout.SoldOutRegistryPort;
+import kr.hhplus.be.server.domain.port.storage.ProductRepositoryPort;
+import kr.hhplus.be.server.domain.usecase.product.ApplyInventoryLedgerUseCase;
+import kr.hhplus.be.server.domain.usecase.product.UpdateProductUseCase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UpdateProductUseCase 단위 테스트")
+class UpdateProductUseCaseTest {
+
+    @Mock
+    private ProductRepositoryPort productRepositoryPort;
+
+    @Mock
+    private CachePort cachePort;
+
+    @Mock
+    private SoldOutRegistryPort soldOutRegistryPort;
+
+    @Mock
+    private InventoryLedgerPort inventoryLedgerPort;
+
+    @Mock
+    private ApplyInventoryLedgerUseCase applyInventoryLedgerUseCase;
+
+    private UpdateProductUseCase updateProductUseCase;
+
+    private final Product product = Product.builder()
+            .id(1L)
+            .name("Hot Product")
+            .price(new BigDecimal("10000"))
+            .stock(100)
+            .reservedStock(10)
+            .build();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        updateProductUseCase = new UpdateProductUseCase(productRepositoryPort, cachePort, new KeyGenerator(),
+                soldOutRegistryPort, inventoryLedgerPort, applyInventoryLedgerUseCase);
+        when(productRepositoryPort.findById(1L)).thenReturn(Optional.of(product));
+        when(productRepositoryPort.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    @DisplayName("원장 관리 대상이 아니면 DB 재고를 수정한다")
+    void updatesDbStockWhenNotManaged() {
+        // given
+        when(inventoryLedgerPort.isManaged(1L)).thenReturn(false);
+
+        // when
+        Product updated = updateProductUseCase.execute(1L, null, null, 150);
+
+        // then
+        assertThat(updated.getStock()).isEqualTo(150);
+        verifyNoInteractions(applyInventoryLedgerUseCase);
+        verify(soldOutRegistryPort).clearProductSoldOut(1L);
+    }
+
+    @Test
+    @DisplayName("원장 관리 대상이면 DB 재고와의 차이를 원장에 반영하고 DB 재고 컬럼은 그대로 둔다")
+    void routesStockChangeThroughLedger() {
+        // given
+        when(inventoryLedgerPort.isManaged(1L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.APPLIED);
+
+        // when
+        updateProductUseCase.execute(1L, "Renamed", null, 150);
+
+        // then
+        verify(applyInventoryLedgerUseCase).execute(List.of(new ProductStockDelta(1L, 50, 0)));
+        ArgumentCaptor<Product> saved = ArgumentCaptor.forClass(Product.class);
+        verify(productRepositoryPort).save(saved.capture());
+        assertThat(saved.getValue().getStock()).isEqualTo(100);
+        assertThat(saved.getValue().getName()).isEqualTo("Renamed");
+        verify(soldOutRegistryPort).clearProductSoldOut(1L);
+    }
+
+    @Test
+    @DisplayName("원장의 예약 재고보다 적게 수정하면 거부하고 DB에 저장하지 않는다")
+    void rejectsStockBelowLedgerReservation() {
+        // given
+        when(inventoryLedgerPort.isManaged(1L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.VIOLATION);
+
+        // when & then
+        assertThatThrownBy(() -> updateProductUseCase.execute(1L, null, null, 20))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(productRepositoryPort, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("DB 저장에 실패하면 원장에 반영한 재고 변경량을 되돌린다")
+    void revertsLedgerWhenSaveFails() {
+        // given
+        when(inventoryLedgerPort.isManaged(1L)).thenReturn(true);
+        when(applyInventoryLedgerUseCase.execute(anyList())).thenReturn(ApplyResult.APPLIED);
+        when(inventoryLedgerPort.apply(anyList())).thenReturn(ApplyResult.APPLIED);
+        when(productRepositoryPort.save(any(Product.class))).thenThrow(new IllegalStateException("db down"));
+
+        // when & then
+        assertThatThrownBy(() -> updateProductUseCase.execute(1L, null, null, 150))
+                .isInstanceOf(RuntimeException.class);
+        verify(inventoryLedgerPort).apply(List.of(new ProductStockDelta(1L, -50, 0)));
+    }
+}
@@ -0,0 +1,106 @@
+package kr.hhplus.be.server.unit.util;
+
+import kr.hhplus.be.server.common.util.HierarchicalTimingWheel;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 계층형 타이밍 휠 테스트
+ *
+ * Why: 레벨 간 cascade를 거쳐도 작업이 만료 시각 이전에 실행되지 않고, 도달 즉시 실행되는지 확인
+ * How: tick 10ms, 슬롯 4개, 레벨 2개(범위 160ms)의 작은 휠로 시간을 직접 진행시켜 검증
+ */
+@DisplayName("계층형 타이밍 휠 테스트")
+class HierarchicalTimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    private final HierarchicalTimingWheel timingWheel = new HierarchicalTimingWheel(10, 4, 2, START);
+    private final List<String> fired = new ArrayList<>();
+
+    @Test
+    @DisplayName("하위 레벨 범위 안의 작업은 만료 tick에 실행된다")
+    void firesWithinFirstLevel() {
+        // given
+        timingWheel.schedule(START + 25, () -> fired.add("a"));
+
+        // when & then - tick 경계로 올림하여 30ms 시점에 실행
+        runAll(timingWheel.advance(START + 29));
+        assertThat(fired).isEmpty();
+
+        runAll(timingWheel.advance(START + 30));
+        assertThat(fired).containsExactly("a");
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("상위 레벨과 overflow의 작업도 cascade 후 정확한 시각에 실행된다")
+    void cascadesFromUpperLevelsAndOverflow() {
+        // given
+        timingWheel.schedule(START + 70, () -> fired.add("level1"));
+        timingWheel.schedule(START + 500, () -> fired.add("overflow"));
+
+        // when & then
+        runAll(timingWheel.advance(START + 60));
+        assertThat(fired).isEmpty();
+
+        runAll(timingWheel.advance(START + 70));
+        assertThat(fired).containsExactly("level1");
+
+        runAll(timingWheel.advance(START + 490));
+        assertThat(fired).containsExactly("level1");
+
+        runAll(timingWheel.advance(START + 500));
+        assertThat(fired).containsExactly("level1", "overflow");
+    }
+
+    @Test
+    @DisplayName("한 번에 큰 폭으로 진행해도 만료된 작업을 모두 시각 순으로 반환한다")
+    void returnsAllDueTasksOnLargeAdvance() {
+        // given
+        timingWheel.schedule(START + 300, () -> fired.add("c"));
+        timingWheel.schedule(START + 15, () -> fired.add("a"));
+        timingWheel.schedule(START + 120, () -> fired.add("b"));
+
+        // when
+        runAll(timingWheel.advance(START + 1_000));
+
+        // then
+        assertThat(fired).containsExactly("a", "b", "c");
+    }
+
+    @Test
+    @DisplayName("취소된 작업은 실행되지 않는다")
+    void skipsCancelledTasks() {
+        // given
+        HierarchicalTimingWheel.Timeout timeout = timingWheel.schedule(START + 50, () -> fired.add("cancelled"));
+        timingWheel.schedule(START + 50, () -> fired.add("kept"));
+
+        // when
+        timeout.cancel();
+        runAll(timingWheel.advance(START + 50));
+
+        // then
+        assertThat(fired).containsExactly("kept");
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각은 등록하지 않고 null을 반환한다")
+    void returnsNullForPastDeadline() {
+        // when
+        HierarchicalTimingWheel.Timeout timeout = timingWheel.schedule(START - 1, () -> fired.add("past"));
+
+        // then
+        assertThat(timeout).isNull();
+        assertThat(timingWheel.size()).isZero();
+    }
+
+    private void runAll(List<Runnable> tasks) {
+        tasks.forEach(Runnable::run);
+    }
+}